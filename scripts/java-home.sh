@@ -0,0 +1,18 @@
+#!/usr/bin/env bash
+# run-cds.sh, measure-startup.sh가 같이 쓰는 JDK 선택. (source해서 쓴다)
+# CDS 아카이브는 만든 JDK로만 열리므로 PATH의 java가 아니라
+# 1) cdsArchive가 기록한 툴체인 JDK(build/cds/application/java.home), 2) JAVA_HOME 순으로 고른다.
+
+resolve_java() {
+  local app_dir="$1" home=""
+  if [[ -f "$app_dir/java.home" ]]; then
+    home="$(head -n 1 "$app_dir/java.home")"
+  elif [[ -n "${JAVA_HOME:-}" ]]; then
+    home="$JAVA_HOME"
+  fi
+  if [[ -z "$home" || ! -x "$home/bin/java" ]]; then
+    echo "JDK를 찾을 수 없습니다. ./gradlew cdsArchive를 먼저 실행하거나 JAVA_HOME을 JDK 21로 지정하세요." >&2
+    return 1
+  fi
+  echo "$home/bin/java"
+}
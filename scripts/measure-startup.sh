@@ -0,0 +1,91 @@
+#!/usr/bin/env bash
+# 기존 bootJar 실행과 CDS(+AOT) 실행의 첫 요청까지 걸린 시간(time-to-first-request)과 RSS를 비교한다.
+# 먼저 ./gradlew [-Paot] bootJar cdsArchive
+# 사용: RUNS=5 PORT=18080 scripts/measure-startup.sh
+# 두 실행 모두 cdsArchive를 만든 툴체인 JDK(없으면 JAVA_HOME)로 띄우고, CDS 쪽은 -Xshare:on으로 아카이브를 못 열면 실패시킨다.
+# 평균은 docs/startup-measurements.md에 한 줄씩 덧붙인다. (RESULTS로 바꿀 수 있음)
+set -euo pipefail
+
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+RUNS="${RUNS:-5}"
+PORT="${PORT:-18080}"
+URL="http://localhost:$PORT/api/posts/hot"
+RESULTS="${RESULTS:-$ROOT/docs/startup-measurements.md}"
+BOOT_JAR="$(find "$ROOT/build/libs" -maxdepth 1 -name '*.jar' ! -name '*-plain.jar' | head -n 1)"
+source "$ROOT/scripts/java-home.sh"
+JAVA="$(resolve_java "$ROOT/build/cds/application")"
+
+# 학습 실행과 같은 메모리 H2로 띄워서 DB 차이를 없앤다.
+APP_ARGS=(
+  "--server.port=$PORT"
+  "--spring.datasource.url=jdbc:h2:mem:startup-measure;MODE=MySQL;DB_CLOSE_DELAY=-1"
+  "--spring.datasource.username=sa"
+  "--spring.datasource.password="
+  "--spring.flyway.locations=classpath:db/migration"
+)
+
+now_millis() {
+  echo $(( $(date +%s%N) / 1000000 ))
+}
+
+# 인자: 실행 명령. 출력: "<ttfr ms> <rss KB>"
+measure_once() {
+  local started pid elapsed rss
+  started="$(now_millis)"
+  "$@" "${APP_ARGS[@]}" > /dev/null 2>&1 &
+  pid=$!
+  until curl -sf -o /dev/null "$URL"; do
+    if ! kill -0 "$pid" 2> /dev/null; then
+      echo "앱이 기동 중에 종료되었습니다: $*" >&2
+      exit 1
+    fi
+    if (( $(now_millis) - started > 120000 )); then
+      echo "120초 안에 응답하지 않았습니다: $*" >&2
+      kill "$pid"
+      exit 1
+    fi
+    sleep 0.05
+  done
+  elapsed=$(( $(now_millis) - started ))
+  rss="$(ps -o rss= -p "$pid" | tr -d ' ')"
+  kill "$pid"
+  wait "$pid" 2> /dev/null || true
+  echo "$elapsed $rss"
+}
+
+measure() {
+  local name="$1"
+  shift
+  local total_ms=0 total_rss=0 result ms rss
+  for (( i = 1; i <= RUNS; i++ )); do
+    result="$(measure_once "$@")"
+    read -r ms rss <<< "$result"
+    total_ms=$(( total_ms + ms ))
+    total_rss=$(( total_rss + rss ))
+    printf '  %-8s run %d: %6d ms, RSS %7d KB\n' "$name" "$i" "$ms" "$rss"
+  done
+  printf '%-8s 평균: time-to-first-request %6d ms, RSS %7d KB\n' "$name" $(( total_ms / RUNS )) $(( total_rss / RUNS ))
+  ROWS+=("| $(date +%F) | $(git -C "$ROOT" rev-parse --short HEAD 2> /dev/null || echo '-') | $JAVA_VERSION | $name | $RUNS | $(( total_ms / RUNS )) | $(( total_rss / RUNS )) |")
+}
+
+if [[ -z "$BOOT_JAR" ]]; then
+  echo "build/libs에 bootJar가 없습니다. (./gradlew bootJar)" >&2
+  exit 1
+fi
+
+JAVA_VERSION="$("$JAVA" -version 2>&1 | head -n 1 | cut -d '"' -f 2)"
+ROWS=()
+measure bootJar "$JAVA" ${JAVA_OPTS:-} -jar "$BOOT_JAR"
+measure cds env XSHARE=on "$ROOT/scripts/run-cds.sh"
+
+if [[ ! -f "$RESULTS" ]]; then
+  mkdir -p "$(dirname "$RESULTS")"
+  {
+    echo "# 기동 시간 측정 (scripts/measure-startup.sh)"
+    echo
+    echo "| 날짜 | 커밋 | JDK | 실행 | 횟수 | time-to-first-request (ms) | RSS (KB) |"
+    echo "|---|---|---|---|---|---|---|"
+  } > "$RESULTS"
+fi
+printf '%s\n' "${ROWS[@]}" >> "$RESULTS"
+echo "결과를 $RESULTS에 덧붙였습니다."
@@ -0,0 +1,25 @@
+#!/usr/bin/env bash
+# AppCDS 아카이브(+ AOT)로 앱을 실행한다. 먼저 ./gradlew [-Paot] cdsArchive
+# 사용: scripts/run-cds.sh [앱 인자...]   (JAVA_OPTS로 JVM 옵션 추가)
+# XSHARE=on이면 아카이브를 열지 못할 때 CDS 없이 뜨지 않고 바로 실패한다. (기본 auto, 측정 스크립트는 on)
+set -euo pipefail
+
+SCRIPT_DIR="$(cd "$(dirname "$0")" && pwd)"
+APP_DIR="$(cd "$SCRIPT_DIR/.." && pwd)/build/cds/application"
+ARCHIVE="$APP_DIR/application.jsa"
+XSHARE="${XSHARE:-auto}"
+source "$SCRIPT_DIR/java-home.sh"
+
+if [[ ! -f "$ARCHIVE" ]]; then
+  echo "CDS 아카이브가 없습니다: $ARCHIVE (./gradlew cdsArchive 먼저 실행)" >&2
+  exit 1
+fi
+
+JAVA="$(resolve_java "$APP_DIR")"
+APP_JAR="$(find "$APP_DIR" -maxdepth 1 -name '*.jar' | head -n 1)"
+# 학습 실행과 같은 플래그(-Dspring.aot.enabled 등)를 써야 아카이브가 맞는다.
+mapfile -t TRAINED_FLAGS < <(grep -v '^[[:space:]]*$' "$APP_DIR/jvm.options" 2>/dev/null || true)
+
+# 클래스패스가 학습 때와 같아야 하므로 build/cds/application 안에서 상대 경로 그대로 실행한다.
+cd "$APP_DIR"
+exec "$JAVA" -XX:SharedArchiveFile="$ARCHIVE" -Xshare:"$XSHARE" ${JAVA_OPTS:-} "${TRAINED_FLAGS[@]}" -jar "$(basename "$APP_JAR")" "$@"
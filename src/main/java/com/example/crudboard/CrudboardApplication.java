@@ -1,12 +1,17 @@
 package com.example.crudboard;
 
+import com.example.crudboard.global.startup.StartupProfiler;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 
 @SpringBootApplication
 public class CrudboardApplication {
 
 	public static void main(String[] args) {
-		SpringApplication.run(CrudboardApplication.class, args);
+		SpringApplication application = new SpringApplication(CrudboardApplication.class);
+		// 빈 생성/Flyway/Hibernate 등 기동 단계 기록 -> GET /api/admin/startup, startup-report.json
+		application.setApplicationStartup(new BufferingApplicationStartup(StartupProfiler.BUFFER_CAPACITY));
+		application.run(args);
 	}
 }
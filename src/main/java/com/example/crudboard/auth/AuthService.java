@@ -11,34 +11,54 @@ import java.util.List;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+/**
+ * BCrypt 해싱/검증은 느리고 전용 스레드 풀에서 기다리므로 트랜잭션(커넥션)을 잡은 채로 하지 않는다.
+ * 조회/저장은 리포지토리 호출마다 짧은 트랜잭션으로 끝나고, 재해싱 저장만 transactionTemplate으로 묶는다.
+ */
 @Service
-@Transactional
 public class AuthService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final LoginAttemptLimiter loginAttemptLimiter;
+    private final TransactionTemplate transactionTemplate;
 
-    public AuthService(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public AuthService(UserRepository userRepository,
+                       PasswordHashingExecutor passwordHashingExecutor,
+                       LoginAttemptLimiter loginAttemptLimiter,
+                       PlatformTransactionManager transactionManager) {
         this.userRepository = userRepository;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordHashingExecutor = passwordHashingExecutor;
+        this.loginAttemptLimiter = loginAttemptLimiter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     public Long signup(AuthRequest authRequest) {
         validateAlreadySignup(authRequest);
-        String hash = passwordEncoder.encode(authRequest.password());
+        String hash = passwordHashingExecutor.encode(authRequest.password());
         User user = new User(authRequest.email(), hash, UserRole.USER);
         return userRepository.save(user).getId();
     }
 
     public void login(AuthRequest authRequest, HttpServletRequest request) {
+        String ip = request.getRemoteAddr();
+        // 실패가 누적된 이메일/IP는 DB 조회, BCrypt 검증 전에 거절
+        loginAttemptLimiter.checkAllowed(authRequest.email(), ip);
+
         User user = userRepository.findByEmail(authRequest.email())
-                .orElseThrow(() -> new ApiException(ErrorCode.BAD_VALUE_OF_EMAIL_OR_PASSWORD));
-        validatePassword(authRequest, user);
+                .orElseThrow(() -> {
+                    loginAttemptLimiter.recordFailure(authRequest.email(), ip);
+                    return new ApiException(ErrorCode.BAD_VALUE_OF_EMAIL_OR_PASSWORD);
+                });
+        validatePassword(authRequest, user, ip);
+        loginAttemptLimiter.reset(authRequest.email());
+
+        rehashIfNeeded(authRequest, user);
         inputAuthToSession(request, user);
     }
 
@@ -50,12 +70,27 @@ public class AuthService {
         SecurityContextHolder.clearContext();
     }
 
-    private void validatePassword(AuthRequest authRequest, User user) {
-        if (!passwordEncoder.matches(authRequest.password(), user.getPasswordHash())) {
+    private void validatePassword(AuthRequest authRequest, User user, String ip) {
+        if (!passwordHashingExecutor.matches(authRequest.password(), user.getPasswordHash())) {
+            loginAttemptLimiter.recordFailure(authRequest.email(), ip);
             throw new ApiException(ErrorCode.BAD_VALUE_OF_EMAIL_OR_PASSWORD);
         }
     }
 
+    /**
+     * BCrypt cost를 올린 뒤에는 로그인 성공 시점에 평문 비밀번호로 다시 해싱해서 저장한다.
+     * 비밀번호 재설정 없이 점진적으로 새 cost로 옮겨간다.
+     * 해싱은 트랜잭션 밖에서 하고, 저장만 짧은 트랜잭션에서 변경감지로 UPDATE한다. (2차 캐시 항목도 같이 갱신)
+     */
+    private void rehashIfNeeded(AuthRequest authRequest, User user) {
+        if (!passwordHashingExecutor.needsRehash(user.getPasswordHash())) {
+            return;
+        }
+        String hash = passwordHashingExecutor.encode(authRequest.password());
+        transactionTemplate.executeWithoutResult(status ->
+                userRepository.findById(user.getId()).ifPresent(u -> u.changePasswordHash(hash)));
+    }
+
     private static void inputAuthToSession(HttpServletRequest request, User user) {
         var auth = new UsernamePasswordAuthenticationToken(
                 user.getId(),
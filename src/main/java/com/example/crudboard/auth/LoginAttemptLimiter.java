@@ -0,0 +1,142 @@
+package com.example.crudboard.auth;
+
+import com.example.crudboard.global.error.ApiException;
+import com.example.crudboard.global.error.ErrorCode;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이메일/IP 별 로그인 실패 횟수를 슬라이딩 윈도우로 센다.
+ * 한도를 넘으면 DB 조회나 BCrypt 검증을 하기 전에 429(TOO_MANY_LOGIN_ATTEMPTS)로 거절한다.
+ *
+ * 추적하는 키는 max-tracked-keys까지만 둔다. 넘으면 윈도우가 지난 키를 먼저 지우고,
+ * 그래도 넘으면 마지막 실패가 가장 오래된 키부터 90%까지 줄인다. (매 실패마다 정렬하지 않도록 여유를 둔다)
+ */
+@Component
+public class LoginAttemptLimiter {
+
+    private final ConcurrentMap<String, FailureWindow> windows = new ConcurrentHashMap<>();
+
+    private final int maxFailuresPerEmail;
+    private final int maxFailuresPerIp;
+    private final long windowMillis;
+    private final int maxTrackedKeys;
+
+    public LoginAttemptLimiter(
+            @Value("${app.security.login.max-failures-per-email:5}") int maxFailuresPerEmail,
+            @Value("${app.security.login.max-failures-per-ip:20}") int maxFailuresPerIp,
+            @Value("${app.security.login.window-seconds:300}") long windowSeconds,
+            @Value("${app.security.login.max-tracked-keys:100000}") int maxTrackedKeys) {
+        this.maxFailuresPerEmail = maxFailuresPerEmail;
+        this.maxFailuresPerIp = maxFailuresPerIp;
+        this.windowMillis = windowSeconds * 1000;
+        this.maxTrackedKeys = maxTrackedKeys;
+    }
+
+    public void checkAllowed(String email, String ip) {
+        long now = System.currentTimeMillis();
+        if (exceeded(emailKey(email), maxFailuresPerEmail, now) || exceeded(ipKey(ip), maxFailuresPerIp, now)) {
+            throw new ApiException(ErrorCode.TOO_MANY_LOGIN_ATTEMPTS);
+        }
+    }
+
+    public void recordFailure(String email, String ip) {
+        long now = System.currentTimeMillis();
+        if (windows.size() >= maxTrackedKeys) {
+            evict(now);
+        }
+        record(emailKey(email), maxFailuresPerEmail, now);
+        record(ipKey(ip), maxFailuresPerIp, now);
+    }
+
+    /**
+     * 로그인 성공 시 해당 이메일의 실패 기록을 지운다. (IP 기록은 다른 계정 시도일 수 있어 유지)
+     */
+    public void reset(String email) {
+        windows.remove(emailKey(email));
+    }
+
+    private boolean exceeded(String key, int limit, long now) {
+        FailureWindow window = windows.get(key);
+        return window != null && window.count(now - windowMillis) >= limit;
+    }
+
+    private void record(String key, int limit, long now) {
+        windows.computeIfAbsent(key, k -> new FailureWindow(limit))
+                .add(now, now - windowMillis);
+    }
+
+    int trackedKeys() {
+        return windows.size();
+    }
+
+    private synchronized void evict(long now) {
+        if (windows.size() < maxTrackedKeys) {
+            return;
+        }
+        long from = now - windowMillis;
+        windows.entrySet().removeIf(e -> e.getValue().count(from) == 0);
+
+        int excess = windows.size() - maxTrackedKeys * 9 / 10;
+        if (excess > 0) {
+            windows.entrySet().stream()
+                    .sorted(Comparator.comparingLong(e -> e.getValue().lastFailure()))
+                    .limit(excess)
+                    .map(Map.Entry::getKey)
+                    .toList()
+                    .forEach(windows::remove);
+        }
+    }
+
+    private static String emailKey(String email) {
+        return "email:" + (email == null ? "" : email.trim().toLowerCase(Locale.ROOT));
+    }
+
+    private static String ipKey(String ip) {
+        return "ip:" + ip;
+    }
+
+    /**
+     * 실패 시각을 최대 limit개까지만 보관한다. (한도 판정에는 그 이상이 필요 없음)
+     */
+    private static final class FailureWindow {
+
+        private final ArrayDeque<Long> failures;
+        private final int limit;
+
+        FailureWindow(int limit) {
+            this.limit = limit;
+            this.failures = new ArrayDeque<>(limit);
+        }
+
+        synchronized void add(long now, long from) {
+            prune(from);
+            if (failures.size() >= limit) {
+                failures.pollFirst();
+            }
+            failures.addLast(now);
+        }
+
+        synchronized long lastFailure() {
+            Long last = failures.peekLast();
+            return last != null ? last : 0;
+        }
+
+        synchronized int count(long from) {
+            prune(from);
+            return failures.size();
+        }
+
+        private void prune(long from) {
+            while (!failures.isEmpty() && failures.peekFirst() < from) {
+                failures.pollFirst();
+            }
+        }
+    }
+}
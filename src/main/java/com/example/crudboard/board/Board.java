@@ -0,0 +1,38 @@
+package com.example.crudboard.board;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.Getter;
+
+/**
+ * 게시판. 글은 게시판 id로 샤드가 정해진다. (ShardRouter.shardOfBoard)
+ * id는 샤드 배치를 정하는 값이라 발급하지 않고 운영자가 정한다. 목록 자체는 샤드 0에만 둔다.
+ */
+@Entity
+@Table(name = "boards")
+@Getter
+public class Board {
+
+    // V13에서 만든 기본 게시판. boardId 없이 쓴 글과 기존 글이 여기에 속한다.
+    public static final long DEFAULT_ID = 1L;
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false, length = 100)
+    private String name;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    protected Board(){}
+
+    public Board(Long id, String name, LocalDateTime createdAt) {
+        this.id = id;
+        this.name = name;
+        this.createdAt = createdAt;
+    }
+}
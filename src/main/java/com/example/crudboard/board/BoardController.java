@@ -0,0 +1,39 @@
+package com.example.crudboard.board;
+
+import com.example.crudboard.board.dto.BoardCreateRequest;
+import com.example.crudboard.board.dto.BoardResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import java.util.List;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "Boards", description = "게시판 API")
+@RestController
+@RequestMapping("/api")
+public class BoardController {
+
+    private final BoardService boardService;
+
+    public BoardController(BoardService boardService) {
+        this.boardService = boardService;
+    }
+
+    @Operation(summary = "게시판 목록 (게시판별 저장 샤드 포함)")
+    @GetMapping("/boards")
+    public List<BoardResponse> list() {
+        return boardService.list();
+    }
+
+    @Operation(summary = "게시판 추가 (ADMIN 전용)")
+    @PostMapping("/admin/boards")
+    public ResponseEntity<BoardResponse> create(@RequestBody @Valid BoardCreateRequest request) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(boardService.create(request));
+    }
+}
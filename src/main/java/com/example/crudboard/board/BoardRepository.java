@@ -0,0 +1,6 @@
+package com.example.crudboard.board;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface BoardRepository extends JpaRepository<Board, Long> {
+}
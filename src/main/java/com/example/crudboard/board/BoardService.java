@@ -0,0 +1,52 @@
+package com.example.crudboard.board;
+
+import com.example.crudboard.board.dto.BoardCreateRequest;
+import com.example.crudboard.board.dto.BoardResponse;
+import com.example.crudboard.global.error.ApiException;
+import com.example.crudboard.global.error.ErrorCode;
+import com.example.crudboard.global.shard.ShardRouter;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 게시판 목록은 메타데이터라서 샤드 0에서만 읽고 쓴다. (요청에 다른 샤드를 묶기 전에 호출한다)
+ */
+@Service
+@Transactional(readOnly = true)
+public class BoardService {
+
+    private final BoardRepository boardRepository;
+    private final ShardRouter shardRouter;
+
+    public BoardService(BoardRepository boardRepository, ShardRouter shardRouter) {
+        this.boardRepository = boardRepository;
+        this.shardRouter = shardRouter;
+    }
+
+    public List<BoardResponse> list() {
+        return boardRepository.findAll(Sort.by("id")).stream()
+                .map(board -> BoardResponse.from(board, shardRouter.shardOfBoard(board.getId())))
+                .toList();
+    }
+
+    @Transactional
+    public BoardResponse create(BoardCreateRequest request) {
+        if (boardRepository.existsById(request.id())) {
+            throw new ApiException(ErrorCode.BOARD_ALREADY_EXISTS);
+        }
+        Board board = boardRepository.save(new Board(request.id(), request.name(), LocalDateTime.now()));
+        return BoardResponse.from(board, shardRouter.shardOfBoard(board.getId()));
+    }
+
+    /**
+     * 게시판이 없으면 404
+     */
+    public void require(Long boardId) {
+        if (!boardRepository.existsById(boardId)) {
+            throw new ApiException(ErrorCode.BOARD_NOT_FOUND);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.crudboard.board.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+public record BoardCreateRequest(
+        @NotNull @Positive Long id,
+        @NotBlank @Size(max = 100) String name
+) {}
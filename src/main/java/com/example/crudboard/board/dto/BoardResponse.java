@@ -0,0 +1,14 @@
+package com.example.crudboard.board.dto;
+
+import com.example.crudboard.board.Board;
+import java.time.LocalDateTime;
+
+/**
+ * @param shard 이 게시판의 글이 저장되는 샤드
+ */
+public record BoardResponse(Long id, String name, int shard, LocalDateTime createdAt) {
+
+    public static BoardResponse from(Board board, int shard) {
+        return new BoardResponse(board.getId(), board.getName(), shard, board.getCreatedAt());
+    }
+}
@@ -1,6 +1,8 @@
 package com.example.crudboard.comment;
 
+import com.example.crudboard.global.cache.EntityCacheRegions;
 import com.example.crudboard.post.Post;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
@@ -13,6 +15,8 @@ import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import lombok.Getter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -20,6 +24,8 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 @Entity
 @EntityListeners(AuditingEntityListener.class)
 @Table(name = "comments")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EntityCacheRegions.COMMENTS)
 @Getter
 public class Comment {
 
@@ -51,6 +57,25 @@ public class Comment {
     @Column(nullable = false, length = 1000)
     private String content;
 
+    /*
+    답글 트리는 materialized path로 저장한다.
+    부모를 연관관계(@ManyToOne)로 따라 올라가거나 자식을 재귀로 조회하면 깊이/자식 수만큼 쿼리가 나가서(N+1),
+    대신 path(루트부터 자기 자신까지 id를 PATH_SEGMENT_LENGTH자리로 이어 붙인 값)로
+    "path가 부모 path로 시작하는 댓글" = 하위 트리를 (post_id, path) 인덱스 범위 한 번으로 읽는다.
+     */
+    @Column(name = "parent_id")
+    private Long parentId;
+
+    @Column(nullable = false, length = 400)
+    private String path;
+
+    @Column(nullable = false)
+    private int depth;
+
+    // 바로 아래 답글 수 (작성/삭제 시 갱신)
+    @Column(nullable = false)
+    private int replyCount;
+
     @CreatedDate
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -61,9 +86,45 @@ public class Comment {
 
     protected Comment() {}
 
+    // Long.MAX_VALUE의 자릿수. 샤드 id(i * 2^40)처럼 큰 id도 구간 하나에 들어간다.
+    public static final int PATH_SEGMENT_LENGTH = 19;
+    public static final int MAX_DEPTH = 20; // path 길이(400) 안에 들어가는 깊이 (구간 21개 = 399자)
+
     public Comment(Post post, String content) {
         this.post = post;
         this.content = content;
+        this.path = "";
+    }
+
+    // 답글. path는 저장 후 id가 생기면 completePath()로 채운다.
+    public Comment(Post post, Comment parent, String content) {
+        this.post = post;
+        this.content = content;
+        this.parentId = parent.getId();
+        this.depth = parent.getDepth() + 1;
+        this.path = parent.getPath();
+    }
+
+    /**
+     * IDENTITY라 insert 후에야 id를 알 수 있어서 저장 직후 호출한다.
+     * 부모 path 길이가 깊이와 맞지 않으면 자기 구간 없이 부모와 같은 path가 되므로(삭제 시 부모 트리까지 지워짐) 예외를 던진다.
+     */
+    public void completePath() {
+        String segment = String.format("%0" + PATH_SEGMENT_LENGTH + "d", id);
+        if (path.length() == (depth + 1) * PATH_SEGMENT_LENGTH && path.endsWith(segment)) {
+            return;
+        }
+        if (path.length() != depth * PATH_SEGMENT_LENGTH) {
+            throw new IllegalStateException("댓글 path 길이가 깊이와 맞지 않습니다. id=" + id + ", depth=" + depth);
+        }
+        this.path = path + segment;
+    }
+
+    /**
+     * 하위 트리 범위의 끝 (path 바로 뒤). 하위 댓글의 path는 모두 path + 숫자라서 ':'('9' 다음 문자)보다 작다.
+     */
+    public static String subtreeEnd(String path) {
+        return path + ":";
     }
 
     public void update(String content) {
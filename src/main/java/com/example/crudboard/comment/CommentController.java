@@ -1,12 +1,19 @@
 package com.example.crudboard.comment;
 
+import com.example.crudboard.comment.cache.CommentJsonCache;
 import com.example.crudboard.comment.dto.CommentCreateRequest;
 import com.example.crudboard.comment.dto.CommentResponse;
 import com.example.crudboard.comment.service.CommentCommandService;
 import com.example.crudboard.comment.service.CommentQueryService;
+import com.example.crudboard.global.dto.CursorResponse;
 import com.example.crudboard.global.dto.PageResponse;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import java.io.IOException;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.web.PageableDefault;
@@ -17,6 +24,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -24,24 +32,42 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("/api/posts/{postId}/comments")
 public class CommentController {
 
-    private final CommentQueryService commentQueryService;
+    private final CommentJsonCache commentJsonCache;
     private final CommentCommandService commentCommandService;
+    private final CommentQueryService commentQueryService;
 
-    public CommentController(CommentQueryService commentQueryService, CommentCommandService commentCommandService) {
-        this.commentQueryService = commentQueryService;
+    public CommentController(CommentJsonCache commentJsonCache, CommentCommandService commentCommandService,
+                             CommentQueryService commentQueryService) {
+        this.commentJsonCache = commentJsonCache;
         this.commentCommandService = commentCommandService;
+        this.commentQueryService = commentQueryService;
     }
 
-    @Operation(summary = "댓글 목록 조회(페이징)")
+    // 응답은 PageResponse<CommentResponse>와 같고, 캐시된 JSON 바이트를 그대로 쓴다.
+    @Operation(summary = "댓글 목록 조회(페이징, 루트 댓글만)")
+    @ApiResponse(responseCode = "200", description = "조회 성공",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = PageResponse.class)))
     @GetMapping
-    public PageResponse<CommentResponse> list(
+    public void list(
             @PathVariable Long postId,
-            @PageableDefault(size = 10, sort = "createdAt", direction = Direction.DESC) Pageable pageable
-            ) {
-        return commentQueryService.list(postId, pageable);
+            @PageableDefault(size = 10, sort = "createdAt", direction = Direction.DESC) Pageable pageable,
+            HttpServletResponse response
+            ) throws IOException {
+        commentJsonCache.list(postId, pageable).writeTo(response);
+    }
+
+    @Operation(summary = "답글 트리 조회(커서)", description = "댓글의 하위 답글 전체를 깊이 우선 순서로 조회한다. 다음 페이지는 nextCursor를 cursor로 넘긴다.")
+    @GetMapping("/{commentId}/replies")
+    public CursorResponse<CommentResponse> replies(
+            @PathVariable Long postId,
+            @PathVariable Long commentId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return commentQueryService.replies(postId, commentId, cursor, size);
     }
 
-    @Operation(summary = "댓글 생성")
+    @Operation(summary = "댓글/답글 생성", description = "parentId를 주면 해당 댓글의 답글로 생성한다.")
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
     public CommentResponse create(
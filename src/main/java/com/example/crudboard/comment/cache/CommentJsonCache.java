@@ -0,0 +1,65 @@
+package com.example.crudboard.comment.cache;
+
+import com.example.crudboard.comment.event.CommentChangedEvent;
+import com.example.crudboard.comment.service.CommentQueryService;
+import com.example.crudboard.global.cache.CachedJson;
+import com.example.crudboard.global.cache.JsonBytesCache;
+import com.example.crudboard.post.event.PostChangedEvent;
+import com.example.crudboard.post.event.PostPartitionChangedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 댓글 목록 페이지 응답의 직렬화 바이트 캐시.
+ * 그룹은 "comments:{postId}:", 키는 그룹 + (page, size, sort)이고, 그 글의 댓글이 바뀌면 그룹 단위로 전부 지운다.
+ *
+ * 페이지는 싼 버전 값이 없어서 무효화에만 의존하므로 두 번 지운다.
+ * - 변경 직후(@EventListener): 같은 트랜잭션 안의 재조회가 이전 페이지를 보지 않도록
+ * - 커밋 후(@TransactionalEventListener): 그 사이 다른 요청이 채운 이전 데이터를 버리도록
+ */
+@Component
+public class CommentJsonCache {
+
+    private final JsonBytesCache cache;
+    private final CommentQueryService commentQueryService;
+
+    public CommentJsonCache(JsonBytesCache cache, CommentQueryService commentQueryService) {
+        this.cache = cache;
+        this.commentQueryService = commentQueryService;
+    }
+
+    private static String postGroup(Long postId) {
+        return "comments:" + postId + ":";
+    }
+
+    public CachedJson list(Long postId, Pageable pageable) {
+        String group = postGroup(postId);
+        String key = group + pageable.getPageNumber() + ":" + pageable.getPageSize() + ":" + pageable.getSort();
+        return cache.get(group, key, null, () -> commentQueryService.list(postId, pageable));
+    }
+
+    @EventListener
+    public void onCommentChanged(CommentChangedEvent event) {
+        cache.evictGroup(postGroup(event.postId()));
+    }
+
+    @TransactionalEventListener
+    public void afterCommentChangeCommitted(CommentChangedEvent event) {
+        cache.evictGroup(postGroup(event.postId()));
+    }
+
+    @TransactionalEventListener
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.type() == PostChangedEvent.Type.DELETED) {
+            cache.evictGroup(postGroup(event.postId()));
+        }
+    }
+
+    // 분리된 글의 댓글은 comments_detached로 옮겨진다.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPartitionChanged(PostPartitionChangedEvent event) {
+        event.postIds().forEach(postId -> cache.evictGroup(postGroup(postId)));
+    }
+}
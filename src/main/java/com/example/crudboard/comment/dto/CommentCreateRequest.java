@@ -3,6 +3,10 @@ package com.example.crudboard.comment.dto;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 
+/**
+ * parentId: 답글이면 부모 댓글 id (없으면 루트 댓글)
+ */
 public record CommentCreateRequest(
-        @NotBlank @Size(max = 1000) String content
+        @NotBlank @Size(max = 1000) String content,
+        Long parentId
 ) {}
@@ -1,12 +1,37 @@
 package com.example.crudboard.comment.dto;
 
+import com.example.crudboard.comment.Comment;
+import com.example.crudboard.global.timing.ServerTimings;
+import com.example.crudboard.global.timing.ServerTimings.Phase;
 import java.time.LocalDateTime;
 
+/**
+ * parentId: 루트 댓글이면 null
+ * replyCount: 바로 아래 답글 수
+ */
 public record CommentResponse(
         Long id,
         Long postId,
+        Long parentId,
+        int depth,
+        int replyCount,
         String content,
         LocalDateTime createdAt,
         LocalDateTime updatedAt
 ) {
+    public static CommentResponse from(Comment comment, Long postId) {
+        long startedAt = ServerTimings.start();
+        CommentResponse response = new CommentResponse(
+                comment.getId(),
+                postId,
+                comment.getParentId(),
+                comment.getDepth(),
+                comment.getReplyCount(),
+                comment.getContent(),
+                comment.getCreatedAt(),
+                comment.getUpdatedAt()
+        );
+        ServerTimings.end(Phase.MAPPING, startedAt);
+        return response;
+    }
 }
@@ -0,0 +1,12 @@
+package com.example.crudboard.comment.event;
+
+/**
+ * 댓글 생성/수정/삭제 이벤트.
+ * CommentCommandService가 발행하고, 캐시 무효화 등은 리스너에서 처리한다.
+ */
+public record CommentChangedEvent(Long postId, Long commentId, Type type) {
+
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+}
@@ -1,14 +1,65 @@
 package com.example.crudboard.comment.repository;
 
 import com.example.crudboard.comment.Comment;
+import com.example.crudboard.global.cache.EntityCacheRegions;
+import jakarta.persistence.QueryHint;
+import java.util.List;
+import java.util.Optional;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
+    // 댓글 목록 쿼리는 결과(id 목록, count)를 쿼리 캐시에 두고, 댓글 엔티티는 2차 캐시에서 채운다.
+    // comments 테이블이 바뀌면(엔티티 저장/JPQL 벌크) Hibernate가 자동으로 무효화한다.
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = EntityCacheRegions.COMMENT_PAGES)
+    })
     Page<Comment> findByPostId(Long postId, Pageable pageable);
+    // 루트 댓글 목록 (depth = 0)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = EntityCacheRegions.COMMENT_PAGES)
+    })
+    Page<Comment> findByPostIdAndDepth(Long postId, int depth, Pageable pageable);
+    // 위 목록을 count 없이 (count는 PagingExecutor가 countByPostIdAndDepth로 따로 동시에 실행)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = EntityCacheRegions.COMMENT_PAGES)
+    })
+    List<Comment> readByPostIdAndDepth(Long postId, int depth, Pageable pageable);
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = EntityCacheRegions.COMMENT_PAGES)
+    })
+    long countByPostIdAndDepth(Long postId, int depth);
+    Optional<Comment> findByIdAndPostId(Long id, Long postId);
     boolean existsByIdAndPostId(Long id, Long postId);
     void deleteByIdAndPostId(Long id, Long postId);
+
+    // 글 정리(purge)용: afterId 다음 댓글 id를 id 순으로 (idx_comments_post_id_id)
+    @Query("select c.id from Comment c where c.post.id = :postId and c.id > :afterId order by c.id")
+    List<Long> findIdsByPostIdAfter(Long postId, Long afterId, Pageable pageable);
+
+    // 하위 트리를 path 순서(깊이 우선)로 after 다음부터: (post_id, path) 인덱스 범위 스캔 한 번
+    @Query("select c from Comment c where c.post.id = :postId and c.path > :after and c.path < :end order by c.path")
+    List<Comment> findThread(Long postId, String after, String end, Pageable pageable);
+
+    // 동시에 답글이 달려도 개수를 잃지 않도록 DB에서 더한다.
+    // 직전 저장(path 채우기)을 먼저 반영하고, 영속성 컨텍스트의 이전 replyCount를 버린다.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Comment c set c.replyCount = c.replyCount + :delta where c.id = :id")
+    int addReplyCount(Long id, int delta);
+
+    // 댓글과 그 하위 트리 전체 삭제
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Comment c where c.post.id = :postId and c.path >= :path and c.path < :end")
+    int deleteThread(Long postId, String path, String end);
 }
@@ -4,12 +4,15 @@ import com.example.crudboard.comment.Comment;
 import com.example.crudboard.comment.dto.CommentCreateRequest;
 import com.example.crudboard.comment.dto.CommentResponse;
 import com.example.crudboard.comment.dto.CommentUpdateRequest;
+import com.example.crudboard.comment.event.CommentChangedEvent;
+import com.example.crudboard.comment.event.CommentChangedEvent.Type;
 import com.example.crudboard.comment.repository.CommentRepository;
 import com.example.crudboard.global.error.ApiException;
 import com.example.crudboard.global.error.ErrorCode;
 import com.example.crudboard.post.Post;
 import com.example.crudboard.post.repository.PostRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,26 +22,40 @@ public class CommentCommandService {
 
     private final PostRepository postRepository;
     private final CommentRepository commentRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public CommentCommandService(PostRepository postRepository, CommentRepository commentRepository) {
+    public CommentCommandService(PostRepository postRepository, CommentRepository commentRepository,
+                                 ApplicationEventPublisher eventPublisher) {
         this.postRepository = postRepository;
         this.commentRepository = commentRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     public CommentResponse create(Long postId, CommentCreateRequest request) {
         Post post = postRepository.findById(postId)
                 .orElseThrow(() -> new ApiException(ErrorCode.POST_NOT_FOUND));
 
-        Comment comment = new Comment(post, request.content());
+        Comment parent = null;
+        if (request.parentId() != null) {
+            parent = commentRepository.findByIdAndPostId(request.parentId(), postId)
+                    .orElseThrow(() -> new ApiException(ErrorCode.COMMENT_NOT_FOUND));
+            if (parent.getDepth() + 1 > Comment.MAX_DEPTH) {
+                throw new ApiException(ErrorCode.VALIDATION_ERROR,
+                        "답글은 " + Comment.MAX_DEPTH + "단계까지만 달 수 있습니다.");
+            }
+        }
+
+        Comment comment = parent == null
+                ? new Comment(post, request.content())
+                : new Comment(post, parent, request.content());
         Comment savedComment = commentRepository.save(comment);
+        savedComment.completePath();
+        if (parent != null) {
+            commentRepository.addReplyCount(parent.getId(), 1);
+        }
+        eventPublisher.publishEvent(new CommentChangedEvent(postId, savedComment.getId(), Type.CREATED));
 
-        return new CommentResponse(
-                savedComment.getId(),
-                postId,
-                savedComment.getContent(),
-                savedComment.getCreatedAt(),
-                savedComment.getUpdatedAt()
-        );
+        return CommentResponse.from(savedComment, postId);
     }
 
     public CommentResponse update(Long postId, Long commentId, CommentUpdateRequest request) {
@@ -49,24 +66,34 @@ public class CommentCommandService {
                 .orElseThrow(() -> new ApiException(ErrorCode.COMMENT_NOT_FOUND));
 
         comment.update(request.content());
+        eventPublisher.publishEvent(new CommentChangedEvent(postId, commentId, Type.UPDATED));
 
-        return new CommentResponse(
-                comment.getId(),
-                postId,
-                comment.getContent(),
-                comment.getCreatedAt(),
-                comment.getUpdatedAt()
-        );
+        return CommentResponse.from(comment, postId);
     }
 
     private void validateIsExistComment(Long postId, Long commentId) {
-        if (!commentRepository.existsByIdAndPostId(commentId, postId)) {
+        // 삭제(소프트 삭제)된 글의 댓글은 정리되기 전이라도 없는 댓글로 본다.
+        if (!postRepository.existsById(postId) || !commentRepository.existsByIdAndPostId(commentId, postId)) {
             throw new ApiException(ErrorCode.COMMENT_NOT_FOUND);
         }
     }
 
+    // 답글이 달린 댓글은 하위 트리까지 같이 지운다.
     public void delete(Long postId, Long commentId) {
         validateIsExistComment(postId, commentId);
-        commentRepository.deleteByIdAndPostId(commentId, postId);
+        Comment comment = commentRepository.findById(commentId)
+                .orElseThrow(() -> new ApiException(ErrorCode.COMMENT_NOT_FOUND));
+
+        String path = comment.getPath();
+        if (path.isEmpty()) {
+            // path가 아직 없는 댓글(저장 직후 completePath 전)은 범위로 지우면 글의 모든 댓글이 걸리므로 단건 삭제
+            commentRepository.deleteByIdAndPostId(commentId, postId);
+        } else {
+            commentRepository.deleteThread(postId, path, Comment.subtreeEnd(path));
+        }
+        if (comment.getParentId() != null) {
+            commentRepository.addReplyCount(comment.getParentId(), -1);
+        }
+        eventPublisher.publishEvent(new CommentChangedEvent(postId, commentId, Type.DELETED));
     }
 }
@@ -3,33 +3,83 @@ package com.example.crudboard.comment.service;
 import com.example.crudboard.comment.Comment;
 import com.example.crudboard.comment.dto.CommentResponse;
 import com.example.crudboard.comment.repository.CommentRepository;
+import com.example.crudboard.global.db.PagingExecutor;
+import com.example.crudboard.global.dto.CursorResponse;
 import com.example.crudboard.global.dto.PageResponse;
+import com.example.crudboard.global.error.ApiException;
+import com.example.crudboard.global.error.ErrorCode;
+import com.example.crudboard.post.repository.PostRepository;
+import java.util.List;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
 @Service
 @Transactional(readOnly = true)
 public class CommentQueryService {
 
+    static final int MAX_REPLY_SIZE = 100;
+
     private final CommentRepository commentRepository;
+    private final PostRepository postRepository;
+    private final PagingExecutor pagingExecutor;
 
-    public CommentQueryService(CommentRepository commentRepository) {
+    public CommentQueryService(CommentRepository commentRepository, PostRepository postRepository,
+                               PagingExecutor pagingExecutor) {
         this.commentRepository = commentRepository;
+        this.postRepository = postRepository;
+        this.pagingExecutor = pagingExecutor;
     }
 
+    // 루트 댓글만 페이징한다. 답글은 replyCount를 보고 replies()로 펼친다.
+    // 목록과 count는 PagingExecutor가 각자 트랜잭션으로 동시에 실행하므로 여기서는 트랜잭션을 시작하지 않는다.
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public PageResponse<CommentResponse> list(Long postId, Pageable pageable) {
-        Page<Comment> page = commentRepository.findByPostId(postId, pageable);
-
-        return PageResponse.from(page.map(c ->
-                        new CommentResponse(
-                                c.getId(),
-                                c.getPost().getId(),
-                                c.getContent(),
-                                c.getCreatedAt(),
-                                c.getUpdatedAt()
-                        )
-        ));
+        // 삭제(소프트 삭제)된 글의 댓글은 정리되기 전이라도 없는 글과 똑같이 빈 목록으로 보인다.
+        if (!postRepository.existsById(postId)) {
+            return PageResponse.from(Page.empty(pageable));
+        }
+        return pagingExecutor.page(pageable,
+                () -> commentRepository.readByPostIdAndDepth(postId, 0, pageable).stream()
+                        .map(c -> CommentResponse.from(c, postId))
+                        .toList(),
+                () -> commentRepository.countByPostIdAndDepth(postId, 0));
+    }
+
+    /**
+     * commentId의 하위 트리(자기 자신 제외)를 깊이 우선 순서로 size개씩 읽는다.
+     * @param cursor 이전 응답의 nextCursor (처음이면 null)
+     */
+    public CursorResponse<CommentResponse> replies(Long postId, Long commentId, String cursor, int size) {
+        if (!postRepository.existsById(postId)) {
+            throw new ApiException(ErrorCode.COMMENT_NOT_FOUND);
+        }
+        Comment root = commentRepository.findByIdAndPostId(commentId, postId)
+                .orElseThrow(() -> new ApiException(ErrorCode.COMMENT_NOT_FOUND));
+
+        String end = Comment.subtreeEnd(root.getPath());
+        String after = root.getPath();
+        if (StringUtils.hasText(cursor)) {
+            // 커서는 이 하위 트리 안의 path여야 한다.
+            if (!cursor.startsWith(after) || cursor.compareTo(end) >= 0) {
+                throw new ApiException(ErrorCode.VALIDATION_ERROR, "cursor가 올바르지 않습니다.");
+            }
+            after = cursor;
+        }
+
+        int limit = Math.clamp(size, 1, MAX_REPLY_SIZE);
+        // 한 건 더 읽어서 다음 페이지가 있는지 본다. (count 쿼리 없음)
+        List<Comment> rows = commentRepository.findThread(postId, after, end, PageRequest.of(0, limit + 1));
+        boolean hasNext = rows.size() > limit;
+        List<Comment> content = hasNext ? rows.subList(0, limit) : rows;
+
+        return new CursorResponse<>(
+                content.stream().map(c -> CommentResponse.from(c, postId)).toList(),
+                hasNext ? content.getLast().getPath() : null,
+                hasNext);
     }
 }
@@ -0,0 +1,197 @@
+package com.example.crudboard.global.accesslog;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 접근 로그. 요청 스레드는 링 버퍼(AccessLogBuffer)에 넣기만 하고, 쓰기 스레드 하나가 파일에 옮긴다. (app.access-log.*)
+ *
+ * - 한 줄 형식(탭 구분): epochMillis METHOD 경로패턴 status bytes latencyMicros sqlCount principal
+ * - 파일이 max-file-bytes를 넘으면 access.log -> access.log.1 -> ... -> access.log.{max-files} 로 밀고 새로 쓴다.
+ * - 버퍼가 가득 차면 요청을 기다리게 하지 않고 항목을 버린다. (dropped로 셈)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.access-log.enabled", havingValue = "true", matchIfMissing = true)
+public class AccessLog implements DisposableBean {
+
+    private static final int DRAIN_BATCH = 1024;
+
+    private final AccessLogBuffer buffer;
+    private final Path path;
+    private final long maxFileBytes;
+    private final int maxFiles;
+    private final long flushIntervalNanos;
+    private final Thread writer;
+
+    private final LongAdder recorded = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private volatile long written;
+    private volatile long writeErrors;
+    private volatile boolean running = true;
+
+    // 아래는 쓰기 스레드만 쓴다.
+    private final StringBuilder line = new StringBuilder(256);
+    private OutputStream out;
+    private long fileBytes;
+
+    public AccessLog(@Value("${app.access-log.path:logs/access.log}") String path,
+                     @Value("${app.access-log.buffer-size:8192}") int bufferSize,
+                     @Value("${app.access-log.max-file-bytes:10485760}") long maxFileBytes,
+                     @Value("${app.access-log.max-files:5}") int maxFiles,
+                     @Value("${app.access-log.flush-interval-millis:200}") long flushIntervalMillis) {
+        this.buffer = new AccessLogBuffer(bufferSize);
+        this.path = Path.of(path).toAbsolutePath();
+        this.maxFileBytes = maxFileBytes;
+        this.maxFiles = maxFiles;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        this.writer = Thread.ofPlatform().name("access-log-writer").daemon().start(this::run);
+    }
+
+    /**
+     * 요청 스레드에서 호출한다. 버퍼가 가득 차면 버리고 false
+     */
+    public boolean record(long timestampMillis, String method, String route, int status, long bytes,
+                          long latencyMicros, int sqlCount, String principal) {
+        if (buffer.offer(timestampMillis, method, route, status, bytes, latencyMicros, sqlCount, principal)) {
+            recorded.increment();
+            return true;
+        }
+        dropped.increment();
+        return false;
+    }
+
+    public AccessLogStats stats() {
+        return new AccessLogStats(path.toString(), buffer.capacity(), buffer.pending(),
+                recorded.sum(), dropped.sum(), written, writeErrors);
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(writer);
+        writer.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    private void run() {
+        while (running) {
+            if (buffer.drain(this::write, DRAIN_BATCH) == 0) {
+                flush();
+                LockSupport.parkNanos(flushIntervalNanos);
+            }
+        }
+        // 종료 전에 남은 항목을 모두 쓴다.
+        int drained;
+        do {
+            drained = buffer.drain(this::write, DRAIN_BATCH);
+        } while (drained > 0);
+        flush();
+        close();
+    }
+
+    private void write(AccessLogBuffer.Entry entry) {
+        line.setLength(0);
+        line.append(entry.timestampMillis).append('\t')
+                .append(entry.method).append('\t')
+                .append(entry.route).append('\t')
+                .append(entry.status).append('\t')
+                .append(entry.bytes).append('\t')
+                .append(entry.latencyMicros).append('\t')
+                .append(entry.sqlCount).append('\t')
+                .append(entry.principal != null ? entry.principal : "-").append('\n');
+        byte[] bytes = line.toString().getBytes(StandardCharsets.UTF_8);
+        try {
+            if (out == null) {
+                open();
+            } else if (fileBytes + bytes.length > maxFileBytes) {
+                close();
+                roll();
+                open();
+            }
+            out.write(bytes);
+            fileBytes += bytes.length;
+            written++;
+        } catch (IOException e) {
+            failed(e);
+        }
+    }
+
+    // 기존 파일에 이어 쓴다. 이미 한도를 넘은 파일이면 밀어내고 새로 연다.
+    private void open() throws IOException {
+        Files.createDirectories(path.getParent());
+        if (Files.exists(path) && Files.size(path) >= maxFileBytes) {
+            roll();
+        }
+        out = new BufferedOutputStream(Files.newOutputStream(path,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND), 64 * 1024);
+        fileBytes = Files.size(path);
+    }
+
+    private void roll() throws IOException {
+        for (int i = maxFiles - 1; i >= 1; i--) {
+            Path from = rolled(i);
+            if (Files.exists(from)) {
+                Files.move(from, rolled(i + 1), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        Files.move(path, rolled(1), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private Path rolled(int index) {
+        return path.resolveSibling(path.getFileName() + "." + index);
+    }
+
+    private void flush() {
+        if (out == null) {
+            return;
+        }
+        try {
+            out.flush();
+        } catch (IOException e) {
+            failed(e);
+        }
+    }
+
+    private void close() {
+        OutputStream closing = out;
+        if (closing == null) {
+            return;
+        }
+        out = null;
+        try {
+            closing.close();
+        } catch (IOException e) {
+            failed(e);
+        }
+    }
+
+    // 파일을 못 써도 요청 처리에는 영향을 주지 않는다. 다음 항목에서 파일을 다시 연다.
+    private void failed(IOException e) {
+        if (writeErrors++ == 0) {
+            log.warn("failed to write access log {}", path, e);
+        }
+        close();
+    }
+
+    /**
+     * @param pending 버퍼에 남아 아직 파일에 쓰지 않은 항목 수
+     * @param dropped 버퍼가 가득 차서 버린 항목 수
+     */
+    public record AccessLogStats(String path, int capacity, int pending, long recorded, long dropped,
+                                 long written, long writeErrors) {
+    }
+}
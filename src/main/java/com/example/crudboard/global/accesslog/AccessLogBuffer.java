@@ -0,0 +1,103 @@
+package com.example.crudboard.global.accesslog;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+/**
+ * 접근 로그 항목을 담는 고정 크기 링 버퍼. (여러 요청 스레드가 쓰고, 쓰기 스레드 하나가 읽는다)
+ *
+ * - 항목(Entry)은 처음에 모두 만들어 두고 필드만 덮어쓴다. 요청 경로에서 락도 할당도 없다.
+ * - 칸마다 시퀀스 번호로 "비었음/채워짐"을 표시한다. (Vyukov bounded queue 방식)
+ *   쓰는 쪽은 tail을 CAS로 한 칸 차지해서 채운 뒤 시퀀스를 올리고, 읽는 쪽은 채워진 칸만 읽고 다시 비운다.
+ * - 가득 차면 기다리지 않고 false를 돌려준다. (버린 건수는 AccessLog가 센다)
+ */
+final class AccessLogBuffer {
+
+    private final Entry[] entries;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head; // 읽는 스레드만 쓴다. (pending()에서 다른 스레드가 읽음)
+
+    AccessLogBuffer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.entries = new Entry[size];
+        this.sequences = new AtomicLongArray(size);
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            entries[i] = new Entry();
+            sequences.set(i, i);
+        }
+    }
+
+    int capacity() {
+        return entries.length;
+    }
+
+    boolean offer(long timestampMillis, String method, String route, int status, long bytes,
+                  long latencyMicros, int sqlCount, String principal) {
+        while (true) {
+            long position = tail.get();
+            int index = (int) position & mask;
+            long diff = sequences.get(index) - position;
+            if (diff < 0) {
+                return false;
+            }
+            if (diff == 0 && tail.compareAndSet(position, position + 1)) {
+                Entry entry = entries[index];
+                entry.timestampMillis = timestampMillis;
+                entry.method = method;
+                entry.route = route;
+                entry.status = status;
+                entry.bytes = bytes;
+                entry.latencyMicros = latencyMicros;
+                entry.sqlCount = sqlCount;
+                entry.principal = principal;
+                sequences.set(index, position + 1);
+                return true;
+            }
+            // 다른 스레드가 먼저 차지했으면 다시 시도
+        }
+    }
+
+    /**
+     * 채워진 항목을 최대 max개까지 순서대로 넘기고 비운다. (읽는 스레드 하나에서만 호출)
+     */
+    int drain(Consumer<Entry> sink, int max) {
+        int drained = 0;
+        while (drained < max) {
+            int index = (int) head & mask;
+            if (sequences.get(index) != head + 1) {
+                break;
+            }
+            Entry entry = entries[index];
+            sink.accept(entry);
+            entry.method = null;
+            entry.route = null;
+            entry.principal = null;
+            sequences.set(index, head + entries.length);
+            head++;
+            drained++;
+        }
+        return drained;
+    }
+
+    /**
+     * 아직 쓰지 않은 항목 수 (대략값)
+     */
+    int pending() {
+        return (int) Math.max(0, tail.get() - head);
+    }
+
+    static final class Entry {
+        long timestampMillis;
+        String method;
+        String route;
+        int status;
+        long bytes;
+        long latencyMicros;
+        int sqlCount;
+        String principal;
+    }
+}
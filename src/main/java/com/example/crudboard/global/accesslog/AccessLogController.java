@@ -0,0 +1,28 @@
+package com.example.crudboard.global.accesslog;
+
+import com.example.crudboard.global.accesslog.AccessLog.AccessLogStats;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "Admin", description = "운영 지표 API (ADMIN 전용)")
+@RestController
+@RequestMapping("/api/admin/access-log")
+@ConditionalOnProperty(name = "app.access-log.enabled", havingValue = "true", matchIfMissing = true)
+public class AccessLogController {
+
+    private final AccessLog accessLog;
+
+    public AccessLogController(AccessLog accessLog) {
+        this.accessLog = accessLog;
+    }
+
+    @Operation(summary = "접근 로그 버퍼 크기, 대기/기록/버린 항목 수")
+    @GetMapping
+    public AccessLogStats stats() {
+        return accessLog.stats();
+    }
+}
@@ -0,0 +1,243 @@
+package com.example.crudboard.global.accesslog;
+
+import com.example.crudboard.global.db.RequestSqlCounter;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import jakarta.servlet.http.HttpSession;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.concurrent.TimeUnit;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * 요청마다 METHOD, 경로 패턴, status, 응답 바이트, 처리 시간, SQL 문장 수, 로그인 사용자를 AccessLog 버퍼에 넣는다.
+ *
+ * - 시큐리티 필터 체인보다 바깥에 둬서 처리 시간에 필터 체인도 들어간다.
+ *   그래서 SecurityContextHolder는 이미 비워져 있고, 로그인 사용자는 세션에 저장된 SecurityContext에서 읽는다.
+ * - 비동기 요청(SSE 등)은 비동기 처리가 끝날 때 기록한다.
+ * - 요청 필터 순서: 인코딩(HIGHEST_PRECEDENCE) > AccessLogFilter > ConnectionUsageFilter > ServerTimingFilter > 시큐리티
+ *   가장 바깥이라 처리 시간/응답 바이트에 나머지 필터가 모두 들어간다.
+ */
+@Component
+@Order(AccessLogFilter.ORDER)
+@ConditionalOnProperty(name = "app.access-log.enabled", havingValue = "true", matchIfMissing = true)
+public class AccessLogFilter extends OncePerRequestFilter {
+
+    public static final int ORDER = Ordered.HIGHEST_PRECEDENCE + 10;
+
+    private final AccessLog accessLog;
+
+    public AccessLogFilter(AccessLog accessLog) {
+        this.accessLog = accessLog;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long startedAt = System.nanoTime();
+        CountingResponse counting = new CountingResponse(response);
+        RequestSqlCounter.begin();
+        try {
+            chain.doFilter(request, counting);
+        } finally {
+            int sqlCount = RequestSqlCounter.end();
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new CompletionListener(request, counting, startedAt, sqlCount));
+            } else {
+                record(request, counting, startedAt, sqlCount);
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, CountingResponse response, long startedAt, int sqlCount) {
+        accessLog.record(System.currentTimeMillis(), request.getMethod(), routeOf(request), response.getStatus(),
+                response.bytes, TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startedAt), sqlCount,
+                principalOf(request));
+    }
+
+    // ConnectionUsageFilter와 같은 기준: 핸들러 매핑 이후에만 패턴이 있다.
+    private static String routeOf(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNMATCHED";
+    }
+
+    private static String principalOf(HttpServletRequest request) {
+        HttpSession session = request.getSession(false);
+        if (session == null) {
+            return null;
+        }
+        try {
+            Object context = session.getAttribute(HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY);
+            if (context instanceof SecurityContext securityContext) {
+                Authentication auth = securityContext.getAuthentication();
+                return auth != null ? auth.getName() : null;
+            }
+        } catch (IllegalStateException e) {
+            // 요청 중에 세션이 무효화됨 (로그아웃)
+        }
+        return null;
+    }
+
+    private final class CompletionListener implements AsyncListener {
+
+        private final HttpServletRequest request;
+        private final CountingResponse response;
+        private final long startedAt;
+        private final int sqlCount;
+
+        CompletionListener(HttpServletRequest request, CountingResponse response, long startedAt, int sqlCount) {
+            this.request = request;
+            this.response = response;
+            this.startedAt = startedAt;
+            this.sqlCount = sqlCount;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            record(request, response, startedAt, sqlCount);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+
+    /**
+     * 응답 본문 바이트 수를 센다. Writer로 쓴 본문은 UTF-8 기준으로 센다.
+     */
+    static final class CountingResponse extends HttpServletResponseWrapper {
+
+        private long bytes;
+        private ServletOutputStream outputStream;
+        private PrintWriter writer;
+
+        CountingResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                outputStream = new CountingOutputStream(super.getOutputStream());
+            }
+            return outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                writer = new PrintWriter(new CountingWriter(super.getWriter()));
+            }
+            return writer;
+        }
+
+        private final class CountingOutputStream extends ServletOutputStream {
+
+            private final ServletOutputStream delegate;
+
+            CountingOutputStream(ServletOutputStream delegate) {
+                this.delegate = delegate;
+            }
+
+            @Override
+            public void write(int b) throws IOException {
+                delegate.write(b);
+                bytes++;
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                delegate.write(b, off, len);
+                bytes += len;
+            }
+
+            @Override
+            public void flush() throws IOException {
+                delegate.flush();
+            }
+
+            @Override
+            public void close() throws IOException {
+                delegate.close();
+            }
+
+            @Override
+            public boolean isReady() {
+                return delegate.isReady();
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+                delegate.setWriteListener(writeListener);
+            }
+        }
+
+        private final class CountingWriter extends Writer {
+
+            private final Writer delegate;
+
+            CountingWriter(Writer delegate) {
+                this.delegate = delegate;
+            }
+
+            @Override
+            public void write(char[] chars, int off, int len) throws IOException {
+                delegate.write(chars, off, len);
+                for (int i = off; i < off + len; i++) {
+                    bytes += utf8Length(chars[i]);
+                }
+            }
+
+            @Override
+            public void write(String str, int off, int len) throws IOException {
+                delegate.write(str, off, len);
+                for (int i = off; i < off + len; i++) {
+                    bytes += utf8Length(str.charAt(i));
+                }
+            }
+
+            @Override
+            public void flush() throws IOException {
+                delegate.flush();
+            }
+
+            @Override
+            public void close() throws IOException {
+                delegate.close();
+            }
+
+            // 서로게이트 쌍은 반쪽마다 2바이트씩 (합쳐서 4바이트)
+            private static int utf8Length(char c) {
+                if (c < 0x80) {
+                    return 1;
+                }
+                return c < 0x800 || Character.isSurrogate(c) ? 2 : 3;
+            }
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.crudboard.global.cache;
+
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import org.springframework.http.MediaType;
+
+/**
+ * 직렬화가 끝난 JSON(UTF-8) 바이트와 그 버전.
+ * 힙(byte[]) 또는 direct ByteBuffer(off-heap)에 담기며, 한 번 만들어지면 바뀌지 않는다.
+ */
+public final class CachedJson {
+
+    private final String version;
+    private final ByteBuffer buffer;
+
+    private CachedJson(String version, ByteBuffer buffer) {
+        this.version = version;
+        this.buffer = buffer;
+    }
+
+    static CachedJson of(String version, byte[] bytes, boolean offHeap) {
+        if (!offHeap) {
+            return new CachedJson(version, ByteBuffer.wrap(bytes).asReadOnlyBuffer());
+        }
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+        direct.put(bytes).flip();
+        return new CachedJson(version, direct.asReadOnlyBuffer());
+    }
+
+    String version() {
+        return version;
+    }
+
+    public int length() {
+        return buffer.remaining();
+    }
+
+    /**
+     * Jackson을 거치지 않고 바이트를 응답 스트림에 그대로 쓴다.
+     */
+    public void writeTo(HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(length());
+
+        // 여러 요청이 동시에 쓰므로 position을 공유하지 않도록 복제본으로 읽는다.
+        ByteBuffer source = buffer.duplicate();
+        OutputStream out = response.getOutputStream();
+        WritableByteChannel channel = Channels.newChannel(out);
+        while (source.hasRemaining()) {
+            channel.write(source);
+        }
+        out.flush();
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.crudboard.global.cache;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.UUID;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hibernate 2차 캐시(JCache, Caffeine) 설정. (app.entity-cache.*)
+ *
+ * - 영역마다 최대 개수와 TTL을 따로 둔다. 쓰기는 Hibernate가 커밋 시점에 캐시도 같이 갱신한다. (READ_WRITE)
+ * - JPQL 벌크 수정/삭제(@Modifying)는 Hibernate가 해당 엔티티 영역을 통째로 비우고 쿼리 캐시를 무효화한다.
+ *   native 수정 쿼리는 건드리는 테이블을 힌트(HINT_NATIVE_SPACES)로 알려줘야 전체 캐시를 비우지 않는다.
+ * - JdbcTemplate 등 Hibernate 밖에서 바꾼 행은 TTL이 지나기 전까지 캐시에 남을 수 있다.
+ * - CacheManager는 컨텍스트마다 새로 만든다. (Hibernate가 종료 시 넘겨받은 CacheManager를 닫기 때문)
+ */
+@Slf4j
+@Configuration
+public class EntityCacheConfig {
+
+    @Bean
+    CacheManager entityCacheManager(
+            @Value("${app.entity-cache.posts.max-entries:10000}") long postsMax,
+            @Value("${app.entity-cache.posts.ttl-seconds:600}") long postsTtl,
+            @Value("${app.entity-cache.users.max-entries:5000}") long usersMax,
+            @Value("${app.entity-cache.users.ttl-seconds:1800}") long usersTtl,
+            @Value("${app.entity-cache.comments.max-entries:50000}") long commentsMax,
+            @Value("${app.entity-cache.comments.ttl-seconds:600}") long commentsTtl,
+            @Value("${app.entity-cache.comment-pages.max-entries:5000}") long commentPagesMax,
+            @Value("${app.entity-cache.comment-pages.ttl-seconds:60}") long commentPagesTtl) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("urn:crudboard:entity-cache:" + UUID.randomUUID()), getClass().getClassLoader());
+
+        createRegion(cacheManager, EntityCacheRegions.POSTS, postsMax, postsTtl);
+        createRegion(cacheManager, EntityCacheRegions.USERS, usersMax, usersTtl);
+        createRegion(cacheManager, EntityCacheRegions.COMMENTS, commentsMax, commentsTtl);
+        createRegion(cacheManager, EntityCacheRegions.COMMENT_PAGES, commentPagesMax, commentPagesTtl);
+        // 지정하지 않은 쿼리 캐시 (현재는 쓰는 곳 없음)
+        createRegion(cacheManager, EntityCacheRegions.DEFAULT_QUERY_RESULTS, 1000, 60);
+        // 테이블별 마지막 수정 시각. 쿼리 캐시 무효화 기준이라 만료/축출되면 안 된다. (항목 수 = 테이블 수)
+        createRegion(cacheManager, EntityCacheRegions.UPDATE_TIMESTAMPS, 0, 0);
+        return cacheManager;
+    }
+
+    @Bean
+    HibernatePropertiesCustomizer entityCacheManagerCustomizer(CacheManager entityCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, entityCacheManager);
+    }
+
+    // maxEntries, ttlSeconds가 0이면 제한 없음
+    private static void createRegion(CacheManager cacheManager, String name, long maxEntries, long ttlSeconds) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setStatisticsEnabled(false);
+        if (maxEntries > 0) {
+            configuration.setMaximumSize(OptionalLong.of(maxEntries));
+        }
+        if (ttlSeconds > 0) {
+            configuration.setExpireAfterWrite(OptionalLong.of(Duration.ofSeconds(ttlSeconds).toNanos()));
+        }
+        cacheManager.createCache(name, configuration);
+        log.debug("entity cache region {} created. maxEntries={}, ttlSeconds={}", name, maxEntries, ttlSeconds);
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.crudboard.global.cache;
+
+import java.util.List;
+
+/**
+ * Hibernate 2차 캐시 영역 이름. 엔티티(@Cache)/쿼리 힌트와 EntityCacheConfig가 같은 이름을 쓴다.
+ */
+public final class EntityCacheRegions {
+
+    public static final String POSTS = "posts";
+    public static final String USERS = "users";
+    public static final String COMMENTS = "comments";
+    // 댓글 목록 쿼리 결과(id 목록) 캐시
+    public static final String COMMENT_PAGES = "comment-pages";
+
+    // Hibernate 기본 영역 (RegionFactory.DEFAULT_*_REGION_UNQUALIFIED_NAME)
+    public static final String DEFAULT_QUERY_RESULTS = "default-query-results-region";
+    public static final String UPDATE_TIMESTAMPS = "default-update-timestamps-region";
+
+    public static final List<String> ENTITY_REGIONS = List.of(POSTS, USERS, COMMENTS);
+    public static final List<String> QUERY_REGIONS = List.of(COMMENT_PAGES, DEFAULT_QUERY_RESULTS);
+
+    private EntityCacheRegions() {
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.crudboard.global.cache;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "Admin", description = "운영 지표 API (ADMIN 전용)")
+@RestController
+@RequestMapping("/api/admin/entity-cache")
+public class EntityCacheStatsController {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public EntityCacheStatsController(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @Operation(summary = "Hibernate 2차 캐시/쿼리 캐시 영역별 적중률")
+    @GetMapping
+    public EntityCacheStats stats() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        List<RegionStats> regions = new ArrayList<>();
+        for (String region : EntityCacheRegions.ENTITY_REGIONS) {
+            regions.add(RegionStats.of(region, "entity", statistics.getDomainDataRegionStatistics(region)));
+        }
+        for (String region : EntityCacheRegions.QUERY_REGIONS) {
+            // 한 번도 쓰이지 않은 쿼리 영역은 null
+            CacheRegionStatistics stats = statistics.getQueryRegionStatistics(region);
+            if (stats != null) {
+                regions.add(RegionStats.of(region, "query", stats));
+            }
+        }
+        return new EntityCacheStats(statistics.isStatisticsEnabled(), regions);
+    }
+
+    public record EntityCacheStats(boolean statisticsEnabled, List<RegionStats> regions) {
+    }
+
+    /**
+     * @param entries 메모리의 항목 수 (캐시 구현이 지원하지 않으면 -1)
+     */
+    public record RegionStats(String region, String kind, long hits, long misses, long puts,
+                              double hitRatio, long entries) {
+
+        static RegionStats of(String region, String kind, CacheRegionStatistics stats) {
+            long hits = stats.getHitCount();
+            long misses = stats.getMissCount();
+            double hitRatio = hits + misses == 0 ? 0 : (double) hits / (hits + misses);
+            long entries = stats.getElementCountInMemory();
+            return new RegionStats(region, kind, hits, misses, stats.getPutCount(), hitRatio,
+                    entries < 0 ? -1 : entries);
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package com.example.crudboard.global.cache;
+
+import com.example.crudboard.global.jfr.JfrEvents;
+import com.example.crudboard.global.jfr.SerializationEvent;
+import com.example.crudboard.global.timing.ServerTimings;
+import com.example.crudboard.global.timing.ServerTimings.Phase;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * 자주 조회되는 응답 DTO를 JSON(UTF-8) 바이트로 직렬화해 두는 캐시. (app.json-cache.*)
+ *
+ * - 키마다 버전(예: updatedAt)을 같이 저장하고, 버전이 다르면 다시 직렬화한다.
+ * - 항목은 그룹(예: 글 하나의 댓글 페이지들)에 속하고, 무효화는 그룹 단위로 한다. (단건은 키 = 그룹)
+ * - 전체 바이트 수(max-bytes)를 넘으면 Caffeine이 덜 쓰인 항목부터 내보낸다. (W-TinyLFU)
+ * - off-heap=true면 direct ByteBuffer에 담아서 힙/GC 부담을 줄인다.
+ *
+ * 적중 경로는 락 없이 Caffeine 조회 한 번이다. 직렬화 도중 그 그룹이 무효화되면 결과(이전 데이터)를 담지 않는데,
+ * 이를 위해 그룹 해시로 나눈 stripe마다 무효화 번호를 두고 담을 때만 stripe 락을 잡는다. (다른 그룹의 무효화는 영향 없음)
+ */
+@Component
+public class JsonBytesCache {
+
+    private static final int STRIPES = 1024;
+
+    private final JsonMapper jsonMapper;
+    private final boolean enabled;
+    private final boolean offHeap;
+    private final long maxBytes;
+    private final int maxEntryBytes;
+
+    private final Cache<String, Entry> entries;
+    // 그룹 -> 그 그룹에 담긴 키. 크기 축출은 evictionListener가 같은 키 연산 안에서 지운다.
+    private final ConcurrentHashMap<String, Set<String>> groups = new ConcurrentHashMap<>();
+    // stripe별 무효화 번호. 같은 인덱스의 locks로 보호한다.
+    private final long[] invalidations = new long[STRIPES];
+    private final Object[] locks = new Object[STRIPES];
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public JsonBytesCache(
+            JsonMapper jsonMapper,
+            @Value("${app.json-cache.enabled:true}") boolean enabled,
+            @Value("${app.json-cache.off-heap:false}") boolean offHeap,
+            @Value("${app.json-cache.max-bytes:16777216}") long maxBytes,
+            @Value("${app.json-cache.max-entry-bytes:262144}") int maxEntryBytes) {
+        this.jsonMapper = jsonMapper;
+        this.enabled = enabled;
+        this.offHeap = offHeap;
+        this.maxBytes = maxBytes;
+        this.maxEntryBytes = maxEntryBytes;
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new Object();
+        }
+        this.entries = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .<String, Entry>weigher((key, entry) -> entry.json().length())
+                .evictionListener((String key, Entry entry, RemovalCause cause) -> {
+                    if (entry != null) {
+                        unregister(entry.group(), key);
+                    }
+                    if (cause == RemovalCause.SIZE) {
+                        evictions.increment();
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * 같은 버전의 바이트가 있으면 그대로, 없으면 loader 결과를 직렬화해서 담고 돌려준다. (키 = 그룹)
+     * loader에서 난 예외(ApiException 등)는 그대로 전파된다.
+     */
+    public CachedJson get(String key, String version, Supplier<?> loader) {
+        return get(key, key, version, loader);
+    }
+
+    /**
+     * group으로 묶인 항목. evictGroup(group)으로 한 번에 지운다.
+     */
+    public CachedJson get(String group, String key, String version, Supplier<?> loader) {
+        Entry cached = lookup(key);
+        if (cached != null && Objects.equals(cached.json().version(), version)) {
+            return hit(key, cached);
+        }
+        return load(group, key, loader, value -> version);
+    }
+
+    /**
+     * 버전 확인에 따로 쿼리가 필요할 때. (키 = 그룹)
+     * 담긴 항목이 있을 때만 currentVersion으로 확인하고, 없으면 loader 결과 하나로 버전(versionOf)까지 정한다.
+     * 그래서 처음 조회(miss)는 버전 쿼리 없이 loader 쿼리 한 번만 나간다.
+     */
+    public <T> CachedJson get(String key, Supplier<String> currentVersion, Supplier<T> loader,
+                              Function<? super T, String> versionOf) {
+        Entry cached = lookup(key);
+        if (cached != null && Objects.equals(cached.json().version(), currentVersion.get())) {
+            return hit(key, cached);
+        }
+        return load(key, key, loader, versionOf);
+    }
+
+    public void evict(String key) {
+        evictGroup(key);
+    }
+
+    public void evictGroup(String group) {
+        Set<String> keys;
+        int stripe = stripeOf(group);
+        synchronized (locks[stripe]) {
+            invalidations[stripe]++;
+            keys = groups.remove(group);
+        }
+        if (keys != null) {
+            entries.invalidateAll(keys);
+        }
+    }
+
+    public Stats stats() {
+        long bytes = entries.policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0))
+                .orElse(0L);
+        return new Stats(entries.estimatedSize(), bytes, maxBytes, offHeap,
+                hits.sum(), misses.sum(), evictions.sum());
+    }
+
+    private Entry lookup(String key) {
+        return enabled ? entries.getIfPresent(key) : null;
+    }
+
+    private CachedJson hit(String key, Entry cached) {
+        hits.increment();
+        JfrEvents.cacheAccess("json", key, true, cached.json().length());
+        return cached.json();
+    }
+
+    private <T> CachedJson load(String group, String key, Supplier<T> loader, Function<? super T, String> versionOf) {
+        misses.increment();
+        int stripe = stripeOf(group);
+        long loadInvalidation;
+        synchronized (locks[stripe]) {
+            loadInvalidation = invalidations[stripe];
+        }
+        // 조회/직렬화는 락 밖에서. 조회를 시작한 뒤에 그룹이 무효화되면 담지 않는다.
+        T value = loader.get();
+        String version = versionOf.apply(value);
+        long serializeStartedAt = ServerTimings.start();
+        SerializationEvent serializationEvent = JfrEvents.serializationBegin(value, "json-cache");
+        byte[] bytes = jsonMapper.writeValueAsBytes(value);
+        JfrEvents.serializationEnd(serializationEvent, bytes.length);
+        ServerTimings.end(Phase.SERIALIZATION, serializeStartedAt);
+        JfrEvents.cacheAccess("json", key, false, bytes.length);
+
+        CachedJson json = CachedJson.of(version, bytes, offHeap);
+        if (enabled && bytes.length <= maxEntryBytes) {
+            synchronized (locks[stripe]) {
+                if (loadInvalidation == invalidations[stripe]) {
+                    register(group, key);
+                    entries.put(key, new Entry(group, json));
+                }
+            }
+        }
+        return json;
+    }
+
+    private void register(String group, String key) {
+        groups.compute(group, (g, keys) -> {
+            Set<String> result = keys != null ? keys : ConcurrentHashMap.newKeySet();
+            result.add(key);
+            return result;
+        });
+    }
+
+    private void unregister(String group, String key) {
+        groups.computeIfPresent(group, (g, keys) -> {
+            keys.remove(key);
+            return keys.isEmpty() ? null : keys;
+        });
+    }
+
+    private static int stripeOf(String group) {
+        int h = group.hashCode();
+        return (h ^ (h >>> 16)) & (STRIPES - 1);
+    }
+
+    private record Entry(String group, CachedJson json) {
+    }
+
+    public record Stats(long entries, long bytes, long maxBytes, boolean offHeap,
+                        long hits, long misses, long evictions) {
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.crudboard.global.cache;
+
+import com.example.crudboard.global.cache.JsonBytesCache.Stats;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "Admin", description = "운영 지표 API (ADMIN 전용)")
+@RestController
+@RequestMapping("/api/admin/json-cache")
+public class JsonCacheStatsController {
+
+    private final JsonBytesCache cache;
+
+    public JsonCacheStatsController(JsonBytesCache cache) {
+        this.cache = cache;
+    }
+
+    @Operation(summary = "응답 JSON 바이트 캐시 사용량/적중률")
+    @GetMapping
+    public Stats stats() {
+        return cache.stats();
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.crudboard.global.db;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * 메시지 컨버터가 응답 본문(JSON)을 쓰기 직전에 요청 스레드가 아직 커넥션을 쥐고 있는지 기록한다.
+ * 본문은 바꾸지 않는다. (응답 스트림에 직접 쓰는 핸들러는 여기를 거치지 않는다)
+ */
+@ControllerAdvice
+public class ConnectionHoldAdvice implements ResponseBodyAdvice<Object> {
+
+    private final ConnectionUsageTracker tracker;
+
+    public ConnectionHoldAdvice(ConnectionUsageTracker tracker) {
+        this.tracker = tracker;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        tracker.markBodyWrite();
+        return body;
+    }
+}
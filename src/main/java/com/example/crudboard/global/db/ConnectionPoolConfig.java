@@ -0,0 +1,34 @@
+package com.example.crudboard.global.db;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * HikariDataSource에 ConnectionUsageTracker를 지표 수집기로 붙인다.
+ * metricsTrackerFactory는 풀이 시작되기(첫 getConnection) 전에만 바꿀 수 있어서 빈 초기화 전에 넣는다.
+ */
+@Configuration
+public class ConnectionPoolConfig {
+
+    @Bean
+    static ConnectionUsageTracker connectionUsageTracker() {
+        return new ConnectionUsageTracker();
+    }
+
+    // BeanPostProcessor는 다른 빈보다 먼저 만들어지므로 static + ObjectProvider로 의존을 늦춘다.
+    @Bean
+    static BeanPostProcessor connectionUsageTrackerInstaller(ObjectProvider<ConnectionUsageTracker> tracker) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource) {
+                    dataSource.setMetricsTrackerFactory(tracker.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.crudboard.global.db;
+
+import com.example.crudboard.global.db.ConnectionPoolSizer.Decision;
+import com.example.crudboard.global.db.ConnectionUsageTracker.PoolUsage;
+import com.example.crudboard.global.db.ConnectionUsageTracker.RouteUsage;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "Admin", description = "운영 지표 API (ADMIN 전용)")
+@RestController
+@RequestMapping("/api/admin/db-pool")
+public class ConnectionPoolController {
+
+    private final ConnectionUsageTracker tracker;
+    private final ConnectionPoolSizer sizer;
+    private final DataSource dataSource;
+
+    public ConnectionPoolController(ConnectionUsageTracker tracker, ConnectionPoolSizer sizer, DataSource dataSource) {
+        this.tracker = tracker;
+        this.sizer = sizer;
+        this.dataSource = dataSource;
+    }
+
+    @Operation(summary = "커넥션 풀 상태, 대기/점유 시간, 구간별 요청당 점유 시간")
+    @GetMapping
+    public ConnectionPoolStats stats() {
+        return new ConnectionPoolStats(poolState(), tracker.poolUsage(), tracker.routeUsage(),
+                sizer.enabled(), sizer.lastDecision());
+    }
+
+    // 풀이 아직 시작되지 않았거나 Hikari가 아니면 null
+    private PoolState poolState() {
+        if (!(dataSource instanceof HikariDataSource hikari) || hikari.getHikariPoolMXBean() == null) {
+            return null;
+        }
+        HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+        return new PoolState(pool.getActiveConnections(), pool.getIdleConnections(), pool.getTotalConnections(),
+                pool.getThreadsAwaitingConnection(), hikari.getHikariConfigMXBean().getMaximumPoolSize(),
+                hikari.getHikariConfigMXBean().getMinimumIdle());
+    }
+
+    public record PoolState(int active, int idle, int total, int threadsAwaiting, int maximumPoolSize, int minimumIdle) {
+    }
+
+    public record ConnectionPoolStats(PoolState pool, PoolUsage usage, Map<String, RouteUsage> routes,
+                                      boolean adaptive, Decision lastDecision) {
+    }
+}
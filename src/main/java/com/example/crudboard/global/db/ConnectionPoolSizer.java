@@ -0,0 +1,115 @@
+package com.example.crudboard.global.db;
+
+import com.example.crudboard.global.db.ConnectionUsageTracker.Window;
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import java.time.LocalDateTime;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 커넥션 대기 시간과 DB 작업 시간(커넥션 점유 시간)을 비교해서 풀 최대 크기를 조절한다. (app.db.pool.adaptive.*)
+ *
+ * - 늘림: 대기 타임아웃이 났거나, 풀을 다 쓴 채로 평균 대기 시간이 평균 점유 시간 x grow-wait-ratio보다 길 때 step만큼
+ * - 줄임: 대기가 거의 없고(평균 점유 시간의 1/10 미만) 최대 동시 사용량이 크기 - step보다 작을 때 1만큼
+ * - 항상 min-size ~ max-size 안에서만 바꾼다. 줄인 만큼의 유휴 커넥션은 Hikari가 idle-timeout에 맞춰 정리한다.
+ * - enabled=false여도 구간 값은 주기마다 비워서 마지막 구간을 조회할 수 있게 한다.
+ */
+@Slf4j
+@Component
+public class ConnectionPoolSizer {
+
+    private final ConnectionUsageTracker tracker;
+    private final HikariDataSource dataSource;
+    private final boolean enabled;
+    private final int minSize;
+    private final int maxSize;
+    private final int step;
+    private final double growWaitRatio;
+
+    private volatile Decision lastDecision;
+
+    public ConnectionPoolSizer(
+            ConnectionUsageTracker tracker,
+            DataSource dataSource,
+            @Value("${app.db.pool.adaptive.enabled:false}") boolean enabled,
+            @Value("${app.db.pool.adaptive.min-size:5}") int minSize,
+            @Value("${app.db.pool.adaptive.max-size:30}") int maxSize,
+            @Value("${app.db.pool.adaptive.step:2}") int step,
+            @Value("${app.db.pool.adaptive.grow-wait-ratio:0.5}") double growWaitRatio) {
+        if (minSize < 1 || maxSize < minSize || step < 1) {
+            throw new IllegalArgumentException("app.db.pool.adaptive: 1 <= min-size <= max-size, step >= 1");
+        }
+        this.tracker = tracker;
+        this.dataSource = dataSource instanceof HikariDataSource hikari ? hikari : null;
+        this.enabled = enabled && this.dataSource != null;
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.step = step;
+        this.growWaitRatio = growWaitRatio;
+        if (enabled && this.dataSource == null) {
+            log.warn("adaptive pool sizing disabled: DataSource is not HikariDataSource ({})", dataSource.getClass().getName());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.db.pool.adaptive.interval-millis:10000}")
+    public void adjust() {
+        Window window = tracker.drainWindow();
+        if (!enabled) {
+            lastDecision = new Decision(LocalDateTime.now(), currentSize(), currentSize(), "disabled", window);
+            return;
+        }
+        HikariConfigMXBean config = dataSource.getHikariConfigMXBean();
+        int size = config.getMaximumPoolSize();
+        int target = targetSize(size, window);
+        String reason = target > size ? "grow" : target < size ? "shrink" : "keep";
+        if (target != size) {
+            config.setMaximumPoolSize(target);
+            // minimumIdle이 최대 크기보다 크면 줄인 뒤에도 다시 채우려 한다.
+            if (config.getMinimumIdle() > target) {
+                config.setMinimumIdle(target);
+            }
+            log.info("connection pool resized {} -> {} (wait={}ms, hold={}ms, peakInUse={}, timeouts={})",
+                    size, target, window.avgAcquireMillis(), window.avgHoldMillis(), window.peakInUse(), window.timeouts());
+        }
+        lastDecision = new Decision(LocalDateTime.now(), size, target, reason, window);
+    }
+
+    public int targetSize(int size, Window window) {
+        boolean saturated = window.peakInUse() >= size;
+        boolean waitingTooLong = window.avgAcquireMillis() > window.avgHoldMillis() * growWaitRatio;
+        if (window.timeouts() > 0 || (saturated && waitingTooLong)) {
+            return clamp(size + step);
+        }
+        boolean idleWait = window.avgAcquireMillis() * 10 < window.avgHoldMillis() || window.acquisitions() == 0;
+        if (idleWait && window.peakInUse() < size - step) {
+            return clamp(size - 1);
+        }
+        return clamp(size);
+    }
+
+    public Decision lastDecision() {
+        return lastDecision;
+    }
+
+    public boolean enabled() {
+        return enabled;
+    }
+
+    private int clamp(int size) {
+        return Math.max(minSize, Math.min(maxSize, size));
+    }
+
+    private int currentSize() {
+        return dataSource != null ? dataSource.getHikariConfigMXBean().getMaximumPoolSize() : -1;
+    }
+
+    /**
+     * @param window 판단에 쓴 구간 값
+     */
+    public record Decision(LocalDateTime at, int previousSize, int newSize, String reason, Window window) {
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.crudboard.global.db;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * 요청마다 커넥션 대기/점유 시간을 모아서 "METHOD 경로 패턴" 단위로 집계한다.
+ * 시큐리티 필터 체인보다 바깥에 둬서 요청 전체(필터 포함)에서 빌린 커넥션을 센다. (AccessLogFilter 바로 안쪽)
+ */
+@Component
+@Order(ConnectionUsageFilter.ORDER)
+public class ConnectionUsageFilter extends OncePerRequestFilter {
+
+    public static final int ORDER = Ordered.HIGHEST_PRECEDENCE + 20;
+
+    private final ConnectionUsageTracker tracker;
+
+    public ConnectionUsageFilter(ConnectionUsageTracker tracker) {
+        this.tracker = tracker;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        tracker.beginRequest();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            tracker.endRequest(routeOf(request));
+        }
+    }
+
+    // 핸들러 매핑 이후에만 패턴이 있다. (경로 변수마다 키가 늘어나지 않도록 실제 URI는 쓰지 않는다)
+    private static String routeOf(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern != null ? pattern : "UNMATCHED");
+    }
+}
@@ -0,0 +1,260 @@
+package com.example.crudboard.global.db;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.IMetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * HikariCP 커넥션 대여 지표를 모은다. (HikariDataSource의 metricsTrackerFactory로 등록)
+ *
+ * - Hikari는 대여(acquire)와 반납(usage) 콜백을 커넥션을 빌리고 닫는 스레드에서 호출한다.
+ *   그래서 요청 스레드에 열어둔 RequestUsage(ConnectionUsageFilter)로 요청마다 대기/점유 시간을 묶을 수 있다.
+ * - 점유 시간은 Hikari가 재는 대여~반납 시간(ms)이다.
+ * - 요청 스레드가 다른 스레드로 넘긴 작업(ShardFanOut의 샤드별 조회)은 propagate()로 감싸야 그 요청에 들어간다.
+ * - 요청 밖(스케줄러 등)에서 빌린 커넥션은 풀 전체 합계에만 들어간다.
+ */
+public class ConnectionUsageTracker implements IMetricsTrackerFactory {
+
+    private static final ThreadLocal<RequestUsage> CURRENT = new ThreadLocal<>();
+
+    // 전체 누적
+    private final LongAdder acquisitions = new LongAdder();
+    private final LongAdder acquireNanos = new LongAdder();
+    private final LongAccumulator maxAcquireNanos = new LongAccumulator(Math::max, 0);
+    private final LongAdder holdMillis = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder created = new LongAdder();
+
+    // ConnectionPoolSizer가 주기마다 비우는 구간 값
+    private final LongAdder windowAcquisitions = new LongAdder();
+    private final LongAdder windowAcquireNanos = new LongAdder();
+    private final LongAdder windowReleases = new LongAdder();
+    private final LongAdder windowHoldMillis = new LongAdder();
+    private final LongAdder windowTimeouts = new LongAdder();
+    private final LongAccumulator windowPeakInUse = new LongAccumulator(Math::max, 0);
+    private final AtomicInteger inUse = new AtomicInteger();
+
+    private final Map<String, RouteCounters> routes = new ConcurrentHashMap<>();
+
+    @Override
+    public IMetricsTracker create(String poolName, PoolStats poolStats) {
+        return new IMetricsTracker() {
+            @Override
+            public void recordConnectionCreatedMillis(long connectionCreatedMillis) {
+                created.increment();
+            }
+
+            @Override
+            public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+                acquired(elapsedAcquiredNanos);
+            }
+
+            @Override
+            public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+                released(elapsedBorrowedMillis);
+            }
+
+            @Override
+            public void recordConnectionTimeout() {
+                timeouts.increment();
+                windowTimeouts.increment();
+            }
+        };
+    }
+
+    private void acquired(long waitNanos) {
+        acquisitions.increment();
+        acquireNanos.add(waitNanos);
+        maxAcquireNanos.accumulate(waitNanos);
+        windowAcquisitions.increment();
+        windowAcquireNanos.add(waitNanos);
+        windowPeakInUse.accumulate(inUse.incrementAndGet());
+
+        RequestUsage usage = CURRENT.get();
+        if (usage != null) {
+            synchronized (usage) {
+                usage.acquisitions++;
+                usage.held++;
+                usage.waitNanos += waitNanos;
+            }
+        }
+    }
+
+    private void released(long heldMillis) {
+        inUse.decrementAndGet();
+        holdMillis.add(heldMillis);
+        windowReleases.increment();
+        windowHoldMillis.add(heldMillis);
+
+        RequestUsage usage = CURRENT.get();
+        if (usage != null) {
+            synchronized (usage) {
+                if (usage.held > 0) {
+                    usage.held--;
+                    usage.holdMillis += heldMillis;
+                }
+            }
+        }
+    }
+
+    /**
+     * 지금 요청의 집계에 묶어서 다른 스레드에서 실행할 작업으로 감싼다. (요청 밖이면 그대로)
+     */
+    public static <T> Callable<T> propagate(Callable<T> task) {
+        RequestUsage usage = CURRENT.get();
+        if (usage == null) {
+            return task;
+        }
+        return () -> {
+            CURRENT.set(usage);
+            try {
+                return task.call();
+            } finally {
+                CURRENT.remove();
+            }
+        };
+    }
+
+    /**
+     * 요청 시작. ConnectionUsageFilter에서만 호출한다.
+     */
+    void beginRequest() {
+        CURRENT.set(new RequestUsage());
+    }
+
+    /**
+     * 응답 본문을 쓰기 직전(ConnectionHoldAdvice)에 아직 커넥션을 쥐고 있는지 기록한다.
+     * open-in-view가 켜져 있으면 여기서 커넥션이 남아 있다.
+     */
+    void markBodyWrite() {
+        RequestUsage usage = CURRENT.get();
+        if (usage != null) {
+            synchronized (usage) {
+                usage.heldDuringBodyWrite |= usage.held > 0;
+            }
+        }
+    }
+
+    /**
+     * 요청 종료. 커넥션을 한 번이라도 빌린 요청만 구간(route)별로 집계한다.
+     */
+    void endRequest(String route) {
+        RequestUsage usage = CURRENT.get();
+        CURRENT.remove();
+        if (usage == null) {
+            return;
+        }
+        // 늦게 끝난 fan-out 스레드가 아직 고치고 있을 수 있다.
+        synchronized (usage) {
+            if (usage.acquisitions > 0) {
+                routes.computeIfAbsent(route, r -> new RouteCounters()).record(usage);
+            }
+        }
+    }
+
+    public PoolUsage poolUsage() {
+        long count = acquisitions.sum();
+        return new PoolUsage(count, inUse.get(), created.sum(), timeouts.sum(),
+                count == 0 ? 0 : toMillis(acquireNanos.sum()) / count,
+                toMillis(maxAcquireNanos.get()),
+                count == 0 ? 0 : (double) holdMillis.sum() / count);
+    }
+
+    public Map<String, RouteUsage> routeUsage() {
+        Map<String, RouteUsage> result = new TreeMap<>();
+        routes.forEach((route, counters) -> result.put(route, counters.snapshot()));
+        return result;
+    }
+
+    /**
+     * 지난 호출 이후 구간 값을 돌려주고 비운다. (ConnectionPoolSizer 전용)
+     */
+    Window drainWindow() {
+        long count = windowAcquisitions.sumThenReset();
+        long waitNanos = windowAcquireNanos.sumThenReset();
+        long releases = windowReleases.sumThenReset();
+        long held = windowHoldMillis.sumThenReset();
+        long peak = windowPeakInUse.getThenReset();
+        // 구간 경계에 걸쳐 빌려간 커넥션도 다음 구간 최댓값에 들어가도록
+        windowPeakInUse.accumulate(inUse.get());
+        return new Window(count, windowTimeouts.sumThenReset(), (int) peak,
+                count == 0 ? 0 : toMillis(waitNanos) / count,
+                releases == 0 ? 0 : (double) held / releases);
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    // 요청 스레드와 propagate()로 넘긴 스레드가 같이 쓰므로 객체 자신으로 동기화한다. (대부분 경합 없음)
+    private static final class RequestUsage {
+        int acquisitions;
+        int held;
+        long waitNanos;
+        long holdMillis;
+        boolean heldDuringBodyWrite;
+    }
+
+    private static final class RouteCounters {
+        final LongAdder requests = new LongAdder();
+        final LongAdder acquisitions = new LongAdder();
+        final LongAdder waitNanos = new LongAdder();
+        final LongAccumulator maxWaitNanos = new LongAccumulator(Math::max, 0);
+        final LongAdder holdMillis = new LongAdder();
+        final LongAccumulator maxHoldMillis = new LongAccumulator(Math::max, 0);
+        final LongAdder heldDuringBodyWrite = new LongAdder();
+
+        void record(RequestUsage usage) {
+            requests.increment();
+            acquisitions.add(usage.acquisitions);
+            waitNanos.add(usage.waitNanos);
+            maxWaitNanos.accumulate(usage.waitNanos);
+            holdMillis.add(usage.holdMillis);
+            maxHoldMillis.accumulate(usage.holdMillis);
+            if (usage.heldDuringBodyWrite) {
+                heldDuringBodyWrite.increment();
+            }
+        }
+
+        RouteUsage snapshot() {
+            long count = requests.sum();
+            return new RouteUsage(count, acquisitions.sum(),
+                    count == 0 ? 0 : toMillis(waitNanos.sum()) / count,
+                    toMillis(maxWaitNanos.get()),
+                    count == 0 ? 0 : (double) holdMillis.sum() / count,
+                    maxHoldMillis.get(),
+                    heldDuringBodyWrite.sum());
+        }
+    }
+
+    /**
+     * @param inUse 지금 빌려가 있는 커넥션 수
+     * @param avgHoldMillis 커넥션 1회 대여당 평균 점유 시간
+     */
+    public record PoolUsage(long acquisitions, int inUse, long connectionsCreated, long timeouts,
+                            double avgAcquireMillis, double maxAcquireMillis, double avgHoldMillis) {
+    }
+
+    /**
+     * 값은 모두 요청 1건 기준 (한 요청이 여러 번 빌리면 합산)
+     *
+     * @param heldDuringBodyWrite 커넥션을 쥔 채로 응답 본문을 쓴 요청 수
+     */
+    public record RouteUsage(long requests, long acquisitions, double avgAcquireMillis, double maxAcquireMillis,
+                             double avgHoldMillis, long maxHoldMillis, long heldDuringBodyWrite) {
+    }
+
+    /**
+     * @param avgHoldMillis 구간 안에서 반납된 커넥션의 평균 점유 시간 (DB 작업 시간에 가깝다)
+     */
+    public record Window(long acquisitions, long timeouts, int peakInUse, double avgAcquireMillis, double avgHoldMillis) {
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.crudboard.global.db;
+
+import com.example.crudboard.global.dto.PageResponse;
+import com.example.crudboard.global.shard.ShardContext;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 페이지 목록 쿼리와 count 쿼리를 동시에 실행해서 PageResponse로 합친다. (app.db.paging.parallel)
+ *
+ * - count는 가상 스레드에서 자기 읽기 전용 트랜잭션(커넥션)으로, 목록은 호출 스레드에서 실행한다.
+ * - count 스레드도 호출한 쪽의 샤드(ShardContext)를 읽고, 빌린 커넥션은 요청의 커넥션 집계에 들어간다.
+ * - 목록만 보고 전체 개수를 알 수 있으면(첫 페이지가 덜 찼거나 마지막 페이지) count를 기다리지 않고 취소한다.
+ * - 이미 트랜잭션 안에서 호출되면 그 트랜잭션을 다른 스레드와 나눌 수 없으므로 차례로 실행한다. (count는 필요할 때만)
+ * - 요청마다 커넥션을 2개까지 쓰므로 풀 크기를 볼 때 목록 동시 요청 수 x 2로 잡는다.
+ */
+@Component
+public class PagingExecutor implements DisposableBean {
+
+    private final TransactionTemplate readOnly;
+    private final boolean parallel;
+    private final ExecutorService counters =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("page-count-", 0).factory());
+
+    public PagingExecutor(PlatformTransactionManager transactionManager,
+                          @Value("${app.db.paging.parallel:true}") boolean parallel) {
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+        this.parallel = parallel;
+    }
+
+    public <T> PageResponse<T> page(Pageable pageable, Supplier<List<T>> content, LongSupplier count) {
+        if (pageable.isUnpaged()) {
+            List<T> rows = readOnly.execute(status -> content.get());
+            return toResponse(pageable, rows, rows.size());
+        }
+        PendingCount total = startCount(count);
+        List<T> rows;
+        try {
+            rows = readOnly.execute(status -> content.get());
+        } catch (RuntimeException e) {
+            total.cancel();
+            throw e;
+        }
+        return toResponse(pageable, rows, total.resolve(pageable.getOffset(), pageable.getPageSize(), rows.size()));
+    }
+
+    /**
+     * 목록을 직접 읽는 호출자(스트리밍 응답)용. 목록을 읽기 전에 count를 띄워 두고, 다 읽은 뒤 resolve()로 전체 개수를 받는다.
+     * 호출한 쪽은 목록을 읽다 실패하면 cancel()을 부른다.
+     */
+    public PendingCount startCount(LongSupplier count) {
+        LongSupplier inTransaction = () -> readOnly.execute(status -> count.getAsLong());
+        if (!parallel || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return new PendingCount(null, inTransaction);
+        }
+        Integer shard = ShardContext.current();
+        Callable<Long> task = shard == null
+                ? inTransaction::getAsLong
+                : () -> ShardContext.call(shard, inTransaction::getAsLong);
+        return new PendingCount(counters.submit(ConnectionUsageTracker.propagate(task)), inTransaction);
+    }
+
+    @Override
+    public void destroy() {
+        counters.shutdownNow();
+    }
+
+    // Spring Data(PageableExecutionUtils)와 같은 규칙: 목록만으로 전체 개수가 확실하면 그 값을, 아니면 null
+    private static Long knownTotal(long offset, int pageSize, int rows) {
+        if (rows < pageSize && (offset == 0 || rows > 0)) {
+            return offset + rows;
+        }
+        return null;
+    }
+
+    private static <T> PageResponse<T> toResponse(Pageable pageable, List<T> rows, long total) {
+        return PageResponse.from(new PageImpl<>(rows, pageable, total));
+    }
+
+    /**
+     * 실행 중인(또는 트랜잭션 안이라 미뤄 둔) count 쿼리.
+     */
+    public static final class PendingCount {
+
+        private final Future<Long> counted; // null이면 resolve() 때 호출 스레드에서 실행
+        private final LongSupplier sequential;
+
+        private PendingCount(Future<Long> counted, LongSupplier sequential) {
+            this.counted = counted;
+            this.sequential = sequential;
+        }
+
+        /**
+         * 목록이 offset부터 rows건이었을 때의 전체 개수. 목록만으로 알 수 있으면 count는 취소한다.
+         */
+        public long resolve(long offset, int pageSize, int rows) {
+            Long total = knownTotal(offset, pageSize, rows);
+            if (total != null) {
+                cancel();
+                return total;
+            }
+            return counted == null ? sequential.getAsLong() : await();
+        }
+
+        public void cancel() {
+            if (counted != null) {
+                counted.cancel(true);
+            }
+        }
+
+        private long await() {
+            try {
+                return counted.get();
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException runtime) {
+                    throw runtime;
+                }
+                throw new IllegalStateException("count query failed", e.getCause());
+            } catch (InterruptedException e) {
+                counted.cancel(true);
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("interrupted while waiting for count query", e);
+            }
+        }
+    }
+}
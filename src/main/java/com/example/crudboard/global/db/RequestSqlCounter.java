@@ -0,0 +1,44 @@
+package com.example.crudboard.global.db;
+
+import com.example.crudboard.global.timing.ServerTimings;
+import com.example.crudboard.global.timing.ServerTimings.Phase;
+import org.hibernate.SessionEventListener;
+
+/**
+ * 요청 스레드에서 실행된 JDBC 문장 수를 센다. (hibernate.session.events.auto로 세션마다 붙는다)
+ * Server-Timing을 재는 요청이면 실행 시간도 db 단계에 더한다.
+ *
+ * - begin()~end() 사이에 같은 스레드에서 실행한 문장만 센다. (ShardFanOut의 샤드별 스레드, PagingExecutor의 count 스레드 등은 빠짐)
+ * - 테스트의 statement_inspector(SqlStatementRecorder)와 따로 동작한다.
+ */
+public class RequestSqlCounter implements SessionEventListener {
+
+    private static final ThreadLocal<int[]> CURRENT = new ThreadLocal<>();
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        int[] count = CURRENT.get();
+        if (count != null) {
+            count[0]++;
+        }
+        ServerTimings.enter(Phase.SQL);
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        ServerTimings.exit(Phase.SQL);
+    }
+
+    public static void begin() {
+        CURRENT.set(new int[1]);
+    }
+
+    /**
+     * begin() 이후 실행한 문장 수. begin() 없이 부르면 0
+     */
+    public static int end() {
+        int[] count = CURRENT.get();
+        CURRENT.remove();
+        return count != null ? count[0] : 0;
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.crudboard.global.dto;
+
+import java.util.List;
+
+/**
+ * 커서 기반 페이지 응답. 다음 페이지는 nextCursor를 cursor 파라미터로 넘겨서 조회한다.
+ * 전체 개수(count 쿼리)는 세지 않는다.
+ */
+public record CursorResponse<T>(
+        List<T> content,
+        String nextCursor,
+        boolean hasNext
+) {
+}
@@ -10,6 +10,17 @@ public record ApiError(
         String path,
         Instant timestamp
 ) {
+    /**
+     * 기본 메시지 응답은 GlobalExceptionHandler가 ApiErrorTemplates로 바로 만들고, 이 메서드는 그 밖의 메시지에 쓴다.
+     */
+    public static ApiError of(ErrorCode code, String message, String path) {
+        return new ApiError(code.name(), message, List.of(), path, Instant.now());
+    }
+
+    public static ApiError of(ErrorCode code, String message, List<FieldViolation> fieldViolations, String path) {
+        return new ApiError(code.name(), message, fieldViolations, path, Instant.now());
+    }
+
     public record FieldViolation(String field, String message) {
 
     }
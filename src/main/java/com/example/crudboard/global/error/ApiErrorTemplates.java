@@ -0,0 +1,92 @@
+package com.example.crudboard.global.error;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * ErrorCode마다 기본 메시지 응답(ApiError)을 미리 직렬화해 둔 템플릿.
+ *
+ * - code, message(기본 메시지), fieldViolations(빈 목록)는 시작할 때 한 번만 직렬화한다.
+ * - 요청마다 path와 timestamp만 직렬화해서 그 사이에 끼워 넣는다. (ApiError를 직렬화한 결과와 같은 JSON)
+ * - 메시지가 기본 메시지가 아니거나 필드 오류가 있는 응답은 지금처럼 ApiError를 직렬화한다.
+ */
+@Component
+public class ApiErrorTemplates {
+
+    // 템플릿을 자를 위치를 찾기 위한 자리표시 값. 실제 응답에는 나가지 않는다.
+    private static final String PATH_MARKER = "__api_error_path__";
+    private static final Instant TIMESTAMP_MARKER = Instant.EPOCH;
+
+    private final JsonMapper jsonMapper;
+    private final Map<ErrorCode, Template> templates = new EnumMap<>(ErrorCode.class);
+
+    public ApiErrorTemplates(JsonMapper jsonMapper) {
+        this.jsonMapper = jsonMapper;
+        for (ErrorCode code : ErrorCode.values()) {
+            templates.put(code, template(code));
+        }
+    }
+
+    public boolean covers(ErrorCode code, String message) {
+        return code.defaultMessage().equals(message);
+    }
+
+    /**
+     * code의 기본 메시지 응답 본문. ApiError.of(code, code.defaultMessage(), path)를 직렬화한 것과 같다.
+     */
+    public byte[] body(ErrorCode code, String path) {
+        Template template = templates.get(code);
+        byte[] pathJson = jsonMapper.writeValueAsBytes(path);
+        byte[] timestampJson = jsonMapper.writeValueAsBytes(Instant.now());
+
+        byte[] body = new byte[template.head().length + pathJson.length + template.middle().length
+                + timestampJson.length + template.tail().length];
+        int at = 0;
+        at = append(body, at, template.head());
+        at = append(body, at, pathJson);
+        at = append(body, at, template.middle());
+        at = append(body, at, timestampJson);
+        append(body, at, template.tail());
+        return body;
+    }
+
+    // 자리표시 값을 넣어 직렬화한 뒤 그 위치에서 잘라 head/middle/tail로 나눈다.
+    private Template template(ErrorCode code) {
+        byte[] full = jsonMapper.writeValueAsBytes(
+                new ApiError(code.name(), code.defaultMessage(), List.of(), PATH_MARKER, TIMESTAMP_MARKER));
+        byte[] pathMarker = jsonMapper.writeValueAsBytes(PATH_MARKER);
+        byte[] timestampMarker = jsonMapper.writeValueAsBytes(TIMESTAMP_MARKER);
+
+        int pathAt = indexOf(full, pathMarker, 0);
+        int timestampAt = pathAt < 0 ? -1 : indexOf(full, timestampMarker, pathAt + pathMarker.length);
+        if (timestampAt < 0) {
+            throw new IllegalStateException("ApiError의 path/timestamp 위치를 찾을 수 없습니다: " + code);
+        }
+        return new Template(
+                Arrays.copyOfRange(full, 0, pathAt),
+                Arrays.copyOfRange(full, pathAt + pathMarker.length, timestampAt),
+                Arrays.copyOfRange(full, timestampAt + timestampMarker.length, full.length));
+    }
+
+    private static int append(byte[] target, int at, byte[] source) {
+        System.arraycopy(source, 0, target, at, source.length);
+        return at + source.length;
+    }
+
+    private static int indexOf(byte[] source, byte[] target, int from) {
+        for (int i = from; i <= source.length - target.length; i++) {
+            if (Arrays.equals(source, i, i + target.length, target, 0, target.length)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private record Template(byte[] head, byte[] middle, byte[] tail) {
+    }
+}
@@ -1,15 +1,18 @@
 package com.example.crudboard.global.error;
 
+/**
+ * 비즈니스 로직 예외. ErrorCode가 4xx(expected)면 스택 트레이스를 만들지 않는다.
+ * (없는 글 404처럼 자주 나는 실패에서 fillInStackTrace 비용과 로그 크기를 줄인다)
+ */
 public class ApiException extends RuntimeException {
   private final ErrorCode errorCode;
 
     public ApiException(ErrorCode errorCode) {
-        super(errorCode.defaultMessage());
-        this.errorCode = errorCode;
+        this(errorCode, errorCode.defaultMessage());
     }
 
     public ApiException(ErrorCode errorCode, String message) {
-      super(message);
+      super(message, null, false, !errorCode.expected());
       this.errorCode = errorCode;
     }
 
@@ -11,14 +11,25 @@ public enum ErrorCode {
     NOT_FOUND(HttpStatus.NOT_FOUND, "리소스를 찾을 수 없습니다."),
     INTERNAL_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "서버 오류가 발생했습니다."),
     POST_NOT_FOUND(HttpStatus.NOT_FOUND, "게시글을 찾을 수 없습니다."),
-    COMMENT_NOT_FOUND(HttpStatus.NOT_FOUND, "댓글을 찾을 수 없습니다.");
+    COMMENT_NOT_FOUND(HttpStatus.NOT_FOUND, "댓글을 찾을 수 없습니다."),
+    BOARD_NOT_FOUND(HttpStatus.NOT_FOUND, "게시판을 찾을 수 없습니다."),
+    BOARD_ALREADY_EXISTS(HttpStatus.CONFLICT, "이미 있는 게시판입니다."),
+    TOO_MANY_LOGIN_ATTEMPTS(HttpStatus.TOO_MANY_REQUESTS, "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요."),
+    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
+    AUTH_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 인증을 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    STREAM_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "실시간 알림 연결이 너무 많습니다. 잠시 후 다시 시도해주세요."),
+    SHARD_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "일부 저장소가 응답하지 않습니다. 잠시 후 다시 시도해주세요."),
+    JFR_RECORDING_RUNNING(HttpStatus.CONFLICT, "이미 JFR 녹화 중입니다."),
+    JFR_RECORDING_NOT_FOUND(HttpStatus.CONFLICT, "진행 중이거나 멈춘 JFR 녹화가 없습니다.");
 
     private final HttpStatus status;
     private final String defaultMessage;
+    private final boolean expected;
 
     ErrorCode(HttpStatus status, String defaultMessage) {
         this.status = status;
         this.defaultMessage = defaultMessage;
+        this.expected = status.is4xxClientError();
     }
 
     public HttpStatus status() {
@@ -28,4 +39,11 @@ public enum ErrorCode {
     public String defaultMessage() {
         return defaultMessage;
     }
+
+    /**
+     * 클라이언트 요청 때문에 나는 예상된 실패(4xx). 스택 트레이스 없이 만들고 로그는 한 줄로 남긴다.
+     */
+    public boolean expected() {
+        return expected;
+    }
 }
@@ -0,0 +1,95 @@
+package com.example.crudboard.global.error;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 에러 응답 로그를 ErrorCode별로 구간(window-seconds)마다 max-per-window건까지만 남기고, 나머지는 세기만 한다. (app.errors.log.*)
+ *
+ * - 구간이 바뀐 뒤 첫 에러에서 지난 구간에 생략한 건수를 한 줄로 남긴다.
+ * - 누적 건수/기록/생략 건수는 GET /api/admin/errors로 본다.
+ * - 코드별 카운터는 처음에 다 만들어 두어서 요청 경로에서는 락 없이 원자 연산만 한다.
+ */
+@Slf4j
+@Component
+public class ErrorLogSampler {
+
+    private final int maxPerWindow;
+    private final long windowNanos;
+    private final Map<ErrorCode, Counters> counters = new EnumMap<>(ErrorCode.class);
+
+    public ErrorLogSampler(@Value("${app.errors.log.max-per-window:5}") int maxPerWindow,
+                           @Value("${app.errors.log.window-seconds:60}") long windowSeconds) {
+        this.maxPerWindow = maxPerWindow;
+        this.windowNanos = TimeUnit.SECONDS.toNanos(windowSeconds);
+        long now = System.nanoTime();
+        for (ErrorCode code : ErrorCode.values()) {
+            counters.put(code, new Counters(now));
+        }
+    }
+
+    /**
+     * 에러 1건을 세고, 이번 구간에 로그를 남겨도 되면 true
+     */
+    public boolean sample(ErrorCode code) {
+        Counters c = counters.get(code);
+        c.total.increment();
+
+        long now = System.nanoTime();
+        long start = c.windowStart.get();
+        if (now - start >= windowNanos && c.windowStart.compareAndSet(start, now)) {
+            c.windowLogged.set(0);
+            long skipped = c.windowSuppressed.getAndSet(0);
+            if (skipped > 0) {
+                log.info("suppressed {} {} logs in the last {}s", skipped, code,
+                        TimeUnit.NANOSECONDS.toSeconds(now - start));
+            }
+        }
+
+        if (c.windowLogged.incrementAndGet() <= maxPerWindow) {
+            c.logged.increment();
+            return true;
+        }
+        c.windowSuppressed.incrementAndGet();
+        c.suppressed.increment();
+        return false;
+    }
+
+    /**
+     * 한 번이라도 난 ErrorCode별 누적 건수 (선언 순서)
+     */
+    public Map<ErrorCode, ErrorStats> stats() {
+        Map<ErrorCode, ErrorStats> result = new LinkedHashMap<>();
+        counters.forEach((code, c) -> {
+            long total = c.total.sum();
+            if (total > 0) {
+                result.put(code, new ErrorStats(code.status().value(), total, c.logged.sum(), c.suppressed.sum()));
+            }
+        });
+        return result;
+    }
+
+    public record ErrorStats(int status, long total, long logged, long suppressed) {
+    }
+
+    private static final class Counters {
+        final LongAdder total = new LongAdder();
+        final LongAdder logged = new LongAdder();
+        final LongAdder suppressed = new LongAdder();
+        final AtomicLong windowStart;
+        final AtomicInteger windowLogged = new AtomicInteger();
+        final AtomicLong windowSuppressed = new AtomicLong();
+
+        Counters(long now) {
+            this.windowStart = new AtomicLong(now);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.crudboard.global.error;
+
+import com.example.crudboard.global.error.ErrorLogSampler.ErrorStats;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.Map;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "Admin", description = "운영 지표 API (ADMIN 전용)")
+@RestController
+@RequestMapping("/api/admin/errors")
+public class ErrorStatsController {
+
+    private final ErrorLogSampler errorLogSampler;
+
+    public ErrorStatsController(ErrorLogSampler errorLogSampler) {
+        this.errorLogSampler = errorLogSampler;
+    }
+
+    @Operation(summary = "ErrorCode별 에러 응답 누적 건수와 로그 기록/생략 건수")
+    @GetMapping
+    public Map<ErrorCode, ErrorStats> stats() {
+        return errorLogSampler.stats();
+    }
+}
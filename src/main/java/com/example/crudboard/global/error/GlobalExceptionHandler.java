@@ -3,11 +3,10 @@ package com.example.crudboard.global.error;
 import com.example.crudboard.global.error.ApiError.FieldViolation;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ConstraintViolationException;
-import java.time.Instant;
 import java.util.List;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.security.access.AccessDeniedException;
@@ -21,28 +20,27 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    private final ErrorLogSampler errorLogSampler;
+    private final ApiErrorTemplates apiErrorTemplates;
+
+    public GlobalExceptionHandler(ErrorLogSampler errorLogSampler, ApiErrorTemplates apiErrorTemplates) {
+        this.errorLogSampler = errorLogSampler;
+        this.apiErrorTemplates = apiErrorTemplates;
+    }
+
     // 비즈니스로직 에러 예외
     @ExceptionHandler(ApiException.class)
-    public ResponseEntity<ApiError> handleApiException(ApiException e, HttpServletRequest req) {
-        log.info("Unhandled exception path={}", req.getRequestURI(), e);
-
+    public ResponseEntity<?> handleApiException(ApiException e, HttpServletRequest req) {
         ErrorCode code = e.getErrorCode();
+        logSampled(code, req, e);
 
-        return ResponseEntity
-                .status(code.status())
-                .body(new ApiError(
-                        code.name(),
-                        e.getMessage(),
-                        List.of(),
-                        req.getRequestURI(),
-                        Instant.now()
-                ));
+        return respond(code, e.getMessage(), req);
     }
 
     // @Valid 바인딩 실패 (DTO validation)
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ApiError> handleMethodArgNotValid(MethodArgumentNotValidException e, HttpServletRequest req) {
-        log.info("Unhandled exception path={}", req.getRequestURI(), e);
+        logSampled(ErrorCode.VALIDATION_ERROR, req, e);
 
         List<ApiError.FieldViolation> violations = e.getBindingResult()
                 .getFieldErrors()
@@ -51,20 +49,15 @@ public class GlobalExceptionHandler {
                 .toList();
 
         return ResponseEntity
-                .status(HttpStatus.BAD_REQUEST)
-                .body(new ApiError(
-                        ErrorCode.VALIDATION_ERROR.name(),
-                        ErrorCode.VALIDATION_ERROR.defaultMessage(),
-                        violations,
-                        req.getRequestURI(),
-                        Instant.now()
-                ));
+                .status(ErrorCode.VALIDATION_ERROR.status())
+                .body(ApiError.of(ErrorCode.VALIDATION_ERROR, ErrorCode.VALIDATION_ERROR.defaultMessage(),
+                        violations, req.getRequestURI()));
     }
 
     // @Validated + request param/path validation 실패 등
     @ExceptionHandler(ConstraintViolationException.class)
     public ResponseEntity<ApiError> handleConstraintViolation(ConstraintViolationException e, HttpServletRequest req) {
-        log.info("Unhandled exception path={}", req.getRequestURI(), e);
+        logSampled(ErrorCode.VALIDATION_ERROR, req, e);
 
         List<ApiError.FieldViolation> violations = e.getConstraintViolations()
                 .stream()
@@ -75,78 +68,67 @@ public class GlobalExceptionHandler {
                 .collect(Collectors.toList());
 
         return ResponseEntity
-                .status(HttpStatus.BAD_REQUEST)
-                .body(new ApiError(
-                        ErrorCode.VALIDATION_ERROR.name(),
-                        ErrorCode.VALIDATION_ERROR.defaultMessage(),
-                        violations,
-                        req.getRequestURI(),
-                        Instant.now()
-                ));
+                .status(ErrorCode.VALIDATION_ERROR.status())
+                .body(ApiError.of(ErrorCode.VALIDATION_ERROR, ErrorCode.VALIDATION_ERROR.defaultMessage(),
+                        violations, req.getRequestURI()));
     }
 
     // JSON 파싱 실패(잘못된 JSON)
     @ExceptionHandler(HttpMessageNotReadableException.class)
-    public ResponseEntity<ApiError> handleNotReadable(HttpMessageNotReadableException e, HttpServletRequest req) {
-        log.info("Unhandled exception path={}", req.getRequestURI(), e);
+    public ResponseEntity<?> handleNotReadable(HttpMessageNotReadableException e, HttpServletRequest req) {
+        logSampled(ErrorCode.VALIDATION_ERROR, req, e);
 
-        return ResponseEntity
-                .status(HttpStatus.BAD_REQUEST)
-                .body(new ApiError(
-                        ErrorCode.VALIDATION_ERROR.name(),
-                        "요청 본문(JSON)이 올바르지 않습니다.",
-                        List.of(),
-                        req.getRequestURI(),
-                        Instant.now()
-                ));
+        return respond(ErrorCode.VALIDATION_ERROR, "요청 본문(JSON)이 올바르지 않습니다.", req);
     }
 
     // 로그인 실패
     @ExceptionHandler(BadCredentialsException.class)
-    public ResponseEntity<ApiError> handleBadCredentials(BadCredentialsException e, HttpServletRequest req) {
-        log.info("Unhandled exception path={}", req.getRequestURI(), e);
+    public ResponseEntity<?> handleBadCredentials(BadCredentialsException e, HttpServletRequest req) {
+        logSampled(ErrorCode.BAD_VALUE_OF_EMAIL_OR_PASSWORD, req, e);
 
-        return ResponseEntity
-                .status(HttpStatus.UNAUTHORIZED)
-                .body(new ApiError(
-                        ErrorCode.BAD_VALUE_OF_EMAIL_OR_PASSWORD.name(),
-                        ErrorCode.BAD_VALUE_OF_EMAIL_OR_PASSWORD.defaultMessage(),
-                        List.of(),
-                        req.getRequestURI(),
-                        Instant.now()
-                ));
+        return respond(ErrorCode.BAD_VALUE_OF_EMAIL_OR_PASSWORD, ErrorCode.BAD_VALUE_OF_EMAIL_OR_PASSWORD.defaultMessage(), req);
     }
 
     // 권한 없음
     @ExceptionHandler(AccessDeniedException.class)
-    public ResponseEntity<ApiError> handleAccessDenied(AccessDeniedException e, HttpServletRequest req) {
-        log.info("Unhandled exception path={}", req.getRequestURI(), e);
+    public ResponseEntity<?> handleAccessDenied(AccessDeniedException e, HttpServletRequest req) {
+        logSampled(ErrorCode.FORBIDDEN, req, e);
 
-        return ResponseEntity
-                .status(HttpStatus.FORBIDDEN)
-                .body(new ApiError(
-                        ErrorCode.FORBIDDEN.name(),
-                        ErrorCode.FORBIDDEN.defaultMessage(),
-                        List.of(),
-                        req.getRequestURI(),
-                        Instant.now()
-                ));
+        return respond(ErrorCode.FORBIDDEN, ErrorCode.FORBIDDEN.defaultMessage(), req);
     }
 
     // 그 외 모든 예외(진짜 서버 에러)
     @ExceptionHandler(Exception.class)
-    public ResponseEntity<ApiError> handleUnknown(Exception e, HttpServletRequest req) {
-        log.info("Unhandled exception path={}", req.getRequestURI(), e);
+    public ResponseEntity<?> handleUnknown(Exception e, HttpServletRequest req) {
+        errorLogSampler.sample(ErrorCode.INTERNAL_ERROR);
+        log.error("Unhandled exception path={}", req.getRequestURI(), e);
+
+        return respond(ErrorCode.INTERNAL_ERROR, ErrorCode.INTERNAL_ERROR.defaultMessage(), req);
+    }
 
+    // 기본 메시지면 미리 직렬화해 둔 템플릿에 path/timestamp만 채워서, 아니면 ApiError를 직렬화해서 보낸다.
+    private ResponseEntity<?> respond(ErrorCode code, String message, HttpServletRequest req) {
+        if (apiErrorTemplates.covers(code, message)) {
+            return ResponseEntity
+                    .status(code.status())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(apiErrorTemplates.body(code, req.getRequestURI()));
+        }
         return ResponseEntity
-                .status(HttpStatus.INTERNAL_SERVER_ERROR)
-                .body(new ApiError(
-                        ErrorCode.INTERNAL_ERROR.name(),
-                        ErrorCode.INTERNAL_ERROR.defaultMessage(),
-                        List.of(),
-                        req.getRequestURI(),
-                        Instant.now()
-                ));
+                .status(code.status())
+                .body(ApiError.of(code, message, req.getRequestURI()));
+    }
+
+    // 4xx는 스택 없이 한 줄, 5xx는 스택과 함께. 둘 다 ErrorCode별로 구간마다 몇 건만 남긴다. (ErrorLogSampler)
+    private void logSampled(ErrorCode code, HttpServletRequest req, Exception e) {
+        if (!errorLogSampler.sample(code)) {
+            return;
+        }
+        if (code.expected()) {
+            log.info("{} path={} message={}", code, req.getRequestURI(), e.getMessage());
+        } else {
+            log.warn("{} path={}", code, req.getRequestURI(), e);
+        }
     }
 
     private FieldViolation toViolation(FieldError fe) {
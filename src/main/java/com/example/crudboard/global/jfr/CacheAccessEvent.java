@@ -0,0 +1,33 @@
+package com.example.crudboard.global.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("crudboard.CacheAccess")
+@Label("Cache Access")
+@Category({"Crudboard", "Cache"})
+@StackTrace(false)
+class CacheAccessEvent extends Event {
+
+    @Label("Endpoint")
+    String endpoint;
+
+    @Label("Cache")
+    String cache;
+
+    @Label("Key")
+    String key;
+
+    @Label("Hit")
+    boolean hit;
+
+    @Label("Bytes")
+    @Description("캐시에 있던 또는 새로 담은 JSON 바이트 수")
+    @DataAmount
+    long bytes;
+}
@@ -0,0 +1,59 @@
+package com.example.crudboard.global.jfr;
+
+import com.example.crudboard.comment.repository.CommentRepository;
+import com.example.crudboard.post.repository.PostRepository;
+import com.example.crudboard.user.UserRepository;
+import java.util.Set;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * JFR 이벤트 지점을 붙인다. (app.jfr.enabled)
+ *
+ * - 리포지토리: 프록시를 만들기 전에 RepositoryProxyPostProcessor로 RepositoryEventInterceptor를 끼운다.
+ * - 직렬화: SerializationEventAdvice가 시작하고 같은 객체가 인터셉터로 컨버터 쓰기가 끝난 직후(postHandle) 닫는다.
+ * - 트랜잭션/JSON 캐시는 각 클래스가 JfrEvents를 직접 부른다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.jfr.enabled", havingValue = "true", matchIfMissing = true)
+public class JfrConfig implements WebMvcConfigurer {
+
+    private static final Set<Class<?>> RECORDED_REPOSITORIES =
+            Set.of(PostRepository.class, CommentRepository.class, UserRepository.class);
+
+    private final SerializationEventAdvice serializationEventAdvice;
+
+    public JfrConfig(SerializationEventAdvice serializationEventAdvice) {
+        this.serializationEventAdvice = serializationEventAdvice;
+    }
+
+    // 리포지토리 팩토리 빈이 afterPropertiesSet에서 프록시를 만들기 전에 끼워야 한다.
+    @Bean
+    static BeanPostProcessor repositoryEventInstaller() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory ->
+                            factory.addRepositoryProxyPostProcessor((proxy, information) -> {
+                                Class<?> repository = information.getRepositoryInterface();
+                                if (RECORDED_REPOSITORIES.contains(repository)) {
+                                    proxy.addAdvice(new RepositoryEventInterceptor(repository.getSimpleName()));
+                                }
+                            }));
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(serializationEventAdvice);
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.crudboard.global.jfr;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import jdk.jfr.EventType;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * 다른 패키지(트랜잭션 매니저, JSON 캐시)에서 JFR 이벤트를 남길 때 쓰는 진입점.
+ *
+ * - 녹화 중이 아니면(이벤트가 꺼져 있으면) 공유 EventType의 isEnabled() 확인만 하고 끝난다. (이벤트 객체도 만들지 않음)
+ * - endpoint 필드는 요청 스레드에서만 채운다. ("GET /api/posts/{id}", 다른 스레드는 null)
+ */
+public final class JfrEvents {
+
+    private static final EventType TRANSACTION = EventType.getEventType(TransactionEvent.class);
+    private static final EventType CACHE_ACCESS = EventType.getEventType(CacheAccessEvent.class);
+    private static final EventType SERIALIZATION = EventType.getEventType(SerializationEvent.class);
+
+    // 트랜잭션 매니저의 트랜잭션 객체 -> 진행 중인 이벤트. 녹화 중에 시작한 트랜잭션만 들어간다.
+    // (ThreadLocal 스택과 달리 녹화가 중간에 켜지거나 꺼져도 begin/end 짝이 어긋나지 않는다)
+    private static final Map<Object, TransactionEvent> TRANSACTIONS = new ConcurrentHashMap<>();
+
+    private JfrEvents() {
+    }
+
+    /**
+     * 새 트랜잭션을 시작하기 직전. transaction은 doBegin~doCleanupAfterCompletion에 같은 객체가 넘어온다.
+     */
+    public static void transactionBegin(Object transaction, TransactionDefinition definition) {
+        if (!TRANSACTION.isEnabled()) {
+            return;
+        }
+        TransactionEvent event = new TransactionEvent();
+        event.begin();
+        event.endpoint = currentEndpoint();
+        event.name = definition.getName();
+        event.readOnly = definition.isReadOnly();
+        event.outcome = "unknown";
+        TRANSACTIONS.put(transaction, event);
+    }
+
+    /**
+     * begin이 실패하면 cleanup이 불리지 않으므로 여기서 기록하지 않고 꺼낸다.
+     */
+    public static void transactionBeginFailed(Object transaction) {
+        if (!TRANSACTIONS.isEmpty()) {
+            TRANSACTIONS.remove(transaction);
+        }
+    }
+
+    public static void transactionOutcome(Object transaction, boolean committed) {
+        TransactionEvent event = TRANSACTIONS.isEmpty() ? null : TRANSACTIONS.get(transaction);
+        if (event != null) {
+            event.outcome = committed ? "commit" : "rollback";
+        }
+    }
+
+    public static void transactionEnd(Object transaction) {
+        TransactionEvent event = TRANSACTIONS.isEmpty() ? null : TRANSACTIONS.remove(transaction);
+        if (event != null) {
+            event.commit();
+        }
+    }
+
+    public static void cacheAccess(String cache, String key, boolean hit, long bytes) {
+        if (!CACHE_ACCESS.isEnabled()) {
+            return;
+        }
+        CacheAccessEvent event = new CacheAccessEvent();
+        if (event.shouldCommit()) {
+            event.endpoint = currentEndpoint();
+            event.cache = cache;
+            event.key = key;
+            event.hit = hit;
+            event.bytes = bytes;
+            event.commit();
+        }
+    }
+
+    /**
+     * 직렬화 시작. 녹화 중이 아니면 null이고, serializationEnd에 그대로 넘긴다.
+     */
+    public static SerializationEvent serializationBegin(Object value, String source) {
+        if (!SERIALIZATION.isEnabled()) {
+            return null;
+        }
+        SerializationEvent event = new SerializationEvent();
+        event.begin();
+        event.endpoint = currentEndpoint();
+        event.type = value != null ? value.getClass().getSimpleName() : "null";
+        event.source = source;
+        event.bytes = -1;
+        return event;
+    }
+
+    public static void serializationEnd(SerializationEvent event, long bytes) {
+        if (event == null) {
+            return;
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.bytes = bytes;
+            event.commit();
+        }
+    }
+
+    static String currentEndpoint() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return null;
+        }
+        HttpServletRequest request = attributes.getRequest();
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern != null ? pattern : request.getRequestURI());
+    }
+}
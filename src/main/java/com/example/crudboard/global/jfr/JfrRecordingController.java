@@ -0,0 +1,62 @@
+package com.example.crudboard.global.jfr;
+
+import com.example.crudboard.global.jfr.JfrRecordingService.RecordingStatus;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "Admin", description = "운영 지표 API (ADMIN 전용)")
+@RestController
+@RequestMapping("/api/admin/jfr")
+@ConditionalOnProperty(name = "app.jfr.enabled", havingValue = "true", matchIfMissing = true)
+public class JfrRecordingController {
+
+    private final JfrRecordingService recordingService;
+
+    public JfrRecordingController(JfrRecordingService recordingService) {
+        this.recordingService = recordingService;
+    }
+
+    @Operation(summary = "JFR 녹화 상태")
+    @GetMapping
+    public RecordingStatus status() {
+        return recordingService.status();
+    }
+
+    @Operation(summary = "JFR 녹화 시작 (settings: default, profile)")
+    @PostMapping("/start")
+    public RecordingStatus start(@RequestParam(required = false) String settings) {
+        return recordingService.start(settings);
+    }
+
+    @Operation(summary = "JFR 녹화 중지 (다음 시작 전까지 dump 가능)")
+    @PostMapping("/stop")
+    public RecordingStatus stop() {
+        return recordingService.stop();
+    }
+
+    @Operation(summary = "지금까지 녹화한 내용을 .jfr 파일로 받기 (jfr print, JDK Mission Control)")
+    @GetMapping("/dump")
+    public void dump(HttpServletResponse response) throws IOException {
+        Path file = recordingService.dump();
+        try {
+            response.setContentType(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + file.getFileName() + "\"");
+            response.setContentLengthLong(Files.size(file));
+            Files.copy(file, response.getOutputStream());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
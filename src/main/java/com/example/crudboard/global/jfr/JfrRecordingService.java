@@ -0,0 +1,137 @@
+package com.example.crudboard.global.jfr;
+
+import com.example.crudboard.global.error.ApiException;
+import com.example.crudboard.global.error.ErrorCode;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import jdk.jfr.Configuration;
+import jdk.jfr.Event;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * 운영 중에 JFR 녹화를 켜고/끄고/파일로 받는다. 한 번에 하나만 둔다. (app.jfr.*)
+ *
+ * - settings(default/profile)의 JDK 이벤트(할당, 락, 실행 샘플 등)와 crudboard.* 이벤트를 함께 남겨서
+ *   이벤트의 endpoint/스레드로 어느 API에서 생긴 할당/락인지 맞춰 볼 수 있다.
+ * - 멈춘 녹화는 다음 start 전까지 남겨 두고 dump로 받을 수 있다.
+ * - max-age/max-size를 넘은 앞부분은 버린다. (오래 켜 둬도 디스크를 다 쓰지 않도록)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.jfr.enabled", havingValue = "true", matchIfMissing = true)
+public class JfrRecordingService implements DisposableBean {
+
+    private static final List<Class<? extends Event>> EVENTS = List.of(
+            RepositoryCallEvent.class, TransactionEvent.class, CacheAccessEvent.class, SerializationEvent.class);
+
+    private final String defaultSettings;
+    private final Duration maxAge;
+    private final long maxSizeBytes;
+    private final Path dumpDir;
+
+    private Recording recording;
+    private String settings;
+
+    public JfrRecordingService(@Value("${app.jfr.settings:profile}") String defaultSettings,
+                               @Value("${app.jfr.max-age-seconds:600}") long maxAgeSeconds,
+                               @Value("${app.jfr.max-size-bytes:104857600}") long maxSizeBytes,
+                               @Value("${app.jfr.dump-dir:}") String dumpDir) {
+        this.defaultSettings = defaultSettings;
+        this.maxAge = Duration.ofSeconds(maxAgeSeconds);
+        this.maxSizeBytes = maxSizeBytes;
+        this.dumpDir = Path.of(StringUtils.hasText(dumpDir) ? dumpDir : System.getProperty("java.io.tmpdir"));
+    }
+
+    public synchronized RecordingStatus start(String settingsName) {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            throw new ApiException(ErrorCode.JFR_RECORDING_RUNNING);
+        }
+        String name = StringUtils.hasText(settingsName) ? settingsName : defaultSettings;
+        Recording next = new Recording(configuration(name));
+        next.setName("crudboard");
+        next.setToDisk(true);
+        next.setMaxAge(maxAge);
+        next.setMaxSize(maxSizeBytes);
+        for (Class<? extends Event> event : EVENTS) {
+            next.enable(event).withoutThreshold();
+        }
+        next.start();
+
+        if (recording != null) {
+            recording.close();
+        }
+        recording = next;
+        settings = name;
+        log.info("JFR recording started. settings={}", name);
+        return status();
+    }
+
+    public synchronized RecordingStatus stop() {
+        if (recording == null || recording.getState() != RecordingState.RUNNING) {
+            throw new ApiException(ErrorCode.JFR_RECORDING_NOT_FOUND);
+        }
+        recording.stop();
+        log.info("JFR recording stopped. size={}B", recording.getSize());
+        return status();
+    }
+
+    /**
+     * 지금까지 녹화한 내용을 dump-dir 아래 임시 파일로 쓴다. 다 읽은 뒤 지우는 건 호출한 쪽 몫이다.
+     * (녹화 중이면 멈추지 않고 그 시점까지를 쓴다)
+     */
+    public synchronized Path dump() {
+        if (recording == null || recording.getState() == RecordingState.CLOSED) {
+            throw new ApiException(ErrorCode.JFR_RECORDING_NOT_FOUND);
+        }
+        try {
+            Files.createDirectories(dumpDir);
+            Path file = Files.createTempFile(dumpDir, "crudboard-", ".jfr");
+            recording.dump(file);
+            return file;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public synchronized RecordingStatus status() {
+        if (recording == null) {
+            return new RecordingStatus("NONE", null, null, null, 0, maxAge.toSeconds(), maxSizeBytes);
+        }
+        return new RecordingStatus(recording.getState().name(), settings,
+                recording.getStartTime(), recording.getStopTime(), recording.getSize(),
+                maxAge.toSeconds(), maxSizeBytes);
+    }
+
+    @Override
+    public synchronized void destroy() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+
+    private static Configuration configuration(String name) {
+        try {
+            return Configuration.getConfiguration(name);
+        } catch (IOException | ParseException e) {
+            throw new ApiException(ErrorCode.VALIDATION_ERROR, "알 수 없는 JFR 설정입니다: " + name);
+        }
+    }
+
+    public record RecordingStatus(String state, String settings, Instant startedAt, Instant stoppedAt,
+                                  long sizeBytes, long maxAgeSeconds, long maxSizeBytes) {
+    }
+}
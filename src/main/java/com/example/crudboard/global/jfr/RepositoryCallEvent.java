@@ -0,0 +1,36 @@
+package com.example.crudboard.global.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("crudboard.RepositoryCall")
+@Label("Repository Call")
+@Category({"Crudboard", "Database"})
+@Description("Post/Comment/User 리포지토리 메서드 호출")
+@StackTrace(false)
+class RepositoryCallEvent extends Event {
+
+    @Label("Endpoint")
+    String endpoint;
+
+    @Label("Repository")
+    String repository;
+
+    @Label("Method")
+    String method;
+
+    @Label("Id")
+    @Description("첫 번째 숫자 인자 (없으면 -1)")
+    long id;
+
+    @Label("Rows")
+    @Description("돌려준 엔티티 수 (개수/존재 여부처럼 행이 아닌 결과면 -1)")
+    int rows;
+
+    @Label("Failed")
+    boolean failed;
+}
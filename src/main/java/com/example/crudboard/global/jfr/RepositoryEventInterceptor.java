@@ -0,0 +1,79 @@
+package com.example.crudboard.global.jfr;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.stream.BaseStream;
+import jdk.jfr.EventType;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.data.domain.Slice;
+
+/**
+ * 리포지토리 프록시에 붙어서 메서드 호출마다 RepositoryCallEvent를 남긴다.
+ * Stream을 돌려주는 메서드는 쿼리를 여는 데까지만 잰다. (행 수는 -1)
+ */
+final class RepositoryEventInterceptor implements MethodInterceptor {
+
+    private static final EventType TYPE = EventType.getEventType(RepositoryCallEvent.class);
+
+    private final String repository;
+
+    RepositoryEventInterceptor(String repository) {
+        this.repository = repository;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        if (!TYPE.isEnabled()) {
+            return invocation.proceed();
+        }
+        RepositoryCallEvent event = new RepositoryCallEvent();
+        event.begin();
+        Object result = null;
+        boolean failed = true;
+        try {
+            result = invocation.proceed();
+            failed = false;
+            return result;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.endpoint = JfrEvents.currentEndpoint();
+                event.repository = repository;
+                event.method = invocation.getMethod().getName();
+                event.id = firstNumber(invocation.getArguments());
+                event.rows = failed || invocation.getMethod().getReturnType() == void.class ? -1 : rows(result);
+                event.failed = failed;
+                event.commit();
+            }
+        }
+    }
+
+    private static long firstNumber(Object[] arguments) {
+        for (Object argument : arguments) {
+            if (argument instanceof Long || argument instanceof Integer) {
+                return ((Number) argument).longValue();
+            }
+        }
+        return -1;
+    }
+
+    private static int rows(Object result) {
+        if (result == null) {
+            return 0;
+        }
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Slice<?> slice) {
+            return slice.getNumberOfElements();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        if (result instanceof Number || result instanceof Boolean || result instanceof BaseStream<?, ?>) {
+            return -1;
+        }
+        return 1;
+    }
+}
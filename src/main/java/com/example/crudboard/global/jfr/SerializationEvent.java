@@ -0,0 +1,32 @@
+package com.example.crudboard.global.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("crudboard.Serialization")
+@Label("Response Serialization")
+@Category({"Crudboard", "Web"})
+@Description("응답 본문 직렬화 (JSON 캐시 또는 메시지 컨버터)")
+@StackTrace(false)
+public final class SerializationEvent extends Event {
+
+    @Label("Endpoint")
+    String endpoint;
+
+    @Label("Type")
+    String type;
+
+    @Label("Source")
+    @Description("json-cache, converter")
+    String source;
+
+    @Label("Bytes")
+    @Description("직렬화한 바이트 수 (컨버터 경로는 -1)")
+    @DataAmount
+    long bytes;
+}
@@ -0,0 +1,64 @@
+package com.example.crudboard.global.jfr;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * 메시지 컨버터가 본문을 쓰기 시작할 때 SerializationEvent를 열고, 컨버터가 쓰기를 마친 직후(postHandle) 닫는다.
+ * @ResponseBody 응답은 핸들러 어댑터 안에서 본문을 다 쓰고 나서 postHandle이 불린다.
+ * 쓰다가 예외가 나서 postHandle이 불리지 않으면 afterCompletion에서 닫는다.
+ * JSON 캐시 바이트를 그대로 쓰는 응답(CachedJson)은 컨버터를 거치지 않으므로 JsonBytesCache가 직렬화할 때 남긴다.
+ */
+@ControllerAdvice
+@ConditionalOnProperty(name = "app.jfr.enabled", havingValue = "true", matchIfMissing = true)
+public class SerializationEventAdvice implements ResponseBodyAdvice<Object>, HandlerInterceptor {
+
+    private static final String ATTRIBUTE = SerializationEventAdvice.class.getName() + ".event";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (request instanceof ServletServerHttpRequest servletRequest) {
+            SerializationEvent event = JfrEvents.serializationBegin(body, "converter");
+            if (event != null) {
+                servletRequest.getServletRequest().setAttribute(ATTRIBUTE, event);
+            }
+        }
+        return body;
+    }
+
+    @Override
+    public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler,
+                           ModelAndView modelAndView) {
+        end(request);
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        end(request);
+    }
+
+    private static void end(HttpServletRequest request) {
+        if (request.getAttribute(ATTRIBUTE) instanceof SerializationEvent event) {
+            request.removeAttribute(ATTRIBUTE);
+            JfrEvents.serializationEnd(event, -1);
+        }
+    }
+}
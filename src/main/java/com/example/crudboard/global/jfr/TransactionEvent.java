@@ -0,0 +1,30 @@
+package com.example.crudboard.global.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("crudboard.Transaction")
+@Label("Transaction")
+@Category({"Crudboard", "Database"})
+@Description("새로 시작한 트랜잭션의 begin부터 commit/rollback 후 정리까지")
+@StackTrace(false)
+class TransactionEvent extends Event {
+
+    @Label("Endpoint")
+    String endpoint;
+
+    @Label("Name")
+    @Description("트랜잭션 이름 (@Transactional 메서드)")
+    String name;
+
+    @Label("Read Only")
+    boolean readOnly;
+
+    @Label("Outcome")
+    @Description("commit, rollback, unknown")
+    String outcome;
+}
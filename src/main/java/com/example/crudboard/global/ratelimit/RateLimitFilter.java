@@ -0,0 +1,69 @@
+package com.example.crudboard.global.ratelimit;
+
+import com.example.crudboard.global.error.ApiException;
+import com.example.crudboard.global.error.ErrorCode;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+/**
+ * /api/** 요청에 토큰 버킷 레이트 리밋을 적용한다.
+ * SecurityConfig에서 시큐리티 필터 체인 안(AuthorizationFilter 앞)에 등록해서
+ * 세션에서 복원된 로그인 사용자를 알 수 있다.
+ *
+ * 빈으로 등록하지 않는다. (빈으로 등록하면 서블릿 필터로 한 번 더 걸림)
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final TokenBucketRegistry registry;
+    private final RateLimitPolicy policy;
+    private final HandlerExceptionResolver exceptionResolver;
+
+    public RateLimitFilter(TokenBucketRegistry registry, RateLimitPolicy policy,
+                           HandlerExceptionResolver exceptionResolver) {
+        this.registry = registry;
+        this.policy = policy;
+        this.exceptionResolver = exceptionResolver;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return !policy.enabled() || !path.startsWith("/api/") || path.startsWith("/api/admin/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RateLimitRoute route = RateLimitRoute.resolve(request);
+
+        Long userId = currentUserId();
+        String key = userId != null ? "user:" + userId : "ip:" + request.getRemoteAddr();
+        long waitNanos = registry.tryConsume(key, userId != null, route);
+
+        if (waitNanos > 0) {
+            long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+            // 표준 에러 포맷은 GlobalExceptionHandler에 맡긴다.
+            exceptionResolver.resolveException(request, response, null, new ApiException(ErrorCode.TOO_MANY_REQUESTS));
+            return;
+        }
+        chain.doFilter(request, response);
+    }
+
+    private static Long currentUserId() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth != null && auth.getPrincipal() instanceof Long userId) {
+            return userId;
+        }
+        return null;
+    }
+}
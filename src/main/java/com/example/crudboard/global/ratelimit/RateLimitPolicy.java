@@ -0,0 +1,77 @@
+package com.example.crudboard.global.ratelimit;
+
+import java.util.EnumMap;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 레이트 리밋 설정값(app.rate-limit.*)
+ * 로그인 사용자는 userId 버킷, 비로그인 요청은 IP 버킷을 쓴다.
+ */
+@Component
+public class RateLimitPolicy {
+
+    private final boolean enabled;
+    private final int userCapacity;
+    private final double userRefillPerSecond;
+    private final int ipCapacity;
+    private final double ipRefillPerSecond;
+    private final long idleEvictSeconds;
+    private final Map<RateLimitRoute, Integer> costs = new EnumMap<>(RateLimitRoute.class);
+
+    public RateLimitPolicy(
+            @Value("${app.rate-limit.enabled:true}") boolean enabled,
+            @Value("${app.rate-limit.user.capacity:120}") int userCapacity,
+            @Value("${app.rate-limit.user.refill-per-second:20}") double userRefillPerSecond,
+            @Value("${app.rate-limit.ip.capacity:60}") int ipCapacity,
+            @Value("${app.rate-limit.ip.refill-per-second:10}") double ipRefillPerSecond,
+            @Value("${app.rate-limit.idle-evict-seconds:600}") long idleEvictSeconds,
+            @Value("${app.rate-limit.cost.post-search:10}") int postSearchCost,
+            @Value("${app.rate-limit.cost.post-list:3}") int postListCost,
+            @Value("${app.rate-limit.cost.post-detail:1}") int postDetailCost,
+            @Value("${app.rate-limit.cost.comment-list:2}") int commentListCost,
+            @Value("${app.rate-limit.cost.write:5}") int writeCost,
+            @Value("${app.rate-limit.cost.other:1}") int otherCost) {
+        this.enabled = enabled;
+        this.userCapacity = userCapacity;
+        this.userRefillPerSecond = userRefillPerSecond;
+        this.ipCapacity = ipCapacity;
+        this.ipRefillPerSecond = ipRefillPerSecond;
+        this.idleEvictSeconds = idleEvictSeconds;
+        costs.put(RateLimitRoute.POST_SEARCH, postSearchCost);
+        costs.put(RateLimitRoute.POST_LIST, postListCost);
+        costs.put(RateLimitRoute.POST_DETAIL, postDetailCost);
+        costs.put(RateLimitRoute.COMMENT_LIST, commentListCost);
+        costs.put(RateLimitRoute.WRITE, writeCost);
+        costs.put(RateLimitRoute.OTHER, otherCost);
+    }
+
+    public boolean enabled() {
+        return enabled;
+    }
+
+    public int costOf(RateLimitRoute route) {
+        return costs.get(route);
+    }
+
+    public int userCapacity() {
+        return userCapacity;
+    }
+
+    public double userRefillPerSecond() {
+        return userRefillPerSecond;
+    }
+
+    public int ipCapacity() {
+        return ipCapacity;
+    }
+
+    public double ipRefillPerSecond() {
+        return ipRefillPerSecond;
+    }
+
+    public long idleEvictSeconds() {
+        return idleEvictSeconds;
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.crudboard.global.ratelimit;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpMethod;
+import org.springframework.util.StringUtils;
+
+/**
+ * 비용을 따로 매기는 API 구간.
+ * 검색(keyword/기간 조건이 붙은 목록 조회)이 가장 비싸고, 단건 조회가 가장 싸다.
+ */
+public enum RateLimitRoute {
+    POST_SEARCH,
+    POST_LIST,
+    POST_DETAIL,
+    COMMENT_LIST,
+    WRITE,
+    OTHER;
+
+    static RateLimitRoute resolve(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (!HttpMethod.GET.matches(request.getMethod())) {
+            return WRITE;
+        }
+        if (path.equals("/api/posts/export")) {
+            return POST_SEARCH;
+        }
+        if (path.equals("/api/posts") || path.equals("/api/posts/")) {
+            boolean search = StringUtils.hasText(request.getParameter("keyword"))
+                    || request.getParameter("createdFrom") != null
+                    || request.getParameter("createdTo") != null;
+            return search ? POST_SEARCH : POST_LIST;
+        }
+        if (path.startsWith("/api/posts/")) {
+            return path.endsWith("/comments") || path.endsWith("/replies") ? COMMENT_LIST : POST_DETAIL;
+        }
+        return OTHER;
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.crudboard.global.ratelimit;
+
+import com.example.crudboard.global.ratelimit.TokenBucketRegistry.RouteStats;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.Map;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "Admin", description = "운영 지표 API (ADMIN 전용)")
+@RestController
+@RequestMapping("/api/admin/rate-limit")
+public class RateLimitStatsController {
+
+    private final TokenBucketRegistry registry;
+
+    public RateLimitStatsController(TokenBucketRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Operation(summary = "구간별 레이트 리밋 통과/거절 횟수")
+    @GetMapping
+    public RateLimitStatsResponse stats() {
+        return new RateLimitStatsResponse(registry.trackedBuckets(), registry.stats());
+    }
+
+    public record RateLimitStatsResponse(int trackedBuckets, Map<String, RouteStats> routes) {
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.crudboard.global.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 락 없이 CAS로 갱신하는 토큰 버킷.
+ * 상태(남은 토큰, 마지막 리필 시각)를 불변 객체로 묶어서 한 번의 compareAndSet으로 바꾼다.
+ */
+final class TokenBucket {
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final double capacity;
+    private final double refillPerNano;
+    private final AtomicReference<State> state;
+
+    TokenBucket(int capacity, double refillPerSecond, long now) {
+        this.capacity = capacity;
+        this.refillPerNano = refillPerSecond / NANOS_PER_SECOND;
+        this.state = new AtomicReference<>(new State(capacity, now));
+    }
+
+    /**
+     * 토큰을 cost만큼 꺼낸다.
+     * @return 성공하면 0, 실패하면 토큰이 cost만큼 다시 찰 때까지 남은 시간(ns)
+     */
+    long tryConsume(int cost, long now) {
+        while (true) {
+            State current = state.get();
+            double tokens = refill(current, now);
+            if (tokens < cost) {
+                return (long) Math.ceil((cost - tokens) / refillPerNano);
+            }
+            if (state.compareAndSet(current, new State(tokens - cost, Math.max(now, current.updatedAt())))) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * 마지막 사용 이후 버킷이 가득 찰 만큼 시간이 지났으면 지워도 동작이 같다.
+     */
+    boolean isIdle(long now, long idleNanos) {
+        State current = state.get();
+        return now - current.updatedAt() > idleNanos && refill(current, now) >= capacity;
+    }
+
+    private double refill(State current, long now) {
+        long elapsed = Math.max(0, now - current.updatedAt());
+        return Math.min(capacity, current.tokens() + elapsed * refillPerNano);
+    }
+
+    private record State(double tokens, long updatedAt) {
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.crudboard.global.ratelimit;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.stereotype.Component;
+
+/**
+ * 클라이언트 키별 토큰 버킷 저장소.
+ * 키를 해시로 여러 stripe(ConcurrentHashMap)에 나눠 담고,
+ * 일정 횟수 호출마다 stripe 하나씩만 돌면서 오래 안 쓴 버킷을 지운다. (별도 스케줄러/전역 락 없음)
+ */
+@Component
+public class TokenBucketRegistry {
+
+    private static final int STRIPES = 16;
+    private static final int SWEEP_EVERY = 1024;
+
+    @SuppressWarnings("unchecked")
+    private final ConcurrentHashMap<String, TokenBucket>[] stripes = new ConcurrentHashMap[STRIPES];
+    private final AtomicLong operations = new AtomicLong();
+
+    private final Map<RateLimitRoute, LongAdder> allowed = new EnumMap<>(RateLimitRoute.class);
+    private final Map<RateLimitRoute, LongAdder> rejected = new EnumMap<>(RateLimitRoute.class);
+
+    private final RateLimitPolicy policy;
+
+    public TokenBucketRegistry(RateLimitPolicy policy) {
+        this.policy = policy;
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new ConcurrentHashMap<>();
+        }
+        for (RateLimitRoute route : RateLimitRoute.values()) {
+            allowed.put(route, new LongAdder());
+            rejected.put(route, new LongAdder());
+        }
+    }
+
+    /**
+     * @return 통과하면 0, 거절되면 다시 시도할 수 있을 때까지 남은 시간(ns)
+     */
+    public long tryConsume(String key, boolean authenticated, RateLimitRoute route) {
+        long now = System.nanoTime();
+        sweepIfDue(now);
+
+        TokenBucket bucket = stripeOf(key).computeIfAbsent(key, k -> authenticated
+                ? new TokenBucket(policy.userCapacity(), policy.userRefillPerSecond(), now)
+                : new TokenBucket(policy.ipCapacity(), policy.ipRefillPerSecond(), now));
+
+        long waitNanos = bucket.tryConsume(policy.costOf(route), now);
+        (waitNanos == 0 ? allowed : rejected).get(route).increment();
+        return waitNanos;
+    }
+
+    public Map<String, RouteStats> stats() {
+        Map<String, RouteStats> result = new LinkedHashMap<>();
+        for (RateLimitRoute route : RateLimitRoute.values()) {
+            result.put(route.name(), new RouteStats(
+                    policy.costOf(route), allowed.get(route).sum(), rejected.get(route).sum()));
+        }
+        return result;
+    }
+
+    public int trackedBuckets() {
+        int size = 0;
+        for (ConcurrentHashMap<String, TokenBucket> stripe : stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+
+    private ConcurrentHashMap<String, TokenBucket> stripeOf(String key) {
+        int h = key.hashCode();
+        return stripes[(h ^ (h >>> 16)) & (STRIPES - 1)];
+    }
+
+    private void sweepIfDue(long now) {
+        long op = operations.incrementAndGet();
+        if (op % SWEEP_EVERY != 0) {
+            return;
+        }
+        long idleNanos = TimeUnit.SECONDS.toNanos(policy.idleEvictSeconds());
+        ConcurrentHashMap<String, TokenBucket> stripe = stripes[(int) ((op / SWEEP_EVERY) % STRIPES)];
+        stripe.values().removeIf(bucket -> bucket.isIdle(now, idleNanos));
+    }
+
+    public record RouteStats(int cost, long allowed, long rejected) {
+    }
+}
@@ -1,6 +1,11 @@
 package com.example.crudboard.global.security;
 
+import com.example.crudboard.global.ratelimit.RateLimitFilter;
+import com.example.crudboard.global.ratelimit.RateLimitPolicy;
+import com.example.crudboard.global.ratelimit.TokenBucketRegistry;
+import com.example.crudboard.global.timing.SecurityTimingFilter;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -17,16 +22,20 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.AuthorizationFilter;
 import org.springframework.security.web.authentication.www.BasicAuthenticationEntryPoint;
+import org.springframework.security.web.session.DisableEncodeUrlFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
 
 @Slf4j
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
 
+    // strength를 올리면 기존 해시는 다음 로그인 때 AuthService에서 새 cost로 재해싱된다.
     @Bean
-    PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    PasswordEncoder passwordEncoder(@Value("${app.security.password.bcrypt-strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 
     @Profile("dev")
@@ -64,7 +73,11 @@ public class SecurityConfig {
     // 이건 쫌 많이 이해가 필요할 듯
     @Bean
     @Order(2)
-    SecurityFilterChain appChain(HttpSecurity http) throws Exception {
+    SecurityFilterChain appChain(
+            HttpSecurity http,
+            TokenBucketRegistry tokenBucketRegistry,
+            RateLimitPolicy rateLimitPolicy,
+            @Qualifier("handlerExceptionResolver") HandlerExceptionResolver exceptionResolver) throws Exception {
         http.csrf(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(auth -> auth
 
@@ -77,8 +90,13 @@ public class SecurityConfig {
                         // 인증 api
                         .requestMatchers("/api/auth/**").permitAll()
 
+                        // 운영 api
+                        .requestMatchers("/api/admin/**").hasRole("ADMIN")
+
                         // read-only public apis
                         .requestMatchers(HttpMethod.GET, "/api/posts/**").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/stream/**").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/boards").permitAll()
 
                         // 로그인 필요 apis
                         .requestMatchers(HttpMethod.POST, "/api/posts/**").authenticated()
@@ -89,7 +107,14 @@ public class SecurityConfig {
                 )
                 .httpBasic(AbstractHttpConfigurer::disable)
                 .formLogin(AbstractHttpConfigurer::disable);
+        // 세션에서 로그인 사용자가 복원된 뒤, 인가 검사 전에 레이트 리밋 적용
+        http.addFilterBefore(
+                new RateLimitFilter(tokenBucketRegistry, rateLimitPolicy, exceptionResolver),
+                AuthorizationFilter.class);
         http.headers(h -> h.frameOptions(FrameOptionsConfig::sameOrigin));
+        // Server-Timing의 sec 단계: 체인 맨 앞 ~ 인가 검사 직후
+        http.addFilterBefore(SecurityTimingFilter.enter(), DisableEncodeUrlFilter.class);
+        http.addFilterAfter(SecurityTimingFilter.exit(), AuthorizationFilter.class);
         return http.build();
     }
 }
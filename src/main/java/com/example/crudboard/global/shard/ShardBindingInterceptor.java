@@ -0,0 +1,62 @@
+package com.example.crudboard.global.shard;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.Map;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * 경로에 글 id가 있는 요청(/api/posts/{id}, /api/posts/{postId}/comments, /posts/{id})을 그 글의 샤드에 묶는다.
+ * 컨트롤러가 트랜잭션을 열기 전에 정해져 있어야 해서 인터셉터에서 한다.
+ */
+public class ShardBindingInterceptor implements HandlerInterceptor {
+
+    private static final String PREVIOUS = ShardBindingInterceptor.class.getName() + ".previous";
+    private static final String[] ID_VARIABLES = {"postId", "id"};
+
+    private final ShardRouter router;
+
+    public ShardBindingInterceptor(ShardRouter router) {
+        this.router = router;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        Long id = postId(request);
+        if (id != null) {
+            request.setAttribute(PREVIOUS, new Previous(ShardContext.bind(router.shardOfId(id))));
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(PREVIOUS) instanceof Previous previous) {
+            request.removeAttribute(PREVIOUS);
+            ShardContext.restore(previous.shard());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Long postId(HttpServletRequest request) {
+        Object attribute = request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        if (!(attribute instanceof Map<?, ?> variables)) {
+            return null;
+        }
+        for (String name : ID_VARIABLES) {
+            Object value = ((Map<String, String>) variables).get(name);
+            if (value != null) {
+                try {
+                    return Long.parseLong(value.toString());
+                } catch (NumberFormatException e) {
+                    return null; // 타입 변환 오류는 컨트롤러가 400으로 처리한다.
+                }
+            }
+        }
+        return null;
+    }
+
+    private record Previous(Integer shard) {
+    }
+}
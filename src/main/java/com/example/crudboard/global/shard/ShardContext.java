@@ -0,0 +1,54 @@
+package com.example.crudboard.global.shard;
+
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드가 쓸 샤드 번호. ShardRoutingDataSource가 커넥션을 빌릴 때 읽는다.
+ *
+ * 트랜잭션은 시작할 때 커넥션을 잡으므로 @Transactional 메서드를 부르기 전에 정해야 한다.
+ * 정하지 않으면(null) 샤드 0(기본 DB)을 쓴다.
+ */
+public final class ShardContext {
+
+    private static final ThreadLocal<Integer> CURRENT = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    public static Integer current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * shard에 묶어서 실행하고, 끝나면 이전 값으로 되돌린다. (중첩 호출 가능)
+     */
+    public static <T> T call(int shard, Supplier<T> task) {
+        Integer previous = bind(shard);
+        try {
+            return task.get();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    public static void run(int shard, Runnable task) {
+        call(shard, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    static Integer bind(Integer shard) {
+        Integer previous = CURRENT.get();
+        CURRENT.set(shard);
+        return previous;
+    }
+
+    static void restore(Integer previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+}
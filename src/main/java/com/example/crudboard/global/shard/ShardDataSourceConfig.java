@@ -0,0 +1,92 @@
+package com.example.crudboard.global.shard;
+
+import com.example.crudboard.global.db.ConnectionUsageTracker;
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.HashMap;
+import java.util.Map;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.StringUtils;
+
+/**
+ * app.shards.enabled=true일 때 DataSource를 샤드별 Hikari 풀을 묶은 ShardRoutingDataSource로 바꾼다.
+ *
+ * - 샤드 0은 spring.datasource 그대로라서 Flyway/Hibernate 기동 검증은 지금처럼 샤드 0에서 한다.
+ * - 샤드 1..N-1은 여기서 같은 마이그레이션(spring.flyway.locations)을 적용한다.
+ * - 샤드 i의 posts/comments id를 i * ShardRouter.ID_RANGE부터 발급하게 맞춘다.
+ *   id가 전체에서 유일해야 id만으로 샤드를 찾고, 2차 캐시/JSON 캐시 키도 겹치지 않는다.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "app.shards.enabled", havingValue = "true")
+public class ShardDataSourceConfig {
+
+    private static final String[] ID_TABLES = {"posts", "comments"};
+
+    @Bean
+    @Primary
+    DataSource dataSource(DataSourceProperties properties, ConnectionUsageTracker tracker,
+                          @Value("${app.shards.urls:}") String[] urls,
+                          @Value("${spring.flyway.locations:classpath:db/migration}") String[] migrations,
+                          @Value("${spring.flyway.baseline-on-migrate:false}") boolean baselineOnMigrate) {
+        Map<Object, Object> targets = new HashMap<>();
+        HikariDataSource primary = pool(properties, properties.getUrl(), 0, tracker);
+        targets.put(0, primary);
+        int shard = 1;
+        for (String url : urls) {
+            if (!StringUtils.hasText(url)) {
+                continue;
+            }
+            HikariDataSource dataSource = pool(properties, url.trim(), shard, tracker);
+            Flyway.configure()
+                    .dataSource(dataSource)
+                    .locations(migrations)
+                    .baselineOnMigrate(baselineOnMigrate)
+                    .load()
+                    .migrate();
+            reserveIdRange(dataSource, shard);
+            targets.put(shard, dataSource);
+            shard++;
+        }
+        log.info("sharding enabled. shards={}", targets.size());
+
+        ShardRoutingDataSource routing = new ShardRoutingDataSource();
+        routing.setTargetDataSources(targets);
+        routing.setDefaultTargetDataSource(primary);
+        routing.setLenientFallback(false);
+        routing.afterPropertiesSet();
+        return routing;
+    }
+
+    // 풀은 빈이 아니라서 ConnectionPoolConfig의 BeanPostProcessor 대신 여기서 지표 수집기를 붙인다.
+    private static HikariDataSource pool(DataSourceProperties properties, String url, int shard,
+                                         ConnectionUsageTracker tracker) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .url(url)
+                .build();
+        dataSource.setPoolName("shard-" + shard);
+        dataSource.setMetricsTrackerFactory(tracker);
+        return dataSource;
+    }
+
+    // 이미 구간 안의 id를 발급했으면 그대로 둔다. (재기동)
+    private static void reserveIdRange(DataSource dataSource, int shard) {
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        long base = shard * ShardRouter.ID_RANGE;
+        for (String table : ID_TABLES) {
+            Long maxId = jdbc.queryForObject("select coalesce(max(id), 0) from " + table, Long.class);
+            if (maxId == null || maxId < base) {
+                jdbc.execute("alter table " + table + " alter column id restart with " + base);
+            }
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.crudboard.global.shard;
+
+import com.example.crudboard.global.db.ConnectionUsageTracker;
+import com.example.crudboard.global.error.ApiException;
+import com.example.crudboard.global.error.ErrorCode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.IntFunction;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 모든 샤드에 같은 작업을 가상 스레드로 동시에 보내고 샤드 순서대로 결과를 모은다. (scatter-gather)
+ *
+ * - 작업은 각자 스레드에서 ShardContext에 묶여 실행되므로 트랜잭션도 샤드마다 따로 연다.
+ * - 샤드 스레드가 빌린 커넥션도 호출한 요청의 커넥션 집계에 들어간다. (ConnectionUsageTracker.propagate)
+ * - 전체 대기 시간은 app.shards.fan-out-timeout-millis. 한 샤드라도 실패하거나 늦으면 나머지를 취소(interrupt)한다.
+ */
+@Slf4j
+@Component
+public class ShardFanOut {
+
+    private final ShardRouter router;
+    private final long timeoutNanos;
+
+    public ShardFanOut(ShardRouter router,
+                       @Value("${app.shards.fan-out-timeout-millis:3000}") long timeoutMillis) {
+        this.router = router;
+        this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+    }
+
+    /**
+     * @return 샤드 번호 순서의 결과
+     */
+    public <T> List<T> query(IntFunction<T> perShard) {
+        int shards = router.shardCount();
+        ExecutorService executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("shard-fan-out-", 0).factory());
+        try {
+            List<Future<T>> futures = new ArrayList<>(shards);
+            for (int shard = 0; shard < shards; shard++) {
+                int current = shard;
+                futures.add(executor.submit(ConnectionUsageTracker.propagate(
+                        () -> ShardContext.call(current, () -> perShard.apply(current)))));
+            }
+            long deadline = System.nanoTime() + timeoutNanos;
+            List<T> results = new ArrayList<>(shards);
+            for (int shard = 0; shard < shards; shard++) {
+                try {
+                    results.add(futures.get(shard).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS));
+                } catch (TimeoutException e) {
+                    log.warn("shard {} did not answer within {}ms", shard, TimeUnit.NANOSECONDS.toMillis(timeoutNanos));
+                    throw new ApiException(ErrorCode.SHARD_UNAVAILABLE);
+                } catch (ExecutionException e) {
+                    // ApiException(검증 오류 등)은 그대로 돌려준다.
+                    if (e.getCause() instanceof RuntimeException runtime) {
+                        throw runtime;
+                    }
+                    throw new IllegalStateException("shard " + shard + " query failed", e.getCause());
+                }
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ApiException(ErrorCode.SHARD_UNAVAILABLE);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
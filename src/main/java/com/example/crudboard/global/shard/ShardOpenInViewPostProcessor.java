@@ -0,0 +1,38 @@
+package com.example.crudboard.global.shard;
+
+import java.util.Map;
+import org.apache.commons.logging.Log;
+import org.springframework.boot.EnvironmentPostProcessor;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.logging.DeferredLogFactory;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+
+/**
+ * app.shards.enabled=true면 spring.jpa.open-in-view를 끈다. (app.db.open-in-view 설정보다 우선)
+ *
+ * OSIV의 요청 EntityManager는 처음 빌린 커넥션을 요청 끝까지 쥐고 있다.
+ * 그래서 게시판 확인처럼 샤드 0을 먼저 읽고 ShardContext로 다른 샤드를 골라도 같은 EntityManager(샤드 0 커넥션)에 쓰게 된다.
+ */
+public class ShardOpenInViewPostProcessor implements EnvironmentPostProcessor {
+
+    static final String PROPERTY_SOURCE = "shardOpenInView";
+
+    private final Log log;
+
+    public ShardOpenInViewPostProcessor(DeferredLogFactory logFactory) {
+        this.log = logFactory.getLog(ShardOpenInViewPostProcessor.class);
+    }
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        if (!environment.getProperty("app.shards.enabled", Boolean.class, false)) {
+            return;
+        }
+        if (environment.getProperty("spring.jpa.open-in-view", Boolean.class, true)) {
+            log.warn("app.shards.enabled=true: spring.jpa.open-in-view is turned off");
+        }
+        environment.getPropertySources().addFirst(
+                new MapPropertySource(PROPERTY_SOURCE, Map.of("spring.jpa.open-in-view", false)));
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.crudboard.global.shard;
+
+import com.example.crudboard.post.PostSearchCondition;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * 게시판/글을 샤드에 배치하는 규칙. (app.shards.*)
+ *
+ * - 샤드 0은 spring.datasource, 샤드 1..N-1은 app.shards.urls 순서다. 꺼져 있으면 샤드는 0 하나뿐이다.
+ * - 게시판 -> 샤드: (boardId - 1) mod N. 기본 게시판(1)과 기존 글은 샤드 0에 있다.
+ * - 글/댓글 id -> 샤드: id / ID_RANGE. 샤드마다 id 구간을 나눠서 발급하므로(ShardDataSourceConfig) id만으로 찾아간다.
+ * - 회원, 인기글 스냅샷, 파티션 목록, 게시판 목록 같은 메타데이터는 샤드 0에만 둔다.
+ */
+@Component
+public class ShardRouter {
+
+    // 샤드 i의 글/댓글 id는 i * ID_RANGE부터 발급한다. (약 1조 건씩, JS Number로도 정확히 표현된다)
+    public static final long ID_RANGE = 1L << 40;
+
+    private final int shardCount;
+
+    public ShardRouter(@Value("${app.shards.enabled:false}") boolean enabled,
+                       @Value("${app.shards.urls:}") String[] urls) {
+        this.shardCount = enabled ? 1 + (int) Arrays.stream(urls).filter(StringUtils::hasText).count() : 1;
+    }
+
+    public int shardCount() {
+        return shardCount;
+    }
+
+    public int shardOfBoard(long boardId) {
+        return (int) Math.floorMod(boardId - 1, (long) shardCount);
+    }
+
+    /**
+     * 글/댓글 id가 속한 샤드. 구간 밖 id는 샤드 0으로 보낸다. (조회하면 404)
+     */
+    public int shardOfId(long id) {
+        long shard = id / ID_RANGE;
+        return shard >= 0 && shard < shardCount ? (int) shard : 0;
+    }
+
+    /**
+     * 검색 조건이 가리키는 샤드. 게시판을 지정하지 않았으면 샤드 0
+     */
+    public int shardOf(PostSearchCondition condition) {
+        return condition == null || condition.boardId() == null ? 0 : shardOfBoard(condition.boardId());
+    }
+
+    /**
+     * 게시판을 지정하지 않은 검색이 여러 샤드를 읽어야 하는지
+     */
+    public boolean fansOut(PostSearchCondition condition) {
+        return shardCount > 1 && (condition == null || condition.boardId() == null);
+    }
+
+    /**
+     * 샤드마다 차례로 실행한다. (스케줄 작업처럼 순서대로 돌아도 되는 일)
+     */
+    public void forEachShard(IntConsumer task) {
+        for (int shard = 0; shard < shardCount; shard++) {
+            int current = shard;
+            ShardContext.run(current, () -> task.accept(current));
+        }
+    }
+
+    public <T> List<T> mapShards(IntFunction<T> task) {
+        List<T> results = new ArrayList<>(shardCount);
+        forEachShard(shard -> results.add(task.apply(shard)));
+        return results;
+    }
+}
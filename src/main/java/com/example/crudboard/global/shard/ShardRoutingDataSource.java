@@ -0,0 +1,14 @@
+package com.example.crudboard.global.shard;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * ShardContext에 묶인 샤드의 풀에서 커넥션을 빌린다. 묶인 샤드가 없으면 기본 대상(샤드 0)
+ */
+public class ShardRoutingDataSource extends AbstractRoutingDataSource {
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return ShardContext.current();
+    }
+}
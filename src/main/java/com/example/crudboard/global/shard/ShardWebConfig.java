@@ -0,0 +1,23 @@
+package com.example.crudboard.global.shard;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@ConditionalOnProperty(name = "app.shards.enabled", havingValue = "true")
+public class ShardWebConfig implements WebMvcConfigurer {
+
+    private final ShardRouter router;
+
+    public ShardWebConfig(ShardRouter router) {
+        this.router = router;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ShardBindingInterceptor(router))
+                .addPathPatterns("/api/posts/**", "/posts/**");
+    }
+}
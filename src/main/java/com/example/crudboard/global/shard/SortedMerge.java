@@ -0,0 +1,58 @@
+package com.example.crudboard.global.shard;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 이미 같은 순서로 정렬된 샤드별 결과를 k-way merge 한다.
+ * 각 목록의 맨 앞만 힙에 두므로 앞쪽 skip + limit 건만 꺼내면 된다. O((skip + limit) log k)
+ */
+public final class SortedMerge {
+
+    private SortedMerge() {
+    }
+
+    public static <T> List<T> merge(List<? extends List<T>> sortedLists, Comparator<? super T> order, long skip, int limit) {
+        PriorityQueue<Cursor<T>> heads = new PriorityQueue<>(Math.max(1, sortedLists.size()),
+                (a, b) -> order.compare(a.head(), b.head()));
+        for (List<T> list : sortedLists) {
+            if (!list.isEmpty()) {
+                heads.add(new Cursor<>(list));
+            }
+        }
+        List<T> result = new ArrayList<>(limit);
+        long skipped = 0;
+        while (!heads.isEmpty() && result.size() < limit) {
+            Cursor<T> cursor = heads.poll();
+            T next = cursor.head();
+            if (skipped < skip) {
+                skipped++;
+            } else {
+                result.add(next);
+            }
+            if (cursor.advance()) {
+                heads.add(cursor);
+            }
+        }
+        return result;
+    }
+
+    private static final class Cursor<T> {
+        private final List<T> list;
+        private int index;
+
+        Cursor(List<T> list) {
+            this.list = list;
+        }
+
+        T head() {
+            return list.get(index);
+        }
+
+        boolean advance() {
+            return ++index < list.size();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.crudboard.global.startup;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+
+/**
+ * lazy 프로필: 운영에 꼭 필요하지 않은 빈(OpenAPI 문서, H2 콘솔)을 처음 쓸 때까지 만들지 않는다.
+ *
+ * spring.main.lazy-initialization(전체 지연)과 달리 app.startup.lazy-packages에 속한 빈만 지연한다.
+ * DataSource/Flyway/JPA/Security/스케줄러 등 나머지는 그대로 기동 시 만들어서, 첫 요청 지연이나 마이그레이션 누락이 없다.
+ * 빈 정의에서 직접 지연 여부(@Lazy(false) 등)를 정한 빈은 건드리지 않는다.
+ */
+@Configuration
+@Profile("lazy")
+public class LazyBeansConfig {
+
+    static final String[] DEFAULT_LAZY_PACKAGES = {"org.springdoc.", "org.springframework.boot.h2console."};
+
+    @Bean
+    static DeferNonCriticalBeans deferNonCriticalBeans(Environment environment) {
+        return new DeferNonCriticalBeans(
+                environment.getProperty("app.startup.lazy-packages", String[].class, DEFAULT_LAZY_PACKAGES));
+    }
+
+    public static class DeferNonCriticalBeans implements BeanFactoryPostProcessor {
+
+        private final String[] packages;
+        private final List<String> deferred = new ArrayList<>();
+
+        DeferNonCriticalBeans(String[] packages) {
+            this.packages = packages;
+        }
+
+        @Override
+        public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) {
+            for (String name : beanFactory.getBeanDefinitionNames()) {
+                BeanDefinition definition = beanFactory.getBeanDefinition(name);
+                if (definition.getRole() == BeanDefinition.ROLE_INFRASTRUCTURE || explicitLazySetting(definition)) {
+                    continue;
+                }
+                String source = sourceClassName(beanFactory, definition);
+                if (source != null && inLazyPackage(source)) {
+                    definition.setLazyInit(true);
+                    deferred.add(name);
+                }
+            }
+        }
+
+        /**
+         * 지연 초기화로 바꾼 빈 이름
+         */
+        public List<String> deferred() {
+            return List.copyOf(deferred);
+        }
+
+        private boolean inLazyPackage(String className) {
+            for (String prefix : packages) {
+                if (className.startsWith(prefix)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static boolean explicitLazySetting(BeanDefinition definition) {
+            return definition instanceof AbstractBeanDefinition abd && abd.getLazyInit() != null;
+        }
+
+        // @Bean 메서드로 만든 빈은 클래스 이름이 없어서 그 메서드가 있는 설정 클래스로 판단한다.
+        private static String sourceClassName(ConfigurableListableBeanFactory beanFactory, BeanDefinition definition) {
+            if (definition.getBeanClassName() != null) {
+                return definition.getBeanClassName();
+            }
+            String factoryBeanName = definition.getFactoryBeanName();
+            if (factoryBeanName != null && beanFactory.containsBeanDefinition(factoryBeanName)) {
+                return beanFactory.getBeanDefinition(factoryBeanName).getBeanClassName();
+            }
+            return null;
+        }
+    }
+}
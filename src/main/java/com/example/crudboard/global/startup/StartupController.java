@@ -0,0 +1,31 @@
+package com.example.crudboard.global.startup;
+
+import com.example.crudboard.global.error.ApiException;
+import com.example.crudboard.global.error.ErrorCode;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "Admin", description = "운영 지표 API (ADMIN 전용)")
+@RestController
+@RequestMapping("/api/admin/startup")
+public class StartupController {
+
+    private final StartupProfiler profiler;
+
+    public StartupController(StartupProfiler profiler) {
+        this.profiler = profiler;
+    }
+
+    @Operation(summary = "기동 단계별 소요 시간(Flyway/Hibernate/Security/springdoc)과 느린 빈 목록")
+    @GetMapping
+    public StartupReport report() {
+        StartupReport report = profiler.report();
+        if (report == null) {
+            throw new ApiException(ErrorCode.NOT_FOUND, "기동 기록이 없습니다. (BufferingApplicationStartup 미사용)");
+        }
+        return report;
+    }
+}
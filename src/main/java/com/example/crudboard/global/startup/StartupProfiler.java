@@ -0,0 +1,93 @@
+package com.example.crudboard.global.startup;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * 기동 단계 기록(BufferingApplicationStartup)을 StartupReport로 요약한다. (app.startup.*)
+ *
+ * - CrudboardApplication.main에서 BufferingApplicationStartup을 붙였을 때만 기록이 있다. (테스트 컨텍스트는 없음)
+ * - 기동이 끝나면 report-path에 JSON으로 한 번 쓰고, GET /api/admin/startup은 그때그때 다시 요약한다.
+ *   (지연 초기화된 빈도 첫 사용 시점에 버퍼에 쌓인다)
+ */
+@Slf4j
+@Component
+public class StartupProfiler {
+
+    // 빈 수(수백~천여 개) + 컨텍스트 단계보다 넉넉하게
+    public static final int BUFFER_CAPACITY = 10_000;
+
+    private final ConfigurableApplicationContext context;
+    private final JsonMapper jsonMapper;
+    private final String reportPath;
+    private final int topBeans;
+
+    private volatile Instant readyAt;
+
+    public StartupProfiler(ConfigurableApplicationContext context, JsonMapper jsonMapper,
+                           @Value("${app.startup.report-path:startup-report.json}") String reportPath,
+                           @Value("${app.startup.top-beans:30}") int topBeans) {
+        this.context = context;
+        this.jsonMapper = jsonMapper;
+        this.reportPath = reportPath;
+        this.topBeans = topBeans;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        readyAt = Instant.now();
+        StartupReport report = report();
+        if (report == null) {
+            return;
+        }
+        log.info("startup took {}ms {}", report.totalMillis(), report.phases());
+        if (StringUtils.hasText(reportPath)) {
+            write(report, Path.of(reportPath));
+        }
+    }
+
+    /**
+     * 기록이 없으면(BufferingApplicationStartup이 아니거나 아직 기동 중) null
+     */
+    public StartupReport report() {
+        if (readyAt == null || !(context.getApplicationStartup() instanceof BufferingApplicationStartup startup)) {
+            return null;
+        }
+        ConfigurableListableBeanFactory beanFactory = context.getBeanFactory();
+        return StartupReport.from(startup.getBufferedTimeline(), readyAt, topBeans, beanName -> {
+            if (!beanFactory.containsBean(beanName)) {
+                return null;
+            }
+            Class<?> type = beanFactory.getType(beanName, false);
+            return type != null ? ClassUtils.getUserClass(type).getName() : null;
+        });
+    }
+
+    // 리포트를 못 써도 기동은 계속한다.
+    private void write(StartupReport report, Path path) {
+        try {
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            File file = path.toFile();
+            jsonMapper.writerWithDefaultPrettyPrinter().writeValue(file, report);
+            log.info("startup report written to {}", file.getAbsolutePath());
+        } catch (Exception e) {
+            log.warn("failed to write startup report to {}", path, e);
+        }
+    }
+}
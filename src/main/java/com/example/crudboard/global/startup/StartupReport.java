@@ -0,0 +1,131 @@
+package com.example.crudboard.global.startup;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline.TimelineEvent;
+import org.springframework.core.metrics.StartupStep;
+
+/**
+ * BufferingApplicationStartup에 쌓인 기동 단계를 요약한다.
+ *
+ * - phases: 구간별 소요 시간(ms). 같은 구간 빈이 중첩되면 가장 바깥 빈만 센다. (다른 구간 빈 생성이 안에 들어 있을 수 있다)
+ * - slowestBeans: 빈 생성 시간 상위 N개. self는 안에서 만든 다른 빈 시간을 뺀 값이다.
+ *
+ * @param totalMillis 기동 시작 ~ ApplicationReadyEvent
+ * @param recordedSteps 버퍼에 남은 단계 수 (버퍼가 차면 이후 단계는 빠진다)
+ */
+public record StartupReport(Instant startedAt, Instant readyAt, long totalMillis, int recordedSteps,
+                            Map<String, Long> phases, List<BeanTiming> slowestBeans) {
+
+    private static final String BEAN_INSTANTIATE = "spring.beans.instantiate";
+    private static final String CONTEXT_REFRESH = "spring.context.refresh";
+
+    // 구간 이름 -> 빈 판별 (빈 이름, 빈 타입 이름)
+    private static final Map<String, Predicate<BeanRef>> PHASES = new LinkedHashMap<>();
+
+    static {
+        PHASES.put("flyway", bean -> bean.lowerType().contains("flyway") || bean.name().startsWith("flyway"));
+        PHASES.put("hibernate", bean -> bean.name().equals("entityManagerFactory") || bean.lowerType().startsWith("org.hibernate"));
+        PHASES.put("security", bean -> bean.name().equals("springSecurityFilterChain")
+                || bean.lowerType().startsWith("org.springframework.security"));
+        PHASES.put("springdoc", bean -> bean.lowerType().startsWith("org.springdoc"));
+        PHASES.put("application", bean -> bean.lowerType().startsWith("com.example.crudboard"));
+    }
+
+    /**
+     * @param typeOf 빈 이름 -> 타입 이름 (모르면 null)
+     */
+    public static StartupReport from(StartupTimeline timeline, Instant readyAt, int topBeans,
+                                     Function<String, String> typeOf) {
+        List<TimelineEvent> events = timeline.getEvents();
+        Map<Long, TimelineEvent> byId = new HashMap<>();
+        Map<Long, Duration> childDurations = new HashMap<>();
+        for (TimelineEvent event : events) {
+            byId.put(event.getStartupStep().getId(), event);
+        }
+        for (TimelineEvent event : events) {
+            Long parentId = event.getStartupStep().getParentId();
+            if (parentId != null) {
+                childDurations.merge(parentId, event.getDuration(), Duration::plus);
+            }
+        }
+
+        Map<Long, BeanRef> beans = new HashMap<>();
+        for (TimelineEvent event : events) {
+            StartupStep step = event.getStartupStep();
+            if (BEAN_INSTANTIATE.equals(step.getName())) {
+                String name = tag(step, "beanName");
+                if (name != null) {
+                    String type = typeOf.apply(name);
+                    beans.put(step.getId(), new BeanRef(name, type, type == null ? "" : type.toLowerCase(Locale.ROOT)));
+                }
+            }
+        }
+
+        Map<String, Long> phases = new LinkedHashMap<>();
+        events.stream()
+                .filter(event -> CONTEXT_REFRESH.equals(event.getStartupStep().getName()))
+                .findFirst()
+                .ifPresent(event -> phases.put("contextRefresh", event.getDuration().toMillis()));
+        PHASES.forEach((phase, matcher) -> {
+            Duration total = Duration.ZERO;
+            for (Map.Entry<Long, BeanRef> bean : beans.entrySet()) {
+                if (matcher.test(bean.getValue()) && !hasMatchingAncestor(bean.getKey(), matcher, byId, beans)) {
+                    total = total.plus(byId.get(bean.getKey()).getDuration());
+                }
+            }
+            phases.put(phase, total.toMillis());
+        });
+
+        List<BeanTiming> slowest = new ArrayList<>();
+        beans.forEach((id, bean) -> {
+            Duration duration = byId.get(id).getDuration();
+            Duration self = duration.minus(childDurations.getOrDefault(id, Duration.ZERO));
+            slowest.add(new BeanTiming(bean.name(), bean.type(), duration.toMillis(), Math.max(0, self.toMillis())));
+        });
+        slowest.sort(Comparator.comparingLong(BeanTiming::selfMillis).reversed()
+                .thenComparing(Comparator.comparingLong(BeanTiming::totalMillis).reversed()));
+
+        Instant startedAt = timeline.getStartTime();
+        return new StartupReport(startedAt, readyAt, Duration.between(startedAt, readyAt).toMillis(), events.size(),
+                phases, List.copyOf(slowest.subList(0, Math.min(topBeans, slowest.size()))));
+    }
+
+    private static boolean hasMatchingAncestor(Long id, Predicate<BeanRef> matcher,
+                                               Map<Long, TimelineEvent> byId, Map<Long, BeanRef> beans) {
+        Long parentId = byId.get(id).getStartupStep().getParentId();
+        while (parentId != null && byId.containsKey(parentId)) {
+            BeanRef parent = beans.get(parentId);
+            if (parent != null && matcher.test(parent)) {
+                return true;
+            }
+            parentId = byId.get(parentId).getStartupStep().getParentId();
+        }
+        return false;
+    }
+
+    private static String tag(StartupStep step, String key) {
+        for (StartupStep.Tag tag : step.getTags()) {
+            if (key.equals(tag.getKey())) {
+                return tag.getValue();
+            }
+        }
+        return null;
+    }
+
+    private record BeanRef(String name, String type, String lowerType) {
+    }
+
+    public record BeanTiming(String beanName, String beanType, long totalMillis, long selfMillis) {
+    }
+}
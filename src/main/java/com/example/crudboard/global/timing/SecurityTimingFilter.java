@@ -0,0 +1,43 @@
+package com.example.crudboard.global.timing;
+
+import com.example.crudboard.global.timing.ServerTimings.Phase;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import java.io.IOException;
+
+/**
+ * 시큐리티 필터 체인의 처음과 끝에 두어 sec 단계를 잰다. (SecurityConfig에서 등록)
+ * 인가 실패처럼 끝까지 가지 못한 요청은 헤더를 쓸 때 닫힌다.
+ *
+ * 빈으로 등록하지 않는다. 같은 클래스를 두 번 걸어야 해서 OncePerRequestFilter도 쓰지 않는다.
+ */
+public final class SecurityTimingFilter implements Filter {
+
+    private final boolean entering;
+
+    private SecurityTimingFilter(boolean entering) {
+        this.entering = entering;
+    }
+
+    public static SecurityTimingFilter enter() {
+        return new SecurityTimingFilter(true);
+    }
+
+    public static SecurityTimingFilter exit() {
+        return new SecurityTimingFilter(false);
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+        if (entering) {
+            ServerTimings.enter(Phase.SECURITY);
+        } else {
+            ServerTimings.exit(Phase.SECURITY);
+        }
+        chain.doFilter(request, response);
+    }
+}
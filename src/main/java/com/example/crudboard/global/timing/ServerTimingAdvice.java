@@ -0,0 +1,31 @@
+package com.example.crudboard.global.timing;
+
+import com.example.crudboard.global.timing.ServerTimings.Phase;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * 메시지 컨버터가 본문을 쓰기 시작할 때 json 단계를 연다.
+ * 컨버터가 다 쓰고 flush하면 ServerTimingResponse가 헤더를 쓰면서 닫는다. (본문은 바꾸지 않는다)
+ */
+@ControllerAdvice
+public class ServerTimingAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        ServerTimings.enter(Phase.SERIALIZATION);
+        return body;
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.crudboard.global.timing;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 기본 JpaTransactionManager 대신 시작 시간을 재는 TimingJpaTransactionManager를 쓴다.
+ * (부트 자동 설정은 TransactionManager 빈이 있으면 물러난다. spring.transaction.* 설정은 쓰지 않음)
+ */
+@Configuration
+public class ServerTimingConfig {
+
+    @Bean
+    PlatformTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+        return new TimingJpaTransactionManager(entityManagerFactory);
+    }
+}
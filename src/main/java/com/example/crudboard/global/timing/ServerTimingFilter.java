@@ -0,0 +1,73 @@
+package com.example.crudboard.global.timing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * 샘플링한 요청에 Server-Timing 헤더(단계별 소요 시간)를 붙인다. (app.server-timing.*)
+ *
+ * - sample-rate 비율로 고르고, force-header 요청 헤더가 있으면 항상 붙인다. (부하 테스트/개발자 도구용)
+ *   누구나 보낼 수 있는 헤더라서(응답 버퍼링 + 내부 시간 노출) 기본값은 비어 있고, 필요한 환경에서만 켠다.
+ * - 헤더는 본문보다 먼저 나가야 하므로 샘플링한 요청은 본문을 max-buffer-bytes까지 모아 뒀다가
+ *   요청이 끝날 때 헤더와 함께 내보낸다. 그보다 크거나 중간에 flush하면(SSE 등) 그 시점까지의 값으로 헤더를 쓴다.
+ * - 시큐리티 필터 체인보다 바깥, ConnectionUsageFilter 안쪽에 둔다. (sec 단계는 SecurityConfig에서 체인 처음/끝에 표시)
+ */
+@Component
+@Order(ServerTimingFilter.ORDER)
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    public static final int ORDER = Ordered.HIGHEST_PRECEDENCE + 30;
+
+    static final String HEADER = "Server-Timing";
+
+    private final boolean enabled;
+    private final double sampleRate;
+    private final String forceHeader;
+    private final int maxBufferBytes;
+
+    public ServerTimingFilter(@Value("${app.server-timing.enabled:true}") boolean enabled,
+                              @Value("${app.server-timing.sample-rate:0.01}") double sampleRate,
+                              @Value("${app.server-timing.force-header:}") String forceHeader,
+                              @Value("${app.server-timing.max-buffer-bytes:65536}") int maxBufferBytes) {
+        this.enabled = enabled;
+        this.sampleRate = sampleRate;
+        this.forceHeader = forceHeader;
+        this.maxBufferBytes = maxBufferBytes;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !sampled(request);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        ServerTimings timings = ServerTimings.begin();
+        ServerTimingResponse timed = new ServerTimingResponse(response, timings, maxBufferBytes);
+        try {
+            chain.doFilter(request, timed);
+        } finally {
+            ServerTimings.clear();
+            // 비동기 요청은 첫 디스패치까지의 값으로 헤더를 쓰고 나머지 본문은 바로 내보낸다.
+            timed.finish();
+        }
+    }
+
+    private boolean sampled(HttpServletRequest request) {
+        if (StringUtils.hasText(forceHeader) && request.getHeader(forceHeader) != null) {
+            return true;
+        }
+        return sampleRate > 0 && (sampleRate >= 1 || ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
+}
@@ -0,0 +1,187 @@
+package com.example.crudboard.global.timing;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+
+/**
+ * 본문을 max-buffer-bytes까지 모아 두고, 처음 내보낼 때 Server-Timing 헤더를 먼저 붙인다.
+ * Writer도 내부적으로 getOutputStream() 위에 만들어서 버퍼 하나로 처리한다.
+ */
+final class ServerTimingResponse extends HttpServletResponseWrapper {
+
+    private final ServerTimings timings;
+    private final int maxBufferBytes;
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(1024);
+
+    private boolean released;
+    private ServletOutputStream outputStream;
+    private PrintWriter writer;
+
+    ServerTimingResponse(HttpServletResponse response, ServerTimings timings, int maxBufferBytes) {
+        super(response);
+        this.timings = timings;
+        this.maxBufferBytes = maxBufferBytes;
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() {
+        if (outputStream == null) {
+            outputStream = new BufferingOutputStream();
+        }
+        return outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() {
+        if (writer == null) {
+            writer = new PrintWriter(new OutputStreamWriter(getOutputStream(), Charset.forName(getCharacterEncoding())));
+        }
+        return writer;
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        if (writer != null) {
+            writer.flush();
+        }
+        release();
+        super.flushBuffer();
+    }
+
+    @Override
+    public void resetBuffer() {
+        buffer.reset();
+        super.resetBuffer();
+    }
+
+    @Override
+    public void reset() {
+        buffer.reset();
+        super.reset();
+    }
+
+    @Override
+    public void sendError(int sc, String msg) throws IOException {
+        buffer.reset();
+        writeHeader();
+        super.sendError(sc, msg);
+    }
+
+    @Override
+    public void sendError(int sc) throws IOException {
+        buffer.reset();
+        writeHeader();
+        super.sendError(sc);
+    }
+
+    @Override
+    public void sendRedirect(String location) throws IOException {
+        buffer.reset();
+        writeHeader();
+        super.sendRedirect(location);
+    }
+
+    /**
+     * 요청 처리가 끝났을 때 (ServerTimingFilter). 헤더를 붙이고 모아 둔 본문을 내보낸다.
+     */
+    void finish() throws IOException {
+        if (writer != null) {
+            writer.flush();
+        }
+        release();
+    }
+
+    private void release() throws IOException {
+        writeHeader();
+        if (buffer.size() > 0) {
+            buffer.writeTo(target());
+            buffer.reset();
+        }
+        released = true;
+    }
+
+    private ServletOutputStream target() throws IOException {
+        return super.getOutputStream();
+    }
+
+    private void writeHeader() {
+        if (!released && !isCommitted()) {
+            setHeader(ServerTimingFilter.HEADER, timings.toHeaderValue());
+        }
+        released = true;
+    }
+
+    private final class BufferingOutputStream extends ServletOutputStream {
+
+        @Override
+        public void write(int b) throws IOException {
+            if (released) {
+                target().write(b);
+                return;
+            }
+            buffer.write(b);
+            releaseIfFull();
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (released) {
+                target().write(b, off, len);
+                return;
+            }
+            buffer.write(b, off, len);
+            releaseIfFull();
+        }
+
+        // flush를 부르면(SSE, 직렬화 끝) 그 시점까지의 값으로 헤더를 쓰고 모아 둔 본문을 내보낸다.
+        @Override
+        public void flush() throws IOException {
+            release();
+            target().flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            release();
+            target().close();
+        }
+
+        // 모으는 동안에는 항상 쓸 수 있고, 내보낸 뒤에는 컨테이너 스트림을 따른다.
+        @Override
+        public boolean isReady() {
+            if (!released) {
+                return true;
+            }
+            try {
+                return target().isReady();
+            } catch (IOException e) {
+                return false;
+            }
+        }
+
+        // 비동기 쓰기로 바뀌면 그 시점까지의 값으로 헤더를 쓰고 모아 둔 본문을 내보낸 뒤 컨테이너 스트림에 맡긴다.
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            try {
+                release();
+                target().setWriteListener(writeListener);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void releaseIfFull() throws IOException {
+            if (buffer.size() > maxBufferBytes) {
+                release();
+            }
+        }
+    }
+}
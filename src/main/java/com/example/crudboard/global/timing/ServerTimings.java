@@ -0,0 +1,133 @@
+package com.example.crudboard.global.timing;
+
+/**
+ * 요청 1건의 단계별 소요 시간. ServerTimingFilter가 샘플링한 요청에만 만들고 Server-Timing 헤더로 내보낸다.
+ *
+ * - 샘플링되지 않은 요청에서는 current()가 null이라서 각 지점은 ThreadLocal 조회 한 번만 하고 끝난다.
+ * - 요청 스레드에서 잰 시간만 들어간다. (ShardFanOut의 샤드별 스레드, PagingExecutor의 count 스레드 등은 빠짐)
+ * - 단계가 겹칠 수 있다. (예: 매핑 중 지연 로딩 SQL은 map과 db 둘 다에 들어감)
+ */
+public final class ServerTimings {
+
+    private static final ThreadLocal<ServerTimings> CURRENT = new ThreadLocal<>();
+
+    public enum Phase {
+        SECURITY("sec", "security filter chain"),
+        TX_BEGIN("tx", "transaction begin"),
+        SQL("db", "sql"),
+        MAPPING("map", "entity mapping"),
+        SERIALIZATION("json", "serialization");
+
+        private final String metric;
+        private final String description;
+
+        Phase(String metric, String description) {
+            this.metric = metric;
+            this.description = description;
+        }
+    }
+
+    private final long startedAt = System.nanoTime();
+    private final long[] nanos = new long[Phase.values().length];
+    private final int[] counts = new int[Phase.values().length];
+    private final long[] open = new long[Phase.values().length];
+
+    private ServerTimings() {
+    }
+
+    static ServerTimings begin() {
+        ServerTimings timings = new ServerTimings();
+        CURRENT.set(timings);
+        return timings;
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+
+    public static ServerTimings current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 샘플링된 요청이면 시작 시각, 아니면 0. end()에 그대로 넘긴다.
+     */
+    public static long start() {
+        return CURRENT.get() != null ? System.nanoTime() : 0;
+    }
+
+    public static void end(Phase phase, long startedAt) {
+        if (startedAt == 0) {
+            return;
+        }
+        ServerTimings timings = CURRENT.get();
+        if (timings != null) {
+            timings.add(phase, System.nanoTime() - startedAt);
+        }
+    }
+
+    /**
+     * 시작/끝 지점이 서로 다른 곳(필터, 리스너 콜백)에 있을 때. 같은 단계가 열려 있으면 무시한다.
+     */
+    public static void enter(Phase phase) {
+        ServerTimings timings = CURRENT.get();
+        if (timings != null && timings.open[phase.ordinal()] == 0) {
+            timings.open[phase.ordinal()] = System.nanoTime();
+        }
+    }
+
+    public static void exit(Phase phase) {
+        ServerTimings timings = CURRENT.get();
+        if (timings != null) {
+            timings.close(phase, System.nanoTime());
+        }
+    }
+
+    public long nanos(Phase phase) {
+        return nanos[phase.ordinal()];
+    }
+
+    public int count(Phase phase) {
+        return counts[phase.ordinal()];
+    }
+
+    private void add(Phase phase, long elapsed) {
+        nanos[phase.ordinal()] += elapsed;
+        counts[phase.ordinal()]++;
+    }
+
+    private void close(Phase phase, long now) {
+        long openedAt = open[phase.ordinal()];
+        if (openedAt != 0) {
+            open[phase.ordinal()] = 0;
+            add(phase, now - openedAt);
+        }
+    }
+
+    /**
+     * 아직 열린 단계를 지금 시각으로 닫고 헤더 값을 만든다.
+     * 예) sec;dur=0.412, tx;dur=0.051;desc="transaction begin x1", db;dur=1.203;desc="sql x2", total;dur=3.920
+     */
+    String toHeaderValue() {
+        long now = System.nanoTime();
+        StringBuilder header = new StringBuilder(160);
+        for (Phase phase : Phase.values()) {
+            close(phase, now);
+            int count = counts[phase.ordinal()];
+            if (count == 0) {
+                continue;
+            }
+            header.append(phase.metric).append(";dur=").append(millis(nanos[phase.ordinal()]))
+                    .append(";desc=\"").append(phase.description);
+            if (count > 1 || phase == Phase.SQL || phase == Phase.TX_BEGIN) {
+                header.append(" x").append(count);
+            }
+            header.append("\", ");
+        }
+        return header.append("total;dur=").append(millis(now - startedAt)).toString();
+    }
+
+    private static String millis(long nanos) {
+        return String.valueOf(Math.round(nanos / 1_000.0) / 1_000.0);
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.crudboard.global.timing;
+
+import com.example.crudboard.global.jfr.JfrEvents;
+import com.example.crudboard.global.timing.ServerTimings.Phase;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+/**
+ * 트랜잭션 시작(커넥션 대여 + EntityManager 준비 + begin)에 걸린 시간을 tx 단계로 잰다.
+ * 이미 열린 트랜잭션에 참여할 때는 doBegin이 불리지 않으므로 세지 않는다.
+ * 새 트랜잭션마다 begin부터 정리까지를 JFR TransactionEvent로도 남긴다. (녹화 중일 때만)
+ */
+public class TimingJpaTransactionManager extends JpaTransactionManager {
+
+    public TimingJpaTransactionManager(EntityManagerFactory entityManagerFactory) {
+        super(entityManagerFactory);
+    }
+
+    @Override
+    protected void doBegin(Object transaction, TransactionDefinition definition) {
+        long startedAt = ServerTimings.start();
+        JfrEvents.transactionBegin(transaction, definition);
+        boolean begun = false;
+        try {
+            super.doBegin(transaction, definition);
+            begun = true;
+        } finally {
+            ServerTimings.end(Phase.TX_BEGIN, startedAt);
+            if (!begun) {
+                JfrEvents.transactionBeginFailed(transaction);
+            }
+        }
+    }
+
+    @Override
+    protected void doCommit(DefaultTransactionStatus status) {
+        JfrEvents.transactionOutcome(status.getTransaction(), true);
+        super.doCommit(status);
+    }
+
+    @Override
+    protected void doRollback(DefaultTransactionStatus status) {
+        JfrEvents.transactionOutcome(status.getTransaction(), false);
+        super.doRollback(status);
+    }
+
+    @Override
+    protected void doCleanupAfterCompletion(Object transaction) {
+        try {
+            super.doCleanupAfterCompletion(transaction);
+        } finally {
+            JfrEvents.transactionEnd(transaction);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.crudboard.global.web;
+
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.http.CacheControl;
+import org.springframework.util.StringUtils;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.ResourceUrlEncodingFilter;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
+
+/**
+ * 빌드 시점에 만든 정적 리소스 버전(assets.properties)으로 /js, /css를 지문(fingerprint) URL로 서빙한다.
+ *
+ * - 템플릿의 @{/js/...}, @{/css/...} 링크는 ResourceUrlEncodingFilter가 /js/{version}/... 으로 바꿔준다.
+ * - ES module의 상대 import(../core/http.js)는 브라우저가 버전 경로 기준으로 풀기 때문에 JS를 고치지 않아도 된다.
+ * - 빌드에서 만든 .gz(.br) 파일이 있으면 Accept-Encoding에 맞춰 그대로 내려준다.
+ * - 현재 버전이 붙은 요청(/js/{version}/**)만 Cache-Control: immutable 로 1년 캐싱한다.
+ *   버전 없이 직접 참조한 요청(/js/**)은 no-cache로 내려서 매번 Last-Modified로 재검증하게 한다. (배포 후 낡은 파일 방지)
+ *
+ * IDE 실행처럼 assets.properties가 없으면 기본 정적 리소스 설정(버전/캐시 없음)을 그대로 쓴다.
+ */
+@Slf4j
+@Configuration
+@PropertySource(value = "classpath:assets.properties", ignoreResourceNotFound = true)
+public class StaticAssetConfig implements WebMvcConfigurer {
+
+    private final String assetsVersion;
+
+    public StaticAssetConfig(@Value("${app.assets.version:}") String assetsVersion) {
+        this.assetsVersion = assetsVersion;
+    }
+
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        if (!StringUtils.hasText(assetsVersion)) {
+            log.info("assets.properties not found. Static assets are served without fingerprint.");
+            return;
+        }
+        addFingerprinted(registry, "/js/", "classpath:/static/js/");
+        addFingerprinted(registry, "/css/", "classpath:/static/css/");
+    }
+
+    private void addFingerprinted(ResourceHandlerRegistry registry, String prefix, String location) {
+        // 더 구체적인 패턴이라 현재 버전 URL은 항상 이쪽으로 온다.
+        registry.addResourceHandler(prefix + assetsVersion + "/**")
+                .addResourceLocations(location)
+                .setCacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable())
+                .resourceChain(true)
+                .addResolver(new EncodedResourceResolver());
+
+        // 버전 없는 요청과 링크 변환(ResourceUrlProvider)은 이쪽. 다른(이전) 버전이 붙은 요청은 404
+        registry.addResourceHandler(prefix + "**")
+                .addResourceLocations(location)
+                .setCacheControl(CacheControl.noCache().cachePublic())
+                .resourceChain(true)
+                .addResolver(new EncodedResourceResolver())
+                .addResolver(new VersionResourceResolver().addFixedVersionStrategy(assetsVersion, "/**"));
+    }
+
+    // 템플릿의 @{...} 링크를 버전 URL로 바꾼다.
+    @Bean
+    ResourceUrlEncodingFilter resourceUrlEncodingFilter() {
+        return new ResourceUrlEncodingFilter();
+    }
+}
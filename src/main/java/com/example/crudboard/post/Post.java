@@ -1,14 +1,22 @@
 package com.example.crudboard.post;
 
+import com.example.crudboard.board.Board;
+import com.example.crudboard.global.cache.EntityCacheRegions;
+import com.example.crudboard.post.partition.PostMonths;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import lombok.Getter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.SQLRestriction;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -16,6 +24,11 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 @Entity // 이 클래스는 JPA가 관리하는 엔티티 라는 표시
 @EntityListeners(AuditingEntityListener.class)
 @Table(name = "posts")
+// 소프트 삭제된 글은 엔티티 조회/JPQL/Specification 어디에서도 보이지 않게 한다. (native query는 직접 조건을 넣어야 함)
+@SQLRestriction("deleted_at is null")
+// 2차 캐시: id 조회가 캐시에 적중하면 @SQLRestriction이 적용되지 않으므로 삭제 시 PostEntityCacheEviction이 지운다.
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EntityCacheRegions.POSTS)
 @Getter
 public class Post {
 
@@ -39,6 +52,21 @@ public class Post {
     @Column(nullable = false)
     private LocalDateTime updatedAt;
 
+    // 월 단위 시간 버킷(yyyymm). 분리(detach) 시 보관 테이블에서 이 값으로 버킷을 구분한다. (PostPartitionService)
+    @Column(name = "created_month", nullable = false, updatable = false)
+    private Integer createdMonth;
+
+    // true면 본문이 post_archives로 옮겨졌고 content는 빈 문자열이다. (PostArchiveService)
+    @Column(nullable = false)
+    private boolean archived;
+
+    // 소속 게시판. 글이 저장되는 샤드를 정한다. (ShardRouter.shardOfBoard)
+    @Column(name = "board_id", nullable = false, updatable = false)
+    private Long boardId;
+
+    // 삭제 요청 시각. 채워지면 조회에서 빠지고, 실제 행은 PostPurgeService가 나중에 지운다.
+    private LocalDateTime deletedAt;
+
     protected Post(){}
     // JPA가 엔티티를 로팅할 때 힐요한 기본 생성자
     // 외부에서 함부로 쓰이지 않게 protected로 막는 게 관례
@@ -63,8 +91,13 @@ public class Post {
     해당 엔티티를 생성하기 위해 Reflection을 사용하여 엔티티 인스턴스를 만들어 주는 것이다.
      */
     public Post(String title, String content) {
+        this(title, content, Board.DEFAULT_ID);
+    }
+
+    public Post(String title, String content, Long boardId) {
         this.title = title;
         this.content = content;
+        this.boardId = boardId;
     }
 
     /*
@@ -76,6 +109,17 @@ public class Post {
     public void update(String title, String content) {
         this.title = title;
         this.content = content;
+        this.archived = false; // 수정된 본문은 다시 posts에 둔다. (보관본은 PostCommandService가 지움)
+    }
+
+    public void softDelete(LocalDateTime at) {
+        this.deletedAt = at;
+    }
+
+    // @EntityListeners(AuditingEntityListener)의 @PrePersist가 먼저 실행되어 createdAt이 채워진 뒤 호출된다.
+    @PrePersist
+    void assignCreatedMonth() {
+        this.createdMonth = PostMonths.of(createdAt);
     }
 }
 
@@ -1,26 +1,41 @@
 package com.example.crudboard.post;
 
+import com.example.crudboard.board.Board;
+import com.example.crudboard.board.BoardService;
 import com.example.crudboard.global.error.ApiError;
+import com.example.crudboard.global.error.ApiException;
+import com.example.crudboard.global.error.ErrorCode;
 import com.example.crudboard.global.dto.PageResponse;
+import com.example.crudboard.global.shard.ShardContext;
+import com.example.crudboard.global.shard.ShardRouter;
+import com.example.crudboard.post.cache.PostJsonCache;
 import com.example.crudboard.post.dto.PostCreateRequest;
-import com.example.crudboard.post.service.PostQueryService;
 import com.example.crudboard.post.dto.PostResponse;
 import com.example.crudboard.post.dto.PostUpdateRequest;
+import com.example.crudboard.post.hot.HotPostTracker;
 import com.example.crudboard.post.service.PostCommandService;
+import com.example.crudboard.post.service.PostQueryService;
+import com.example.crudboard.post.service.PostStreamService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.net.URI;
 import java.time.LocalDateTime;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.data.web.SortDefault;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.format.annotation.DateTimeFormat.ISO;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -31,6 +46,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import tools.jackson.databind.json.JsonMapper;
 
 @Tag(name = "Posts", description = "게시글 CRUD API")
 @RestController
@@ -39,10 +55,25 @@ public class PostController {
 
     private final PostCommandService postCommandService;
     private final PostQueryService postQueryService;
+    private final PostStreamService postStreamService;
+    private final PostJsonCache postJsonCache;
+    private final HotPostTracker hotPostTracker;
+    private final BoardService boardService;
+    private final ShardRouter shardRouter;
+    private final JsonMapper jsonMapper;
 
-    public PostController(PostCommandService postCommandService, PostQueryService postQueryService) {
+    public PostController(PostCommandService postCommandService, PostQueryService postQueryService,
+                          PostStreamService postStreamService, PostJsonCache postJsonCache,
+                          HotPostTracker hotPostTracker, BoardService boardService, ShardRouter shardRouter,
+                          JsonMapper jsonMapper) {
         this.postCommandService = postCommandService;
         this.postQueryService = postQueryService;
+        this.postStreamService = postStreamService;
+        this.postJsonCache = postJsonCache;
+        this.hotPostTracker = hotPostTracker;
+        this.boardService = boardService;
+        this.shardRouter = shardRouter;
+        this.jsonMapper = jsonMapper;
     }
     /*
         ResponseEntity<T>는 스프링이 제공하는 HTTP응답을 내가 직접 조립하는 박스이다.
@@ -59,10 +90,15 @@ public class PostController {
     3. 기본적으로 Jackson이 객체에서 JSON으로 직렬화 해줌
     그래서 PostResponse 같은 record를 리턴하면 자동으로 JSON이 됨
      */
+    // 게시판 확인은 샤드 0(게시판 목록)에서 하고, 글은 게시판의 샤드에 쓴다. (기본 게시판은 V13에서 만들어 두었다)
     @Operation(summary = "게시글 생성")
     @PostMapping
     public ResponseEntity<Void> create(@RequestBody @Valid PostCreateRequest request) {
-        Long id = postCommandService.create(request);
+        long boardId = request.boardIdOrDefault();
+        if (boardId != Board.DEFAULT_ID) {
+            boardService.require(boardId);
+        }
+        Long id = ShardContext.call(shardRouter.shardOfBoard(boardId), () -> postCommandService.create(request));
         return ResponseEntity.created(URI.create("/api/posts/" + id)).build();
     }
 
@@ -112,9 +148,12 @@ public class PostController {
             @ApiResponse(responseCode = "404", description = "게시글을 찾을 수 없음",
                     content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiError.class)))
     })
+    // 자주 조회되는 글은 매번 Jackson으로 직렬화하지 않고, 캐시해 둔 JSON 바이트(PostJsonCache)를 그대로 쓴다.
+    // 캐시 적중이면 서비스를 거치지 않으므로 조회수(인기글)는 여기서 센다. (상세 화면도 이 API로 본문을 불러온다)
     @GetMapping("/{id}")
-    public PostResponse get(@PathVariable Long id) {
-        return postQueryService.get(id);
+    public void get(@PathVariable Long id, HttpServletResponse response) throws IOException {
+        postJsonCache.get(id).writeTo(response);
+        hotPostTracker.recordView(id);
     }
 
     /*
@@ -141,17 +180,55 @@ public class PostController {
 //        return postQueryService.list(keyword, pageable);
 //    }
 
+    /*
+    응답 모양은 PageResponse<PostResponse>와 같지만, PageResponse/List를 만들지 않고
+    쿼리 결과를 한 행씩 JsonGenerator로 바로 쓴다. (PostStreamService)
+    샤딩 중에 게시판을 지정하지 않으면 모든 샤드를 읽어 합쳐야 하므로 PostQueryService.list 결과를 쓴다.
+     */
     @Operation(summary = "게시글 목록 조회(페이징 + 검색 조건)")
+    @ApiResponse(responseCode = "200", description = "조회 성공",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = PageResponse.class)))
     @GetMapping
-    public PageResponse<PostResponse> list(
+    public void list(
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false, defaultValue = "TITLE_CONTENT") PostSearchType type,
+            @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE_TIME)LocalDateTime createdFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE_TIME)LocalDateTime createdTo,
+            @RequestParam(required = false) Long boardId,
+            @PageableDefault(size = 5, sort = "createdAt", direction = Direction.DESC) Pageable pageable,
+            HttpServletResponse response
+            ) throws IOException {
+        PostSearchCondition condition = new PostSearchCondition(keyword, type, createdFrom, createdTo, boardId);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        if (shardRouter.fansOut(condition)) {
+            jsonMapper.writeValue(response.getOutputStream(), postQueryService.list(condition, pageable));
+            return;
+        }
+        OutputStream out = response.getOutputStream();
+        ShardContext.run(shardRouter.shardOf(condition), () -> postStreamService.writePage(condition, pageable, out));
+    }
+
+    @Operation(summary = "게시글 내보내기(검색 조건에 맞는 전체, 스트리밍)")
+    @ApiResponse(responseCode = "200", description = "PostResponse 배열",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = PostResponse.class)))
+    @GetMapping("/export")
+    public void export(
             @RequestParam(required = false) String keyword,
             @RequestParam(required = false, defaultValue = "TITLE_CONTENT") PostSearchType type,
             @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE_TIME)LocalDateTime createdFrom,
             @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE_TIME)LocalDateTime createdTo,
-            @PageableDefault(size = 5, sort = "createdAt", direction = Direction.DESC) Pageable pageable
-            ) {
-        PostSearchCondition condition = new PostSearchCondition(keyword, type, createdFrom, createdTo);
-        return postQueryService.list(condition, pageable);
+            @RequestParam(required = false) Long boardId,
+            @SortDefault(sort = "id", direction = Direction.ASC) Sort sort,
+            HttpServletResponse response
+            ) throws IOException {
+        PostSearchCondition condition = new PostSearchCondition(keyword, type, createdFrom, createdTo, boardId);
+        // 내보내기는 커서를 열어 둔 채 스트리밍하므로 여러 샤드를 한 순서로 합치지 않는다.
+        if (shardRouter.fansOut(condition)) {
+            throw new ApiException(ErrorCode.VALIDATION_ERROR, "여러 게시판에 걸친 내보내기는 지원하지 않습니다. boardId를 지정해 주세요.");
+        }
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        OutputStream out = response.getOutputStream();
+        ShardContext.run(shardRouter.shardOf(condition), () -> postStreamService.writeExport(condition, sort, out));
     }
 
 
@@ -6,11 +6,16 @@ import java.time.LocalDateTime;
  * keyword: 검색어(없으면 키워드 미적용)
  * type: 키워드를 어디에 적용할지(TITLE, CONTENT, TITLE_CONTENT)
  * createdFrom, createdTo: 작성일 범위(없으면 날짜 조건 미적용)
+ * boardId: 게시판(없으면 전체 게시판. 샤딩 중이면 모든 샤드를 읽는다)
  */
 public record PostSearchCondition(
         String keyword,
         PostSearchType type,
         LocalDateTime createdFrom,
-        LocalDateTime createdTo
+        LocalDateTime createdTo,
+        Long boardId
 ) {
+    public PostSearchCondition(String keyword, PostSearchType type, LocalDateTime createdFrom, LocalDateTime createdTo) {
+        this(keyword, type, createdFrom, createdTo, null);
+    }
 }
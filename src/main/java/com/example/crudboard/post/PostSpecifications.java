@@ -11,6 +11,16 @@ public final class PostSpecifications {
 
     private PostSpecifications() {}
 
+    /**
+     * 월 버킷 하나 (PostPartitionRouter로 작성일 범위를 월마다 나눠 읽을 때)
+     */
+    public static Specification<Post> inMonth(int month) {
+        return (root, query, cb) -> cb.equal(root.get("createdMonth"), month);
+    }
+
+    /**
+     * 본문 검색은 posts.content만 본다. 보관된 글은 content가 비어 있어서 본문으로는 찾지 않는다. (제목 검색은 그대로)
+     */
     public static Specification<Post> byCondition(PostSearchCondition condition) {
         return (root, query, cb) -> {
             if (condition == null) {
@@ -49,6 +59,10 @@ public final class PostSpecifications {
             if (to != null) {
                 predicate = cb.and(predicate, cb.lessThanOrEqualTo(root.get("createdAt"), to));
             }
+            // 3) 게시판 조건
+            if (condition.boardId() != null) {
+                predicate = cb.and(predicate, cb.equal(root.get("boardId"), condition.boardId()));
+            }
             return predicate;
         };
     }
@@ -0,0 +1,11 @@
+package com.example.crudboard.post.archive;
+
+/**
+ * 보관 본문 조회용 projection. 엔티티로 읽지 않아서 대량 조회에도 영속성 컨텍스트에 쌓이지 않는다.
+ */
+public record ArchivedContent(Long postId, byte[] contentDeflated, int originalBytes) {
+
+    public String content() {
+        return PostContentCodec.decompress(contentDeflated, originalBytes);
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.crudboard.post.archive;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * 보관(cold) 계층으로 옮긴 게시글 본문. 본문은 PostContentCodec으로 압축해서 저장한다.
+ */
+@Entity
+@Table(name = "post_archives")
+@Getter
+public class PostArchive implements Persistable<Long> {
+
+    @Id
+    private Long postId;
+
+    // 압축해도 원문 크기에 비례하므로 크기 제한이 없는 blob으로 둔다. (V15)
+    @Lob
+    @Column(name = "content_deflated", nullable = false)
+    private byte[] contentDeflated;
+
+    @Column(nullable = false)
+    private int originalBytes;
+
+    @Column(nullable = false)
+    private int compressedBytes;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+
+    // id(postId)를 직접 넣는 엔티티라 save()가 merge(select 후 insert)로 가지 않도록 새 엔티티임을 알려준다.
+    @Transient
+    private boolean isNew = true;
+
+    protected PostArchive(){}
+
+    public PostArchive(Long postId, byte[] contentDeflated, int originalBytes, LocalDateTime archivedAt) {
+        this.postId = postId;
+        this.contentDeflated = contentDeflated;
+        this.originalBytes = originalBytes;
+        this.compressedBytes = contentDeflated.length;
+        this.archivedAt = archivedAt;
+    }
+
+    public String content() {
+        return PostContentCodec.decompress(contentDeflated, originalBytes);
+    }
+
+    @Override
+    public Long getId() {
+        return postId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+}
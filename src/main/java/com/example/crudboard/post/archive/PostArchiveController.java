@@ -0,0 +1,40 @@
+package com.example.crudboard.post.archive;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.time.LocalDateTime;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "Admin", description = "운영 지표 API (ADMIN 전용)")
+@RestController
+@RequestMapping("/api/admin/post-archive")
+public class PostArchiveController {
+
+    private final PostArchiveService archiveService;
+    private final int ageDays;
+
+    public PostArchiveController(PostArchiveService archiveService,
+                                 @Value("${app.posts.archive.age-days:180}") int ageDays) {
+        this.archiveService = archiveService;
+        this.ageDays = ageDays;
+    }
+
+    @Operation(summary = "본문 보관 계층 절감 용량과 계층별 조회 지연")
+    @GetMapping
+    public PostArchiveStats stats() {
+        return archiveService.stats();
+    }
+
+    @Operation(summary = "보관 작업 즉시 실행 (age-days 기준)")
+    @PostMapping("/run")
+    public ArchiveRunResponse run() {
+        return new ArchiveRunResponse(archiveService.archiveAllShards(LocalDateTime.now().minusDays(ageDays)));
+    }
+
+    public record ArchiveRunResponse(int archivedPosts) {
+    }
+}
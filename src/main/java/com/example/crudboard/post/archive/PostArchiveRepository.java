@@ -0,0 +1,21 @@
+package com.example.crudboard.post.archive;
+
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface PostArchiveRepository extends JpaRepository<PostArchive, Long> {
+
+    // 운영 지표용 (보관 행 전체를 읽는다)
+    @Query("select new com.example.crudboard.post.archive.PostArchiveTotals("
+            + "count(a), coalesce(sum(a.originalBytes), 0L), coalesce(sum(a.compressedBytes), 0L)) from PostArchive a")
+    PostArchiveTotals totals();
+
+    // 목록/내보내기의 한 페이지(chunk)에 들어 있는 보관 글 본문을 한 번에 읽는다.
+    @Query("select new com.example.crudboard.post.archive.ArchivedContent(a.postId, a.contentDeflated, a.originalBytes) "
+            + "from PostArchive a where a.postId in :postIds")
+    List<ArchivedContent> findContents(Collection<Long> postIds);
+}
@@ -0,0 +1,240 @@
+package com.example.crudboard.post.archive;
+
+import com.example.crudboard.global.shard.ShardRouter;
+import com.example.crudboard.post.Post;
+import com.example.crudboard.post.dto.PostResponse;
+import com.example.crudboard.post.event.PostChangedEvent;
+import com.example.crudboard.post.repository.PostRepository;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 오래된 글 본문을 보관(cold) 계층으로 옮기고, 조회 시 투명하게 되살린다. (app.posts.archive.*)
+ *
+ * - 보관: age-days가 지난 글 본문을 압축해서 post_archives에 넣고 posts.content는 비운다. (batch-size 단위 트랜잭션)
+ * - 조회: archived 글은 post_archives에서 읽어 압축을 푼다. 자주 읽히는 본문은 cache-size개까지 메모리에 둔다.
+ * - 검색: 보관된 본문은 본문 검색 대상이 아니다. 검색마다 보관 행 전체를 읽어 풀지 않도록 일부러 뺐다. (제목 검색은 그대로)
+ * - 계층(hot: posts / archive-cache / archive-inflate)별 조회 지연을 모은다.
+ */
+@Slf4j
+@Service
+public class PostArchiveService {
+
+    private final PostRepository postRepository;
+    private final PostArchiveRepository archiveRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ShardRouter shardRouter;
+    private final boolean enabled;
+    private final int ageDays;
+    private final int batchSize;
+
+    // 압축을 푼 본문 LRU (postId -> content)
+    private final Map<Long, String> inflated;
+
+    private final ReadLatency hotReads = new ReadLatency();
+    private final ReadLatency cachedReads = new ReadLatency();
+    private final ReadLatency inflateReads = new ReadLatency();
+
+    public PostArchiveService(
+            PostRepository postRepository,
+            PostArchiveRepository archiveRepository,
+            TransactionTemplate transactionTemplate,
+            ShardRouter shardRouter,
+            @Value("${app.posts.archive.enabled:true}") boolean enabled,
+            @Value("${app.posts.archive.age-days:180}") int ageDays,
+            @Value("${app.posts.archive.batch-size:500}") int batchSize,
+            @Value("${app.posts.archive.cache-size:256}") int cacheSize) {
+        this.postRepository = postRepository;
+        this.archiveRepository = archiveRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.shardRouter = shardRouter;
+        this.enabled = enabled;
+        this.ageDays = ageDays;
+        this.batchSize = batchSize;
+        this.inflated = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, String> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    @Scheduled(cron = "${app.posts.archive.cron:0 30 3 * * *}")
+    public void archiveScheduled() {
+        if (enabled) {
+            archiveAllShards(LocalDateTime.now().minusDays(ageDays));
+        }
+    }
+
+    /**
+     * 샤드마다 차례로 archiveOlderThan(cutoff)을 실행한다.
+     * @return 옮긴 글 수 (전체 샤드 합)
+     */
+    public int archiveAllShards(LocalDateTime cutoff) {
+        return shardRouter.mapShards(shard -> archiveOlderThan(cutoff)).stream().mapToInt(Integer::intValue).sum();
+    }
+
+    /**
+     * cutoff 이전에 작성된 글 본문을 보관 계층으로 옮긴다.
+     * @return 옮긴 글 수
+     */
+    public int archiveOlderThan(LocalDateTime cutoff) {
+        int archived = 0;
+        long afterId = 0;
+        while (true) {
+            List<Long> ids = postRepository.findArchiveCandidateIds(cutoff, afterId, PageRequest.of(0, batchSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+            archived += transactionTemplate.execute(status -> archiveBatch(ids));
+            afterId = ids.getLast();
+        }
+        if (archived > 0) {
+            log.info("post contents archived. posts={}, cutoff={}", archived, cutoff);
+        }
+        return archived;
+    }
+
+    private int archiveBatch(List<Long> ids) {
+        LocalDateTime now = LocalDateTime.now();
+        List<PostArchive> archives = new ArrayList<>(ids.size());
+        for (Post post : postRepository.findAllForArchive(ids)) {
+            if (post.isArchived()) {
+                continue;
+            }
+            String content = post.getContent();
+            int originalBytes = content.getBytes(StandardCharsets.UTF_8).length;
+            archives.add(new PostArchive(post.getId(), PostContentCodec.compress(content), originalBytes, now));
+        }
+        if (archives.isEmpty()) {
+            return 0;
+        }
+        archiveRepository.saveAll(archives);
+        return postRepository.markArchived(archives.stream().map(PostArchive::getPostId).toList());
+    }
+
+    /**
+     * 단건 조회용. 글 조회 쿼리를 포함한 계층별 지연을 재기 위해 조회 시작 시각을 받는다.
+     */
+    public PostResponse toResponse(Post post, long startedNanos) {
+        if (!post.isArchived()) {
+            hotReads.record(startedNanos);
+            return PostResponse.from(post);
+        }
+        String cached = cached(post.getId());
+        if (cached != null) {
+            cachedReads.record(startedNanos);
+            return PostResponse.from(post, cached);
+        }
+        String content = inflate(post.getId());
+        inflateReads.record(startedNanos);
+        return PostResponse.from(post, content);
+    }
+
+    // 목록용 (지연은 집계하지 않는다)
+    public PostResponse toResponse(Post post) {
+        return post.isArchived() ? PostResponse.from(post, content(post.getId())) : PostResponse.from(post);
+    }
+
+    /**
+     * 보관된 글의 본문
+     */
+    public String content(Long postId) {
+        String cached = cached(postId);
+        return cached != null ? cached : inflate(postId);
+    }
+
+    /**
+     * 보관된 글들의 본문 (postId -> 본문). 보관 행은 쿼리 한 번으로 읽는다.
+     * useCache=false면 LRU를 거치지도 채우지도 않는다. (내보내기처럼 한 번 읽고 마는 대량 조회가 자주 읽히는 본문을 밀어내지 않도록)
+     */
+    public Map<Long, String> contents(Collection<Long> postIds, boolean useCache) {
+        Map<Long, String> contents = new HashMap<>();
+        List<Long> missing = new ArrayList<>(postIds.size());
+        if (useCache) {
+            synchronized (inflated) {
+                for (Long postId : postIds) {
+                    String cached = inflated.get(postId);
+                    if (cached != null) {
+                        contents.put(postId, cached);
+                    } else {
+                        missing.add(postId);
+                    }
+                }
+            }
+        } else {
+            missing.addAll(postIds);
+        }
+        if (missing.isEmpty()) {
+            return contents;
+        }
+
+        for (ArchivedContent archived : archiveRepository.findContents(missing)) {
+            contents.put(archived.postId(), archived.content());
+        }
+        // 보관 행이 없으면(보관 도중 지워진 글 등) 빈 본문으로 둔다.
+        missing.forEach(postId -> contents.putIfAbsent(postId, ""));
+        if (useCache) {
+            synchronized (inflated) {
+                missing.forEach(postId -> inflated.put(postId, contents.get(postId)));
+            }
+        }
+        return contents;
+    }
+
+    /**
+     * 보관된 글이 수정되면 본문은 다시 posts에 저장되므로 보관본을 지운다.
+     */
+    public void discard(Long postId) {
+        archiveRepository.deleteById(postId);
+    }
+
+    @TransactionalEventListener
+    public void onPostChanged(PostChangedEvent event) {
+        synchronized (inflated) {
+            inflated.remove(event.postId());
+        }
+    }
+
+    public PostArchiveStats stats() {
+        PostArchiveTotals totals = archiveRepository.totals();
+        int cachedEntries;
+        synchronized (inflated) {
+            cachedEntries = inflated.size();
+        }
+        return PostArchiveStats.of(totals, cachedEntries, Map.of(
+                "hot", hotReads.snapshot(),
+                "archive-cache", cachedReads.snapshot(),
+                "archive-inflate", inflateReads.snapshot()));
+    }
+
+    private String cached(Long postId) {
+        synchronized (inflated) {
+            return inflated.get(postId);
+        }
+    }
+
+    // 보관 행이 없으면(보관 도중 지워진 글 등) 빈 본문으로 둔다.
+    private String inflate(Long postId) {
+        String content = archiveRepository.findById(postId)
+                .map(PostArchive::content)
+                .orElse("");
+        synchronized (inflated) {
+            inflated.put(postId, content);
+        }
+        return content;
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.crudboard.post.archive;
+
+import java.util.Map;
+
+/**
+ * @param savedBytes 보관 전 본문 바이트 - 압축 후 바이트
+ * @param reads      계층별 단건 조회 횟수/지연 (hot: posts에서 바로, archive-cache: 압축 해제 캐시, archive-inflate: 보관 테이블 + 압축 해제)
+ */
+public record PostArchiveStats(long archivedPosts, long originalBytes, long compressedBytes, long savedBytes,
+                               double compressionRatio, int cachedEntries, Map<String, ReadLatency.Snapshot> reads) {
+
+    static PostArchiveStats of(PostArchiveTotals totals, int cachedEntries, Map<String, ReadLatency.Snapshot> reads) {
+        long original = totals.originalBytes();
+        long compressed = totals.compressedBytes();
+        double ratio = original == 0 ? 0 : (double) compressed / original;
+        return new PostArchiveStats(totals.posts(), original, compressed, original - compressed,
+                ratio, cachedEntries, reads);
+    }
+}
@@ -0,0 +1,4 @@
+package com.example.crudboard.post.archive;
+
+public record PostArchiveTotals(Long posts, Long originalBytes, Long compressedBytes) {
+}
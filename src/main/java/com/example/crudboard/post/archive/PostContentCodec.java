@@ -0,0 +1,84 @@
+package com.example.crudboard.post.archive;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 보관 본문 압축/해제 (raw Deflate + 미리 정한 사전)
+ *
+ * 게시글 본문은 짧아서 일반 Deflate로는 압축할 거리가 별로 없다.
+ * 자주 나오는 한국어 어미/단어를 사전으로 미리 넣어 두면 첫 등장부터 사전을 참조해서 짧은 글도 줄어든다.
+ * 첫 바이트는 사전 버전이다. 사전을 바꿀 때는 새 버전을 추가하고 기존 버전은 남겨둬야 한다.
+ */
+public final class PostContentCodec {
+
+    static final byte DICTIONARY_V1 = 1;
+
+    // 뒤쪽에 있을수록 거리가 짧아져서 유리하므로 자주 쓰는 말일수록 뒤에 둔다.
+    private static final byte[] DICTIONARY_V1_BYTES = String.join(" ",
+            "https:// http:// www. .com .kr 사진 링크 참고 공유 질문 답변 정리 후기 추천 문의",
+            "오늘 어제 내일 요즘 이번 다음 지난 처음 마지막 정말 너무 조금 많이 다시 같이 혼자",
+            "게시글 댓글 작성 수정 삭제 확인 부탁드립니다 궁금합니다 알려주세요 도와주세요",
+            "그리고 그래서 그런데 하지만 그러나 때문에 위해서 대해서 통해서 에서는 으로는",
+            "생각합니다 생각해요 같습니다 같아요 것 같아요 수 있습니다 수 없습니다 있어요 없어요",
+            "했습니다 했어요 합니다 해요 됩니다 돼요 입니다 이에요 예요 있습니다 없습니다",
+            "안녕하세요 감사합니다 고맙습니다 죄송합니다 좋은 하루 되세요 ").getBytes(StandardCharsets.UTF_8);
+
+    private PostContentCodec() {}
+
+    public static byte[] compress(String content) {
+        byte[] input = content.getBytes(StandardCharsets.UTF_8);
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION, true); // 헤더/체크섬 없는 raw deflate
+        try {
+            deflater.setDictionary(DICTIONARY_V1_BYTES);
+            deflater.setInput(input);
+            deflater.finish();
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream(input.length / 2 + 16);
+            out.write(DICTIONARY_V1);
+            byte[] buffer = new byte[1024];
+            while (!deflater.finished()) {
+                int n = deflater.deflate(buffer);
+                out.write(buffer, 0, n);
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * @param originalBytes 압축 전 UTF-8 바이트 수 (post_archives.original_bytes)
+     */
+    public static String decompress(byte[] data, int originalBytes) {
+        if (data.length == 0 || data[0] != DICTIONARY_V1) {
+            throw new IllegalStateException("지원하지 않는 보관 본문 형식입니다.");
+        }
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setDictionary(DICTIONARY_V1_BYTES);
+            inflater.setInput(data, 1, data.length - 1);
+
+            byte[] out = new byte[originalBytes];
+            int offset = 0;
+            while (offset < out.length) {
+                int n = inflater.inflate(out, offset, out.length - offset);
+                if (n == 0 && (inflater.finished() || inflater.needsInput())) {
+                    break;
+                }
+                offset += n;
+            }
+            if (offset != out.length) {
+                throw new IllegalStateException("보관 본문 길이가 맞지 않습니다.");
+            }
+            return new String(out, StandardCharsets.UTF_8);
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("보관 본문이 손상되었습니다.", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.crudboard.post.archive;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 계층별 본문 조회 횟수/지연 누적
+ */
+public class ReadLatency {
+
+    private final LongAdder reads = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    void record(long startedNanos) {
+        long elapsed = System.nanoTime() - startedNanos;
+        reads.increment();
+        totalNanos.add(elapsed);
+        maxNanos.accumulate(elapsed);
+    }
+
+    Snapshot snapshot() {
+        long count = reads.sum();
+        long avgMicros = count == 0 ? 0 : totalNanos.sum() / count / 1_000;
+        return new Snapshot(count, avgMicros, maxNanos.get() / 1_000);
+    }
+
+    public record Snapshot(long reads, long avgMicros, long maxMicros) {
+    }
+}
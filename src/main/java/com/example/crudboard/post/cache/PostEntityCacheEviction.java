@@ -0,0 +1,29 @@
+package com.example.crudboard.post.cache;
+
+import com.example.crudboard.post.Post;
+import com.example.crudboard.post.event.PostChangedEvent;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 소프트 삭제된 글을 2차 캐시(posts 영역)에서 지운다.
+ * 삭제도 엔티티 수정이라 캐시에는 deletedAt이 채워진 채로 남는데,
+ * id 조회가 캐시에 적중하면 @SQLRestriction("deleted_at is null")을 거치지 않아서 삭제된 글이 보이게 된다.
+ */
+@Component
+public class PostEntityCacheEviction {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public PostEntityCacheEviction(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @TransactionalEventListener
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.type() == PostChangedEvent.Type.DELETED) {
+            entityManagerFactory.getCache().evict(Post.class, event.postId());
+        }
+    }
+}
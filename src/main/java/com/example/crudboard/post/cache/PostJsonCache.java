@@ -0,0 +1,57 @@
+package com.example.crudboard.post.cache;
+
+import com.example.crudboard.global.cache.CachedJson;
+import com.example.crudboard.global.cache.JsonBytesCache;
+import com.example.crudboard.post.dto.PostResponse;
+import com.example.crudboard.post.event.PostChangedEvent;
+import com.example.crudboard.post.event.PostPartitionChangedEvent;
+import com.example.crudboard.post.service.PostQueryService;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 게시글 단건 응답(PostResponse)의 직렬화 바이트 캐시.
+ * 키는 글 id, 버전은 updatedAt이라서 조회마다 updatedAt 한 컬럼만 확인하고 직렬화는 건너뛴다.
+ * 캐시에 없을 때는 버전 확인 없이 글을 한 번만 읽는다.
+ */
+@Component
+public class PostJsonCache {
+
+    private static final String KEY_PREFIX = "post:";
+
+    private final JsonBytesCache cache;
+    private final PostQueryService postQueryService;
+
+    public PostJsonCache(JsonBytesCache cache, PostQueryService postQueryService) {
+        this.cache = cache;
+        this.postQueryService = postQueryService;
+    }
+
+    /**
+     * 없는 글이면 POST_NOT_FOUND
+     */
+    public CachedJson get(Long postId) {
+        // 캐시에 없으면 버전 쿼리 없이 글 조회 한 번으로 버전(updatedAt)까지 정한다.
+        return cache.get(KEY_PREFIX + postId,
+                () -> postQueryService.version(postId),
+                () -> postQueryService.get(postId),
+                PostJsonCache::versionOf);
+    }
+
+    // PostQueryService.version과 같은 형식이어야 한다.
+    private static String versionOf(PostResponse post) {
+        return post.updatedAt().toString();
+    }
+
+    // 버전으로도 걸러지지만, 삭제/수정된 글의 바이트를 메모리에 남겨두지 않도록 커밋 후 바로 지운다.
+    @TransactionalEventListener
+    public void onPostChanged(PostChangedEvent event) {
+        cache.evict(KEY_PREFIX + event.postId());
+    }
+
+    // 분리된 글은 posts에서 빠지므로 남은 바이트도 지운다.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPartitionChanged(PostPartitionChangedEvent event) {
+        event.postIds().forEach(postId -> cache.evict(KEY_PREFIX + postId));
+    }
+}
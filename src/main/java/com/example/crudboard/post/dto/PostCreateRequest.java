@@ -1,9 +1,19 @@
 package com.example.crudboard.post.dto;
 
+import com.example.crudboard.board.Board;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.Size;
 
+/**
+ * boardId를 비우면 기본 게시판(Board.DEFAULT_ID)에 쓴다.
+ */
 public record PostCreateRequest(
         @NotBlank @Size(max = 100) String title,
-        @NotBlank @Size(max = 5000) String content
-){}
+        @NotBlank @Size(max = 5000) String content,
+        @Positive Long boardId
+){
+    public long boardIdOrDefault() {
+        return boardId != null ? boardId : Board.DEFAULT_ID;
+    }
+}
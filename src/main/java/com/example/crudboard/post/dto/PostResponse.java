@@ -1,5 +1,7 @@
 package com.example.crudboard.post.dto;
 
+import com.example.crudboard.global.timing.ServerTimings;
+import com.example.crudboard.global.timing.ServerTimings.Phase;
 import com.example.crudboard.post.Post;
 import java.time.LocalDateTime;
 
@@ -11,13 +13,30 @@ public record PostResponse(
         LocalDateTime updatedAt
 ){
     public static PostResponse from(Post post) {
-        return new PostResponse(
+        long startedAt = ServerTimings.start();
+        PostResponse response = new PostResponse(
                 post.getId(),
                 post.getTitle(),
                 post.getContent(),
                 post.getCreatedAt(),
                 post.getUpdatedAt()
         );
+        ServerTimings.end(Phase.MAPPING, startedAt);
+        return response;
+    }
+
+    // 보관(archived)된 글처럼 본문을 따로 읽어 온 경우
+    public static PostResponse from(Post post, String content) {
+        long startedAt = ServerTimings.start();
+        PostResponse response = new PostResponse(
+                post.getId(),
+                post.getTitle(),
+                content,
+                post.getCreatedAt(),
+                post.getUpdatedAt()
+        );
+        ServerTimings.end(Phase.MAPPING, startedAt);
+        return response;
     }
 }
 
@@ -0,0 +1,12 @@
+package com.example.crudboard.post.event;
+
+/**
+ * 게시글 생성/수정/삭제 이벤트.
+ * PostCommandService가 발행하고, 캐시 무효화 등은 커밋 이후(@TransactionalEventListener)에 처리한다.
+ */
+public record PostChangedEvent(Long postId, Type type) {
+
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+}
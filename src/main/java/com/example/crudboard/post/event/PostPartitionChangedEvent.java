@@ -0,0 +1,12 @@
+package com.example.crudboard.post.event;
+
+import com.example.crudboard.post.partition.PostPartitionStatus;
+import java.util.List;
+
+/**
+ * 월 버킷 분리/재연결 이벤트. 목록 결과가 통째로 바뀌므로 목록 캐시를 커밋 후 무효화한다.
+ *
+ * @param postIds 분리로 옮겨진 글 id (단건/댓글 캐시에서 지울 대상). 재연결이면 비어 있다.
+ */
+public record PostPartitionChangedEvent(int month, PostPartitionStatus status, List<Long> postIds) {
+}
@@ -0,0 +1,62 @@
+package com.example.crudboard.post.hot;
+
+/**
+ * 점수(double)를 더하는 count-min sketch.
+ * 글마다 카운터를 두지 않고 depth x width 고정 크기 표에 더해서, 글 수와 상관없이 메모리가 일정하다.
+ * 추정값은 실제보다 작지 않다. (해시 충돌만큼 더 크게 나올 수 있음)
+ *
+ * 동기화하지 않는다. HotPostTracker가 락 안에서만 사용한다.
+ */
+class DecayedCountMinSketch {
+
+    private final int width;
+    private final double[][] table;
+    private final long[] seeds;
+
+    DecayedCountMinSketch(int depth, int width) {
+        this.width = width;
+        this.table = new double[depth][width];
+        this.seeds = new long[depth];
+        for (int i = 0; i < depth; i++) {
+            seeds[i] = 0x9E3779B97F4A7C15L * (i + 1);
+        }
+    }
+
+    /**
+     * @return 더한 뒤의 추정값
+     */
+    double add(long key, double amount) {
+        double estimate = Double.MAX_VALUE;
+        for (int i = 0; i < table.length; i++) {
+            int index = index(key, i);
+            table[i][index] += amount;
+            estimate = Math.min(estimate, table[i][index]);
+        }
+        return estimate;
+    }
+
+    double estimate(long key) {
+        double estimate = Double.MAX_VALUE;
+        for (int i = 0; i < table.length; i++) {
+            estimate = Math.min(estimate, table[i][index(key, i)]);
+        }
+        return estimate;
+    }
+
+    void scale(double factor) {
+        for (double[] row : table) {
+            for (int j = 0; j < row.length; j++) {
+                row[j] *= factor;
+            }
+        }
+    }
+
+    private int index(long key, int row) {
+        // splitmix64 finalizer
+        long h = key ^ seeds[row];
+        h = (h ^ (h >>> 30)) * 0xBF58476D1CE4E5B9L;
+        h = (h ^ (h >>> 27)) * 0x94D049BB133111EBL;
+        h = h ^ (h >>> 31);
+        return (int) Math.floorMod(h, (long) width);
+    }
+}
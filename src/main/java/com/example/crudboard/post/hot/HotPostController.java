@@ -0,0 +1,28 @@
+package com.example.crudboard.post.hot;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.List;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "Posts", description = "게시글 CRUD API")
+@RestController
+@RequestMapping("/api/posts/hot")
+public class HotPostController {
+
+    private final HotPostTracker hotPostTracker;
+
+    public HotPostController(HotPostTracker hotPostTracker) {
+        this.hotPostTracker = hotPostTracker;
+    }
+
+    @Operation(summary = "인기글 (최근 조회/댓글 기준, 시간 감쇠)",
+            description = "메모리의 top-K를 주기적으로 발행한 결과라서 최대 app.posts.hot.publish-millis만큼 늦게 반영된다.")
+    @GetMapping
+    public List<HotPostResponse> hot(@RequestParam(defaultValue = "10") int limit) {
+        return hotPostTracker.top(limit);
+    }
+}
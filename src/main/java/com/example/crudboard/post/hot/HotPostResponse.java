@@ -0,0 +1,9 @@
+package com.example.crudboard.post.hot;
+
+import java.time.LocalDateTime;
+
+/**
+ * score: 조회(view-weight)/댓글(comment-weight) 가중치를 half-life로 감쇠해서 더한 값 (발행 시점 기준)
+ */
+public record HotPostResponse(Long id, String title, double score, LocalDateTime createdAt) {
+}
@@ -0,0 +1,77 @@
+package com.example.crudboard.post.hot;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+// 인스턴스(instanceId)마다 자기 후보를 따로 저장한다.
+@Entity
+@Table(name = "hot_post_snapshots")
+@IdClass(HotPostSnapshot.Key.class)
+@Getter
+public class HotPostSnapshot implements Persistable<HotPostSnapshot.Key> {
+
+    @Id
+    @Column(length = 64)
+    private String instanceId;
+
+    @Id
+    private Long postId;
+
+    @Column(nullable = false)
+    private double score;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    // id를 직접 넣는 엔티티라 save()가 merge(select 후 insert)로 가지 않도록
+    @Transient
+    private boolean isNew = true;
+
+    protected HotPostSnapshot(){}
+
+    public HotPostSnapshot(String instanceId, Long postId, double score, LocalDateTime updatedAt) {
+        this.instanceId = instanceId;
+        this.postId = postId;
+        this.score = score;
+        this.updatedAt = updatedAt;
+    }
+
+    @Override
+    public Key getId() {
+        return new Key(instanceId, postId);
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    @Getter
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private String instanceId;
+        private Long postId;
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.crudboard.post.hot;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface HotPostSnapshotRepository extends JpaRepository<HotPostSnapshot, HotPostSnapshot.Key> {
+
+    // 이 인스턴스의 이전 스냅샷과, 어느 인스턴스든 보관 기간이 지난 스냅샷을 지운다.
+    @Modifying
+    @Query("delete from HotPostSnapshot s where s.instanceId = :instanceId or s.updatedAt < :expiredBefore")
+    int deleteOwnOrExpired(String instanceId, LocalDateTime expiredBefore);
+
+    List<HotPostSnapshot> findByUpdatedAtGreaterThanEqual(LocalDateTime since);
+}
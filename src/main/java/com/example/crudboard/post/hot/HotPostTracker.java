@@ -0,0 +1,313 @@
+package com.example.crudboard.post.hot;
+
+import com.example.crudboard.comment.event.CommentChangedEvent;
+import com.example.crudboard.global.shard.ShardContext;
+import com.example.crudboard.global.shard.ShardRouter;
+import com.example.crudboard.post.Post;
+import com.example.crudboard.post.event.PostChangedEvent;
+import com.example.crudboard.post.repository.PostRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 최근 활동(조회/댓글) 기준 인기글 top-K. (app.posts.hot.*)
+ *
+ * - 점수: 활동마다 가중치를 더하고 half-life마다 절반으로 줄어든다.
+ *   매번 전체를 줄이지 않도록 forward decay(기준 시각 이후 경과 시간만큼 가중치를 키워서 더함)로 계산한다.
+ * - 글별 점수는 count-min sketch(고정 크기)에 쌓고, 상위 후보(top-k x 2)만 점수 순 TreeSet으로 들고 있는다.
+ * - 조회/댓글 스레드는 활동을 락 없는 큐에 넣기만 한다. 스케치/후보 갱신은 발행 주기에 모아서 한 번에 한다.
+ *   (큐가 max-pending을 넘으면 그 사이 활동은 버리고 센다)
+ * - 읽기는 publish-millis마다 만든 불변 리스트(published)를 그대로 돌려줘서 락을 잡지 않는다.
+ * - snapshot-millis마다 후보를 hot_post_snapshots에 인스턴스별(instance-id)로 저장하고, 시작할 때 복원한다.
+ *   여러 인스턴스가 서로의 스냅샷을 지우지 않고, 복원은 글별로 가장 높은 점수를 쓴다.
+ */
+@Slf4j
+@Component
+public class HotPostTracker {
+
+    // forward decay 지수가 이 값을 넘으면 기준 시각을 지금으로 옮기고 전부 다시 스케일한다. (double overflow 방지)
+    private static final double MAX_EXPONENT = 40;
+
+    private final PostRepository postRepository;
+    private final HotPostSnapshotRepository snapshotRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ShardRouter shardRouter;
+    private final String instanceId;
+    private final int topK;
+    private final int capacity;
+    private final double lambdaPerMilli;
+    private final double viewWeight;
+    private final double commentWeight;
+    private final int maxPending;
+    private final Duration snapshotRetention;
+
+    // 조회/댓글 스레드가 쌓고 drain()이 비운다.
+    private final ConcurrentLinkedQueue<Activity> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingSize = new AtomicInteger();
+    private final LongAdder dropped = new LongAdder();
+
+    // 아래 상태는 this 락 안에서만 다룬다.
+    private final DecayedCountMinSketch sketch;
+    private final Map<Long, Double> candidateScores = new HashMap<>();
+    private final TreeSet<Candidate> candidates = new TreeSet<>(Candidate.ORDER);
+    private long landmarkMillis = System.currentTimeMillis();
+    private boolean dirty;
+
+    private volatile List<HotPostResponse> published = List.of();
+
+    public HotPostTracker(
+            PostRepository postRepository,
+            HotPostSnapshotRepository snapshotRepository,
+            TransactionTemplate transactionTemplate,
+            ShardRouter shardRouter,
+            @Value("${app.posts.hot.top-k:100}") int topK,
+            @Value("${app.posts.hot.half-life-minutes:360}") long halfLifeMinutes,
+            @Value("${app.posts.hot.view-weight:1}") double viewWeight,
+            @Value("${app.posts.hot.comment-weight:5}") double commentWeight,
+            @Value("${app.posts.hot.sketch-depth:4}") int sketchDepth,
+            @Value("${app.posts.hot.sketch-width:4096}") int sketchWidth,
+            @Value("${app.posts.hot.max-pending:100000}") int maxPending,
+            @Value("${app.posts.hot.instance-id:}") String instanceId,
+            @Value("${app.posts.hot.snapshot-retention-minutes:2880}") long snapshotRetentionMinutes) {
+        this.postRepository = postRepository;
+        this.snapshotRepository = snapshotRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.shardRouter = shardRouter;
+        // 지정하지 않으면 프로세스마다 새로 만든다. (이전 프로세스의 행은 보관 기간이 지나면 지워진다)
+        this.instanceId = instanceId.isBlank() ? UUID.randomUUID().toString() : instanceId;
+        this.topK = topK;
+        // 순위 경계 근처에서 밀려났다 돌아오는 글을 놓치지 않도록 후보는 넉넉하게
+        this.capacity = topK * 2;
+        this.lambdaPerMilli = Math.log(2) / Duration.ofMinutes(halfLifeMinutes).toMillis();
+        this.viewWeight = viewWeight;
+        this.commentWeight = commentWeight;
+        this.sketch = new DecayedCountMinSketch(sketchDepth, sketchWidth);
+        this.maxPending = maxPending;
+        this.snapshotRetention = Duration.ofMinutes(snapshotRetentionMinutes);
+    }
+
+    /**
+     * 마지막 발행본의 상위 limit개 (락 없음)
+     */
+    public List<HotPostResponse> top(int limit) {
+        List<HotPostResponse> snapshot = published;
+        return snapshot.subList(0, Math.min(Math.max(limit, 0), snapshot.size()));
+    }
+
+    /**
+     * 후보 글들의 지금 시각 기준 점수 (후보가 아닌 글은 없음 = 0점)
+     */
+    public synchronized Map<Long, Double> currentScores() {
+        drain();
+        return currentTop(capacity).stream()
+                .collect(Collectors.toMap(Candidate::postId, Candidate::score));
+    }
+
+    public void recordView(Long postId) {
+        enqueue(postId, viewWeight);
+    }
+
+    @TransactionalEventListener
+    public void onCommentChanged(CommentChangedEvent event) {
+        if (event.type() == CommentChangedEvent.Type.CREATED) {
+            enqueue(event.postId(), commentWeight);
+        }
+    }
+
+    @TransactionalEventListener
+    public synchronized void onPostChanged(PostChangedEvent event) {
+        if (event.type() == PostChangedEvent.Type.DELETED) {
+            // 큐에 남은 활동이 삭제 뒤에 다시 후보로 넣지 않도록 먼저 반영한다.
+            drain();
+            Double score = candidateScores.remove(event.postId());
+            if (score != null) {
+                candidates.remove(new Candidate(event.postId(), score));
+                dirty = true;
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.posts.hot.publish-millis:1000}",
+            initialDelayString = "${app.posts.hot.publish-millis:1000}")
+    public void publishIfDirty() {
+        boolean changed;
+        synchronized (this) {
+            drain();
+            changed = dirty;
+        }
+        if (changed) {
+            publish();
+        }
+    }
+
+    /**
+     * 현재 상위 top-k를 글 제목과 함께 불변 리스트로 발행한다. (삭제된 글은 빠진다)
+     */
+    public void publish() {
+        List<Candidate> top;
+        synchronized (this) {
+            drain();
+            top = currentTop(topK);
+            dirty = false;
+        }
+        // 글은 id 구간으로 샤드가 정해지므로 샤드별로 나눠서 읽는다.
+        Map<Long, Post> posts = new HashMap<>();
+        top.stream()
+                .map(Candidate::postId)
+                .collect(Collectors.groupingBy(shardRouter::shardOfId))
+                .forEach((shard, ids) -> ShardContext.call(shard, () -> postRepository.findAllById(ids))
+                        .forEach(post -> posts.put(post.getId(), post)));
+        published = top.stream()
+                .filter(c -> posts.containsKey(c.postId()))
+                .map(c -> {
+                    Post post = posts.get(c.postId());
+                    return new HotPostResponse(post.getId(), post.getTitle(), c.score(), post.getCreatedAt());
+                })
+                .toList();
+    }
+
+    @Scheduled(fixedDelayString = "${app.posts.hot.snapshot-millis:60000}",
+            initialDelayString = "${app.posts.hot.snapshot-millis:60000}")
+    public void snapshot() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Candidate> top;
+        synchronized (this) {
+            drain();
+            top = currentTop(capacity);
+        }
+        List<HotPostSnapshot> rows = top.stream()
+                .map(c -> new HotPostSnapshot(instanceId, c.postId(), c.score(), now))
+                .toList();
+        // 다른 인스턴스의 스냅샷은 보관 기간이 지나기 전까지 남겨 둔다.
+        transactionTemplate.executeWithoutResult(status -> {
+            snapshotRepository.deleteOwnOrExpired(instanceId, now.minus(snapshotRetention));
+            snapshotRepository.saveAll(rows);
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void restore() {
+        LocalDateTime now = LocalDateTime.now();
+        List<HotPostSnapshot> rows = snapshotRepository.findByUpdatedAtGreaterThanEqual(now.minus(snapshotRetention));
+        if (rows.isEmpty()) {
+            return;
+        }
+        restore(rows, now);
+        publish();
+        log.info("hot posts restored from snapshot. rows={}", rows.size());
+    }
+
+    private synchronized void restore(List<HotPostSnapshot> rows, LocalDateTime now) {
+        // 인스턴스마다 같은 글을 따로 저장했을 수 있다. 합치면 복원할 때마다 부풀므로 가장 높은 점수만 쓴다.
+        Map<Long, Double> best = new HashMap<>();
+        for (HotPostSnapshot row : rows) {
+            // 스냅샷 이후 지난 시간만큼 감쇠
+            long age = Math.max(0, Duration.between(row.getUpdatedAt(), now).toMillis());
+            best.merge(row.getPostId(), row.getScore() * Math.exp(-lambdaPerMilli * age), Math::max);
+        }
+        long nowMillis = System.currentTimeMillis();
+        best.forEach((postId, score) -> apply(postId, score, nowMillis));
+    }
+
+    // 요청 스레드 쪽: 락 없이 큐에 넣기만 한다.
+    private void enqueue(long postId, double weight) {
+        if (pendingSize.incrementAndGet() > maxPending) {
+            pendingSize.decrementAndGet();
+            dropped.increment();
+            return;
+        }
+        pending.offer(new Activity(postId, weight, System.currentTimeMillis()));
+    }
+
+    // 쌓인 활동을 스케치/후보에 반영한다. (락 안에서 호출)
+    private void drain() {
+        Activity activity;
+        while ((activity = pending.poll()) != null) {
+            pendingSize.decrementAndGet();
+            apply(activity.postId(), activity.weight(), activity.atMillis());
+        }
+        long lost = dropped.sumThenReset();
+        if (lost > 0) {
+            log.warn("hot post activity queue was full. dropped={}", lost);
+        }
+    }
+
+    // 활동 시각(atMillis) 기준 가중치를 더한다. (락 안에서 호출)
+    private void apply(long postId, double weight, long atMillis) {
+        rescaleIfNeeded(atMillis);
+        double estimate = sketch.add(postId, weight * Math.exp(lambdaPerMilli * (atMillis - landmarkMillis)));
+        offer(postId, estimate);
+        dirty = true;
+    }
+
+    // 이미 후보면 점수만 갱신하고, 아니면 가장 낮은 후보보다 높을 때만 교체한다.
+    private void offer(long postId, double score) {
+        Double previous = candidateScores.get(postId);
+        if (previous != null) {
+            candidates.remove(new Candidate(postId, previous));
+        } else if (candidateScores.size() >= capacity) {
+            Candidate lowest = candidates.first();
+            if (lowest.score() >= score) {
+                return;
+            }
+            candidates.pollFirst();
+            candidateScores.remove(lowest.postId());
+        }
+        candidateScores.put(postId, score);
+        candidates.add(new Candidate(postId, score));
+    }
+
+    private void rescaleIfNeeded(long now) {
+        double exponent = lambdaPerMilli * (now - landmarkMillis);
+        if (exponent < MAX_EXPONENT) {
+            return;
+        }
+        double factor = Math.exp(-exponent);
+        sketch.scale(factor);
+        List<Candidate> rescaled = candidates.stream()
+                .map(c -> new Candidate(c.postId(), c.score() * factor))
+                .toList();
+        candidates.clear();
+        candidateScores.clear();
+        for (Candidate c : rescaled) {
+            candidates.add(c);
+            candidateScores.put(c.postId(), c.score());
+        }
+        landmarkMillis = now;
+    }
+
+    // 지금 시각 기준으로 감쇠한 점수 내림차순 상위 n개 (락 안에서 호출)
+    private List<Candidate> currentTop(int n) {
+        double decay = Math.exp(-lambdaPerMilli * (System.currentTimeMillis() - landmarkMillis));
+        return candidates.descendingSet().stream()
+                .limit(n)
+                .map(c -> new Candidate(c.postId(), c.score() * decay))
+                .toList();
+    }
+
+    private record Activity(long postId, double weight, long atMillis) {
+    }
+
+    private record Candidate(long postId, double score) {
+        static final Comparator<Candidate> ORDER =
+                Comparator.comparingDouble(Candidate::score).thenComparingLong(Candidate::postId);
+    }
+}
@@ -0,0 +1,4 @@
+package com.example.crudboard.post.partition;
+
+public record PostMonthCount(Integer month, Long posts) {
+}
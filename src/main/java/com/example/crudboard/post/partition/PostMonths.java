@@ -0,0 +1,38 @@
+package com.example.crudboard.post.partition;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+/**
+ * 게시글 월 버킷 키(yyyymm, 예: 202610) 변환 유틸
+ */
+public final class PostMonths {
+
+    private PostMonths() {}
+
+    public static int of(LocalDateTime at) {
+        return at.getYear() * 100 + at.getMonthValue();
+    }
+
+    public static int of(YearMonth month) {
+        return month.getYear() * 100 + month.getMonthValue();
+    }
+
+    public static YearMonth toYearMonth(int month) {
+        return YearMonth.of(month / 100, month % 100);
+    }
+
+    // 버킷에 속한 작성일 범위 [start, end)
+    public static LocalDateTime start(int month) {
+        return toYearMonth(month).atDay(1).atStartOfDay();
+    }
+
+    public static LocalDateTime end(int month) {
+        return toYearMonth(month).plusMonths(1).atDay(1).atStartOfDay();
+    }
+
+    public static boolean isValid(int month) {
+        int m = month % 100;
+        return month >= 100_001 && month <= 999_912 && m >= 1 && m <= 12;
+    }
+}
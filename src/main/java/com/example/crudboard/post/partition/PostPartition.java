@@ -0,0 +1,53 @@
+package com.example.crudboard.post.partition;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.Getter;
+
+/**
+ * 게시글 월 버킷(파티션) 목록. 글 자체는 posts.created_month로 버킷에 속한다.
+ */
+@Entity
+@Table(name = "post_partitions")
+@Getter
+public class PostPartition {
+
+    @Id
+    private Integer month;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private PostPartitionStatus status;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime detachedAt;
+
+    protected PostPartition(){}
+
+    public PostPartition(int month, LocalDateTime createdAt) {
+        this.month = month;
+        this.status = PostPartitionStatus.ACTIVE;
+        this.createdAt = createdAt;
+    }
+
+    public void detach(LocalDateTime at) {
+        this.status = PostPartitionStatus.DETACHED;
+        this.detachedAt = at;
+    }
+
+    public void attach() {
+        this.status = PostPartitionStatus.ACTIVE;
+        this.detachedAt = null;
+    }
+
+    public boolean isDetached() {
+        return status == PostPartitionStatus.DETACHED;
+    }
+}
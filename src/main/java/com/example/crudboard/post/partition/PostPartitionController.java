@@ -0,0 +1,40 @@
+package com.example.crudboard.post.partition;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.List;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "Admin", description = "운영 지표 API (ADMIN 전용)")
+@RestController
+@RequestMapping("/api/admin/post-partitions")
+public class PostPartitionController {
+
+    private final PostPartitionService partitionService;
+
+    public PostPartitionController(PostPartitionService partitionService) {
+        this.partitionService = partitionService;
+    }
+
+    @Operation(summary = "게시글 월 버킷 목록과 버킷별 글 수")
+    @GetMapping
+    public List<PostPartitionResponse> list() {
+        return partitionService.list();
+    }
+
+    @Operation(summary = "월 버킷 분리 (그 달의 글/댓글을 보관 테이블로 옮김)")
+    @PostMapping("/{month}/detach")
+    public PostPartitionResponse detach(@PathVariable int month) {
+        return partitionService.detach(month);
+    }
+
+    @Operation(summary = "분리한 월 버킷 다시 연결 (보관 테이블에서 되돌림)")
+    @PostMapping("/{month}/attach")
+    public PostPartitionResponse attach(@PathVariable int month) {
+        return partitionService.attach(month);
+    }
+}
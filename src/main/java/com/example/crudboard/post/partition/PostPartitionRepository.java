@@ -0,0 +1,105 @@
+package com.example.crudboard.post.partition;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+/*
+분리/재연결은 월 버킷의 행을 posts <-> posts_detached(댓글, 보관 본문도 같이)로 옮기는 native 쿼리다.
+- 옮길 글은 작성일 범위 [from, to)로 고른다. (idx_posts_created_at)
+- 대상 테이블을 알려주지 않은 native 수정 쿼리라서 Hibernate가 2차 캐시(글/댓글/쿼리)를 전부 비운다. 드문 관리 작업이라 그대로 둔다.
+ */
+@Repository
+public interface PostPartitionRepository extends JpaRepository<PostPartition, Integer> {
+
+    @Query("select p.month from PostPartition p where p.status = :status")
+    List<Integer> findMonthsByStatus(PostPartitionStatus status);
+
+    // 작성일 범위 한쪽이 없을 때 나눠 읽을 월의 끝 (idx_posts_created_month_created_at)
+    @Query("select min(p.createdMonth) from Post p")
+    Integer findMinPostMonth();
+
+    @Query("select max(p.createdMonth) from Post p")
+    Integer findMaxPostMonth();
+
+    // 버킷별 글 수 (관리 API용, 분리되지 않은 글 전체를 읽는다)
+    @Query("select new com.example.crudboard.post.partition.PostMonthCount(p.createdMonth, count(p)) "
+            + "from Post p group by p.createdMonth")
+    List<PostMonthCount> countPostsByMonth();
+
+    // 분리된 버킷별 글 수 -> [created_month, count]
+    @Query(value = "select created_month, count(*) from posts_detached group by created_month", nativeQuery = true)
+    List<Object[]> countDetachedPostsByMonth();
+
+    // 소프트 삭제된 글도 같이 옮기므로 native query로 고른다.
+    @Query(value = "select id from posts where created_at >= :from and created_at < :to", nativeQuery = true)
+    List<Long> findPostIdsCreatedBetween(LocalDateTime from, LocalDateTime to);
+
+    // ---- 분리: 보관 테이블로 복사한 뒤 글을 지운다. (댓글/보관 본문은 FK cascade)
+
+    @Modifying
+    @Query(value = "insert into post_archives_detached "
+            + "(post_id, content_deflated, original_bytes, compressed_bytes, archived_at, created_month) "
+            + "select a.post_id, a.content_deflated, a.original_bytes, a.compressed_bytes, a.archived_at, p.created_month "
+            + "from post_archives a join posts p on p.id = a.post_id "
+            + "where p.created_at >= :from and p.created_at < :to", nativeQuery = true)
+    int copyArchivesToDetached(LocalDateTime from, LocalDateTime to);
+
+    @Modifying
+    @Query(value = "insert into comments_detached "
+            + "(id, post_id, content, created_at, updated_at, parent_id, path, depth, reply_count, created_month) "
+            + "select c.id, c.post_id, c.content, c.created_at, c.updated_at, c.parent_id, c.path, c.depth, c.reply_count, "
+            + "p.created_month "
+            + "from comments c join posts p on p.id = c.post_id "
+            + "where p.created_at >= :from and p.created_at < :to", nativeQuery = true)
+    int copyCommentsToDetached(LocalDateTime from, LocalDateTime to);
+
+    @Modifying
+    @Query(value = "insert into posts_detached "
+            + "(id, title, content, created_at, updated_at, created_month, archived, deleted_at, board_id) "
+            + "select id, title, content, created_at, updated_at, created_month, archived, deleted_at, board_id "
+            + "from posts where created_at >= :from and created_at < :to", nativeQuery = true)
+    int copyPostsToDetached(LocalDateTime from, LocalDateTime to);
+
+    @Modifying
+    @Query(value = "delete from posts where created_at >= :from and created_at < :to", nativeQuery = true)
+    int deletePostsCreatedBetween(LocalDateTime from, LocalDateTime to);
+
+    // ---- 재연결: 글 -> 댓글 -> 보관 본문 순서로(FK) 되돌린 뒤 보관 테이블에서 지운다.
+
+    @Modifying
+    @Query(value = "insert into posts "
+            + "(id, title, content, created_at, updated_at, created_month, archived, deleted_at, board_id) "
+            + "select id, title, content, created_at, updated_at, created_month, archived, deleted_at, board_id "
+            + "from posts_detached where created_month = :month", nativeQuery = true)
+    int restorePosts(int month);
+
+    @Modifying
+    @Query(value = "insert into comments "
+            + "(id, post_id, content, created_at, updated_at, parent_id, path, depth, reply_count) "
+            + "select id, post_id, content, created_at, updated_at, parent_id, path, depth, reply_count "
+            + "from comments_detached where created_month = :month", nativeQuery = true)
+    int restoreComments(int month);
+
+    @Modifying
+    @Query(value = "insert into post_archives "
+            + "(post_id, content_deflated, original_bytes, compressed_bytes, archived_at) "
+            + "select post_id, content_deflated, original_bytes, compressed_bytes, archived_at "
+            + "from post_archives_detached where created_month = :month", nativeQuery = true)
+    int restoreArchives(int month);
+
+    @Modifying
+    @Query(value = "delete from post_archives_detached where created_month = :month", nativeQuery = true)
+    int deleteDetachedArchives(int month);
+
+    @Modifying
+    @Query(value = "delete from comments_detached where created_month = :month", nativeQuery = true)
+    int deleteDetachedComments(int month);
+
+    @Modifying
+    @Query(value = "delete from posts_detached where created_month = :month", nativeQuery = true)
+    int deleteDetachedPosts(int month);
+}
@@ -0,0 +1,19 @@
+package com.example.crudboard.post.partition;
+
+import java.time.LocalDateTime;
+
+/**
+ * @param posts 버킷에 속한 글 수. 분리/재연결 응답에서는 옮긴 글 수 (이미 그 상태였으면 null)
+ */
+public record PostPartitionResponse(int month, PostPartitionStatus status, Long posts,
+                                    LocalDateTime createdAt, LocalDateTime detachedAt) {
+
+    // 글은 있는데 아직 등록되지 않은 버킷(rollover 이전 데이터 등)은 ACTIVE로 본다.
+    static PostPartitionResponse of(int month, PostPartition partition, Long posts) {
+        if (partition == null) {
+            return new PostPartitionResponse(month, PostPartitionStatus.ACTIVE, posts, null, null);
+        }
+        return new PostPartitionResponse(month, partition.getStatus(), posts,
+                partition.getCreatedAt(), partition.getDetachedAt());
+    }
+}
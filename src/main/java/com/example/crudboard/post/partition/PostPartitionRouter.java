@@ -0,0 +1,76 @@
+package com.example.crudboard.post.partition;
+
+import com.example.crudboard.post.PostSearchCondition;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+/**
+ * 작성일 범위 검색을 범위와 겹치는 월 버킷(created_month)으로 나눈다. (app.posts.partition.route-*)
+ *
+ * - 작성일 순 정렬일 때만 나눈다. 월 버킷끼리는 작성일이 겹치지 않으므로 월을 정렬 순서대로 읽어 합치면 전체 순서가 된다.
+ * - 범위 한쪽이 없으면 글이 있는 가장 이른/늦은 월까지 본다. (created_month 인덱스로 min/max)
+ * - 앞쪽 route-max-rows건보다 깊은 페이지나 route-max-months개월보다 넓은 범위는 나누지 않고 작성일 범위 조건 하나로 읽는다.
+ */
+@Component
+public class PostPartitionRouter {
+
+    private final PostPartitionRepository partitionRepository;
+    private final int maxMonths;
+    private final int maxRows;
+
+    public PostPartitionRouter(PostPartitionRepository partitionRepository,
+                               @Value("${app.posts.partition.route-max-months:24}") int maxMonths,
+                               @Value("${app.posts.partition.route-max-rows:1000}") int maxRows) {
+        this.partitionRepository = partitionRepository;
+        this.maxMonths = maxMonths;
+        this.maxRows = maxRows;
+    }
+
+    /**
+     * 월로 나눠 읽을 조건인지 (DB를 읽지 않는다)
+     */
+    public boolean routes(PostSearchCondition condition, Sort sort, long offset, int size) {
+        if (condition == null || (condition.createdFrom() == null && condition.createdTo() == null)) {
+            return false;
+        }
+        if (offset + size > maxRows) {
+            return false;
+        }
+        // 뒤따르는 정렬 기준은 작성일이 같은 글(같은 월) 안에서만 순서를 정하므로 상관없다.
+        Sort.Order first = sort.stream().findFirst().orElse(null);
+        return first != null && first.getProperty().equals("createdAt");
+    }
+
+    /**
+     * 범위와 겹치는 월을 정렬 방향 순서로. 겹치는 월이 route-max-months보다 많으면 null (나누지 않음)
+     */
+    public List<Integer> months(PostSearchCondition condition, Sort sort) {
+        Integer from = condition.createdFrom() != null
+                ? PostMonths.of(condition.createdFrom())
+                : partitionRepository.findMinPostMonth();
+        Integer to = condition.createdTo() != null
+                ? PostMonths.of(condition.createdTo())
+                : partitionRepository.findMaxPostMonth();
+        if (from == null || to == null || from > to) {
+            return List.of();
+        }
+
+        List<Integer> months = new ArrayList<>();
+        YearMonth last = PostMonths.toYearMonth(to);
+        for (YearMonth month = PostMonths.toYearMonth(from); !month.isAfter(last); month = month.plusMonths(1)) {
+            if (months.size() == maxMonths) {
+                return null;
+            }
+            months.add(PostMonths.of(month));
+        }
+        if (sort.getOrderFor("createdAt").isDescending()) {
+            Collections.reverse(months);
+        }
+        return months;
+    }
+}
@@ -0,0 +1,184 @@
+package com.example.crudboard.post.partition;
+
+import com.example.crudboard.global.error.ApiException;
+import com.example.crudboard.global.error.ErrorCode;
+import com.example.crudboard.global.shard.ShardRouter;
+import com.example.crudboard.post.event.PostPartitionChangedEvent;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 게시글 월 버킷(파티션) 관리. (app.posts.partition.*)
+ *
+ * - rollover: 이번 달/다음 달 버킷을 미리 등록하고, retention-months가 지난 버킷은 자동으로 분리한다.
+ * - detach: 그 달의 글(댓글, 보관 본문 포함)을 posts_detached 등 보관 테이블로 옮긴다. 목록/검색/단건 조회 어디에도 나오지 않는다.
+ * - attach: 보관 테이블의 행을 원래 테이블로 되돌린다.
+ * 옮기는 작업은 샤드마다 한 트랜잭션이다. 중간에 실패해도 버킷 상태는 마지막에 바꾸므로 다시 실행하면 남은 행만 옮겨진다.
+ */
+@Slf4j
+@Service
+public class PostPartitionService {
+
+    private final PostPartitionRepository partitionRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final ShardRouter shardRouter;
+    private final Clock clock;
+    private final int retentionMonths;
+
+    public PostPartitionService(PostPartitionRepository partitionRepository,
+                                ApplicationEventPublisher eventPublisher,
+                                TransactionTemplate transactionTemplate,
+                                ShardRouter shardRouter,
+                                @Value("${app.posts.partition.retention-months:0}") int retentionMonths) {
+        this.partitionRepository = partitionRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.shardRouter = shardRouter;
+        this.clock = Clock.systemDefaultZone();
+        this.retentionMonths = retentionMonths;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        rollover();
+    }
+
+    /**
+     * 매일(기본 자정) 이번 달/다음 달 버킷을 등록하고, 보존 기간이 지난 버킷을 분리한다.
+     */
+    @Scheduled(cron = "${app.posts.partition.rollover-cron:0 0 0 * * *}")
+    public void rollover() {
+        YearMonth now = YearMonth.now(clock);
+        for (YearMonth month : List.of(now, now.plusMonths(1))) {
+            int key = PostMonths.of(month);
+            if (!partitionRepository.existsById(key)) {
+                partitionRepository.save(new PostPartition(key, LocalDateTime.now(clock)));
+                log.info("post partition created. month={}", key);
+            }
+        }
+
+        if (retentionMonths > 0) {
+            int cutoff = PostMonths.of(now.minusMonths(retentionMonths));
+            for (Integer month : partitionRepository.findMonthsByStatus(PostPartitionStatus.ACTIVE)) {
+                if (month < cutoff) {
+                    detach(month);
+                }
+            }
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public List<PostPartitionResponse> list() {
+        Map<Integer, Long> counts = partitionRepository.countPostsByMonth().stream()
+                .collect(Collectors.toMap(PostMonthCount::month, PostMonthCount::posts));
+        for (Object[] row : partitionRepository.countDetachedPostsByMonth()) {
+            counts.merge(((Number) row[0]).intValue(), ((Number) row[1]).longValue(), Long::sum);
+        }
+        Map<Integer, PostPartition> partitions = partitionRepository.findAll().stream()
+                .collect(Collectors.toMap(PostPartition::getMonth, Function.identity()));
+
+        Set<Integer> months = new TreeSet<>(counts.keySet());
+        months.addAll(partitions.keySet());
+        return months.stream()
+                .map(month -> PostPartitionResponse.of(month, partitions.get(month), counts.getOrDefault(month, 0L)))
+                .toList();
+    }
+
+    /**
+     * 버킷의 글을 보관 테이블로 옮긴다. 글이 계속 쓰이는 이번 달 이후 버킷은 분리할 수 없다.
+     */
+    public PostPartitionResponse detach(int month) {
+        validate(month);
+        if (month >= PostMonths.of(YearMonth.now(clock))) {
+            throw new ApiException(ErrorCode.VALIDATION_ERROR, "이번 달 이후의 버킷은 분리할 수 없습니다.");
+        }
+        PostPartition current = partitionRepository.findById(month).orElse(null);
+        if (current != null && current.isDetached()) {
+            return PostPartitionResponse.of(month, current, null);
+        }
+
+        List<Long> postIds = new ArrayList<>();
+        shardRouter.forEachShard(shard -> postIds.addAll(transactionTemplate.execute(status -> moveOut(month))));
+
+        return transactionTemplate.execute(status -> {
+            PostPartition partition = partitionRepository.findById(month)
+                    .orElseGet(() -> new PostPartition(month, LocalDateTime.now(clock)));
+            partition.detach(LocalDateTime.now(clock));
+            partitionRepository.save(partition);
+            eventPublisher.publishEvent(new PostPartitionChangedEvent(month, PostPartitionStatus.DETACHED, postIds));
+            log.info("post partition detached. month={}, posts={}", month, postIds.size());
+            return PostPartitionResponse.of(month, partition, (long) postIds.size());
+        });
+    }
+
+    public PostPartitionResponse attach(int month) {
+        validate(month);
+        PostPartition current = partitionRepository.findById(month)
+                .orElseThrow(() -> new ApiException(ErrorCode.NOT_FOUND, "등록되지 않은 버킷입니다."));
+        if (!current.isDetached()) {
+            return PostPartitionResponse.of(month, current, null);
+        }
+
+        long restored = shardRouter.mapShards(shard -> transactionTemplate.execute(status -> moveBack(month)))
+                .stream().mapToLong(Integer::longValue).sum();
+
+        return transactionTemplate.execute(status -> {
+            PostPartition partition = partitionRepository.findById(month).orElseThrow();
+            partition.attach();
+            partitionRepository.save(partition);
+            eventPublisher.publishEvent(new PostPartitionChangedEvent(month, PostPartitionStatus.ACTIVE, List.of()));
+            log.info("post partition attached. month={}, posts={}", month, restored);
+            return PostPartitionResponse.of(month, partition, restored);
+        });
+    }
+
+    // 현재 샤드에서 그 달의 글/댓글/보관 본문을 보관 테이블로 옮긴다. 옮긴 글 id를 돌려준다.
+    private List<Long> moveOut(int month) {
+        LocalDateTime from = PostMonths.start(month);
+        LocalDateTime to = PostMonths.end(month);
+        List<Long> postIds = partitionRepository.findPostIdsCreatedBetween(from, to);
+        if (postIds.isEmpty()) {
+            return postIds;
+        }
+        partitionRepository.copyArchivesToDetached(from, to);
+        partitionRepository.copyCommentsToDetached(from, to);
+        partitionRepository.copyPostsToDetached(from, to);
+        partitionRepository.deletePostsCreatedBetween(from, to);
+        return postIds;
+    }
+
+    // 현재 샤드에서 보관 테이블의 그 달 행을 되돌린다. 되돌린 글 수를 돌려준다.
+    private int moveBack(int month) {
+        int posts = partitionRepository.restorePosts(month);
+        partitionRepository.restoreComments(month);
+        partitionRepository.restoreArchives(month);
+        partitionRepository.deleteDetachedArchives(month);
+        partitionRepository.deleteDetachedComments(month);
+        partitionRepository.deleteDetachedPosts(month);
+        return posts;
+    }
+
+    private static void validate(int month) {
+        if (!PostMonths.isValid(month)) {
+            throw new ApiException(ErrorCode.VALIDATION_ERROR, "month는 yyyymm 형식이어야 합니다.");
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.example.crudboard.post.partition;
+
+public enum PostPartitionStatus {
+    ACTIVE,   // 목록/검색 대상
+    DETACHED  // 행이 posts_detached 등 보관 테이블로 옮겨짐. 어떤 조회에도 나오지 않음
+}
@@ -0,0 +1,33 @@
+package com.example.crudboard.post.purge;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "Admin", description = "운영 지표 API (ADMIN 전용)")
+@RestController
+@RequestMapping("/api/admin/post-purge")
+public class PostPurgeController {
+
+    private final PostPurgeService purgeService;
+
+    public PostPurgeController(PostPurgeService purgeService) {
+        this.purgeService = purgeService;
+    }
+
+    @Operation(summary = "삭제된 글 정리 대기/진행 상황과 처리량")
+    @GetMapping
+    public PostPurgeStats stats() {
+        return purgeService.stats();
+    }
+
+    @Operation(summary = "삭제된 글 정리 즉시 실행")
+    @PostMapping("/run")
+    public PostPurgeStats run() {
+        purgeService.purgeAllShards();
+        return purgeService.stats();
+    }
+}
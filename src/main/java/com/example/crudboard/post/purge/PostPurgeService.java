@@ -0,0 +1,161 @@
+package com.example.crudboard.post.purge;
+
+import com.example.crudboard.comment.repository.CommentRepository;
+import com.example.crudboard.global.shard.ShardRouter;
+import com.example.crudboard.post.repository.PostRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 소프트 삭제된 글을 실제로 지운다. (app.posts.purge.*)
+ *
+ * 댓글을 id 순서로 chunk-size개씩, chunk마다 짧은 트랜잭션으로 지우고 마지막에 글 행을 지운다.
+ * 한 번에 cascade로 지우면 댓글 수만큼 락을 오래 잡지만, 나눠 지우면 chunk 사이에 다른 쓰기가 끼어들 수 있다.
+ */
+@Slf4j
+@Service
+public class PostPurgeService {
+
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ShardRouter shardRouter;
+    private final int chunkSize;
+    private final int postsPerRun;
+    private final long pauseMillis;
+
+    // 스케줄러와 수동 실행(관리자 API)이 같은 글을 동시에 지우지 않도록
+    private final ReentrantLock running = new ReentrantLock();
+
+    private final LongAdder purgedPosts = new LongAdder();
+    private final LongAdder purgedComments = new LongAdder();
+    private volatile PurgeProgress current;
+    private volatile PurgeProgress last;
+
+    public PostPurgeService(
+            PostRepository postRepository,
+            CommentRepository commentRepository,
+            TransactionTemplate transactionTemplate,
+            ShardRouter shardRouter,
+            @Value("${app.posts.purge.chunk-size:1000}") int chunkSize,
+            @Value("${app.posts.purge.posts-per-run:20}") int postsPerRun,
+            @Value("${app.posts.purge.pause-millis:10}") long pauseMillis) {
+        this.postRepository = postRepository;
+        this.commentRepository = commentRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.shardRouter = shardRouter;
+        this.chunkSize = chunkSize;
+        this.postsPerRun = postsPerRun;
+        this.pauseMillis = pauseMillis;
+    }
+
+    @Scheduled(fixedDelayString = "${app.posts.purge.interval-millis:5000}")
+    public void purgeScheduled() {
+        purgeAllShards();
+    }
+
+    /**
+     * 샤드마다 차례로 purgePending()을 실행한다.
+     * @return 정리한 글 수 (전체 샤드 합)
+     */
+    public int purgeAllShards() {
+        return shardRouter.mapShards(shard -> purgePending()).stream().mapToInt(Integer::intValue).sum();
+    }
+
+    /**
+     * 먼저 삭제된 글부터 posts-per-run개까지 정리한다.
+     * @return 정리한 글 수
+     */
+    public int purgePending() {
+        running.lock();
+        try {
+            List<Long> postIds = postRepository.findSoftDeletedIds(postsPerRun);
+            for (Long postId : postIds) {
+                purge(postId);
+            }
+            return postIds.size();
+        } finally {
+            running.unlock();
+        }
+    }
+
+    public PostPurgeStats stats() {
+        return new PostPurgeStats(postRepository.countSoftDeleted(), current, last,
+                purgedPosts.sum(), purgedComments.sum());
+    }
+
+    private void purge(Long postId) {
+        PurgeProgress progress = PurgeProgress.start(postId);
+        current = progress;
+        long afterId = 0;
+        while (true) {
+            long from = afterId;
+            List<Long> commentIds = transactionTemplate.execute(status -> {
+                List<Long> chunk = commentRepository.findIdsByPostIdAfter(postId, from, PageRequest.of(0, chunkSize));
+                if (!chunk.isEmpty()) {
+                    commentRepository.deleteAllByIdInBatch(chunk);
+                }
+                return chunk;
+            });
+            if (commentIds.isEmpty()) {
+                break;
+            }
+            afterId = commentIds.getLast();
+            purgedComments.add(commentIds.size());
+            progress = progress.advance(commentIds.size());
+            current = progress;
+            pause();
+        }
+
+        transactionTemplate.executeWithoutResult(status -> postRepository.purgeById(postId));
+        purgedPosts.increment();
+        last = progress.finish();
+        current = null;
+        log.info("post purged. postId={}, comments={}, commentsPerSecond={}",
+                postId, last.deletedComments(), last.commentsPerSecond());
+    }
+
+    private void pause() {
+        if (pauseMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(pauseMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 글 하나의 정리 진행 상황
+     */
+    public record PurgeProgress(Long postId, long deletedComments, LocalDateTime startedAt,
+                                LocalDateTime finishedAt, long elapsedMillis, double commentsPerSecond) {
+
+        static PurgeProgress start(Long postId) {
+            return new PurgeProgress(postId, 0, LocalDateTime.now(), null, 0, 0);
+        }
+
+        PurgeProgress advance(int deleted) {
+            return measured(deletedComments + deleted, null);
+        }
+
+        PurgeProgress finish() {
+            return measured(deletedComments, LocalDateTime.now());
+        }
+
+        private PurgeProgress measured(long deleted, LocalDateTime finishedAt) {
+            long elapsed = Math.max(1, Duration.between(startedAt, LocalDateTime.now()).toMillis());
+            return new PurgeProgress(postId, deleted, startedAt, finishedAt, elapsed, deleted * 1000.0 / elapsed);
+        }
+    }
+}
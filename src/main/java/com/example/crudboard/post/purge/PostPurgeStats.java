@@ -0,0 +1,12 @@
+package com.example.crudboard.post.purge;
+
+import com.example.crudboard.post.purge.PostPurgeService.PurgeProgress;
+
+/**
+ * @param pendingPosts 소프트 삭제됐지만 아직 정리되지 않은 글 수
+ * @param current      지금 정리 중인 글 (없으면 null)
+ * @param last         마지막으로 정리를 끝낸 글 (처리량 포함)
+ */
+public record PostPurgeStats(long pendingPosts, PurgeProgress current, PurgeProgress last,
+                             long purgedPosts, long purgedComments) {
+}
@@ -1,14 +1,26 @@
 package com.example.crudboard.post.repository;
 
 import com.example.crudboard.post.Post;
+import com.example.crudboard.post.suggest.PostTitle;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface PostRepository extends JpaRepository<Post, Long>, JpaSpecificationExecutor<Post> {
+public interface PostRepository extends JpaRepository<Post, Long>, JpaSpecificationExecutor<Post>, PostRepositoryCustom {
 
     /*
     Spring Date JPA가 메서드 이름(findByTitleContainingIgnoreCaseOrContentContainingIgnoreCase)을 읽고 의미를 해석한다.
@@ -31,6 +43,46 @@ public interface PostRepository extends JpaRepository<Post, Long>, JpaSpecificat
             String contentKeyWord,
             Pageable pageable
     );
+
+    // 응답 캐시 버전 확인용: 엔티티 전체 대신 updatedAt 한 컬럼만 조회
+    @Query("select p.updatedAt from Post p where p.id = :id")
+    Optional<LocalDateTime> findUpdatedAtById(Long id);
+
+    // 제목 자동완성 인덱스 재구성용: 본문 없이 id/제목만 커서로 읽는다. (트랜잭션 안에서 소비하고 닫아야 한다)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select new com.example.crudboard.post.suggest.PostTitle(p.id, p.title) from Post p")
+    Stream<PostTitle> streamTitles();
+
+    // 본문 보관 대상: 아직 보관되지 않은 cutoff 이전 글 (id 순으로 afterId 다음부터 나눠 읽는다)
+    @Query("select p.id from Post p where p.archived = false and p.createdAt < :cutoff and p.id > :afterId order by p.id")
+    List<Long> findArchiveCandidateIds(LocalDateTime cutoff, Long afterId, Pageable pageable);
+
+    // 보관하는 동안 본문이 수정되지 않도록 행을 잠그고 읽는다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select p from Post p where p.id in :ids")
+    List<Post> findAllForArchive(List<Long> ids);
+
+    // updatedAt(응답 캐시 버전)이 바뀌지 않도록 auditing을 거치지 않는 벌크 업데이트로 본문을 비운다.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Post p set p.content = '', p.archived = true where p.id in :ids")
+    int markArchived(List<Long> ids);
+
+    // 소프트 삭제된 글은 @SQLRestriction 때문에 JPQL로는 보이지 않아서 native query로 찾는다. (먼저 삭제된 글부터)
+    @Query(value = "select id from posts where deleted_at is not null order by deleted_at, id limit :limit", nativeQuery = true)
+    List<Long> findSoftDeletedIds(int limit);
+
+    @Query(value = "select count(*) from posts where deleted_at is not null", nativeQuery = true)
+    long countSoftDeleted();
+
+    // 댓글을 다 지운 뒤 글 행 삭제 (보관 본문은 FK cascade로 같이 지워진다)
+    // native 수정 쿼리는 대상 테이블을 알려주지 않으면 Hibernate가 2차 캐시 전체를 비운다.
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "posts"))
+    @Query(value = "delete from posts where id = :id and deleted_at is not null", nativeQuery = true)
+    int purgeById(Long id);
 }
 
 /*
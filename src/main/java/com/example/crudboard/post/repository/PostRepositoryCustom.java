@@ -0,0 +1,16 @@
+package com.example.crudboard.post.repository;
+
+import com.example.crudboard.post.Post;
+import com.example.crudboard.post.dto.PostResponse;
+import java.util.stream.Stream;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+public interface PostRepositoryCustom {
+
+    /**
+     * 조건에 맞는 글을 PostResponse로 바로 프로젝션해서 커서(Stream)로 돌려준다.
+     * 엔티티/List를 만들지 않으므로, 트랜잭션 안에서 소비하고 반드시 닫아야 한다.
+     */
+    Stream<PostResponse> streamResponses(Specification<Post> spec, Sort sort, long offset, int limit);
+}
@@ -0,0 +1,53 @@
+package com.example.crudboard.post.repository;
+
+import com.example.crudboard.post.Post;
+import com.example.crudboard.post.dto.PostResponse;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+public class PostRepositoryCustomImpl implements PostRepositoryCustom {
+
+    // JDBC 드라이버가 결과를 한 번에 다 올리지 않고 나눠서 가져오도록
+    private static final int FETCH_SIZE = 500;
+
+    private final EntityManager em;
+
+    public PostRepositoryCustomImpl(EntityManager em) {
+        this.em = em;
+    }
+
+    @Override
+    public Stream<PostResponse> streamResponses(Specification<Post> spec, Sort sort, long offset, int limit) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<PostResponse> query = cb.createQuery(PostResponse.class);
+        Root<Post> root = query.from(Post.class);
+
+        query.select(cb.construct(PostResponse.class,
+                root.get("id"),
+                root.get("title"),
+                root.get("content"),
+                root.get("createdAt"),
+                root.get("updatedAt")));
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(sort, root, cb));
+
+        return em.createQuery(query)
+                .setFirstResult(Math.toIntExact(offset))
+                .setMaxResults(limit)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+}
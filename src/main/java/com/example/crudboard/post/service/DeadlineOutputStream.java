@@ -0,0 +1,46 @@
+package com.example.crudboard.post.service;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * 만든 시점부터 timeoutMillis가 지나면 다음 write/flush에서 IOException을 던진다.
+ * 느린 클라이언트 때문에 트랜잭션(커넥션)을 잡은 스트리밍 응답이 끝없이 길어지지 않도록 한다.
+ * (이미 막혀 있는 write 한 번은 깨우지 못한다)
+ */
+final class DeadlineOutputStream extends FilterOutputStream {
+
+    private final long deadline;
+    private final long timeoutMillis;
+
+    DeadlineOutputStream(OutputStream out, long timeoutMillis) {
+        super(out);
+        this.timeoutMillis = timeoutMillis;
+        this.deadline = System.nanoTime() + timeoutMillis * 1_000_000;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        checkDeadline();
+        out.write(b);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        checkDeadline();
+        out.write(b, off, len);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        checkDeadline();
+        out.flush();
+    }
+
+    private void checkDeadline() throws IOException {
+        if (System.nanoTime() - deadline > 0) {
+            throw new IOException("streaming response exceeded write timeout of " + timeoutMillis + "ms");
+        }
+    }
+}
@@ -3,9 +3,14 @@ package com.example.crudboard.post.service;
 import com.example.crudboard.global.error.ApiException;
 import com.example.crudboard.global.error.ErrorCode;
 import com.example.crudboard.post.Post;
+import com.example.crudboard.post.archive.PostArchiveService;
 import com.example.crudboard.post.repository.PostRepository;
 import com.example.crudboard.post.dto.PostCreateRequest;
 import com.example.crudboard.post.dto.PostUpdateRequest;
+import com.example.crudboard.post.event.PostChangedEvent;
+import com.example.crudboard.post.event.PostChangedEvent.Type;
+import java.time.LocalDateTime;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -14,26 +19,40 @@ import org.springframework.transaction.annotation.Transactional;
 public class PostCommandService {
 
     private final PostRepository postRepository;
+    private final PostArchiveService archiveService;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public PostCommandService(PostRepository postRepository) {
+    public PostCommandService(PostRepository postRepository, PostArchiveService archiveService,
+                              ApplicationEventPublisher eventPublisher) {
         this.postRepository = postRepository;
+        this.archiveService = archiveService;
+        this.eventPublisher = eventPublisher;
     }
 
     public Long create(PostCreateRequest request) {
-        Post post = new Post(request.title(), request.content());
-        return postRepository.save(post).getId();
+        Post post = new Post(request.title(), request.content(), request.boardIdOrDefault());
+        Long id = postRepository.save(post).getId();
+        eventPublisher.publishEvent(new PostChangedEvent(id, Type.CREATED));
+        return id;
     }
 
     public void update(Long id, PostUpdateRequest request) {
         Post post = postRepository.findById(id)
                 .orElseThrow(() -> new ApiException(ErrorCode.POST_NOT_FOUND));
+        boolean wasArchived = post.isArchived();
         post.update(request.title(), request.content());
+        if (wasArchived) {
+            archiveService.discard(id);
+        }
+        eventPublisher.publishEvent(new PostChangedEvent(id, Type.UPDATED));
     }
 
+    // 소프트 삭제만 하고, 댓글과 글 행은 PostPurgeService가 짧은 트랜잭션으로 나눠서 지운다.
+    // (댓글이 많은 글을 한 트랜잭션에서 cascade로 지우면 그동안 다른 쓰기가 막힌다)
     public void delete(Long id) {
-        if (!postRepository.existsById(id)) {
-            throw new ApiException(ErrorCode.POST_NOT_FOUND);
-        }
-        postRepository.deleteById(id);
+        Post post = postRepository.findById(id)
+                .orElseThrow(() -> new ApiException(ErrorCode.POST_NOT_FOUND));
+        post.softDelete(LocalDateTime.now());
+        eventPublisher.publishEvent(new PostChangedEvent(id, Type.DELETED));
     }
 }
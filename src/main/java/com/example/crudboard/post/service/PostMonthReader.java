@@ -0,0 +1,59 @@
+package com.example.crudboard.post.service;
+
+import com.example.crudboard.global.shard.SortedMerge;
+import com.example.crudboard.post.Post;
+import com.example.crudboard.post.PostSearchCondition;
+import com.example.crudboard.post.PostSpecifications;
+import com.example.crudboard.post.dto.PostResponse;
+import com.example.crudboard.post.partition.PostPartitionRouter;
+import com.example.crudboard.post.repository.PostRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+/**
+ * PostPartitionRouter가 고른 월마다 같은 조건 + created_month = 월로 읽어서 작성일 순서로 합친다.
+ *
+ * - 월은 정렬 순서대로 읽고, 앞쪽 offset + size건이 모이면 남은 월은 읽지 않는다.
+ * - 월마다 (created_month, created_at) 인덱스 범위만 읽는다.
+ * - 트랜잭션 안에서 호출한다. (PostQueryService/PostStreamService의 목록 트랜잭션)
+ */
+@Component
+class PostMonthReader {
+
+    private final PostRepository postRepository;
+    private final PostPartitionRouter partitionRouter;
+
+    PostMonthReader(PostRepository postRepository, PostPartitionRouter partitionRouter) {
+        this.postRepository = postRepository;
+        this.partitionRouter = partitionRouter;
+    }
+
+    List<PostResponse> read(PostSearchCondition condition, Specification<Post> spec, Sort sort, long offset, int size) {
+        List<Integer> months = partitionRouter.months(condition, sort);
+        if (months == null) {
+            try (Stream<PostResponse> rows = postRepository.streamResponses(spec, sort, offset, size)) {
+                return rows.toList();
+            }
+        }
+
+        long needed = offset + size;
+        long read = 0;
+        List<List<PostResponse>> perMonth = new ArrayList<>();
+        for (int month : months) {
+            if (read >= needed) {
+                break;
+            }
+            try (Stream<PostResponse> rows = postRepository.streamResponses(
+                    spec.and(PostSpecifications.inMonth(month)), sort, 0, (int) (needed - read))) {
+                List<PostResponse> monthRows = rows.toList();
+                perMonth.add(monthRows);
+                read += monthRows.size();
+            }
+        }
+        return SortedMerge.merge(perMonth, PostResponseOrder.of(sort), offset, size);
+    }
+}
@@ -1,34 +1,80 @@
 package com.example.crudboard.post.service;
 
+import com.example.crudboard.global.db.PagingExecutor;
 import com.example.crudboard.global.error.ApiException;
 import com.example.crudboard.global.error.ErrorCode;
 import com.example.crudboard.global.dto.PageResponse;
-import com.example.crudboard.post.Post;
+import com.example.crudboard.global.shard.ShardContext;
+import com.example.crudboard.global.shard.ShardFanOut;
+import com.example.crudboard.global.shard.ShardRouter;
+import com.example.crudboard.global.shard.SortedMerge;
 import com.example.crudboard.post.PostSearchCondition;
 import com.example.crudboard.post.PostSpecifications;
+import com.example.crudboard.post.archive.PostArchiveService;
+import com.example.crudboard.post.partition.PostPartitionRouter;
 import com.example.crudboard.post.repository.PostRepository;
 import com.example.crudboard.post.dto.PostResponse;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @Transactional(readOnly = true)
 public class PostQueryService {
 
-    private static final int MAX_SIZE = 50;
+    static final int MAX_SIZE = 50;
 
     private final PostRepository postRepository;
+    private final PostArchiveService archiveService;
+    private final ShardRouter shardRouter;
+    private final ShardFanOut shardFanOut;
+    private final PagingExecutor pagingExecutor;
+    private final PostPartitionRouter partitionRouter;
+    private final PostMonthReader monthReader;
+    private final int fanOutMaxRows;
 
-    public PostQueryService(PostRepository postRepository) {
+    public PostQueryService(PostRepository postRepository, PostArchiveService archiveService,
+                            ShardRouter shardRouter, ShardFanOut shardFanOut,
+                            PagingExecutor pagingExecutor, PostPartitionRouter partitionRouter,
+                            PostMonthReader monthReader,
+                            @Value("${app.shards.fan-out-max-rows:1000}") int fanOutMaxRows) {
         this.postRepository = postRepository;
+        this.archiveService = archiveService;
+        this.shardRouter = shardRouter;
+        this.shardFanOut = shardFanOut;
+        this.pagingExecutor = pagingExecutor;
+        this.partitionRouter = partitionRouter;
+        this.monthReader = monthReader;
+        this.fanOutMaxRows = fanOutMaxRows;
     }
 
     public PostResponse get(Long id) {
-        Post post = postRepository.findById(id)
+        return find(id).orElseThrow(() -> new ApiException(ErrorCode.POST_NOT_FOUND));
+    }
+
+    // 응답 JSON 캐시(PostJsonCache)의 버전. 글이 수정되면 updatedAt이 바뀐다.
+    public String version(Long id) {
+        return postRepository.findUpdatedAtById(id)
+                .map(LocalDateTime::toString)
                 .orElseThrow(() -> new ApiException(ErrorCode.POST_NOT_FOUND));
-        return PostResponse.from(post);
+    }
+
+    // 화면(SSR)처럼 없는 글을 예외 대신 빈 값으로 다루고 싶을 때 사용
+    // 본문이 보관(archived)된 글은 보관 계층에서 본문을 읽어 채운다.
+    public Optional<PostResponse> find(Long id) {
+        long started = System.nanoTime();
+        return postRepository.findById(id).map(post -> archiveService.toResponse(post, started));
     }
 
 //    public PageResponse<PostResponse> list(String keyword, Pageable pageable) {
@@ -44,13 +90,94 @@ public class PostQueryService {
 //        return PageResponse.from(page);
 //    }
 
+    /*
+    게시판을 지정하지 않은 검색은 샤딩 중이면 모든 샤드를 읽는다. (ShardFanOut)
+    목록/count 쿼리는 PagingExecutor가 각자 읽기 전용 트랜잭션으로 동시에 실행하므로 이 메서드는 트랜잭션을 시작하지 않는다. (SUPPORTS)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public PageResponse<PostResponse> list(PostSearchCondition condition, Pageable pageable) {
         int size = Math.min(pageable.getPageSize(), MAX_SIZE);
+        checkOffset(pageable.getPageNumber(), size);
         Pageable safePageable = PageRequest.of(pageable.getPageNumber(), size, pageable.getSort());
+        if (shardRouter.fansOut(condition)) {
+            return fanOut(condition, safePageable);
+        }
+        return ShardContext.call(shardRouter.shardOf(condition), () -> findPage(condition, safePageable));
+    }
+
+    // JPA의 offset(setFirstResult)은 int라서 page * size가 int를 넘는 페이지는 쿼리 전에 거절한다. (500 대신 400)
+    static long checkOffset(int pageNumber, int size) {
+        long offset = (long) pageNumber * size;
+        if (offset + size > Integer.MAX_VALUE) {
+            throw new ApiException(ErrorCode.VALIDATION_ERROR, "페이지 번호가 너무 큽니다. page=" + pageNumber);
+        }
+        return offset;
+    }
+
+    /*
+    scatter-gather: 샤드마다 같은 정렬로 앞쪽 (page + 1) * size건을 동시에 읽고, k-way merge로 offset ~ offset + size만 꺼낸다.
+    동점이면 샤드 안 순서와 합친 순서가 같도록 id를 마지막 정렬 기준으로 붙인다.
+    깊은 페이지는 샤드마다 읽는 양이 늘어나므로 fan-out-max-rows까지만 허용한다.
+     */
+    private PageResponse<PostResponse> fanOut(PostSearchCondition condition, Pageable pageable) {
+        long offset = pageable.getOffset();
+        int size = pageable.getPageSize();
+        if (offset + size > fanOutMaxRows) {
+            throw new ApiException(ErrorCode.VALIDATION_ERROR,
+                    "게시판을 지정하지 않은 검색은 앞쪽 " + fanOutMaxRows + "건까지만 볼 수 있습니다.");
+        }
+        Sort sort = withIdTieBreak(pageable.getSort());
+        Comparator<PostResponse> order = PostResponseOrder.of(sort);
+        Pageable head = PageRequest.of(0, (int) (offset + size), sort);
+
+        List<PageResponse<PostResponse>> pages = shardFanOut.query(shard -> findPage(condition, head));
+
+        List<PostResponse> content = SortedMerge.merge(pages.stream().map(PageResponse::content).toList(), order, offset, size);
+        long total = pages.stream().mapToLong(PageResponse::totalElements).sum();
+        return PageResponse.from(new PageImpl<>(content, pageable, total));
+    }
+
+    // 목록은 DTO로 바로 읽고, count는 PagingExecutor가 다른 커넥션에서 동시에 실행한다. (꽉 차지 않은 페이지면 취소)
+    // 작성일 범위 + 작성일 순이면 겹치는 월만 나눠 읽는다. (PostPartitionRouter)
+    private PageResponse<PostResponse> findPage(PostSearchCondition condition, Pageable pageable) {
         var spec = PostSpecifications.byCondition(condition);
-        var page = postRepository.findAll(spec, safePageable)
-                .map(PostResponse::from);
+        Sort sort = pageable.getSort();
+        long offset = pageable.getOffset();
+        int size = pageable.getPageSize();
+        boolean byMonth = partitionRouter.routes(condition, sort, offset, size);
+        return pagingExecutor.page(pageable, () -> {
+            if (byMonth) {
+                return withArchivedContents(monthReader.read(condition, spec, sort, offset, size));
+            }
+            try (Stream<PostResponse> rows = postRepository.streamResponses(spec, sort, offset, size)) {
+                return withArchivedContents(rows.toList());
+            }
+        }, () -> postRepository.count(spec));
+    }
+
+    // 보관된 글은 posts.content가 비어 있다. (작성/수정 본문은 @NotBlank라 그 외에는 비어 있을 수 없다)
+    // 페이지 안의 보관 글 본문은 쿼리 한 번으로 읽는다.
+    private List<PostResponse> withArchivedContents(List<PostResponse> posts) {
+        List<Long> archivedIds = posts.stream()
+                .filter(post -> post.content().isEmpty())
+                .map(PostResponse::id)
+                .toList();
+        if (archivedIds.isEmpty()) {
+            return posts;
+        }
+        Map<Long, String> contents = archiveService.contents(archivedIds, true);
+        return posts.stream()
+                .map(post -> post.content().isEmpty()
+                        ? new PostResponse(post.id(), post.title(), contents.get(post.id()), post.createdAt(), post.updatedAt())
+                        : post)
+                .toList();
+    }
 
-        return PageResponse.from(page);
+    private static Sort withIdTieBreak(Sort sort) {
+        if (sort.getOrderFor("id") != null) {
+            return sort;
+        }
+        Sort.Direction direction = sort.stream().findFirst().map(Sort.Order::getDirection).orElse(Sort.Direction.DESC);
+        return sort.and(Sort.by(direction, "id"));
     }
 }
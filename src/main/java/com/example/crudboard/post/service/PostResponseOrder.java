@@ -0,0 +1,42 @@
+package com.example.crudboard.post.service;
+
+import com.example.crudboard.global.error.ApiException;
+import com.example.crudboard.global.error.ErrorCode;
+import com.example.crudboard.post.dto.PostResponse;
+import java.util.Comparator;
+import java.util.function.Function;
+import org.springframework.data.domain.Sort;
+
+/**
+ * 목록 정렬(Sort)을 PostResponse 비교자로 바꾼다. 샤드별 결과를 DB와 같은 순서로 합칠 때 쓴다. (PostQueryService)
+ * title은 Java 문자열 순서로 비교하므로 DB 콜레이션이 다르면 동점 근처 순서가 달라질 수 있다.
+ */
+final class PostResponseOrder {
+
+    private PostResponseOrder() {
+    }
+
+    @SuppressWarnings("unchecked")
+    static Comparator<PostResponse> of(Sort sort) {
+        Comparator<PostResponse> order = null;
+        for (Sort.Order sortOrder : sort) {
+            Comparator<PostResponse> next = Comparator.comparing(key(sortOrder.getProperty()));
+            if (sortOrder.isDescending()) {
+                next = next.reversed();
+            }
+            order = order == null ? next : order.thenComparing(next);
+        }
+        return order != null ? order : (a, b) -> 0;
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static Function<PostResponse, Comparable> key(String property) {
+        return switch (property) {
+            case "id" -> PostResponse::id;
+            case "title" -> PostResponse::title;
+            case "createdAt" -> PostResponse::createdAt;
+            case "updatedAt" -> PostResponse::updatedAt;
+            default -> throw new ApiException(ErrorCode.VALIDATION_ERROR, "정렬할 수 없는 항목입니다: " + property);
+        };
+    }
+}
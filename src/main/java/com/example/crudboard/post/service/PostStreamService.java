@@ -0,0 +1,178 @@
+package com.example.crudboard.post.service;
+
+import com.example.crudboard.global.db.PagingExecutor;
+import com.example.crudboard.global.db.PagingExecutor.PendingCount;
+import com.example.crudboard.post.Post;
+import com.example.crudboard.post.PostSearchCondition;
+import com.example.crudboard.post.PostSpecifications;
+import com.example.crudboard.post.archive.PostArchiveService;
+import com.example.crudboard.post.dto.PostResponse;
+import com.example.crudboard.post.partition.PostPartitionRouter;
+import com.example.crudboard.post.repository.PostRepository;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * 게시글 목록을 JSON으로 바로 스트리밍한다.
+ * 쿼리 결과(커서)의 각 행을 JsonGenerator로 곧장 쓰기 때문에 Page/List/PageResponse를 만들지 않는다.
+ *
+ * 응답 모양은 PageResponse<PostResponse>(목록), PostResponse 배열(내보내기)과 같다.
+ * 쓰는 동안 커서가 열려 있어야 하므로 트랜잭션 안에서 출력까지 끝낸다.
+ *
+ * 목록의 count 쿼리는 PagingExecutor로 목록 스트리밍과 동시에 다른 커넥션에서 실행한다.
+ *
+ * 그래서 클라이언트가 느리게 읽으면 그동안 풀 커넥션 하나를 잡고 있다.
+ * - 내보내기는 max-rows로 행 수를, write-timeout-millis로 쓰는 시간을 제한한다. 시간을 넘기면 응답을 끊고 커넥션을 돌려준다.
+ * - 목록은 최대 50행이라 대부분 응답 버퍼 안에서 끝나지만 같은 시간 제한을 건다.
+ * - 한 번의 write가 막힌 경우는 컨테이너의 소켓 쓰기 타임아웃(Tomcat connection-timeout)이 끊는다.
+ */
+@Service
+@Transactional(readOnly = true)
+public class PostStreamService {
+
+    // 보관 글 본문을 한 번에 읽는 행 수
+    private static final int ARCHIVE_CHUNK = 100;
+
+    private final PostRepository postRepository;
+    private final PostArchiveService archiveService;
+    private final JsonMapper jsonMapper;
+    private final PagingExecutor pagingExecutor;
+    private final PostPartitionRouter partitionRouter;
+    private final PostMonthReader monthReader;
+    private final TransactionTemplate readOnly;
+    private final int exportMaxRows;
+    private final long writeTimeoutMillis;
+
+    public PostStreamService(PostRepository postRepository, PostArchiveService archiveService, JsonMapper jsonMapper,
+                             PagingExecutor pagingExecutor, PostPartitionRouter partitionRouter,
+                             PostMonthReader monthReader, PlatformTransactionManager transactionManager,
+                             @Value("${app.posts.export.max-rows:10000}") int exportMaxRows,
+                             @Value("${app.posts.export.write-timeout-millis:30000}") long writeTimeoutMillis) {
+        this.postRepository = postRepository;
+        this.archiveService = archiveService;
+        this.jsonMapper = jsonMapper;
+        this.pagingExecutor = pagingExecutor;
+        this.partitionRouter = partitionRouter;
+        this.monthReader = monthReader;
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+        this.exportMaxRows = exportMaxRows;
+        this.writeTimeoutMillis = writeTimeoutMillis;
+    }
+
+    /*
+    count는 스트리밍 트랜잭션을 열기 전에 띄워야 다른 커넥션에서 동시에 돈다.
+    그래서 이 메서드는 트랜잭션을 시작하지 않고(SUPPORTS), 목록 스트리밍만 읽기 전용 트랜잭션으로 감싼다.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public void writePage(PostSearchCondition condition, Pageable pageable, OutputStream out) {
+        int size = Math.min(pageable.getPageSize(), PostQueryService.MAX_SIZE);
+        int pageNumber = pageable.getPageNumber();
+        long offset = PostQueryService.checkOffset(pageNumber, size);
+        Specification<Post> spec = PostSpecifications.byCondition(condition);
+
+        PendingCount total = pagingExecutor.startCount(() -> postRepository.count(spec));
+        try {
+            readOnly.executeWithoutResult(status ->
+                    streamPage(condition, spec, pageable.getSort(), pageNumber, size, offset, total, out));
+        } finally {
+            // 목록을 읽다 실패했으면 count도 그만둔다. (이미 끝났으면 아무 일도 없다)
+            total.cancel();
+        }
+    }
+
+    // 작성일 범위 + 작성일 순이면 겹치는 월만 나눠 읽는다. (PostPartitionRouter, 최대 50행이라 목록으로 모은다)
+    private void streamPage(PostSearchCondition condition, Specification<Post> spec, Sort sort, int pageNumber,
+                            int size, long offset, PendingCount total, OutputStream out) {
+        try (Stream<PostResponse> rows = partitionRouter.routes(condition, sort, offset, size)
+                ? monthReader.read(condition, spec, sort, offset, size).stream()
+                : postRepository.streamResponses(spec, sort, offset, size);
+             JsonGenerator gen = jsonMapper.createGenerator(withDeadline(out))) {
+            gen.writeStartObject();
+            gen.writeName("content");
+            int count = writeRows(gen, rows, true);
+
+            long totalElements = total.resolve(offset, size, count);
+            int totalPages = (int) ((totalElements + size - 1) / size);
+            gen.writeNumberProperty("page", pageNumber);
+            gen.writeNumberProperty("size", size);
+            gen.writeNumberProperty("totalElements", totalElements);
+            gen.writeNumberProperty("totalPages", totalPages);
+            gen.writeBooleanProperty("first", pageNumber == 0);
+            gen.writeBooleanProperty("last", pageNumber + 1 >= totalPages);
+            gen.writeEndObject();
+        }
+    }
+
+    /**
+     * 조건에 맞는 글 전체(최대 app.posts.export.max-rows)를 배열로 내보낸다.
+     */
+    public void writeExport(PostSearchCondition condition, Sort sort, OutputStream out) {
+        Specification<Post> spec = PostSpecifications.byCondition(condition);
+        try (Stream<PostResponse> rows = postRepository.streamResponses(spec, sort, 0, exportMaxRows);
+             JsonGenerator gen = jsonMapper.createGenerator(withDeadline(out))) {
+            // 한 번 읽고 마는 대량 조회라 보관 본문 LRU를 거치지 않는다.
+            writeRows(gen, rows, false);
+        }
+    }
+
+    // 보관 글 본문은 ARCHIVE_CHUNK행마다 쿼리 한 번으로 읽는다.
+    private int writeRows(JsonGenerator gen, Stream<PostResponse> rows, boolean useArchiveCache) {
+        int count = 0;
+        gen.writeStartArray();
+        Iterator<PostResponse> it = rows.iterator();
+        List<PostResponse> chunk = new ArrayList<>(ARCHIVE_CHUNK);
+        while (it.hasNext()) {
+            chunk.add(it.next());
+            if (chunk.size() == ARCHIVE_CHUNK || !it.hasNext()) {
+                writeChunk(gen, chunk, useArchiveCache);
+                count += chunk.size();
+                chunk.clear();
+            }
+        }
+        gen.writeEndArray();
+        return count;
+    }
+
+    private void writeChunk(JsonGenerator gen, List<PostResponse> chunk, boolean useArchiveCache) {
+        // 보관된 글은 posts.content가 비어 있다. (작성/수정 본문은 @NotBlank라 그 외에는 비어 있을 수 없다)
+        List<Long> archivedIds = chunk.stream()
+                .filter(post -> post.content().isEmpty())
+                .map(PostResponse::id)
+                .toList();
+        Map<Long, String> archived = archivedIds.isEmpty()
+                ? Map.of()
+                : archiveService.contents(archivedIds, useArchiveCache);
+        for (PostResponse post : chunk) {
+            gen.writeStartObject();
+            gen.writeNumberProperty("id", post.id());
+            gen.writeStringProperty("title", post.title());
+            gen.writeStringProperty("content", post.content().isEmpty() ? archived.get(post.id()) : post.content());
+            // 날짜 포맷은 일반 응답과 같도록 매퍼 설정을 따른다.
+            gen.writeName("createdAt");
+            gen.writePOJO(post.createdAt());
+            gen.writeName("updatedAt");
+            gen.writePOJO(post.updatedAt());
+            gen.writeEndObject();
+        }
+    }
+
+    private OutputStream withDeadline(OutputStream out) {
+        return writeTimeoutMillis > 0 ? new DeadlineOutputStream(out, writeTimeoutMillis) : out;
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.crudboard.post.suggest;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.List;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "Posts", description = "게시글 CRUD API")
+@RestController
+@RequestMapping("/api/posts/suggest")
+public class PostSuggestController {
+
+    private final PostSuggestService postSuggestService;
+
+    public PostSuggestController(PostSuggestService postSuggestService) {
+        this.postSuggestService = postSuggestService;
+    }
+
+    @Operation(summary = "제목 자동완성 (앞부분 일치, 대소문자 무시, 인기순)",
+            description = "메모리 인덱스로 답하므로 DB를 조회하지 않는다. limit은 최대 20")
+    @GetMapping
+    public List<PostSuggestion> suggest(@RequestParam(defaultValue = "") String q,
+                                        @RequestParam(defaultValue = "10") int limit) {
+        return postSuggestService.suggest(q, limit);
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.crudboard.post.suggest;
+
+import com.example.crudboard.global.shard.ShardContext;
+import com.example.crudboard.global.shard.ShardRouter;
+import com.example.crudboard.post.event.PostChangedEvent;
+import com.example.crudboard.post.event.PostPartitionChangedEvent;
+import com.example.crudboard.post.hot.HotPostTracker;
+import com.example.crudboard.post.repository.PostRepository;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 제목 자동완성 (GET /api/posts/suggest). DB 대신 메모리의 접두어 인덱스로 답한다. (app.posts.suggest.*)
+ *
+ * - 전체 제목은 rebuild-millis마다 다시 읽어서 TitleSuggestIndex(불변)로 만든다.
+ * - 그 사이 생성/수정/삭제는 글 변경 이벤트로 overlay(정렬된 skip list)에 쌓고,
+ *   인덱스에 남은 옛 항목은 changed에 있는 id로 가린다.
+ * - 순위는 인기글 점수(HotPostTracker)이고, 같으면 최신 글이 먼저다.
+ */
+@Slf4j
+@Service
+public class PostSuggestService {
+
+    public static final int MAX_LIMIT = 20;
+    private static final int MAX_QUERY_LENGTH = 100;
+
+    private final PostRepository postRepository;
+    private final HotPostTracker hotPostTracker;
+    private final TransactionTemplate transactionTemplate;
+    private final ShardRouter shardRouter;
+
+    private volatile TitleSuggestIndex index = TitleSuggestIndex.EMPTY;
+
+    // 마지막 재구성 이후 바뀐 글 (id -> 변경 순번, 새 항목(삭제면 null))
+    private final Map<Long, Change> changed = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<TitleEntry, Long> overlay = new ConcurrentSkipListMap<>(TitleEntry.KEY_ORDER);
+    private final AtomicLong sequence = new AtomicLong();
+    // 쓰기(변경 반영/재구성 교체)끼리만 막는다. 읽기는 락 없음
+    private final Object writeLock = new Object();
+
+    public PostSuggestService(PostRepository postRepository, HotPostTracker hotPostTracker,
+                              TransactionTemplate transactionTemplate, ShardRouter shardRouter) {
+        this.postRepository = postRepository;
+        this.hotPostTracker = hotPostTracker;
+        this.transactionTemplate = transactionTemplate;
+        this.shardRouter = shardRouter;
+    }
+
+    public List<PostSuggestion> suggest(String query, int limit) {
+        String prefix = TitleEntry.normalize(query);
+        if (prefix.isEmpty() || prefix.length() > MAX_QUERY_LENGTH) {
+            return List.of();
+        }
+        int size = Math.min(Math.max(limit, 1), MAX_LIMIT);
+
+        List<TitleEntry> hits = new ArrayList<>(index.search(prefix, size, changed::containsKey));
+        for (TitleEntry entry : overlay.tailMap(TitleEntry.probe(prefix)).keySet()) {
+            if (!entry.key().startsWith(prefix)) {
+                break;
+            }
+            hits.add(entry);
+        }
+        hits.sort(TitleEntry.RANK);
+        return hits.stream()
+                .limit(size)
+                .map(entry -> new PostSuggestion(entry.id(), entry.title()))
+                .toList();
+    }
+
+    @TransactionalEventListener
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.type() == PostChangedEvent.Type.DELETED) {
+            apply(event.postId(), null);
+            return;
+        }
+        // 소프트 삭제된 글은 조회되지 않는다.
+        ShardContext.call(shardRouter.shardOfId(event.postId()), () -> postRepository.findById(event.postId())).ifPresentOrElse(
+                post -> apply(post.getId(), TitleEntry.of(post.getId(), post.getTitle(),
+                        hotPostTracker.currentScores().getOrDefault(post.getId(), 0.0))),
+                () -> apply(event.postId(), null));
+    }
+
+    // 분리된 글은 바로 빼고, 재연결된 글은 다음 rebuild에 다시 들어온다.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPartitionChanged(PostPartitionChangedEvent event) {
+        event.postIds().forEach(postId -> apply(postId, null));
+    }
+
+    /**
+     * 전체 제목을 다시 읽어 인덱스를 교체한다. 읽기 시작 전에 반영된 변경은 새 인덱스에 들어 있으므로 overlay에서 뺀다.
+     * 샤딩 중이면 샤드마다 차례로 읽어서 합친다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.posts.suggest.rebuild-millis:600000}",
+            initialDelayString = "${app.posts.suggest.rebuild-millis:600000}")
+    public void rebuild() {
+        long startedNanos = System.nanoTime();
+        long startedSequence = sequence.get();
+        Map<Long, Double> scores = hotPostTracker.currentScores();
+        List<TitleEntry> entries = new ArrayList<>();
+        shardRouter.forEachShard(shard -> transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<PostTitle> titles = postRepository.streamTitles()) {
+                titles.map(t -> TitleEntry.of(t.id(), t.title(), scores.getOrDefault(t.id(), 0.0)))
+                        .forEach(entries::add);
+            }
+        }));
+        TitleSuggestIndex rebuilt = TitleSuggestIndex.build(entries);
+
+        synchronized (writeLock) {
+            index = rebuilt;
+            Iterator<Change> it = changed.values().iterator();
+            while (it.hasNext()) {
+                Change change = it.next();
+                if (change.sequence() <= startedSequence) {
+                    it.remove();
+                    if (change.entry() != null) {
+                        overlay.remove(change.entry());
+                    }
+                }
+            }
+        }
+        log.info("post title suggest index rebuilt. titles={}, pending={}, tookMs={}",
+                rebuilt.size(), changed.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedNanos));
+    }
+
+    private void apply(Long postId, TitleEntry entry) {
+        synchronized (writeLock) {
+            Change previous = changed.put(postId, new Change(sequence.incrementAndGet(), entry));
+            if (previous != null && previous.entry() != null) {
+                overlay.remove(previous.entry());
+            }
+            if (entry != null) {
+                overlay.put(entry, postId);
+            }
+        }
+    }
+
+    private record Change(long sequence, TitleEntry entry) {
+    }
+}
@@ -0,0 +1,4 @@
+package com.example.crudboard.post.suggest;
+
+public record PostSuggestion(Long id, String title) {
+}
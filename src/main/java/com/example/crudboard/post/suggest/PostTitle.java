@@ -0,0 +1,4 @@
+package com.example.crudboard.post.suggest;
+
+public record PostTitle(Long id, String title) {
+}
@@ -0,0 +1,31 @@
+package com.example.crudboard.post.suggest;
+
+import java.util.Comparator;
+import java.util.Locale;
+
+/**
+ * 자동완성 항목. key는 비교용으로 정규화한 제목(소문자, 공백 하나로)이다.
+ */
+record TitleEntry(long id, String key, String title, double score) {
+
+    // 인덱스 정렬 순서: 키, 같으면 id
+    static final Comparator<TitleEntry> KEY_ORDER =
+            Comparator.comparing(TitleEntry::key).thenComparingLong(TitleEntry::id);
+
+    // 응답 순서: 점수 높은 순, 같으면 최신 글(id 큰 순)
+    static final Comparator<TitleEntry> RANK =
+            Comparator.comparingDouble(TitleEntry::score).thenComparingLong(TitleEntry::id).reversed();
+
+    static TitleEntry of(long id, String title, double score) {
+        return new TitleEntry(id, normalize(title), title, score);
+    }
+
+    // prefix로 시작하는 키들 중 가장 앞에 오는 위치를 찾기 위한 탐색용 값
+    static TitleEntry probe(String prefix) {
+        return new TitleEntry(Long.MIN_VALUE, prefix, null, 0);
+    }
+
+    static String normalize(String text) {
+        return text.strip().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+}
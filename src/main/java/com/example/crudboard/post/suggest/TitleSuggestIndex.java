@@ -0,0 +1,152 @@
+package com.example.crudboard.post.suggest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.LongPredicate;
+
+/**
+ * 정규화한 제목을 정렬해 둔 배열 + 구간 최댓값 세그먼트 트리. 만든 뒤에는 바뀌지 않는다.
+ *
+ * - 같은 접두어로 시작하는 제목은 정렬 배열에서 연속 구간이라 이진 탐색 두 번으로 찾는다.
+ * - 그 구간 안에서 점수 상위 N개는 세그먼트 트리(노드마다 구간 최고 항목의 인덱스)를 위에서부터 펼쳐서 꺼낸다.
+ *   구간 크기와 상관없이 O(N log n)이라 흔한 한 글자 접두어도 구간 전체를 훑지 않는다.
+ * - 객체 대신 배열(String[]/long[]/double[]/int[])로만 들고 있어서 100만 건이어도 제목 문자열 외에는 수십 MB 수준이다.
+ */
+final class TitleSuggestIndex {
+
+    static final TitleSuggestIndex EMPTY = build(List.of());
+
+    private final String[] keys;
+    private final String[] titles;
+    private final long[] ids;
+    private final double[] scores;
+    // 리프는 leafBase + i, 노드 값은 그 구간에서 순위가 가장 높은 항목의 인덱스 (-1 = 비어 있음)
+    private final int leafBase;
+    private final int[] tree;
+
+    private TitleSuggestIndex(String[] keys, String[] titles, long[] ids, double[] scores) {
+        this.keys = keys;
+        this.titles = titles;
+        this.ids = ids;
+        this.scores = scores;
+        int base = 1;
+        while (base < keys.length) {
+            base <<= 1;
+        }
+        this.leafBase = base;
+        this.tree = new int[base * 2];
+        Arrays.fill(tree, -1);
+        for (int i = 0; i < keys.length; i++) {
+            tree[base + i] = i;
+        }
+        for (int node = base - 1; node >= 1; node--) {
+            tree[node] = better(tree[node * 2], tree[node * 2 + 1]);
+        }
+    }
+
+    static TitleSuggestIndex build(List<TitleEntry> entries) {
+        TitleEntry[] sorted = entries.toArray(TitleEntry[]::new);
+        Arrays.sort(sorted, TitleEntry.KEY_ORDER);
+        String[] keys = new String[sorted.length];
+        String[] titles = new String[sorted.length];
+        long[] ids = new long[sorted.length];
+        double[] scores = new double[sorted.length];
+        for (int i = 0; i < sorted.length; i++) {
+            keys[i] = sorted[i].key();
+            titles[i] = sorted[i].title();
+            ids[i] = sorted[i].id();
+            scores[i] = sorted[i].score();
+        }
+        return new TitleSuggestIndex(keys, titles, ids, scores);
+    }
+
+    int size() {
+        return keys.length;
+    }
+
+    /**
+     * 키가 prefix로 시작하는 항목 중 skip에 걸리지 않는 것을 순위 순으로 최대 limit개
+     */
+    List<TitleEntry> search(String prefix, int limit, LongPredicate skip) {
+        List<TitleEntry> result = new ArrayList<>(limit);
+        int lo = lowerBound(prefix);
+        int hi = prefixEnd(prefix, lo);
+        if (lo >= hi) {
+            return result;
+        }
+
+        PriorityQueue<Integer> nodes = new PriorityQueue<>((a, b) -> compareRank(tree[b], tree[a]));
+        // [lo, hi)를 덮는 트리 노드들부터 시작
+        for (int l = lo + leafBase, r = hi + leafBase; l < r; l >>= 1, r >>= 1) {
+            if ((l & 1) == 1) {
+                nodes.add(l++);
+            }
+            if ((r & 1) == 1) {
+                nodes.add(--r);
+            }
+        }
+        while (!nodes.isEmpty() && result.size() < limit) {
+            int node = nodes.poll();
+            if (node >= leafBase) {
+                int i = node - leafBase;
+                if (!skip.test(ids[i])) {
+                    result.add(new TitleEntry(ids[i], keys[i], titles[i], scores[i]));
+                }
+                continue;
+            }
+            for (int child = node * 2; child <= node * 2 + 1; child++) {
+                if (tree[child] >= 0) {
+                    nodes.add(child);
+                }
+            }
+        }
+        return result;
+    }
+
+    // keys[i] >= prefix 인 첫 위치
+    private int lowerBound(String prefix) {
+        int lo = 0;
+        int hi = keys.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (keys[mid].compareTo(prefix) < 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    // from부터 prefix로 시작하는 키가 끝나는 위치
+    private int prefixEnd(String prefix, int from) {
+        int lo = from;
+        int hi = keys.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (keys[mid].startsWith(prefix)) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private int better(int i, int j) {
+        if (i < 0) {
+            return j;
+        }
+        if (j < 0) {
+            return i;
+        }
+        return compareRank(i, j) >= 0 ? i : j;
+    }
+
+    private int compareRank(int i, int j) {
+        int byScore = Double.compare(scores[i], scores[j]);
+        return byScore != 0 ? byScore : Long.compare(ids[i], ids[j]);
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.crudboard.stream;
+
+/**
+ * 변경 피드(SSE)로 내보내는 이벤트 한 건.
+ * sequence는 전체 피드에서 단조 증가하는 번호이고, SSE id(Last-Event-ID)로 쓰인다.
+ *
+ * @param topic "posts" 또는 "post:{postId}:comments"
+ * @param type  CREATED / UPDATED / DELETED
+ */
+public record ChangeEvent(long sequence, String topic, String type, Long postId, Long commentId) {
+
+    public static final String POSTS_TOPIC = "posts";
+
+    public static String commentsTopic(Long postId) {
+        return "post:" + postId + ":comments";
+    }
+}
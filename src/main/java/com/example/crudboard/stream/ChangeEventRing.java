@@ -0,0 +1,229 @@
+package com.example.crudboard.stream;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 최근 변경 이벤트를 담는 고정 크기 링 버퍼.
+ *
+ * - 쓰기: 번호를 매겨 슬롯에 덮어쓰기만 한다. 구독자(느린 클라이언트)를 기다리지 않는다.
+ * - 읽기: 구독자마다 자기 커서(마지막으로 받은 번호)를 들고 락 없이 읽는다.
+ *   커서가 용량보다 뒤처져서 이미 덮어써진 구간이 있으면 missed=true로 알려주고 가장 오래된 이벤트부터 다시 따라간다.
+ *
+ * 구독자 대기는 토픽 단위다. 발행하면 그 토픽을 기다리는 가상 스레드만 unpark하고, 다른 토픽 구독자는 깨우지 않는다.
+ * (synchronized wait는 가상 스레드를 캐리어에 고정시키므로 LockSupport를 쓴다)
+ * 그래서 조용한 토픽의 구독자는 커서가 뒤처질 수 있는데, 슬롯마다 같은 토픽의 직전 번호를 같이 저장해 두고
+ * 덮어써진 구간에 자기 토픽 이벤트가 있었을 때만 missed로 판단한다.
+ */
+@Component
+public class ChangeEventRing {
+
+    private final int capacity;
+    private final AtomicReferenceArray<Slot> slots;
+    // 마지막으로 발행된 번호 (1부터 시작, 0이면 아직 없음)
+    private final AtomicLong lastSequence = new AtomicLong();
+
+    // 발행(번호 매기기)과 토픽 등록/해제만 잡는다. 구독자는 이 락을 잡지 않는다.
+    private final ReentrantLock publishLock = new ReentrantLock();
+    // 구독 중인 토픽만 담는다. 구독자가 없는 토픽은 상태를 두지 않는다.
+    private final ConcurrentHashMap<String, TopicState> topics = new ConcurrentHashMap<>();
+
+    public ChangeEventRing(@Value("${app.stream.buffer-size:4096}") int capacity) {
+        this.capacity = capacity;
+        this.slots = new AtomicReferenceArray<>(capacity);
+    }
+
+    public ChangeEvent publish(String topic, String type, Long postId, Long commentId) {
+        TopicState state;
+        ChangeEvent event;
+        publishLock.lock();
+        try {
+            long sequence = lastSequence.get() + 1;
+            state = topics.get(topic);
+            event = new ChangeEvent(sequence, topic, type, postId, commentId);
+            slots.set(index(sequence), new Slot(event, state != null ? state.last : 0));
+            lastSequence.set(sequence);
+            if (state != null) {
+                // lastSequence 다음에 쓴다. 읽는 쪽은 토픽 번호를 먼저 읽으므로 토픽 번호 <= lastSequence가 보장된다.
+                state.last = sequence;
+            }
+        } finally {
+            publishLock.unlock();
+        }
+        if (state != null) {
+            for (Thread waiter : state.waiters) {
+                LockSupport.unpark(waiter);
+            }
+        }
+        return event;
+    }
+
+    public long lastSequence() {
+        return lastSequence.get();
+    }
+
+    /**
+     * 토픽 구독을 시작한다. readAfter(topic, ..)/awaitAfter 전에 부르고, 끝나면 unregister를 부른다.
+     */
+    public void register(String topic) {
+        publishLock.lock();
+        try {
+            TopicState state = topics.get(topic);
+            if (state == null) {
+                state = new TopicState();
+                // 구독자가 없던 동안의 이벤트는 모르므로 지금까지 전부 이 토픽이었을 수 있다고 본다. (놓침 판단이 보수적으로 된다)
+                state.last = lastSequence.get();
+                topics.put(topic, state);
+            }
+            state.subscribers++;
+        } finally {
+            publishLock.unlock();
+        }
+    }
+
+    public void unregister(String topic) {
+        publishLock.lock();
+        try {
+            TopicState state = topics.get(topic);
+            if (state != null && --state.subscribers == 0) {
+                topics.remove(topic);
+            }
+        } finally {
+            publishLock.unlock();
+        }
+    }
+
+    /**
+     * cursor 다음 번호부터 최대 max개를 읽는다.
+     */
+    public Batch readAfter(long cursor, int max) {
+        long last = lastSequence.get();
+        long oldest = Math.max(1, last - capacity + 1);
+        long next = cursor + 1;
+        boolean missed = false;
+        if (next < oldest) {
+            missed = true;
+            next = oldest;
+        }
+
+        List<ChangeEvent> events = new ArrayList<>(Math.min(max, (int) Math.max(0, last - next + 1)));
+        while (next <= last && events.size() < max) {
+            Slot slot = slots.get(index(next));
+            if (slot == null || slot.event().sequence() != next) {
+                // 읽는 도중 덮어써졌다 -> 다음 읽기에서 가장 오래된 이벤트부터 다시 따라간다.
+                return new Batch(events, next - 1, true);
+            }
+            events.add(slot.event());
+            next++;
+        }
+        return new Batch(events, next - 1, missed);
+    }
+
+    /**
+     * cursor 다음 번호부터 topic 이벤트만 최대 max개를 읽는다. (register한 토픽)
+     * 다른 토픽 이벤트는 건너뛰고 커서만 넘긴다. 덮어써진 구간에 이 토픽 이벤트가 있었을 때만 missed=true다.
+     */
+    public Batch readAfter(String topic, long cursor, int max) {
+        TopicState state = topics.get(topic);
+        // 토픽 번호를 lastSequence보다 먼저 읽는다. (topicLast <= last)
+        long topicLast = state != null ? state.last : lastSequence.get();
+        long last = lastSequence.get();
+        long oldest = Math.max(1, last - capacity + 1);
+        long next = cursor + 1;
+        // 덮어써진 구간이 없으면 놓친 것도 없다.
+        boolean checked = next >= oldest;
+        boolean missed = false;
+        if (!checked) {
+            next = oldest;
+        }
+
+        List<ChangeEvent> events = new ArrayList<>();
+        while (next <= last && events.size() < max) {
+            Slot slot = slots.get(index(next));
+            if (slot == null || slot.event().sequence() != next) {
+                // 읽는 도중 덮어써졌다. 놓쳤는지 아직 모르면 커서를 그대로 두고 다음 읽기에서 다시 판단한다.
+                return checked ? new Batch(events, next - 1, missed) : new Batch(events, cursor, false);
+            }
+            if (slot.event().topic().equals(topic)) {
+                if (!checked) {
+                    // 창 안의 첫 이벤트가 가리키는 직전 이벤트가 커서 뒤라면 그건 덮어써진 구간에 있었다.
+                    missed = slot.previousInTopic() > cursor;
+                    checked = true;
+                }
+                events.add(slot.event());
+            }
+            next++;
+        }
+        if (!checked) {
+            // 창 안에 이 토픽 이벤트가 하나도 없는데 마지막 번호가 커서 뒤다 -> 덮어써진 구간에 있었다.
+            missed = topicLast > cursor;
+        }
+        return new Batch(events, next - 1, missed);
+    }
+
+    /**
+     * cursor 이후 topic 이벤트가 발행될 때까지 최대 timeoutMillis 기다린다. (register한 토픽)
+     * 구독을 끝낼 때는 기다리는 스레드를 interrupt한다.
+     *
+     * @return 새 이벤트가 있으면 true
+     */
+    public boolean awaitAfter(String topic, long cursor, long timeoutMillis) throws InterruptedException {
+        TopicState state = topics.get(topic);
+        if (state == null) {
+            throw new IllegalStateException("not registered: " + topic);
+        }
+        Thread current = Thread.currentThread();
+        // 등록한 다음에 번호를 확인해야 그 사이 발행된 unpark를 놓치지 않는다.
+        state.waiters.add(current);
+        try {
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+            while (state.last <= cursor) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                LockSupport.parkNanos(this, remaining);
+                if (Thread.interrupted()) {
+                    throw new InterruptedException();
+                }
+            }
+            return true;
+        } finally {
+            state.waiters.remove(current);
+        }
+    }
+
+    private int index(long sequence) {
+        return (int) (sequence % capacity);
+    }
+
+    /**
+     * @param previousInTopic 발행 시점에 같은 토픽의 직전 번호 (구독자가 없던 토픽이면 0)
+     */
+    private record Slot(ChangeEvent event, long previousInTopic) {
+    }
+
+    private static final class TopicState {
+        // 이 토픽의 마지막 번호. publishLock 안에서만 쓴다.
+        private volatile long last;
+        // publishLock 안에서만 읽고 쓴다.
+        private int subscribers;
+        private final Set<Thread> waiters = ConcurrentHashMap.newKeySet();
+    }
+
+    /**
+     * @param cursor 이번에 읽은 마지막 번호 (다음 읽기의 기준)
+     * @param missed 덮어써져서 받지 못한 이벤트가 있으면 true
+     */
+    public record Batch(List<ChangeEvent> events, long cursor, boolean missed) {
+    }
+}
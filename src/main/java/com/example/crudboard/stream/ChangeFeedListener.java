@@ -0,0 +1,29 @@
+package com.example.crudboard.stream;
+
+import com.example.crudboard.comment.event.CommentChangedEvent;
+import com.example.crudboard.post.event.PostChangedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 커밋된 게시글/댓글 변경만 변경 피드(ChangeEventRing)에 넣는다.
+ */
+@Component
+public class ChangeFeedListener {
+
+    private final ChangeEventRing ring;
+
+    public ChangeFeedListener(ChangeEventRing ring) {
+        this.ring = ring;
+    }
+
+    @TransactionalEventListener
+    public void onPostChanged(PostChangedEvent event) {
+        ring.publish(ChangeEvent.POSTS_TOPIC, event.type().name(), event.postId(), null);
+    }
+
+    @TransactionalEventListener
+    public void onCommentChanged(CommentChangedEvent event) {
+        ring.publish(ChangeEvent.commentsTopic(event.postId()), event.type().name(), event.postId(), event.commentId());
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.crudboard.stream;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/*
+폴링 대신 변경 알림을 받는 SSE 엔드포인트.
+이벤트에는 바뀐 글/댓글의 id와 종류만 담기므로, 클라이언트는 알림을 받으면 필요한 API를 다시 조회한다.
+"reset" 이벤트는 버퍼가 밀려서 놓친 알림이 있다는 뜻이다.
+ */
+@Tag(name = "Stream", description = "게시글/댓글 변경 알림(SSE)")
+@RestController
+@RequestMapping("/api/stream")
+public class ChangeStreamController {
+
+    private final ChangeStreamService changeStreamService;
+
+    public ChangeStreamController(ChangeStreamService changeStreamService) {
+        this.changeStreamService = changeStreamService;
+    }
+
+    @Operation(summary = "게시글 생성/수정/삭제 알림 구독")
+    @GetMapping(value = "/posts", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter posts(@RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        return changeStreamService.subscribe(ChangeEvent.POSTS_TOPIC, lastEventId);
+    }
+
+    @Operation(summary = "게시글의 댓글 생성/수정/삭제 알림 구독")
+    @GetMapping(value = "/posts/{postId}/comments", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter comments(@PathVariable Long postId,
+                               @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        return changeStreamService.subscribe(ChangeEvent.commentsTopic(postId), lastEventId);
+    }
+}
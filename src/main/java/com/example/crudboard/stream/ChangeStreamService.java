@@ -0,0 +1,150 @@
+package com.example.crudboard.stream;
+
+import com.example.crudboard.global.error.ApiException;
+import com.example.crudboard.global.error.ErrorCode;
+import com.example.crudboard.stream.ChangeEventRing.Batch;
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * SSE 구독을 관리한다.
+ * 구독자마다 가상 스레드 하나가 링 버퍼를 자기 커서로 따라가며 해당 토픽 이벤트만 보낸다.
+ * 기다릴 때는 자기 토픽에 발행될 때만 깨어난다.
+ * 클라이언트가 느려서 전송이 막혀도 그 구독자의 가상 스레드만 멈추고, 쓰기 쪽(커밋 후 발행)은 영향을 받지 않는다.
+ */
+@Slf4j
+@Service
+public class ChangeStreamService implements DisposableBean {
+
+    private final ChangeEventRing ring;
+    private final int maxSubscribers;
+    private final long emitterTimeoutMillis;
+    private final long heartbeatMillis;
+    private final int batchSize;
+
+    private final ExecutorService subscribers =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("sse-subscriber-", 0).factory());
+    private final AtomicInteger activeSubscribers = new AtomicInteger();
+
+    public ChangeStreamService(
+            ChangeEventRing ring,
+            @Value("${app.stream.max-subscribers:10000}") int maxSubscribers,
+            @Value("${app.stream.emitter-timeout-millis:1800000}") long emitterTimeoutMillis,
+            @Value("${app.stream.heartbeat-millis:15000}") long heartbeatMillis,
+            @Value("${app.stream.batch-size:64}") int batchSize) {
+        this.ring = ring;
+        this.maxSubscribers = maxSubscribers;
+        this.emitterTimeoutMillis = emitterTimeoutMillis;
+        this.heartbeatMillis = heartbeatMillis;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * @param lastEventId 재연결 시 브라우저가 보내는 Last-Event-ID. 없으면 지금 이후 이벤트부터 보낸다.
+     */
+    public SseEmitter subscribe(String topic, Long lastEventId) {
+        if (activeSubscribers.incrementAndGet() > maxSubscribers) {
+            activeSubscribers.decrementAndGet();
+            throw new ApiException(ErrorCode.STREAM_BUSY);
+        }
+
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+        long last = ring.lastSequence();
+        // 서버 재시작 등으로 번호가 초기화됐으면 이어받을 수 없으므로 지금부터 보내고 reset을 알린다.
+        boolean unknownLastEventId = lastEventId != null && lastEventId > last;
+        Subscription subscription = new Subscription(topic, emitter,
+                lastEventId != null && !unknownLastEventId ? lastEventId : last, unknownLastEventId);
+        emitter.onCompletion(subscription::close);
+        emitter.onTimeout(subscription::close);
+        emitter.onError(e -> subscription.close());
+
+        subscribers.execute(() -> run(subscription));
+        return emitter;
+    }
+
+    public int activeSubscribers() {
+        return activeSubscribers.get();
+    }
+
+    private void run(Subscription subscription) {
+        SseEmitter emitter = subscription.emitter;
+        long cursor = subscription.cursor;
+        subscription.thread = Thread.currentThread();
+        ring.register(subscription.topic);
+        try {
+            emitter.send(SseEmitter.event().reconnectTime(3000).comment("connected"));
+            if (subscription.resetFirst) {
+                emitter.send(SseEmitter.event().name("reset").data("missed"));
+            }
+
+            while (!subscription.closed) {
+                Batch batch = ring.readAfter(subscription.topic, cursor, batchSize);
+                if (batch.missed()) {
+                    // 버퍼보다 뒤처져서 놓친 이벤트가 있다 -> 클라이언트는 목록을 다시 조회해야 한다.
+                    emitter.send(SseEmitter.event().name("reset").data("missed"));
+                }
+                for (ChangeEvent event : batch.events()) {
+                    emitter.send(SseEmitter.event()
+                            .id(String.valueOf(event.sequence()))
+                            .name(event.type())
+                            .data(event, MediaType.APPLICATION_JSON));
+                }
+                cursor = batch.cursor();
+
+                if (batch.events().isEmpty() && !batch.missed()
+                        && !ring.awaitAfter(subscription.topic, cursor, heartbeatMillis)) {
+                    // 프록시/브라우저가 유휴 연결을 끊지 않도록
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+                }
+            }
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트 연결 종료
+            log.debug("SSE subscriber closed. topic={}, reason={}", subscription.topic, e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            ring.unregister(subscription.topic);
+            activeSubscribers.decrementAndGet();
+            emitter.complete();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        subscribers.shutdownNow();
+    }
+
+    private final class Subscription {
+
+        private final String topic;
+        private final SseEmitter emitter;
+        private final long cursor;
+        private final boolean resetFirst;
+        private volatile boolean closed;
+        private volatile Thread thread;
+
+        private Subscription(String topic, SseEmitter emitter, long cursor, boolean resetFirst) {
+            this.topic = topic;
+            this.emitter = emitter;
+            this.cursor = cursor;
+            this.resetFirst = resetFirst;
+        }
+
+        private void close() {
+            closed = true;
+            // 해당 구독자의 대기만 깨운다. (자기 스레드에서 complete()로 불린 경우는 제외)
+            Thread waiting = thread;
+            if (waiting != null && waiting != Thread.currentThread()) {
+                waiting.interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.crudboard.view;
+
+import com.example.crudboard.global.dto.PageResponse;
+import com.example.crudboard.post.PostSearchCondition;
+import com.example.crudboard.post.dto.PostResponse;
+import com.example.crudboard.post.service.PostQueryService;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.Context;
+
+/**
+ * 게시글 목록/상세의 첫 화면을 서버에서 HTML 조각으로 렌더링한다. (templates/posts/fragments.html)
+ * 렌더링 결과는 RenderedFragmentCache에 (page, 검색 조건) / 글 id 단위로 캐싱된다.
+ *
+ * 조각은 요청과 무관하게 캐시에 공유되므로 @{...} 링크 대신 고정 경로만 사용한다.
+ */
+@Component
+public class PostFragmentRenderer {
+
+    private static final String TEMPLATE = "posts/fragments";
+
+    private final ITemplateEngine templateEngine;
+    private final PostQueryService postQueryService;
+    private final RenderedFragmentCache cache;
+
+    public PostFragmentRenderer(ITemplateEngine templateEngine, PostQueryService postQueryService,
+                                RenderedFragmentCache cache) {
+        this.templateEngine = templateEngine;
+        this.postQueryService = postQueryService;
+        this.cache = cache;
+    }
+
+    public String listRows(PostSearchCondition condition, Pageable pageable) {
+        String key = RenderedFragmentCache.LIST_PREFIX
+                + pageable.getPageNumber() + ":" + pageable.getPageSize() + ":" + pageable.getSort() + ":" + condition;
+        return cache.get(key, () -> {
+            PageResponse<PostResponse> page = postQueryService.list(condition, pageable);
+            return render("rows", Map.of("page", page));
+        });
+    }
+
+    /**
+     * @return 없는 글이면 null (화면은 기존처럼 JS가 API 에러를 보여준다)
+     */
+    public PostDetailFragments detail(Long postId) {
+        String prefix = RenderedFragmentCache.postPrefix(postId);
+        // 두 조각이 모두 캐시에 없으면 글은 한 번만 읽어서 둘 다 렌더링한다.
+        AtomicReference<Optional<PostResponse>> loaded = new AtomicReference<>();
+        Supplier<Optional<PostResponse>> post =
+                () -> loaded.updateAndGet(found -> found != null ? found : postQueryService.find(postId));
+
+        String header = cache.get(prefix + "header", () -> post.get()
+                .map(found -> render("header", Map.of("post", found)))
+                .orElse(null));
+        if (header == null) {
+            return null;
+        }
+        String content = cache.get(prefix + "content", () -> post.get()
+                .map(found -> render("content", Map.of("post", found)))
+                .orElse(null));
+        return content == null ? null : new PostDetailFragments(header, content);
+    }
+
+    private String render(String fragment, Map<String, Object> variables) {
+        Context context = new Context(Locale.KOREAN, variables);
+        context.setVariable("dates", ViewDates.INSTANCE);
+        return templateEngine.process(TEMPLATE, Set.of(fragment), context);
+    }
+
+    public record PostDetailFragments(String header, String content) {
+    }
+}
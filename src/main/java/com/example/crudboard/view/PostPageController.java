@@ -1,15 +1,53 @@
 package com.example.crudboard.view;
 
+import com.example.crudboard.post.PostSearchCondition;
+import com.example.crudboard.post.PostSearchType;
+import com.example.crudboard.view.PostFragmentRenderer.PostDetailFragments;
+import java.time.LocalDateTime;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
 import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 
+/**
+ * 목록/상세 첫 화면은 서버에서 렌더링한 조각을 넣어서 내려준다. (app.view.server-render)
+ * 이후 검색/페이지 이동/댓글은 기존처럼 JS가 API로 처리한다.
+ */
 @Controller
 @RequestMapping("/posts")
 public class PostPageController {
 
+    private final PostFragmentRenderer fragmentRenderer;
+    private final boolean serverRender;
+
+    public PostPageController(PostFragmentRenderer fragmentRenderer,
+                              @Value("${app.view.server-render:true}") boolean serverRender) {
+        this.fragmentRenderer = fragmentRenderer;
+        this.serverRender = serverRender;
+    }
+
+    // 파라미터는 GET /api/posts 와 동일하게 받는다.
     @GetMapping
-    public String listPage() {
+    public String listPage(
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false, defaultValue = "TITLE_CONTENT") PostSearchType type,
+            @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime createdFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime createdTo,
+            @PageableDefault(size = 5, sort = "createdAt", direction = Direction.DESC) Pageable pageable,
+            Model model
+    ) {
+        if (serverRender) {
+            PostSearchCondition condition = new PostSearchCondition(keyword, type, createdFrom, createdTo);
+            model.addAttribute("postRows", fragmentRenderer.listRows(condition, pageable));
+        }
         return "posts/list";
     }
 
@@ -19,7 +57,14 @@ public class PostPageController {
     }
 
     @GetMapping("/{id}")
-    public String detailPage() {
+    public String detailPage(@PathVariable Long id, Model model) {
+        if (serverRender) {
+            PostDetailFragments fragments = fragmentRenderer.detail(id);
+            if (fragments != null) {
+                model.addAttribute("postHeader", fragments.header());
+                model.addAttribute("postContent", fragments.content());
+            }
+        }
         return "posts/detail";
     }
 
@@ -0,0 +1,86 @@
+package com.example.crudboard.view;
+
+import com.example.crudboard.post.event.PostChangedEvent;
+import com.example.crudboard.post.event.PostPartitionChangedEvent;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 서버 렌더링한 HTML 조각(fragment)을 키별로 보관하는 LRU 캐시.
+ * - 목록 조각: "list:" + (page, size, sort, 검색 조건) -> 글이 하나라도 바뀌면 전부 무효화
+ * - 상세 조각: "post:{id}:" ... -> 해당 글이 바뀌면 무효화
+ */
+@Component
+public class RenderedFragmentCache {
+
+    static final String LIST_PREFIX = "list:";
+
+    private final Map<String, String> fragments;
+    // 렌더링 도중 무효화가 일어나면 렌더링 결과(이전 데이터)를 버리기 위한 세대 번호
+    private long generation;
+
+    public RenderedFragmentCache(@Value("${app.view.fragment-cache-size:512}") int maxEntries) {
+        this.fragments = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    static String postPrefix(Long postId) {
+        return "post:" + postId + ":";
+    }
+
+    /**
+     * 캐시에 없으면 renderer로 렌더링해서 담는다. renderer가 null을 주면 캐싱하지 않는다.
+     */
+    public String get(String key, Supplier<String> renderer) {
+        long renderGeneration;
+        synchronized (fragments) {
+            String cached = fragments.get(key);
+            if (cached != null) {
+                return cached;
+            }
+            renderGeneration = generation;
+        }
+        // 렌더링(DB 조회 포함)은 락 밖에서
+        String rendered = renderer.get();
+        if (rendered != null) {
+            synchronized (fragments) {
+                if (renderGeneration == generation) {
+                    fragments.put(key, rendered);
+                }
+            }
+        }
+        return rendered;
+    }
+
+    @TransactionalEventListener
+    public void onPostChanged(PostChangedEvent event) {
+        String postPrefix = postPrefix(event.postId());
+        synchronized (fragments) {
+            generation++;
+            fragments.keySet().removeIf(key -> key.startsWith(LIST_PREFIX) || key.startsWith(postPrefix));
+        }
+    }
+
+    // 월 버킷 분리/재연결은 목록 결과를 바꾸고, 분리된 글은 상세 조각도 지운다. (트랜잭션 밖에서 발행돼도 처리)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPartitionChanged(PostPartitionChangedEvent event) {
+        Set<String> postPrefixes = event.postIds().stream()
+                .map(RenderedFragmentCache::postPrefix)
+                .collect(Collectors.toSet());
+        synchronized (fragments) {
+            generation++;
+            fragments.keySet().removeIf(key -> key.startsWith(LIST_PREFIX)
+                    || (key.startsWith("post:") && postPrefixes.contains(key.substring(0, key.indexOf(':', 5) + 1))));
+        }
+    }
+}
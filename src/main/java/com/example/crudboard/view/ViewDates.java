@@ -0,0 +1,24 @@
+package com.example.crudboard.view;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 서버 렌더링 조각의 날짜 표시. 화면 JS의 fmtDate(static/js/core/dom.js)와 같은 결과를 낸다.
+ *
+ * API 응답(Jackson)과 같은 ISO 문자열에서 'T'를 공백으로 바꾸고 초까지만 자른다. 값이 없으면 "-"
+ */
+public final class ViewDates {
+
+    static final ViewDates INSTANCE = new ViewDates();
+
+    private ViewDates() {}
+
+    public String format(LocalDateTime at) {
+        if (at == null) {
+            return "-";
+        }
+        String iso = DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(at).replace('T', ' ');
+        return iso.length() > 19 ? iso.substring(0, 19) : iso;
+    }
+}
@@ -0,0 +1,8 @@
+-- 소프트 삭제: 삭제 요청 시 deleted_at만 채우고, 댓글/글 행은 PostPurgeService가 나눠서 지운다.
+alter table posts add column deleted_at timestamp;
+
+-- 정리 대상(deleted_at is not null)을 삭제 순서대로 찾기 위한 인덱스
+create index if not exists idx_posts_deleted_at on posts(deleted_at);
+
+-- 글 하나의 댓글을 id 순서로 조금씩 지우기 위한 인덱스
+create index if not exists idx_comments_post_id_id on comments(post_id, id);
@@ -0,0 +1,14 @@
+-- 답글 트리 (materialized path)
+-- path: 루트부터 자기 자신까지 id를 10자리로 이어 붙인 값. 정렬하면 트리를 깊이 우선으로 순회한 순서가 된다.
+-- parent_id는 FK를 걸지 않는다. (하위 트리는 path 범위로 한 번에 지운다)
+alter table comments add column parent_id bigint;
+alter table comments add column path varchar(255) not null default '';
+alter table comments add column depth int not null default 0;
+alter table comments add column reply_count int not null default 0;
+
+update comments set path = lpad(cast(id as varchar), 10, '0') where path = '';
+
+-- 하위 트리/스레드 커서 조회: post_id = ? and path > ? and path < ? order by path
+create index if not exists idx_comments_post_id_path on comments(post_id, path);
+-- 루트 댓글 목록: post_id = ? and depth = 0 order by created_at desc
+create index if not exists idx_comments_post_id_depth_created_at on comments(post_id, depth, created_at desc);
@@ -0,0 +1,6 @@
+-- 인기글 top-K 스냅샷 (재시작 후 복원용). score는 updated_at 시점으로 감쇠한 값
+create table if not exists hot_post_snapshots (
+    post_id bigint primary key,
+    score double not null,
+    updated_at timestamp not null
+);
@@ -0,0 +1,16 @@
+-- 게시판. id가 샤드 배치를 정하므로(ShardRouter) 직접 지정한다.
+-- 모든 샤드에 같은 마이그레이션이 적용되지만 게시판 목록은 샤드 0의 것만 쓴다.
+create table if not exists boards (
+    id bigint primary key,
+    name varchar(100) not null,
+    created_at timestamp not null
+);
+
+insert into boards (id, name, created_at) values (1, '기본 게시판', current_timestamp);
+
+-- 기존 글은 모두 기본 게시판(1)에 속한다.
+alter table posts add column board_id bigint not null default 1;
+
+-- 게시판 지정 목록(최신순)
+create index if not exists idx_posts_board_created_at
+       on posts(board_id, created_at desc);
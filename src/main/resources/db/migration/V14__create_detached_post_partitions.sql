@@ -0,0 +1,44 @@
+-- 월 버킷 분리(detach)는 그 달의 행을 보관 테이블로 옮긴다. (posts/comments/post_archives에서는 지워진다)
+-- 다시 연결(attach)하면 created_month로 골라서 되돌린다. 원래 테이블과 같은 컬럼 + created_month
+create table if not exists posts_detached (
+    id bigint primary key,
+    title varchar(255) not null,
+    content text not null,
+    created_at timestamp not null,
+    updated_at timestamp not null,
+    created_month int not null,
+    archived boolean not null,
+    deleted_at timestamp,
+    board_id bigint not null
+);
+
+create index if not exists idx_posts_detached_created_month on posts_detached(created_month);
+
+create table if not exists comments_detached (
+    id bigint primary key,
+    post_id bigint not null,
+    content varchar(1000) not null,
+    created_at timestamp not null,
+    updated_at timestamp not null,
+    parent_id bigint,
+    path varchar(255) not null,
+    depth int not null,
+    reply_count int not null,
+    created_month int not null
+);
+
+create index if not exists idx_comments_detached_created_month on comments_detached(created_month);
+
+create table if not exists post_archives_detached (
+    post_id bigint primary key,
+    content_deflated varbinary(8192) not null,
+    original_bytes int not null,
+    compressed_bytes int not null,
+    archived_at timestamp not null,
+    created_month int not null
+);
+
+create index if not exists idx_post_archives_detached_created_month on post_archives_detached(created_month);
+
+-- 버킷을 옮길 때는 작성일 범위(idx_posts_created_at)로 고르므로 V8의 (created_month, created_at) 인덱스는 필요 없다.
+drop index if exists idx_posts_created_month_created_at;
@@ -0,0 +1,3 @@
+-- 압축 본문 크기 제한(varbinary(8192)) 제거. 압축률이 낮은 본문은 원문 크기에 가깝다.
+alter table post_archives alter column content_deflated set data type blob;
+alter table post_archives_detached alter column content_deflated set data type blob;
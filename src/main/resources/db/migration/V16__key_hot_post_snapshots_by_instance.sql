@@ -0,0 +1,13 @@
+-- 인스턴스마다 자기 후보만 덮어쓰도록 instance_id를 키에 넣는다.
+-- 스냅샷은 재시작 복원용이라 기존 행은 옮기지 않고 버린다.
+drop table if exists hot_post_snapshots;
+
+create table hot_post_snapshots (
+    instance_id varchar(64) not null,
+    post_id bigint not null,
+    score double not null,
+    updated_at timestamp not null,
+    primary key (instance_id, post_id)
+);
+
+create index idx_hot_post_snapshots_updated_at on hot_post_snapshots (updated_at);
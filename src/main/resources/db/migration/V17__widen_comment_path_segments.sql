@@ -0,0 +1,50 @@
+-- 답글 path 구간을 10자리에서 19자리(Long.MAX_VALUE 자릿수)로 넓힌다.
+-- 샤드 1 이상의 id(i * 2^40)는 13자리라서 10자리 구간에 들어가지 않는다.
+-- 깊이 20(구간 21개) x 19자리 = 399자
+alter table comments alter column path set data type varchar(400);
+alter table comments_detached alter column path set data type varchar(400);
+
+-- 루트부터 깊이 순서로 다시 만든다. (10자리가 아닌 id로 만든 path는 답글 자기 구간이 빠져 있을 수 있다)
+update comments set path = lpad(cast(id as varchar), 19, '0') where depth = 0;
+update comments c set path = concat((select p.path from comments p where p.id = c.parent_id), lpad(cast(c.id as varchar), 19, '0')) where c.depth = 1;
+update comments c set path = concat((select p.path from comments p where p.id = c.parent_id), lpad(cast(c.id as varchar), 19, '0')) where c.depth = 2;
+update comments c set path = concat((select p.path from comments p where p.id = c.parent_id), lpad(cast(c.id as varchar), 19, '0')) where c.depth = 3;
+update comments c set path = concat((select p.path from comments p where p.id = c.parent_id), lpad(cast(c.id as varchar), 19, '0')) where c.depth = 4;
+update comments c set path = concat((select p.path from comments p where p.id = c.parent_id), lpad(cast(c.id as varchar), 19, '0')) where c.depth = 5;
+update comments c set path = concat((select p.path from comments p where p.id = c.parent_id), lpad(cast(c.id as varchar), 19, '0')) where c.depth = 6;
+update comments c set path = concat((select p.path from comments p where p.id = c.parent_id), lpad(cast(c.id as varchar), 19, '0')) where c.depth = 7;
+update comments c set path = concat((select p.path from comments p where p.id = c.parent_id), lpad(cast(c.id as varchar), 19, '0')) where c.depth = 8;
+update comments c set path = concat((select p.path from comments p where p.id = c.parent_id), lpad(cast(c.id as varchar), 19, '0')) where c.depth = 9;
+update comments c set path = concat((select p.path from comments p where p.id = c.parent_id), lpad(cast(c.id as varchar), 19, '0')) where c.depth = 10;
+update comments c set path = concat((select p.path from comments p where p.id = c.parent_id), lpad(cast(c.id as varchar), 19, '0')) where c.depth = 11;
+update comments c set path = concat((select p.path from comments p where p.id = c.parent_id), lpad(cast(c.id as varchar), 19, '0')) where c.depth = 12;
+update comments c set path = concat((select p.path from comments p where p.id = c.parent_id), lpad(cast(c.id as varchar), 19, '0')) where c.depth = 13;
+update comments c set path = concat((select p.path from comments p where p.id = c.parent_id), lpad(cast(c.id as varchar), 19, '0')) where c.depth = 14;
+update comments c set path = concat((select p.path from comments p where p.id = c.parent_id), lpad(cast(c.id as varchar), 19, '0')) where c.depth = 15;
+update comments c set path = concat((select p.path from comments p where p.id = c.parent_id), lpad(cast(c.id as varchar), 19, '0')) where c.depth = 16;
+update comments c set path = concat((select p.path from comments p where p.id = c.parent_id), lpad(cast(c.id as varchar), 19, '0')) where c.depth = 17;
+update comments c set path = concat((select p.path from comments p where p.id = c.parent_id), lpad(cast(c.id as varchar), 19, '0')) where c.depth = 18;
+update comments c set path = concat((select p.path from comments p where p.id = c.parent_id), lpad(cast(c.id as varchar), 19, '0')) where c.depth = 19;
+update comments c set path = concat((select p.path from comments p where p.id = c.parent_id), lpad(cast(c.id as varchar), 19, '0')) where c.depth = 20;
+
+update comments_detached set path = lpad(cast(id as varchar), 19, '0') where depth = 0;
+update comments_detached c set path = concat((select p.path from comments_detached p where p.id = c.parent_id), lpad(cast(c.id as varchar), 19, '0')) where c.depth = 1;
+update comments_detached c set path = concat((select p.path from comments_detached p where p.id = c.parent_id), lpad(cast(c.id as varchar), 19, '0')) where c.depth = 2;
+update comments_detached c set path = concat((select p.path from comments_detached p where p.id = c.parent_id), lpad(cast(c.id as varchar), 19, '0')) where c.depth = 3;
+update comments_detached c set path = concat((select p.path from comments_detached p where p.id = c.parent_id), lpad(cast(c.id as varchar), 19, '0')) where c.depth = 4;
+update comments_detached c set path = concat((select p.path from comments_detached p where p.id = c.parent_id), lpad(cast(c.id as varchar), 19, '0')) where c.depth = 5;
+update comments_detached c set path = concat((select p.path from comments_detached p where p.id = c.parent_id), lpad(cast(c.id as varchar), 19, '0')) where c.depth = 6;
+update comments_detached c set path = concat((select p.path from comments_detached p where p.id = c.parent_id), lpad(cast(c.id as varchar), 19, '0')) where c.depth = 7;
+update comments_detached c set path = concat((select p.path from comments_detached p where p.id = c.parent_id), lpad(cast(c.id as varchar), 19, '0')) where c.depth = 8;
+update comments_detached c set path = concat((select p.path from comments_detached p where p.id = c.parent_id), lpad(cast(c.id as varchar), 19, '0')) where c.depth = 9;
+update comments_detached c set path = concat((select p.path from comments_detached p where p.id = c.parent_id), lpad(cast(c.id as varchar), 19, '0')) where c.depth = 10;
+update comments_detached c set path = concat((select p.path from comments_detached p where p.id = c.parent_id), lpad(cast(c.id as varchar), 19, '0')) where c.depth = 11;
+update comments_detached c set path = concat((select p.path from comments_detached p where p.id = c.parent_id), lpad(cast(c.id as varchar), 19, '0')) where c.depth = 12;
+update comments_detached c set path = concat((select p.path from comments_detached p where p.id = c.parent_id), lpad(cast(c.id as varchar), 19, '0')) where c.depth = 13;
+update comments_detached c set path = concat((select p.path from comments_detached p where p.id = c.parent_id), lpad(cast(c.id as varchar), 19, '0')) where c.depth = 14;
+update comments_detached c set path = concat((select p.path from comments_detached p where p.id = c.parent_id), lpad(cast(c.id as varchar), 19, '0')) where c.depth = 15;
+update comments_detached c set path = concat((select p.path from comments_detached p where p.id = c.parent_id), lpad(cast(c.id as varchar), 19, '0')) where c.depth = 16;
+update comments_detached c set path = concat((select p.path from comments_detached p where p.id = c.parent_id), lpad(cast(c.id as varchar), 19, '0')) where c.depth = 17;
+update comments_detached c set path = concat((select p.path from comments_detached p where p.id = c.parent_id), lpad(cast(c.id as varchar), 19, '0')) where c.depth = 18;
+update comments_detached c set path = concat((select p.path from comments_detached p where p.id = c.parent_id), lpad(cast(c.id as varchar), 19, '0')) where c.depth = 19;
+update comments_detached c set path = concat((select p.path from comments_detached p where p.id = c.parent_id), lpad(cast(c.id as varchar), 19, '0')) where c.depth = 20;
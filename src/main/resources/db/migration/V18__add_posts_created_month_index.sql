@@ -0,0 +1,3 @@
+-- 작성일 범위 목록을 월 버킷마다 나눠 읽는다. (PostPartitionRouter)
+-- created_month = ? and created_at 범위/정렬을 인덱스 범위 하나로 읽고, min/max(created_month)도 이 인덱스로 구한다.
+create index if not exists idx_posts_created_month_created_at on posts(created_month, created_at);
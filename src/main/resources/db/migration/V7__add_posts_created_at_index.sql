@@ -0,0 +1,3 @@
+-- 목록 기본 정렬(created_at desc)과 작성일 범위 검색(createdFrom/createdTo)이 전체 테이블을 읽지 않도록
+create index if not exists idx_posts_created_at
+       on posts(created_at desc);
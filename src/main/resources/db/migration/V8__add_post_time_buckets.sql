@@ -0,0 +1,22 @@
+-- 게시글 월 단위 시간 버킷(파티션 키): yyyymm
+alter table posts add column created_month int;
+update posts
+   set created_month = cast(extract(year from created_at) as int) * 100 + cast(extract(month from created_at) as int)
+ where created_month is null;
+alter table posts alter column created_month set not null;
+
+-- 버킷 가지치기(created_month) 후 버킷 안에서는 created_at 순서로 읽는다.
+create index if not exists idx_posts_created_month_created_at
+       on posts(created_month, created_at desc);
+
+-- 월 버킷 목록. DETACHED 버킷은 목록/검색에서 빠진다. (보관용으로 분리)
+create table if not exists post_partitions (
+    month int primary key,
+    status varchar(20) not null,
+    created_at timestamp not null,
+    detached_at timestamp
+);
+
+insert into post_partitions (month, status, created_at)
+select distinct created_month, 'ACTIVE', current_timestamp
+  from posts;
@@ -0,0 +1,13 @@
+-- 오래된 글 본문 보관(cold) 계층: 본문을 압축해서 옮기고 posts.content는 비운다.
+alter table posts add column archived boolean not null default false;
+
+create table if not exists post_archives (
+    post_id bigint primary key,
+    content_deflated varbinary(8192) not null,
+    original_bytes int not null,
+    compressed_bytes int not null,
+    archived_at timestamp not null,
+    constraint fk_post_archives_post
+        foreign key (post_id) references posts(id)
+        on delete cascade
+);
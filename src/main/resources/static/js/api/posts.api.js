@@ -15,6 +15,11 @@ export async function listPosts(params) {
     return await getJson(`/api/posts?${qs.toString()}`);
 }
 
+export async function suggestTitles(q, limit = 8) {
+    const qs = new URLSearchParams({ q, limit: String(limit) });
+    return await getJson(`/api/posts/suggest?${qs.toString()}`);
+}
+
 export async function getPost(id) {
     return await getJson(`/api/posts/${id}`);
 }
@@ -201,7 +201,8 @@ async function loadPage() {
         applyAuthUi();
 
         // 2) 게시글/댓글 로드 (GET은 비로그인도 가능)
-        await loadPost();
+        //    게시글을 서버가 렌더링해 줬으면(data-ssr) 다시 부르지 않는다.
+        if (contentEl.dataset.ssr !== "true") await loadPost();
         await loadComments();
     } catch (e) {
         showError(e?.message ?? String(e));
@@ -342,5 +343,20 @@ commentNextBtn.addEventListener("click", async () => {
     }
 });
 
+// =======================================================
+// Live comments (SSE)
+// =======================================================
+// 다른 사용자가 남긴 댓글을 폴링 없이 반영한다. 끊기면 브라우저가 Last-Event-ID로 알아서 재연결한다.
+function subscribeCommentChanges() {
+    if (state.postId == null || !window.EventSource) return;
+
+    const source = new EventSource(`/api/stream/posts/${state.postId}/comments`);
+    const refresh = () => loadComments().catch((e) => console.error(e));
+    for (const type of ["CREATED", "UPDATED", "DELETED", "reset"]) {
+        source.addEventListener(type, refresh);
+    }
+}
+
 // start
-loadPage();
\ No newline at end of file
+loadPage();
+subscribeCommentChanges();
\ No newline at end of file
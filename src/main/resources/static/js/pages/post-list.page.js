@@ -1,6 +1,6 @@
 // src/main/resources/static/js/pages/posts-list.page.js
 import { fmtDate, escapeHtml } from "../core/dom.js";
-import { listPosts } from "../api/posts.api.js";
+import { listPosts, suggestTitles } from "../api/posts.api.js";
 import { getMeOrNull } from "../api/auth.api.js";
 
 const card = document.getElementById("card");
@@ -10,6 +10,7 @@ const pageInfo = document.getElementById("pageInfo");
 const errorBox = document.getElementById("errorBox");
 
 const keywordInput = document.getElementById("keyword");
+const keywordSuggestions = document.getElementById("keywordSuggestions");
 const typeSelect = document.getElementById("type");
 const createdFromInput = document.getElementById("createdFrom");
 const createdToInput = document.getElementById("createdTo");
@@ -251,6 +252,29 @@ keywordInput.addEventListener("keydown", (e) => {
     if (e.key === "Enter") searchBtn.click();
 });
 
+// 제목 자동완성: 입력이 잠깐 멈췄을 때만 요청한다.
+let suggestTimer = null;
+keywordInput.addEventListener("input", () => {
+    clearTimeout(suggestTimer);
+    const q = keywordInput.value.trim();
+    if (!q) {
+        keywordSuggestions.replaceChildren();
+        return;
+    }
+    suggestTimer = setTimeout(async () => {
+        try {
+            const items = await suggestTitles(q);
+            keywordSuggestions.replaceChildren(...items.map((item) => {
+                const option = document.createElement("option");
+                option.value = item.title;
+                return option;
+            }));
+        } catch {
+            // 자동완성 실패는 검색에 영향을 주지 않는다.
+        }
+    }, 150);
+});
+
 typeSelect.addEventListener("change", () => { syncStateFromInputs(true); load(); });
 sortSelect.addEventListener("change", () => { syncStateFromInputs(true); load(); });
 createdFromInput.addEventListener("change", () => { syncStateFromInputs(true); load(); });
@@ -271,6 +295,29 @@ nextBtn.addEventListener("click", () => {
     load();
 });
 
+// 서버가 첫 페이지를 렌더링해 준 경우(tbody[data-ssr]) API를 다시 부르지 않는다.
+function hydrateServerRendered() {
+    if (tbody.dataset.ssr !== "true") return false;
+
+    const d = tbody.dataset;
+    renderMeta({
+        page: parseInt(d.page, 10),
+        size: parseInt(d.size, 10),
+        totalElements: parseInt(d.totalElements, 10),
+        totalPages: parseInt(d.totalPages, 10),
+        first: d.first === "true",
+        last: d.last === "true",
+        content: { length: parseInt(d.count, 10) },
+    }, state);
+
+    for (const tr of tbody.querySelectorAll("tr.post-row")) {
+        tr.addEventListener("click", () => {
+            location.href = `/posts/${tr.dataset.id}`;
+        });
+    }
+    return true;
+}
+
 // start
 checkAuth();
-load();
\ No newline at end of file
+if (!hydrateServerRendered()) load();
\ No newline at end of file
@@ -0,0 +1,113 @@
+package com.example.crudboard.accesslog;
+
+import com.example.crudboard.global.accesslog.AccessLog;
+import com.example.crudboard.global.accesslog.AccessLogFilter;
+import com.example.crudboard.global.db.ConnectionUsageFilter;
+import com.example.crudboard.global.timing.ServerTimingFilter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static com.example.crudboard.util.TestAuthHelper.createPost;
+import static com.example.crudboard.util.TestAuthHelper.signupAndLogin;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = "app.access-log.path=build/test-access-log/access-log-test.log")
+@AutoConfigureMockMvc
+@Transactional
+public class AccessLogTest {
+
+    private static final Path LOG = Path.of("build/test-access-log/access-log-test.log");
+
+    @Autowired MockMvc mockMvc;
+
+    @Test
+    @DisplayName("요청마다 경로 패턴, status, 바이트, SQL 수, 로그인 사용자를 한 줄씩 남긴다.")
+    void writesOneLinePerRequest() throws Exception {
+        MockHttpSession session = signupAndLogin(mockMvc);
+        String location = createPost(mockMvc, session, "access log", "content");
+        mockMvc.perform(get(location)).andExpect(status().isOk());
+        mockMvc.perform(get("/api/posts/99999999")).andExpect(status().isNotFound());
+
+        String[] created = awaitLine("POST\t/api/posts\t201\t");
+        assertThat(Long.parseLong(created[6]), greaterThan(0L)); // sqlCount
+        assertThat(created[7], not("-")); // 로그인 사용자
+
+        String[] read = awaitLine("GET\t/api/posts/{id}\t200\t");
+        assertThat(Long.parseLong(read[4]), greaterThan(0L)); // bytes
+        assertThat(Long.parseLong(read[5]), greaterThan(0L)); // latencyMicros
+        assertThat(read[7], is("-"));
+
+        awaitLine("GET\t/api/posts/{id}\t404\t");
+    }
+
+    @Test
+    @DisplayName("종료할 때 남은 항목을 모두 쓰고, 파일이 한도를 넘으면 밀어낸다. (가득 찬 버퍼는 AccessLogBufferTest)")
+    void flushesOnDestroyAndRollsFiles(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("access.log");
+        AccessLog accessLog = new AccessLog(file.toString(), 4, 200, 3, 60_000);
+        for (int i = 0; i < 100; i++) {
+            accessLog.record(i, "GET", "/api/posts/{id}", 200, 10, 5, 1, null);
+        }
+        AccessLog.AccessLogStats stats = accessLog.stats();
+        assertThat(stats.capacity(), is(4));
+        assertThat(stats.recorded() + stats.dropped(), is(100L));
+
+        // 종료할 때 남은 항목을 모두 쓴다.
+        accessLog.destroy();
+        assertThat(accessLog.stats().written(), is(stats.recorded()));
+        assertThat(accessLog.stats().pending(), is(0));
+        assertThat(Files.size(file), lessThanOrEqualTo(200L));
+
+        for (int i = 0; i < 100; i++) {
+            accessLog = new AccessLog(file.toString(), 16, 200, 3, 10);
+            for (int j = 0; j < 10; j++) {
+                accessLog.record(j, "GET", "/api/posts/{id}", 200, 10, 5, 1, null);
+            }
+            accessLog.destroy();
+        }
+        assertThat(Files.exists(dir.resolve("access.log.1")), is(true));
+        assertThat(Files.exists(dir.resolve("access.log.3")), is(true));
+        assertThat(Files.exists(dir.resolve("access.log.4")), is(false));
+    }
+
+    @Test
+    @DisplayName("요청 필터는 AccessLog > 커넥션 집계 > Server-Timing > 시큐리티 순으로 감싼다.")
+    void requestFiltersHaveDistinctOrders() {
+        assertThat(AccessLogFilter.ORDER, lessThan(ConnectionUsageFilter.ORDER));
+        assertThat(ConnectionUsageFilter.ORDER, lessThan(ServerTimingFilter.ORDER));
+        // 시큐리티 필터 체인 기본 순서는 -100 (spring.security.filter.order)
+        assertThat(ServerTimingFilter.ORDER, lessThan(-100));
+    }
+
+    private static String[] awaitLine(String prefixAfterTimestamp) throws Exception {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (System.currentTimeMillis() < deadline) {
+            if (Files.exists(LOG)) {
+                List<String> lines = Files.readAllLines(LOG);
+                for (int i = lines.size() - 1; i >= 0; i--) {
+                    String line = lines.get(i);
+                    if (line.substring(line.indexOf('\t') + 1).startsWith(prefixAfterTimestamp)) {
+                        return line.split("\t");
+                    }
+                }
+            }
+            Thread.sleep(50);
+        }
+        throw new AssertionError("access log line not written: " + prefixAfterTimestamp);
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.crudboard.auth;
 
+import com.example.crudboard.user.UserRepository;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -7,6 +9,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockHttpSession;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
@@ -16,7 +19,12 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+import static com.example.crudboard.util.SqlBudget.recordSql;
+import static com.example.crudboard.util.SqlBudget.sqlBudget;
 
 @ActiveProfiles("test")
 @SpringBootTest
@@ -25,6 +33,8 @@ import static org.hamcrest.Matchers.endsWith;
 public class AuthApiTest {
 
     @Autowired MockMvc mockMvc;
+    @Autowired UserRepository userRepository;
+    @Autowired EntityManager entityManager;
 
     @Test
     @DisplayName("회원가입 후 로그인하면 /me에서 사용자 정보를 반환한다.")
@@ -38,21 +48,27 @@ public class AuthApiTest {
                 }
                 """, email, password);
 
+        // 이메일 중복 확인 + insert
         mockMvc.perform(post("/api/auth/signup")
+                        .with(recordSql())
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(body))
-                .andExpect(status().isCreated());
+                .andExpect(status().isCreated())
+                .andExpect(sqlBudget().select(1).insert(1));
 
         MvcResult loginResult = mockMvc.perform(post("/api/auth/login")
+                        .with(recordSql())
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(body))
                 .andExpect(status().isNoContent())
+                .andExpect(sqlBudget().select(1).insert(0))
                 .andReturn();
 
         MockHttpSession session = (MockHttpSession) loginResult.getRequest().getSession(false);
 
-        mockMvc.perform(get("/api/auth/me").session(session))
+        mockMvc.perform(get("/api/auth/me").session(session).with(recordSql()))
                 .andExpect(status().isOk())
+                .andExpect(sqlBudget().select(1))
                 .andExpect(jsonPath("$.email").value(email))
                 .andExpect(jsonPath("$.role").value("USER"))
                 .andExpect(jsonPath("$.id").isNumber());
@@ -61,10 +77,80 @@ public class AuthApiTest {
     @Test
     @DisplayName("로그인하지 않으면 /me에서 401과 표준 에러 JSON이 반환된다.")
     void meWithoutLoginReturns401WithErrorBody() throws Exception {
-        mockMvc.perform(get("/api/auth/me"))
+        mockMvc.perform(get("/api/auth/me").with(recordSql()))
                 .andExpect(status().isUnauthorized())
+                .andExpect(sqlBudget().select(0))
                 .andExpect(jsonPath("$.code").value("UNAUTHORIZED"))
                 .andExpect(jsonPath("$.message").value("인증이 필요합니다."))
                 .andExpect(jsonPath("$.path", endsWith("/api/auth/me")));
     }
+
+    @Test
+    @DisplayName("같은 이메일로 로그인 실패가 반복되면 비밀번호 검증 전에 429가 반환된다.")
+    void repeatedLoginFailuresReturn429() throws Exception {
+        String email = "user" + System.nanoTime() + "@example.com";
+        mockMvc.perform(post("/api/auth/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(authBody(email, "password123!")))
+                .andExpect(status().isCreated());
+
+        for (int i = 0; i < 5; i++) {
+            mockMvc.perform(post("/api/auth/login")
+                            .with(recordSql())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(authBody(email, "wrong-password")))
+                    .andExpect(status().isUnauthorized())
+                    .andExpect(sqlBudget().select(1).update(0));
+        }
+
+        // 올바른 비밀번호여도 윈도우가 지나기 전에는 거절된다. (DB 조회 없이)
+        mockMvc.perform(post("/api/auth/login")
+                        .with(recordSql())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(authBody(email, "password123!")))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(sqlBudget().select(0))
+                .andExpect(jsonPath("$.code").value("TOO_MANY_LOGIN_ATTEMPTS"));
+    }
+
+    @Test
+    @DisplayName("저장된 해시의 cost가 설정보다 낮으면 로그인에 성공할 때 새 cost로 다시 해싱해서 저장한다.")
+    void loginRehashesLowerCostHash() throws Exception {
+        String email = "user" + System.nanoTime() + "@example.com";
+        String password = "password123!";
+        mockMvc.perform(post("/api/auth/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(authBody(email, password)))
+                .andExpect(status().isCreated());
+
+        // cost를 올리기 전에 가입한 사용자처럼 cost 4 해시로 바꿔 둔다.
+        userRepository.findByEmail(email).orElseThrow()
+                .changePasswordHash(new BCryptPasswordEncoder(4).encode(password));
+        entityManager.flush();
+
+        mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(authBody(email, password)))
+                .andExpect(status().isNoContent());
+
+        String rehashed = userRepository.findByEmail(email).orElseThrow().getPasswordHash();
+        assertThat(rehashed, startsWith("$2a$10$"));
+        assertThat(new BCryptPasswordEncoder().matches(password, rehashed), is(true));
+
+        // 새 cost로 바뀐 뒤에는 다시 해싱하지 않는다.
+        mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(authBody(email, password)))
+                .andExpect(status().isNoContent());
+        assertThat(userRepository.findByEmail(email).orElseThrow().getPasswordHash(), is(rehashed));
+    }
+
+    private static String authBody(String email, String password) {
+        return String.format("""
+                {
+                    "email": "%s",
+                    "password": "%s"
+                }
+                """, email, password);
+    }
 }
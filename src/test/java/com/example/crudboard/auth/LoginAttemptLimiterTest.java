@@ -0,0 +1,54 @@
+package com.example.crudboard.auth;
+
+import com.example.crudboard.global.error.ApiException;
+import com.example.crudboard.global.error.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class LoginAttemptLimiterTest {
+
+    @Test
+    @DisplayName("같은 IP에서 여러 이메일로 실패가 쌓이면 처음 보는 이메일도 IP 한도로 거절한다.")
+    void throttlesByIpAcrossEmails() {
+        LoginAttemptLimiter limiter = new LoginAttemptLimiter(5, 3, 300, 1000);
+        for (int i = 0; i < 3; i++) {
+            limiter.recordFailure("user" + i + "@example.com", "10.0.0.1");
+        }
+
+        ApiException e = assertThrows(ApiException.class, () -> limiter.checkAllowed("new@example.com", "10.0.0.1"));
+        assertThat(e.getErrorCode(), is(ErrorCode.TOO_MANY_LOGIN_ATTEMPTS));
+        assertDoesNotThrow(() -> limiter.checkAllowed("new@example.com", "10.0.0.2"));
+    }
+
+    @Test
+    @DisplayName("이메일 한도는 대소문자/공백을 무시하고 세고, 로그인 성공(reset)하면 풀린다.")
+    void throttlesByEmailUntilReset() {
+        LoginAttemptLimiter limiter = new LoginAttemptLimiter(2, 100, 300, 1000);
+        limiter.recordFailure("User@Example.com", "10.0.0.1");
+        limiter.recordFailure(" user@example.com ", "10.0.0.2");
+
+        assertThrows(ApiException.class, () -> limiter.checkAllowed("user@example.com", "10.0.0.3"));
+
+        limiter.reset("user@example.com");
+        assertDoesNotThrow(() -> limiter.checkAllowed("user@example.com", "10.0.0.3"));
+    }
+
+    @Test
+    @DisplayName("추적하는 키가 상한을 넘으면 마지막 실패가 오래된 키부터 지우고, 최근 키는 남긴다.")
+    void boundsTrackedKeys() {
+        LoginAttemptLimiter limiter = new LoginAttemptLimiter(1, 100, 300, 10);
+        for (int i = 0; i < 500; i++) {
+            limiter.recordFailure("user" + i + "@example.com", "10.0." + (i / 250) + "." + (i % 250));
+        }
+
+        // 정리한 뒤에 이메일/IP 키 두 개가 더해지므로 상한 + 1까지
+        assertThat(limiter.trackedKeys(), lessThanOrEqualTo(11));
+        assertThrows(ApiException.class, () -> limiter.checkAllowed("user499@example.com", "10.9.9.9"));
+    }
+}
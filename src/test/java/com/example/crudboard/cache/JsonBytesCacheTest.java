@@ -0,0 +1,79 @@
+package com.example.crudboard.cache;
+
+import com.example.crudboard.global.cache.CachedJson;
+import com.example.crudboard.global.cache.JsonBytesCache;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class JsonBytesCacheTest {
+
+    private final JsonBytesCache cache = new JsonBytesCache(JsonMapper.builder().build(), true, false, 1 << 20, 1 << 16);
+
+    @Test
+    @DisplayName("직렬화 도중 같은 그룹이 무효화되면 담지 않고, 다른 그룹의 무효화는 영향이 없다.")
+    void invalidationOnlyDiscardsLoadsOfTheSameGroup() {
+        cache.get("comments:1:", "comments:1:0", null, () -> {
+            cache.evictGroup("comments:1:");
+            return Map.of("page", 0);
+        });
+        cache.get("comments:2:", "comments:2:0", null, () -> {
+            cache.evictGroup("comments:3:");
+            return Map.of("page", 0);
+        });
+
+        AtomicInteger loads = new AtomicInteger();
+        cache.get("comments:1:", "comments:1:0", null, () -> Map.of("load", loads.incrementAndGet()));
+        cache.get("comments:2:", "comments:2:0", null, () -> Map.of("load", loads.incrementAndGet()));
+        // 1번 그룹은 처음 결과를 버렸으므로 다시 읽고, 2번 그룹은 담겨 있다.
+        assertThat(loads.get(), is(1));
+    }
+
+    @Test
+    @DisplayName("그룹을 지우면 그 그룹의 키만 모두 지운다.")
+    void evictGroupRemovesOnlyItsKeys() {
+        cache.get("comments:1:", "comments:1:0", null, () -> Map.of("page", 0));
+        cache.get("comments:1:", "comments:1:1", null, () -> Map.of("page", 1));
+        cache.get("comments:2:", "comments:2:0", null, () -> Map.of("page", 0));
+
+        cache.evictGroup("comments:1:");
+
+        AtomicInteger loads = new AtomicInteger();
+        cache.get("comments:1:", "comments:1:0", null, () -> Map.of("load", loads.incrementAndGet()));
+        cache.get("comments:1:", "comments:1:1", null, () -> Map.of("load", loads.incrementAndGet()));
+        cache.get("comments:2:", "comments:2:0", null, () -> Map.of("load", loads.incrementAndGet()));
+        assertThat(loads.get(), is(2));
+    }
+
+    @Test
+    @DisplayName("버전 쿼리가 따로 있는 항목은 캐시에 없을 때 버전을 묻지 않고 loader 결과로 정한다.")
+    void versionedMissSkipsVersionLookup() {
+        AtomicInteger versionLookups = new AtomicInteger();
+        String[] current = {"v1"};
+
+        CachedJson first = cache.get("post:1", () -> {
+            versionLookups.incrementAndGet();
+            return current[0];
+        }, () -> Map.of("version", current[0]), value -> value.get("version"));
+        assertThat(versionLookups.get(), is(0));
+
+        CachedJson second = cache.get("post:1", () -> {
+            versionLookups.incrementAndGet();
+            return current[0];
+        }, () -> Map.of("version", current[0]), value -> value.get("version"));
+        assertThat(versionLookups.get(), is(1));
+        assertThat(second, sameInstance(first));
+
+        current[0] = "v2";
+        CachedJson third = cache.get("post:1", () -> current[0], () -> Map.of("version", current[0]),
+                value -> value.get("version"));
+        assertThat(third, not(sameInstance(first)));
+        assertThat(cache.stats().hits(), is(1L));
+        assertThat(cache.stats().misses(), is(2L));
+    }
+}
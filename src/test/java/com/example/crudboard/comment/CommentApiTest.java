@@ -15,6 +15,8 @@ import org.springframework.transaction.annotation.Transactional;
 
 import static com.example.crudboard.util.TestAuthHelper.createPostId;
 import static com.example.crudboard.util.TestAuthHelper.signupAndLogin;
+import static com.example.crudboard.util.SqlBudget.recordSql;
+import static com.example.crudboard.util.SqlBudget.sqlBudget;
 import static org.hamcrest.Matchers.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -33,8 +35,10 @@ public class CommentApiTest {
         MockHttpSession session = signupAndLogin(mockMvc);
         Long postId = createPostId(mockMvc, session, "post", "content");
 
+        // 글 1번 조회 후 insert 1번
         mockMvc.perform(post("/api/posts/{postId}/comments", postId)
                         .session(session)
+                        .with(recordSql())
                         .contentType(MediaType.APPLICATION_JSON)
                         .content("""
                                 {
@@ -42,6 +46,7 @@ public class CommentApiTest {
                                 }
                                 """))
                 .andExpect(status().isCreated())
+                .andExpect(sqlBudget().select(1).insert(1))
                 .andExpect(jsonPath("$.id").isNumber())
                 .andExpect(jsonPath("$.postId").value(postId.intValue()))
                 .andExpect(jsonPath("$.content").value("first comment"))
@@ -60,8 +65,10 @@ public class CommentApiTest {
         createComment(session, postId, "2번 댓글 남기고 갑니다.");
         createComment(session, otherPostId, "1빠");
 
-        mockMvc.perform(get("/api/posts/{postId}/comments", postId))
+        // 글 존재 확인 + 목록. 댓글마다 글(프록시)을 읽지 않는다. (첫 페이지가 덜 차서 count도 생략)
+        mockMvc.perform(get("/api/posts/{postId}/comments", postId).with(recordSql()))
                 .andExpect(status().isOk())
+                .andExpect(sqlBudget().select(2))
                 .andExpect(jsonPath("$.content[*].postId", everyItem(is(postId.intValue()))));
         /**
          * $.content[*].postId 관련 구조
@@ -74,6 +81,24 @@ public class CommentApiTest {
          */
     }
 
+    @Test
+    @DisplayName("댓글 목록을 조회한 뒤 댓글을 작성하면 캐시된 목록 대신 새 댓글이 포함된다.")
+    void listCommentsAfterCreateIsNotStale() throws Exception {
+        MockHttpSession session = signupAndLogin(mockMvc);
+        Long postId = createPostId(mockMvc, session, "post", "content");
+
+        mockMvc.perform(get("/api/posts/{postId}/comments", postId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(0));
+
+        createComment(session, postId, "새 댓글");
+
+        mockMvc.perform(get("/api/posts/{postId}/comments", postId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(1))
+                .andExpect(jsonPath("$.content[0].content").value("새 댓글"));
+    }
+
     @Test
     @DisplayName("댓글 삭제 후 동일 댓글 삭제 요청은 404가 반환된다.")
     void deleteCommentReturns204AndThen404() throws Exception {
@@ -82,12 +107,16 @@ public class CommentApiTest {
         Long commentId = createComment(session, postId, "여 간만이군");
 
         mockMvc.perform(delete("/api/posts/{postId}/comments/{commentId}", postId, commentId)
-                        .session(session))
-                .andExpect(status().isNoContent());
+                        .session(session)
+                        .with(recordSql()))
+                .andExpect(status().isNoContent())
+                .andExpect(sqlBudget().select(3).delete(1));
 
         mockMvc.perform(delete("/api/posts/{postId}/comments/{commentId}", postId, commentId)
-                        .session(session))
+                        .session(session)
+                        .with(recordSql()))
                 .andExpect(status().isNotFound())
+                .andExpect(sqlBudget().select(2).delete(0))
                 .andExpect(jsonPath("$.code").value("COMMENT_NOT_FOUND"));
     }
 
@@ -99,6 +128,7 @@ public class CommentApiTest {
 
         mockMvc.perform(post("/api/posts/{postId}/comments", postId)
                         .session(session)
+                        .with(recordSql())
                         .contentType(MediaType.APPLICATION_JSON)
                         .content("""
                                 {
@@ -106,24 +136,106 @@ public class CommentApiTest {
                                 }
                                 """))
                 .andExpect(status().isBadRequest())
+                .andExpect(sqlBudget().select(0).insert(0))
                 .andExpect(jsonPath("$.code").value("VALIDATION_ERROR"))
                 .andExpect(jsonPath("$.fieldViolations", hasSize(greaterThanOrEqualTo(1))))
                 .andExpect(jsonPath("$.fieldViolations[0].field").value("content"))
                 .andExpect(jsonPath("$.fieldViolations[0].message", not(emptyOrNullString())));
     }
 
+    @Test
+    @DisplayName("답글 트리는 깊이 우선 순서로 커서 페이징되고, 부모의 replyCount가 갱신된다.")
+    void repliesArePagedDepthFirstWithCursor() throws Exception {
+        MockHttpSession session = signupAndLogin(mockMvc);
+        Long postId = createPostId(mockMvc, session, "thread", "content");
+
+        Long root = createComment(session, postId, "root");
+        Long first = createReply(session, postId, root, "first");
+        Long second = createReply(session, postId, root, "second");
+        Long nested = createReply(session, postId, first, "nested");
+
+        // 목록은 루트 댓글만
+        mockMvc.perform(get("/api/posts/{postId}/comments", postId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.content[0].id").value(root.intValue()))
+                .andExpect(jsonPath("$.content[0].replyCount").value(2));
+
+        // 글 존재 확인 + 루트 댓글 + 하위 트리 범위 1번 (답글 수/깊이와 상관없음)
+        MvcResult page1 = mockMvc.perform(get("/api/posts/{postId}/comments/{commentId}/replies", postId, root)
+                        .param("size", "2")
+                        .with(recordSql()))
+                .andExpect(status().isOk())
+                .andExpect(sqlBudget().select(3))
+                .andExpect(jsonPath("$.content[*].id", contains(first.intValue(), nested.intValue())))
+                .andExpect(jsonPath("$.content[1].depth").value(2))
+                .andExpect(jsonPath("$.content[1].parentId").value(first.intValue()))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andReturn();
+        String cursor = JsonPath.read(page1.getResponse().getContentAsString(), "$.nextCursor");
+
+        mockMvc.perform(get("/api/posts/{postId}/comments/{commentId}/replies", postId, root)
+                        .param("size", "2")
+                        .param("cursor", cursor)
+                        .with(recordSql()))
+                .andExpect(status().isOk())
+                .andExpect(sqlBudget().select(3))
+                .andExpect(jsonPath("$.content[*].id", contains(second.intValue())))
+                .andExpect(jsonPath("$.hasNext").value(false));
+    }
+
+    @Test
+    @DisplayName("답글이 달린 댓글을 지우면 하위 답글도 같이 지워지고 부모의 replyCount가 줄어든다.")
+    void deletingCommentRemovesSubtree() throws Exception {
+        MockHttpSession session = signupAndLogin(mockMvc);
+        Long postId = createPostId(mockMvc, session, "thread", "content");
+
+        Long root = createComment(session, postId, "root");
+        Long first = createReply(session, postId, root, "first");
+        createReply(session, postId, first, "nested");
+        Long second = createReply(session, postId, root, "second");
+
+        // 하위 트리는 범위 delete 한 번으로 지운다.
+        mockMvc.perform(delete("/api/posts/{postId}/comments/{commentId}", postId, first)
+                        .session(session)
+                        .with(recordSql()))
+                .andExpect(status().isNoContent())
+                .andExpect(sqlBudget().select(3).delete(1));
+
+        mockMvc.perform(get("/api/posts/{postId}/comments/{commentId}/replies", postId, root))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].id", contains(second.intValue())));
+        mockMvc.perform(get("/api/posts/{postId}/comments", postId))
+                .andExpect(jsonPath("$.content[0].replyCount").value(1));
+    }
+
+    private Long createReply(MockHttpSession session, Long postId, Long parentId, String content) throws Exception {
+        return postComment(session, postId, String.format("""
+                {
+                    "content": "%s",
+                    "parentId": %d
+                }
+                """, content, parentId));
+    }
+
     private Long createComment(MockHttpSession session, Long postId, String content) throws Exception {
-        String body = String.format("""
+        return postComment(session, postId, String.format("""
                 {
                     "content": "%s"
                 }
-                """, content);
+                """, content));
+    }
+
+    private Long postComment(MockHttpSession session, Long postId, String body) throws Exception {
 
+        // 글 + (답글이면) 부모 댓글 조회, insert 1번
         MvcResult result = mockMvc.perform(post("/api/posts/{postId}/comments", postId)
                         .session(session)
+                        .with(recordSql())
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(body))
                 .andExpect(status().isCreated())
+                .andExpect(sqlBudget().select(2).insert(1))
                 .andReturn();
 
         String json = result.getResponse().getContentAsString();
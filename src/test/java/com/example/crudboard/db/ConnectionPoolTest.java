@@ -0,0 +1,87 @@
+package com.example.crudboard.db;
+
+import com.example.crudboard.global.db.ConnectionPoolSizer;
+import com.example.crudboard.global.db.ConnectionUsageTracker;
+import com.example.crudboard.global.db.ConnectionUsageTracker.RouteUsage;
+import com.example.crudboard.global.db.ConnectionUsageTracker.Window;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static com.example.crudboard.util.TestAuthHelper.createPostId;
+import static com.example.crudboard.util.TestAuthHelper.signupAndLogin;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/*
+@Transactional 테스트는 테스트 트랜잭션이 커넥션을 먼저 쥐고 있어서 요청별 대여가 보이지 않는다.
+그래서 트랜잭션 없이 실제 요청처럼 실행하고, 만든 글/댓글은 직접 지운다.
+open-in-view는 기본으로 켜져 있으므로 이 테스트에서만 끈다.
+ */
+@ActiveProfiles("test")
+@SpringBootTest(properties = "app.db.open-in-view=false")
+@AutoConfigureMockMvc
+public class ConnectionPoolTest {
+
+    private static final String COMMENT_CREATE = "POST /api/posts/{postId}/comments";
+
+    @Autowired MockMvc mockMvc;
+    @Autowired ConnectionUsageTracker tracker;
+    @Autowired DataSource dataSource;
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    private Long postId;
+
+    @AfterEach
+    void tearDown() {
+        if (postId != null) {
+            jdbcTemplate.update("delete from comments where post_id = ?", postId);
+            jdbcTemplate.update("delete from posts where id = ?", postId);
+        }
+    }
+
+    @Test
+    @DisplayName("open-in-view가 꺼져 있으면 JSON 응답을 쓰기 전에 커넥션을 반납하고, 요청별 점유 시간이 집계된다.")
+    void releasesConnectionBeforeBodyWrite() throws Exception {
+        MockHttpSession session = signupAndLogin(mockMvc);
+        postId = createPostId(mockMvc, session, "pool-check", "content");
+        RouteUsage before = tracker.routeUsage().getOrDefault(COMMENT_CREATE, new RouteUsage(0, 0, 0, 0, 0, 0, 0));
+
+        mockMvc.perform(post("/api/posts/{postId}/comments", postId)
+                        .session(session)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                { "content": "comment" }
+                                """))
+                .andExpect(status().isCreated());
+
+        RouteUsage after = tracker.routeUsage().get(COMMENT_CREATE);
+        assertThat(after.requests() - before.requests(), is(1L));
+        assertThat(after.acquisitions() - before.acquisitions(), greaterThanOrEqualTo(1L));
+        assertThat(after.heldDuringBodyWrite() - before.heldDuringBodyWrite(), is(0L));
+    }
+
+    @Test
+    @DisplayName("대기가 점유 시간보다 길고 풀이 꽉 차면 늘리고, 한가하면 1씩 줄이되 범위를 넘지 않는다.")
+    void adaptiveSizingStaysWithinBounds() {
+        ConnectionPoolSizer sizer = new ConnectionPoolSizer(tracker, dataSource, true, 4, 12, 2, 0.5);
+
+        assertThat(sizer.targetSize(8, new Window(100, 0, 8, 30, 20)), is(10));
+        assertThat(sizer.targetSize(12, new Window(100, 0, 12, 30, 20)), is(12));
+        assertThat(sizer.targetSize(8, new Window(100, 3, 5, 0.1, 20)), is(10));
+        assertThat(sizer.targetSize(8, new Window(100, 0, 3, 0.1, 20)), is(7));
+        assertThat(sizer.targetSize(4, new Window(0, 0, 0, 0, 0)), is(4));
+        assertThat(sizer.targetSize(8, new Window(100, 0, 7, 5, 20)), is(8));
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.crudboard.db;
+
+import com.example.crudboard.global.db.PagingExecutor;
+import com.example.crudboard.global.db.PagingExecutor.PendingCount;
+import com.example.crudboard.global.dto.PageResponse;
+import com.example.crudboard.global.shard.ShardContext;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+/*
+트랜잭션 밖에서 호출해야 목록/count가 동시에 실행되므로 테스트 트랜잭션을 걸지 않는다.
+ */
+@ActiveProfiles("test")
+@SpringBootTest
+public class PagingExecutorTest {
+
+    @Autowired PagingExecutor pagingExecutor;
+    @Autowired TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("목록과 count를 다른 스레드에서 각자 읽기 전용 트랜잭션으로 동시에 실행한다.")
+    void runsContentAndCountConcurrently() {
+        CountDownLatch countStarted = new CountDownLatch(1);
+        AtomicReference<String> countThread = new AtomicReference<>();
+        AtomicReference<Integer> countShard = new AtomicReference<>();
+        AtomicBoolean countReadOnly = new AtomicBoolean();
+
+        // 차례로 실행하면 목록이 count를 기다리다 시간 초과로 빈 목록을 돌려준다.
+        PageResponse<String> page = ShardContext.call(0, () -> pagingExecutor.page(PageRequest.of(1, 2), () -> {
+            assertThat(TransactionSynchronizationManager.isCurrentTransactionReadOnly(), is(true));
+            try {
+                return countStarted.await(5, TimeUnit.SECONDS) ? List.of("c", "d") : List.of();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        }, () -> {
+            countThread.set(Thread.currentThread().getName());
+            countShard.set(ShardContext.current());
+            countReadOnly.set(TransactionSynchronizationManager.isCurrentTransactionReadOnly());
+            countStarted.countDown();
+            return 7;
+        }));
+
+        assertThat(page.content(), contains("c", "d"));
+        assertThat(page.totalElements(), is(7L));
+        assertThat(page.totalPages(), is(4));
+        assertThat(countThread.get(), startsWith("page-count-"));
+        // count 스레드도 호출한 쪽의 샤드를 읽는다.
+        assertThat(countShard.get(), is(0));
+        assertThat(countReadOnly.get(), is(true));
+    }
+
+    @Test
+    @DisplayName("목록만으로 전체 개수를 알 수 있으면 count를 기다리지 않고 취소한다.")
+    void shortPageCancelsCount() throws Exception {
+        CountDownLatch countStarted = new CountDownLatch(1);
+        CountDownLatch countInterrupted = new CountDownLatch(1);
+        PendingCount pending = pagingExecutor.startCount(() -> {
+            countStarted.countDown();
+            try {
+                Thread.sleep(TimeUnit.SECONDS.toMillis(30));
+            } catch (InterruptedException e) {
+                countInterrupted.countDown();
+            }
+            return 99;
+        });
+        assertThat(countStarted.await(5, TimeUnit.SECONDS), is(true));
+
+        assertThat(pending.resolve(10, 5, 1), is(11L));
+        assertThat(countInterrupted.await(5, TimeUnit.SECONDS), is(true));
+
+        PageResponse<String> first = pagingExecutor.page(PageRequest.of(0, 5), () -> List.of("a", "b"), () -> 99);
+        assertThat(first.totalElements(), is(2L));
+        assertThat(first.last(), is(true));
+    }
+
+    @Test
+    @DisplayName("이미 트랜잭션 안이면 같은 스레드에서 차례로 실행한다.")
+    void runsSequentiallyInsideTransaction() {
+        String caller = Thread.currentThread().getName();
+        AtomicReference<String> countThread = new AtomicReference<>();
+
+        PageResponse<String> page = transactionTemplate.execute(status ->
+                pagingExecutor.page(PageRequest.of(0, 1), () -> List.of("a"), () -> {
+                    countThread.set(Thread.currentThread().getName());
+                    return 3;
+                }));
+
+        assertThat(page.totalElements(), is(3L));
+        assertThat(countThread.get(), is(caller));
+    }
+}
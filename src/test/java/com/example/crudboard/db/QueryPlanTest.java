@@ -0,0 +1,252 @@
+package com.example.crudboard.db;
+
+import com.example.crudboard.comment.Comment;
+import com.example.crudboard.comment.repository.CommentRepository;
+import com.example.crudboard.post.PostSearchCondition;
+import com.example.crudboard.post.PostSearchType;
+import com.example.crudboard.post.PostSpecifications;
+import com.example.crudboard.post.archive.PostArchiveRepository;
+import com.example.crudboard.post.archive.PostArchiveService;
+import com.example.crudboard.post.dto.PostResponse;
+import com.example.crudboard.post.partition.PostMonths;
+import com.example.crudboard.post.partition.PostPartitionService;
+import com.example.crudboard.post.purge.PostPurgeService;
+import com.example.crudboard.post.repository.PostRepository;
+import com.example.crudboard.user.UserRepository;
+import com.example.crudboard.util.SqlStatementRecorder;
+import jakarta.persistence.EntityManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.greaterThan;
+
+/**
+ * 쿼리 플랜 회귀 테스트.
+ * 리포지토리 메서드가 실제로 실행하는 SQL을 모두 모아서(SqlStatementRecorder) H2 EXPLAIN으로 플랜을 확인하고,
+ * 인덱스 없이 전체 테이블을 읽는(.tableScan) 쿼리가 있으면 실패한다.
+ *
+ * 어쩔 수 없는 스캔은 ALLOWED_SCANS에 이유와 함께 등록한다.
+ * 새 리포지토리 메서드를 만들면 scenarios()에 추가하자.
+ */
+@ActiveProfiles("test")
+@SpringBootTest
+@Transactional
+public class QueryPlanTest {
+
+    private static final int POSTS = 1_000;
+    private static final int COMMENTS_PER_POST = 5;
+    private static final int COMMENTED_POSTS = 100;
+    private static final int USERS = 200;
+
+    private static final List<AllowedScan> ALLOWED_SCANS = List.of(
+            new AllowedScan("post list by keyword", Pattern.compile(" like "),
+                    "LIKE '%keyword%'(앞쪽 와일드카드)는 B-tree 인덱스를 쓸 수 없다. (PostgreSQL이면 pg_trgm 등 별도 인덱스 필요)"),
+            new AllowedScan("legacy keyword search", Pattern.compile(" like "),
+                    "LIKE '%keyword%'(앞쪽 와일드카드)는 B-tree 인덱스를 쓸 수 없다."),
+            new AllowedScan("post list", Pattern.compile("^select count\\("),
+                    "조건 없는 전체 개수는 모든 행을 세야 한다.")
+    );
+
+    @Autowired PostRepository postRepository;
+    @Autowired CommentRepository commentRepository;
+    @Autowired UserRepository userRepository;
+    @Autowired PostPartitionService partitionService;
+    @Autowired PostArchiveService archiveService;
+    @Autowired PostArchiveRepository archiveRepository;
+    @Autowired PostPurgeService purgeService;
+    @Autowired EntityManager em;
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    private long postId;
+    private long commentedPostId;
+    private long commentId;
+    private String commentPath;
+
+    @BeforeEach
+    void seed() {
+        LocalDateTime base = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+        List<Object[]> posts = new ArrayList<>();
+        for (int i = 0; i < POSTS; i++) {
+            Timestamp at = Timestamp.valueOf(base.plusMinutes(i));
+            posts.add(new Object[]{"plan title " + i, "plan content " + i, at, at, PostMonths.of(base.plusMinutes(i))});
+        }
+        jdbcTemplate.batchUpdate(
+                "insert into posts (title, content, created_at, updated_at, created_month) values (?, ?, ?, ?, ?)", posts);
+        // 삭제 시나리오에서 지울 글 (댓글이 달린 글과 겹치지 않게 가장 오래된 글)
+        postId = jdbcTemplate.queryForObject("select min(id) from posts", Long.class);
+
+        List<Long> postIds = jdbcTemplate.queryForList(
+                "select id from posts order by id desc limit " + COMMENTED_POSTS, Long.class);
+        List<Object[]> comments = new ArrayList<>();
+        for (Long id : postIds) {
+            for (int i = 0; i < COMMENTS_PER_POST; i++) {
+                Timestamp at = Timestamp.valueOf(base.plusMinutes(i));
+                comments.add(new Object[]{id, "plan comment " + i, at, at});
+            }
+        }
+        jdbcTemplate.batchUpdate("insert into comments (post_id, content, created_at, updated_at) values (?, ?, ?, ?)", comments);
+        // 루트 댓글 path (CommentCommandService가 저장 직후 채우는 값과 같다)
+        jdbcTemplate.update("update comments set path = lpad(cast(id as varchar), 19, '0') where path = ''");
+        commentedPostId = postIds.getFirst();
+        commentId = jdbcTemplate.queryForObject("select max(id) from comments where post_id = ?", Long.class, commentedPostId);
+        commentPath = jdbcTemplate.queryForObject("select path from comments where id = ?", String.class, commentId);
+
+        List<Object[]> users = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            Timestamp now = Timestamp.valueOf(base);
+            users.add(new Object[]{"plan" + i + "@example.com", "hash", "USER", now, now});
+        }
+        jdbcTemplate.batchUpdate("insert into users (email, password_hash, role, created_at, updated_at) values (?, ?, ?, ?, ?)", users);
+    }
+
+    private List<Scenario> scenarios() {
+        Pageable postPage = PageRequest.of(0, 5, Sort.by(Direction.DESC, "createdAt"));
+        Pageable commentPage = PageRequest.of(0, 10, Sort.by(Direction.DESC, "createdAt"));
+        LocalDateTime from = LocalDateTime.of(2026, 1, 1, 1, 0);
+        LocalDateTime to = LocalDateTime.of(2026, 1, 1, 2, 0);
+        PostSearchCondition dateRange = new PostSearchCondition(null, PostSearchType.TITLE_CONTENT, from, to);
+        PostSearchCondition keyword = new PostSearchCondition("title 1", PostSearchType.TITLE_CONTENT, null, null);
+
+        return List.of(
+                new Scenario("post findById", () -> postRepository.findById(postId)),
+                new Scenario("post findUpdatedAtById", () -> postRepository.findUpdatedAtById(postId)),
+                new Scenario("post existsById", () -> postRepository.existsById(postId)),
+                new Scenario("post list", () ->
+                        postRepository.findAll(PostSpecifications.byCondition(null), postPage)),
+                new Scenario("post list by date range", () ->
+                        postRepository.findAll(PostSpecifications.byCondition(dateRange), postPage)),
+                new Scenario("post count by date range", () ->
+                        postRepository.count(PostSpecifications.byCondition(dateRange))),
+                new Scenario("post stream by date range", () -> {
+                    try (Stream<PostResponse> rows = postRepository.streamResponses(
+                            PostSpecifications.byCondition(dateRange), postPage.getSort(), 0, 50)) {
+                        rows.forEach(row -> { });
+                    }
+                }),
+                new Scenario("post list by keyword", () ->
+                        postRepository.findAll(PostSpecifications.byCondition(keyword), postPage)),
+                new Scenario("legacy keyword search", () ->
+                        postRepository.findByTitleContainingIgnoreCaseOrContentContainingIgnoreCase("title 1", "title 1", postPage)),
+                new Scenario("post archive batch", () ->
+                        archiveService.archiveOlderThan(LocalDateTime.of(2026, 1, 1, 0, 10))),
+                new Scenario("post archive findById", () -> archiveRepository.findById(postId)),
+                new Scenario("post deleteById", () -> {
+                    postRepository.deleteById(postId);
+                    em.flush();
+                }),
+                new Scenario("comment findByPostId", () -> commentRepository.findByPostId(commentedPostId, commentPage)),
+                // 목록/count를 따로 실행하는 쪽(PagingExecutor)을 먼저 둔다. (쿼리 캐시에 걸리면 SQL이 기록되지 않음)
+                new Scenario("comment roots content", () -> commentRepository.readByPostIdAndDepth(commentedPostId, 0,
+                        PageRequest.of(0, 20, commentPage.getSort()))),
+                new Scenario("comment roots count", () -> commentRepository.countByPostIdAndDepth(commentedPostId, 0)),
+                new Scenario("comment roots", () -> commentRepository.findByPostIdAndDepth(commentedPostId, 0, commentPage)),
+                new Scenario("comment thread", () -> commentRepository.findThread(commentedPostId,
+                        commentPath, Comment.subtreeEnd(commentPath), PageRequest.of(0, 21))),
+                new Scenario("comment existsByIdAndPostId", () ->
+                        commentRepository.existsByIdAndPostId(commentId, commentedPostId)),
+                new Scenario("comment deleteByIdAndPostId", () -> {
+                    commentRepository.deleteByIdAndPostId(commentId, commentedPostId);
+                    em.flush();
+                }),
+                // 댓글이 달린 글을 소프트 삭제(JDBC라 기록되지 않음)하고 정리한다. 댓글 시나리오보다 뒤에 둬야 한다.
+                new Scenario("post purge", () -> {
+                    jdbcTemplate.update("update posts set deleted_at = current_timestamp where id = ?", commentedPostId);
+                    purgeService.purgePending();
+                }),
+                new Scenario("user findByEmail", () -> userRepository.findByEmail("plan7@example.com")),
+                new Scenario("user existsByEmail", () -> userRepository.existsByEmail("plan7@example.com")),
+                // 시드 글(2026년 1월)을 전부 옮기므로 마지막에 둔다.
+                new Scenario("post partition detach", () -> partitionService.detach(202601)),
+                new Scenario("post partition attach", () -> partitionService.attach(202601))
+        );
+    }
+
+    @Test
+    @DisplayName("리포지토리 쿼리는 전체 테이블 스캔 없이 인덱스를 사용한다.")
+    void repositoryQueriesUseIndexes() {
+        List<String> failures = new ArrayList<>();
+        int explained = 0;
+
+        for (Scenario scenario : scenarios()) {
+            em.clear(); // 영속성 컨텍스트 캐시 때문에 SQL이 생략되지 않도록
+            SqlStatementRecorder.start();
+            List<String> statements;
+            try {
+                scenario.action().run();
+            } finally {
+                statements = SqlStatementRecorder.stop();
+            }
+            if (statements.isEmpty()) {
+                failures.add("[" + scenario.name() + "] SQL이 기록되지 않았습니다.");
+            }
+
+            for (String sql : statements) {
+                String normalized = sql.trim().toLowerCase(Locale.ROOT);
+                if (!(normalized.startsWith("select") || normalized.startsWith("update") || normalized.startsWith("delete"))) {
+                    continue;
+                }
+                String plan = explain(sql);
+                explained++;
+                if (plan.contains(".tableScan") && !isAllowed(scenario.name(), normalized)) {
+                    failures.add("[" + scenario.name() + "] full table scan\nSQL : " + sql + "\nPLAN: " + plan);
+                }
+            }
+        }
+
+        assertThat(explained, greaterThan(0));
+        assertThat(String.join("\n\n", failures), failures, empty());
+    }
+
+    // 바인딩 값은 플랜 선택에 쓰이지 않으므로 모든 파라미터를 null로 두고 EXPLAIN 한다.
+    private String explain(String sql) {
+        return jdbcTemplate.execute((ConnectionCallback<String>) con -> {
+            try (PreparedStatement ps = con.prepareStatement("EXPLAIN " + sql)) {
+                int parameterCount = ps.getParameterMetaData().getParameterCount();
+                for (int i = 1; i <= parameterCount; i++) {
+                    ps.setObject(i, null);
+                }
+                StringBuilder plan = new StringBuilder();
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        plan.append(rs.getString(1)).append('\n');
+                    }
+                }
+                return plan.toString();
+            }
+        });
+    }
+
+    private static boolean isAllowed(String scenario, String normalizedSql) {
+        return ALLOWED_SCANS.stream()
+                .anyMatch(a -> a.scenario().equals(scenario) && a.statement().matcher(normalizedSql).find());
+    }
+
+    private record Scenario(String name, Runnable action) {
+    }
+
+    private record AllowedScan(String scenario, Pattern statement, String reason) {
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.crudboard.global.accesslog;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+/*
+AccessLogBuffer는 패키지 전용이라 같은 패키지에 둔다. 쓰기 스레드 없이 offer/drain만 직접 호출한다.
+ */
+public class AccessLogBufferTest {
+
+    @Test
+    @DisplayName("가득 차면 offer가 기다리지 않고 false를 돌려주고, drain한 만큼 다시 넣을 수 있다.")
+    void rejectsWhenFullAndReusesDrainedSlots() {
+        AccessLogBuffer buffer = new AccessLogBuffer(4);
+        assertThat(buffer.capacity(), is(4));
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(offer(buffer, i), is(true));
+        }
+        assertThat(offer(buffer, 4), is(false));
+        assertThat(buffer.pending(), is(4));
+
+        List<Long> drained = new ArrayList<>();
+        assertThat(buffer.drain(entry -> drained.add(entry.timestampMillis), 2), is(2));
+        assertThat(drained, contains(0L, 1L));
+        assertThat(buffer.pending(), is(2));
+
+        assertThat(offer(buffer, 5), is(true));
+        assertThat(offer(buffer, 6), is(true));
+        assertThat(offer(buffer, 7), is(false));
+
+        assertThat(buffer.drain(entry -> drained.add(entry.timestampMillis), 100), is(4));
+        assertThat(drained, contains(0L, 1L, 2L, 3L, 5L, 6L));
+        assertThat(buffer.pending(), is(0));
+        assertThat(buffer.drain(entry -> drained.add(entry.timestampMillis), 100), is(0));
+    }
+
+    @Test
+    @DisplayName("drain한 칸은 문자열 참조를 비워서 다음 항목이 들어올 때까지 잡아두지 않는다.")
+    void clearsReferencesAfterDrain() {
+        AccessLogBuffer buffer = new AccessLogBuffer(2);
+        offer(buffer, 1);
+        List<AccessLogBuffer.Entry> seen = new ArrayList<>();
+        buffer.drain(entry -> {
+            assertThat(entry.route, is("/api/posts/{id}"));
+            assertThat(entry.principal, is("7"));
+            seen.add(entry);
+        }, 1);
+
+        assertThat(seen, hasSize(1));
+        assertThat(seen.get(0).method, nullValue());
+        assertThat(seen.get(0).route, nullValue());
+        assertThat(seen.get(0).principal, nullValue());
+    }
+
+    private static boolean offer(AccessLogBuffer buffer, long timestampMillis) {
+        return buffer.offer(timestampMillis, "GET", "/api/posts/{id}", 200, 10, 5, 1, "7");
+    }
+}
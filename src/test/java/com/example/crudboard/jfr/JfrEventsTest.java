@@ -0,0 +1,155 @@
+package com.example.crudboard.jfr;
+
+import com.example.crudboard.global.error.ApiException;
+import com.example.crudboard.global.error.ErrorCode;
+import com.example.crudboard.global.jfr.JfrRecordingService;
+import com.example.crudboard.util.TestAuthHelper;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/*
+트랜잭션 이벤트는 서비스가 트랜잭션을 직접 열어야 남으므로 테스트 트랜잭션을 걸지 않고, 만든 글은 직접 지운다.
+ */
+@ActiveProfiles("test")
+@SpringBootTest
+@AutoConfigureMockMvc
+public class JfrEventsTest {
+
+    @Autowired MockMvc mockMvc;
+    @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired JfrRecordingService recordingService;
+    @Autowired PlatformTransactionManager transactionManager;
+
+    private final List<Long> created = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        recordingService.destroy();
+        for (Long postId : created) {
+            jdbcTemplate.update("delete from comments where post_id = ?", postId);
+            jdbcTemplate.update("delete from posts where id = ?", postId);
+        }
+    }
+
+    @Test
+    @DisplayName("녹화 중에는 리포지토리 호출, 트랜잭션, JSON 캐시, 직렬화가 요청 경로와 함께 이벤트로 남는다.")
+    void recordsEventsWithEndpoint() throws Exception {
+        MockHttpSession session = TestAuthHelper.signupAndLogin(mockMvc);
+        Long postId = TestAuthHelper.createPostId(mockMvc, session, "jfr", "content");
+        created.add(postId);
+
+        recordingService.start("default");
+        mockMvc.perform(get("/api/posts/{id}", postId)).andExpect(status().isOk());
+        mockMvc.perform(get("/api/posts/{id}", postId)).andExpect(status().isOk());
+        mockMvc.perform(post("/api/posts/{postId}/comments", postId)
+                        .session(session)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                { "content": "jfr comment" }
+                                """))
+                .andExpect(status().isCreated());
+        recordingService.stop();
+
+        List<RecordedEvent> events = dump();
+
+        List<RecordedEvent> postReads = named(events, "crudboard.RepositoryCall").stream()
+                .filter(e -> "PostRepository".equals(e.getString("repository")))
+                .filter(e -> "GET /api/posts/{id}".equals(e.getString("endpoint")))
+                .toList();
+        assertThat(postReads, not(empty()));
+        assertThat(postReads.get(0).getLong("id"), is(postId));
+        assertThat(postReads.get(0).getInt("rows"), is(1));
+
+        assertThat(named(events, "crudboard.Transaction").stream()
+                .map(e -> e.getString("outcome")).toList(), hasItem("commit"));
+
+        List<Boolean> hits = named(events, "crudboard.CacheAccess").stream()
+                .filter(e -> "GET /api/posts/{id}".equals(e.getString("endpoint")))
+                .map(e -> e.getBoolean("hit"))
+                .toList();
+        assertThat(hits, hasItems(false, true));
+
+        List<RecordedEvent> serializations = named(events, "crudboard.Serialization");
+        assertThat(serializations.stream().filter(e -> "json-cache".equals(e.getString("source")))
+                .map(e -> e.getLong("bytes")).toList(), hasItem(greaterThan(0L)));
+        assertThat(serializations.stream().filter(e -> "converter".equals(e.getString("source")))
+                .map(e -> e.getString("type")).toList(), hasItem("CommentResponse"));
+    }
+
+    @Test
+    @DisplayName("트랜잭션 도중에 녹화가 시작되면 녹화 중에 시작한 트랜잭션만 남는다.")
+    void recordsOnlyTransactionsBegunWhileRecording() throws Exception {
+        TransactionTemplate outer = new TransactionTemplate(transactionManager);
+        outer.setName("jfr-outer");
+        TransactionTemplate inner = new TransactionTemplate(transactionManager);
+        inner.setName("jfr-inner");
+        inner.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        outer.executeWithoutResult(status -> {
+            recordingService.start("default");
+            inner.executeWithoutResult(innerStatus -> jdbcTemplate.queryForObject("select 1", Integer.class));
+        });
+        recordingService.stop();
+
+        List<RecordedEvent> transactions = named(dump(), "crudboard.Transaction");
+        assertThat(transactions.stream().map(e -> e.getString("name")).toList(),
+                both(hasItem("jfr-inner")).and(not(hasItem("jfr-outer"))));
+        assertThat(transactions.stream().filter(e -> "jfr-inner".equals(e.getString("name")))
+                .map(e -> e.getString("outcome")).toList(), contains("commit"));
+    }
+
+    @Test
+    @DisplayName("녹화는 하나만 둔다. 녹화가 없으면 중지/덤프할 수 없다.")
+    void oneRecordingAtATime() {
+        ApiException notFound = assertThrows(ApiException.class, () -> recordingService.stop());
+        assertThat(notFound.getErrorCode(), is(ErrorCode.JFR_RECORDING_NOT_FOUND));
+
+        recordingService.start(null);
+        ApiException running = assertThrows(ApiException.class, () -> recordingService.start(null));
+        assertThat(running.getErrorCode(), is(ErrorCode.JFR_RECORDING_RUNNING));
+        assertThat(recordingService.status().state(), is("RUNNING"));
+
+        recordingService.stop();
+        assertThat(recordingService.status().state(), is("STOPPED"));
+        ApiException unknown = assertThrows(ApiException.class, () -> recordingService.start("no-such-settings"));
+        assertThat(unknown.getErrorCode(), is(ErrorCode.VALIDATION_ERROR));
+    }
+
+    private List<RecordedEvent> dump() throws Exception {
+        Path file = recordingService.dump();
+        try {
+            return RecordingFile.readAllEvents(file);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static List<RecordedEvent> named(List<RecordedEvent> events, String name) {
+        return events.stream().filter(e -> e.getEventType().getName().equals(name)).toList();
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.crudboard.post;
+
+import com.example.crudboard.comment.event.CommentChangedEvent;
+import com.example.crudboard.post.event.PostChangedEvent;
+import com.example.crudboard.post.hot.HotPostSnapshot;
+import com.example.crudboard.post.hot.HotPostSnapshotRepository;
+import com.example.crudboard.post.hot.HotPostTracker;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static com.example.crudboard.util.TestAuthHelper.createPostId;
+import static com.example.crudboard.util.TestAuthHelper.signupAndLogin;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/*
+발행(publish)은 테스트에서 직접 호출한다. (스케줄러가 끼어들지 않도록 주기를 길게)
+@Transactional 테스트에서는 after-commit 리스너가 돌지 않아서 댓글/삭제 이벤트도 직접 넘긴다.
+ */
+@ActiveProfiles("test")
+@SpringBootTest(properties = {"app.posts.hot.publish-millis=3600000", "app.posts.hot.snapshot-millis=3600000",
+        "app.posts.hot.instance-id=hot-test"})
+@AutoConfigureMockMvc
+@Transactional
+public class HotPostTest {
+
+    @Autowired MockMvc mockMvc;
+    @Autowired HotPostTracker hotPostTracker;
+    @Autowired HotPostSnapshotRepository snapshotRepository;
+
+    @Test
+    @DisplayName("조회/댓글 가중치 순으로 인기글이 정렬되고, 삭제된 글은 빠진다.")
+    void ranksByWeightedActivity() throws Exception {
+        MockHttpSession session = signupAndLogin(mockMvc);
+        Long first = createPostId(mockMvc, session, "hot-a", "content");
+        Long second = createPostId(mockMvc, session, "hot-b", "content");
+        view(first, 3);
+        view(second, 1);
+        hotPostTracker.publish();
+
+        mockMvc.perform(get("/api/posts/hot"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(first))
+                .andExpect(jsonPath("$[0].title").value("hot-a"))
+                .andExpect(jsonPath("$[1].id").value(second));
+
+        // 댓글 1개 = 조회 5회 (comment-weight)
+        hotPostTracker.onCommentChanged(new CommentChangedEvent(second, 1L, CommentChangedEvent.Type.CREATED));
+        hotPostTracker.publish();
+        mockMvc.perform(get("/api/posts/hot").param("limit", "1"))
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id").value(second));
+
+        hotPostTracker.onPostChanged(new PostChangedEvent(second, PostChangedEvent.Type.DELETED));
+        hotPostTracker.publish();
+        mockMvc.perform(get("/api/posts/hot"))
+                .andExpect(jsonPath("$[0].id").value(first))
+                .andExpect(jsonPath("$[*].id", not(hasItem(second.intValue()))));
+    }
+
+    @Test
+    @DisplayName("스냅샷은 자기 인스턴스 행만 덮어쓰고, 복원은 인스턴스별 점수 중 가장 높은 값을 쓴다.")
+    void snapshotsPerInstanceAndRestoresMax() {
+        long shared = 9_100_001L;
+        long expired = 9_100_002L;
+        LocalDateTime now = LocalDateTime.now();
+        snapshotRepository.saveAll(List.of(
+                new HotPostSnapshot("other-a", shared, 40, now),
+                new HotPostSnapshot("other-b", shared, 30, now),
+                new HotPostSnapshot("other-a", expired, 50, now.minusDays(30))));
+
+        hotPostTracker.snapshot();
+
+        List<HotPostSnapshot> rows = snapshotRepository.findAll();
+        assertThat(rows.stream().filter(row -> row.getPostId() == shared).count(), is(2L));
+        assertThat(rows.stream().anyMatch(row -> row.getPostId() == expired), is(false));
+
+        hotPostTracker.restore();
+        Map<Long, Double> scores = hotPostTracker.currentScores();
+        // 합(70)이 아니라 최댓값(40). 스케치는 과대 추정만 하므로 아래쪽은 정확하다.
+        assertThat(scores.get(shared), allOf(greaterThanOrEqualTo(39.9), lessThan(70.0)));
+    }
+
+    private void view(Long postId, int times) throws Exception {
+        for (int i = 0; i < times; i++) {
+            mockMvc.perform(get("/api/posts/{id}", postId)).andExpect(status().isOk());
+        }
+    }
+}
@@ -1,5 +1,11 @@
 package com.example.crudboard.post;
 
+import com.example.crudboard.global.error.ApiError;
+import com.example.crudboard.global.error.ApiErrorTemplates;
+import com.example.crudboard.global.error.ApiException;
+import com.example.crudboard.global.error.ErrorCode;
+import com.example.crudboard.global.error.ErrorLogSampler;
+import com.example.crudboard.global.error.ErrorLogSampler.ErrorStats;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -10,9 +16,12 @@ import org.springframework.mock.web.MockHttpSession;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.json.JsonMapper;
 
 import static com.example.crudboard.util.TestAuthHelper.createPost;
 import static com.example.crudboard.util.TestAuthHelper.signupAndLogin;
+import static com.example.crudboard.util.SqlBudget.recordSql;
+import static com.example.crudboard.util.SqlBudget.sqlBudget;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -35,6 +44,9 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 public class PostApiTest {
 
     @Autowired MockMvc mockMvc; // 테스트에서 HTTP 요청을 보내는 도구, perform()으로 요청을 날리고, andExpect()로 결과를 검증한다.
+    @Autowired ErrorLogSampler errorLogSampler;
+    @Autowired ApiErrorTemplates apiErrorTemplates;
+    @Autowired JsonMapper jsonMapper;
 
     @Test
     @DisplayName("Create api 실행시 201이 반환된다.")
@@ -43,6 +55,7 @@ public class PostApiTest {
 
         mockMvc.perform(post("/api/posts")
                 .session(session)
+                .with(recordSql())
                 .contentType(MediaType.APPLICATION_JSON)
                 .content("""
                         {
@@ -50,7 +63,8 @@ public class PostApiTest {
                         "content": "first post"
                         }
                         """))
-                .andExpect(status().isCreated());
+                .andExpect(status().isCreated())
+                .andExpect(sqlBudget().select(0).insert(1));
     }
 
     @Test
@@ -68,20 +82,65 @@ public class PostApiTest {
         MockHttpSession session = signupAndLogin(mockMvc);
         String location = createPost(mockMvc, session, "hello", "first post");
 
-        mockMvc.perform(get(location))
-                .andExpect(status().isOk());
+        // updatedAt(캐시 버전) 1번 + 캐시에 없으면 글 1번
+        mockMvc.perform(get(location).with(recordSql()))
+                .andExpect(status().isOk())
+                .andExpect(sqlBudget().select(2).insert(0));
     }
 
     @Test
     @DisplayName("DB에 없는 read 요청 시 ApiExceptionHandler 통해 에러가 처리된다.")
     void getNonExistingPostReturns404AndErrorCode() throws Exception {
-        mockMvc.perform(get("/api/posts/99999999"))
+        mockMvc.perform(get("/api/posts/99999999").with(recordSql()))
                 .andExpect(status().isNotFound())
+                .andExpect(sqlBudget().select(1))
                 .andExpect(jsonPath("$.code").value("POST_NOT_FOUND"))
                 .andExpect(jsonPath("$.message", containsString("게시글을 찾을 수 없습니다.")))
                 .andExpect(jsonPath("$.timestamp").isNotEmpty());
     }
 
+    @Test
+    @DisplayName("미리 직렬화한 에러 템플릿은 ApiError를 직렬화한 것과 같은 필드를 만든다.")
+    void errorTemplatesMatchApiError() throws Exception {
+        String path = "/api/posts/\"quoted\"/경로";
+        for (ErrorCode code : ErrorCode.values()) {
+            ApiError parsed = jsonMapper.readValue(apiErrorTemplates.body(code, path), ApiError.class);
+
+            assertThat(parsed.code(), is(code.name()));
+            assertThat(parsed.message(), is(code.defaultMessage()));
+            assertThat(parsed.fieldViolations(), is(empty()));
+            assertThat(parsed.path(), is(path));
+            assertThat(parsed.timestamp(), is(notNullValue()));
+        }
+
+        mockMvc.perform(get("/api/posts/99999999"))
+                .andExpect(status().isNotFound())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.message").value(ErrorCode.POST_NOT_FOUND.defaultMessage()))
+                .andExpect(jsonPath("$.fieldViolations", hasSize(0)))
+                .andExpect(jsonPath("$.path").value("/api/posts/99999999"));
+    }
+
+    @Test
+    @DisplayName("404 같은 4xx 예외는 스택 트레이스 없이 만들고, ErrorCode별로 건수를 센다.")
+    void expectedErrorsAreStacklessAndCounted() throws Exception {
+        assertThat(new ApiException(ErrorCode.POST_NOT_FOUND).getStackTrace().length, is(0));
+        assertThat(new ApiException(ErrorCode.INTERNAL_ERROR).getStackTrace().length, greaterThan(0));
+
+        long before = notFoundCount();
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(get("/api/posts/99999999"))
+                    .andExpect(status().isNotFound())
+                    .andExpect(jsonPath("$.path").value("/api/posts/99999999"));
+        }
+        assertThat(notFoundCount(), is(before + 3));
+    }
+
+    private long notFoundCount() {
+        ErrorStats stats = errorLogSampler.stats().get(ErrorCode.POST_NOT_FOUND);
+        return stats == null ? 0 : stats.total();
+    }
+
     @Test
     @DisplayName("Update api 실행시 204가 반환된다.")
     void updatePostReturn204() throws Exception {
@@ -97,9 +156,11 @@ public class PostApiTest {
 
         mockMvc.perform(put(location)
                         .session(session)
+                        .with(recordSql())
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(updateBody))
-                .andExpect(status().isNoContent());
+                .andExpect(status().isNoContent())
+                .andExpect(sqlBudget().select(1).insert(0));
 
         mockMvc.perform(get(location))
                 .andExpect(status().isOk());
@@ -131,6 +192,33 @@ public class PostApiTest {
     }
 
 
+    @Test
+    @DisplayName("조회 후 수정하면 캐시된 응답 대신 수정된 내용이 조회된다.")
+    void getAfterUpdateIsNotStale() throws Exception {
+        MockHttpSession session = signupAndLogin(mockMvc);
+        String location = createPost(mockMvc, session, "hello", "first post");
+
+        mockMvc.perform(get(location))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("hello"));
+
+        mockMvc.perform(put(location)
+                        .session(session)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {
+                                    "title": "updated title",
+                                    "content": "updated content"
+                                }
+                                """))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get(location))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.title").value("updated title"));
+    }
+
     @Test
     @DisplayName("Delete api 실행시 204가 반환된다.")
     void deletePostReturns204() throws Exception {
@@ -139,8 +227,10 @@ public class PostApiTest {
 
 
         mockMvc.perform(delete(location)
-                        .session(session))
-                .andExpect(status().isNoContent());
+                        .session(session)
+                        .with(recordSql()))
+                .andExpect(status().isNoContent())
+                .andExpect(sqlBudget().select(1).insert(0).delete(0));
     }
 
     @Test
@@ -164,8 +254,10 @@ public class PostApiTest {
         createPost(mockMvc, session, "spring", "boot");
         createPost(mockMvc, session, "java", "jpa");
 
-        mockMvc.perform(get("/api/posts").param("keyword", "spring"))
+        // 목록 1번 + count 1번
+        mockMvc.perform(get("/api/posts").param("keyword", "spring").with(recordSql()))
                 .andExpect(status().isOk())
+                .andExpect(sqlBudget().select(2))
                 .andExpect(jsonPath("$.content", hasSize(greaterThanOrEqualTo(1))))
                 .andExpect(jsonPath("$.content[0].title", containsStringIgnoringCase("spring")));
     }
@@ -187,9 +279,11 @@ public class PostApiTest {
                 """;
         mockMvc.perform(post("/api/posts")
                         .session(session)
+                        .with(recordSql())
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(body))
-                .andExpect(status().isBadRequest());
+                .andExpect(status().isBadRequest())
+                .andExpect(sqlBudget().select(0).insert(0));
     }
 
     @Test
@@ -211,6 +305,59 @@ public class PostApiTest {
     }
 
 
+    @Test
+    @DisplayName("목록 응답은 스트리밍으로 써도 PageResponse와 같은 모양이다.")
+    void listPostsStreamsPageEnvelope() throws Exception {
+        MockHttpSession session = signupAndLogin(mockMvc);
+        createPost(mockMvc, session, "stream-envelope-1", "c1");
+        createPost(mockMvc, session, "stream-envelope-2", "c2");
+        createPost(mockMvc, session, "stream-envelope-3", "c3");
+
+        // 마지막 페이지가 덜 찼으므로 count 쿼리는 생략된다.
+        mockMvc.perform(get("/api/posts")
+                        .param("keyword", "stream-envelope")
+                        .param("size", "2")
+                        .param("page", "1")
+                        .with(recordSql()))
+                .andExpect(status().isOk())
+                .andExpect(sqlBudget().select(1))
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.content[0].createdAt").isNotEmpty())
+                .andExpect(jsonPath("$.page").value(1))
+                .andExpect(jsonPath("$.size").value(2))
+                .andExpect(jsonPath("$.totalElements").value(3))
+                .andExpect(jsonPath("$.totalPages").value(2))
+                .andExpect(jsonPath("$.first").value(false))
+                .andExpect(jsonPath("$.last").value(true));
+    }
+
+    @Test
+    @DisplayName("page * size가 int를 넘는 페이지는 500 대신 VALIDATION_ERROR로 거절된다.")
+    void listPostsRejectsOverflowingPage() throws Exception {
+        mockMvc.perform(get("/api/posts")
+                        .param("page", "100000000")
+                        .param("size", "50"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("VALIDATION_ERROR"));
+    }
+
+    @Test
+    @DisplayName("Export api는 검색 조건에 맞는 글 전체를 id 순 배열로 내려준다.")
+    void exportPostsStreamsAllMatchingRows() throws Exception {
+        MockHttpSession session = signupAndLogin(mockMvc);
+        for (int i = 0; i < 7; i++) {
+            createPost(mockMvc, session, "export-keyword-" + i, "content " + i);
+        }
+
+        mockMvc.perform(get("/api/posts/export").param("keyword", "export-keyword").with(recordSql()))
+                .andExpect(status().isOk())
+                .andExpect(sqlBudget().select(1))
+                .andExpect(jsonPath("$", hasSize(7)))
+                .andExpect(jsonPath("$[0].title").value("export-keyword-0"))
+                .andExpect(jsonPath("$[6].title").value("export-keyword-6"));
+    }
+
     @Test
     @DisplayName("페이지당 1000개의 게시글을 요청해도 50개 까지만 나온다")
     void listPostsSizeIsClampedToMax() throws Exception {
@@ -0,0 +1,120 @@
+package com.example.crudboard.post;
+
+import com.example.crudboard.post.archive.PostArchiveService;
+import com.example.crudboard.post.archive.PostArchiveStats;
+import jakarta.persistence.EntityManager;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static com.example.crudboard.util.SqlBudget.recordSql;
+import static com.example.crudboard.util.SqlBudget.sqlBudget;
+import static com.example.crudboard.util.TestAuthHelper.signupAndLogin;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ActiveProfiles("test")
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+public class PostArchiveTest {
+
+    private static final String OLD_CONTENT =
+            "안녕하세요. 지난 주말에 다녀온 후기 정리해서 공유합니다. 정말 좋았습니다. ".repeat(10);
+
+    @Autowired MockMvc mockMvc;
+    @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired PostArchiveService archiveService;
+    @Autowired EntityManager em;
+
+    private long oldPostId;
+
+    @BeforeEach
+    void seed() {
+        Timestamp at = Timestamp.valueOf(LocalDateTime.of(2020, 1, 5, 9, 0));
+        jdbcTemplate.update("insert into posts (title, content, created_at, updated_at, created_month) values (?, ?, ?, ?, ?)",
+                "archive-old", OLD_CONTENT, at, at, 202001);
+        oldPostId = jdbcTemplate.queryForObject("select max(id) from posts", Long.class);
+    }
+
+    @Test
+    @DisplayName("보관된 글은 posts.content가 비워지고, 단건/내보내기 조회에서는 원래 본문이 그대로 나온다.")
+    void archivedContentIsReadTransparently() throws Exception {
+        int archived = archiveService.archiveOlderThan(LocalDateTime.now().minusDays(180));
+
+        assertThat(archived, greaterThanOrEqualTo(1));
+        assertThat(jdbcTemplate.queryForObject("select content from posts where id = ?", String.class, oldPostId), is(""));
+        assertThat(jdbcTemplate.queryForObject("select archived from posts where id = ?", Boolean.class, oldPostId), is(true));
+
+        mockMvc.perform(get("/api/posts/{id}", oldPostId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content").value(OLD_CONTENT));
+        mockMvc.perform(get("/api/posts/export").param("keyword", "archive-old"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].content").value(OLD_CONTENT));
+
+        PostArchiveStats stats = archiveService.stats();
+        assertThat(stats.compressedBytes(), lessThan(stats.originalBytes()));
+        assertThat(stats.reads().get("archive-inflate").reads() + stats.reads().get("archive-cache").reads(),
+                greaterThanOrEqualTo(1L));
+    }
+
+    @Test
+    @DisplayName("보관된 본문은 본문 검색 대상이 아니고, 보관된 글도 제목으로는 찾는다.")
+    void contentSearchSkipsArchivedBodies() throws Exception {
+        archiveService.archiveOlderThan(LocalDateTime.now().minusDays(180));
+
+        mockMvc.perform(get("/api/posts")
+                        .param("keyword", "다녀온 후기")
+                        .param("type", "CONTENT")
+                        .param("size", "50")
+                        .with(recordSql()))
+                .andExpect(status().isOk())
+                .andExpect(sqlBudget().select(2))
+                .andExpect(jsonPath("$.content[*].title", not(hasItem("archive-old"))));
+        mockMvc.perform(get("/api/posts/export").param("keyword", "다녀온 후기"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].title", not(hasItem("archive-old"))));
+        mockMvc.perform(get("/api/posts").param("keyword", "archive-old"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[?(@.title == 'archive-old')].content", contains(OLD_CONTENT)));
+    }
+
+    @Test
+    @DisplayName("보관된 글을 수정하면 본문이 다시 posts에 저장되고 보관본은 지워진다.")
+    void updatingArchivedPostRestoresHotContent() throws Exception {
+        MockHttpSession session = signupAndLogin(mockMvc);
+        archiveService.archiveOlderThan(LocalDateTime.now().minusDays(180));
+
+        mockMvc.perform(put("/api/posts/{id}", oldPostId)
+                        .session(session)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {
+                                "title": "archive-old",
+                                "content": "수정한 본문"
+                                }
+                                """))
+                .andExpect(status().isNoContent());
+        em.flush(); // 같은 테스트 트랜잭션의 변경을 JDBC 조회에서도 보이도록
+
+        assertThat(jdbcTemplate.queryForObject("select content from posts where id = ?", String.class, oldPostId), is("수정한 본문"));
+        assertThat(jdbcTemplate.queryForObject("select count(*) from post_archives where post_id = ?", Integer.class, oldPostId), is(0));
+        mockMvc.perform(get("/api/posts/{id}", oldPostId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content").value("수정한 본문"));
+    }
+}
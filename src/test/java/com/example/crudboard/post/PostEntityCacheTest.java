@@ -0,0 +1,65 @@
+package com.example.crudboard.post;
+
+import com.example.crudboard.global.cache.EntityCacheRegions;
+import com.example.crudboard.global.cache.EntityCacheStatsController;
+import com.example.crudboard.global.cache.EntityCacheStatsController.RegionStats;
+import com.example.crudboard.post.cache.PostEntityCacheEviction;
+import com.example.crudboard.post.event.PostChangedEvent;
+import com.example.crudboard.post.repository.PostRepository;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+/*
+2차 캐시는 커밋 단위로 채워지므로 트랜잭션을 걸지 않는다. (레포지토리 호출마다 새 영속성 컨텍스트)
+after-commit 리스너는 직접 호출한다.
+ */
+@ActiveProfiles("test")
+@SpringBootTest
+public class PostEntityCacheTest {
+
+    @Autowired PostRepository postRepository;
+    @Autowired EntityManagerFactory entityManagerFactory;
+    @Autowired PostEntityCacheEviction eviction;
+    @Autowired EntityCacheStatsController statsController;
+
+    private Long postId;
+
+    @AfterEach
+    void tearDown() {
+        if (postId != null) {
+            postRepository.deleteAllByIdInBatch(List.of(postId));
+        }
+    }
+
+    @Test
+    @DisplayName("id 조회는 두 번째부터 2차 캐시에 적중하고, 삭제 이벤트가 오면 캐시에서 지운다.")
+    void findByIdHitsCacheUntilDeleted() {
+        postId = postRepository.save(new Post("entity-cache", "content")).getId();
+        entityManagerFactory.getCache().evict(Post.class, postId);
+        long hitsBefore = posts().hits();
+
+        postRepository.findById(postId).orElseThrow();
+        assertThat(entityManagerFactory.getCache().contains(Post.class, postId), is(true));
+        postRepository.findById(postId).orElseThrow();
+        assertThat(posts().hits() - hitsBefore, is(1L));
+
+        eviction.onPostChanged(new PostChangedEvent(postId, PostChangedEvent.Type.DELETED));
+        assertThat(entityManagerFactory.getCache().contains(Post.class, postId), is(false));
+    }
+
+    private RegionStats posts() {
+        return statsController.stats().regions().stream()
+                .filter(region -> region.region().equals(EntityCacheRegions.POSTS))
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.crudboard.post;
+
+import com.example.crudboard.global.error.ApiException;
+import com.example.crudboard.global.error.ErrorCode;
+import java.lang.management.ManagementFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * 없는 글 조회(404) 경로의 처리량/할당량과, 스택 트레이스 유무에 따른 예외 생성 비용 비교
+ * ./gradlew benchmark 로만 실행된다. (test 태스크에서는 제외)
+ *
+ * 스크래퍼가 없는 id를 계속 찌르는 상황: 매 요청 ApiException(POST_NOT_FOUND) -> GlobalExceptionHandler -> JSON 응답
+ */
+@Tag("benchmark")
+@ActiveProfiles("test")
+@SpringBootTest
+@AutoConfigureMockMvc
+class PostNotFoundBenchmark {
+
+    private static final int WARMUP = 2_000;
+    private static final int RUNS = 10_000;
+    // 실제 요청 스택(필터 체인/AOP/리포지토리 프록시)에 가깝게 예외를 만드는 깊이
+    private static final int STACK_DEPTH = 150;
+
+    @Autowired MockMvc mockMvc;
+
+    @Test
+    @DisplayName("GET /api/posts/{없는 id}: 초당 처리량과 요청당 할당량")
+    void notFoundThroughput() throws Exception {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        for (int i = 0; i < WARMUP; i++) {
+            notFound(i);
+        }
+
+        long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < RUNS; i++) {
+            notFound(i);
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+
+        System.out.printf("[benchmark] 404 path %,.0f req/s, %,d ns/req, %,d B/req%n",
+                RUNS * 1e9 / elapsed, elapsed / RUNS, allocated / RUNS);
+    }
+
+    @Test
+    @DisplayName("ApiException 생성: 4xx(스택 없음) vs 5xx(스택 있음)")
+    void exceptionConstruction() {
+        long stackless = nanosPerException(ErrorCode.POST_NOT_FOUND);
+        long withStack = nanosPerException(ErrorCode.INTERNAL_ERROR);
+
+        System.out.printf("[benchmark] new ApiException at depth %d: stackless=%,d ns, with stack=%,d ns (%.1f%%)%n",
+                STACK_DEPTH, stackless, withStack, stackless * 100.0 / withStack);
+        assertThat(stackless, lessThan(withStack));
+    }
+
+    private void notFound(int i) throws Exception {
+        int status = mockMvc.perform(get("/api/posts/{id}", 900_000_000L + i))
+                .andReturn()
+                .getResponse()
+                .getStatus();
+        assertThat(status, is(404));
+    }
+
+    private static long nanosPerException(ErrorCode code) {
+        long sink = 0;
+        for (int i = 0; i < WARMUP; i++) {
+            sink += throwAt(STACK_DEPTH, code);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < RUNS; i++) {
+            sink += throwAt(STACK_DEPTH, code);
+        }
+        long elapsed = System.nanoTime() - start;
+        if (sink == 42) {
+            System.out.println(sink);
+        }
+        return elapsed / RUNS;
+    }
+
+    private static int throwAt(int depth, ErrorCode code) {
+        if (depth > 0) {
+            return throwAt(depth - 1, code);
+        }
+        try {
+            throw new ApiException(code);
+        } catch (ApiException e) {
+            return e.getMessage().length();
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.crudboard.post;
+
+import com.example.crudboard.global.error.ApiException;
+import com.example.crudboard.post.partition.PostPartitionService;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static com.example.crudboard.util.SqlBudget.recordSql;
+import static com.example.crudboard.util.SqlBudget.sqlBudget;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/*
+2024년 1~3월 글을 월마다 2건씩 넣어 두고 작성일 범위 검색과 월 버킷 분리/재연결을 확인한다.
+@Transactional이라 분리(detach)로 옮긴 행도 테스트가 끝나면 롤백된다.
+ */
+@ActiveProfiles("test")
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+public class PostPartitionTest {
+
+    @Autowired MockMvc mockMvc;
+    @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired PostPartitionService partitionService;
+
+    @BeforeEach
+    void seed() {
+        List<Object[]> posts = new ArrayList<>();
+        for (int month = 1; month <= 3; month++) {
+            for (int i = 0; i < 2; i++) {
+                Timestamp at = Timestamp.valueOf(LocalDateTime.of(2024, month, 10 + i, 12, 0));
+                posts.add(new Object[]{"partition-" + month + "-" + i, "partition content", at, at, 202400 + month});
+            }
+        }
+        jdbcTemplate.batchUpdate(
+                "insert into posts (title, content, created_at, updated_at, created_month) values (?, ?, ?, ?, ?)", posts);
+    }
+
+    @Test
+    @DisplayName("작성일 범위 검색은 범위와 겹치는 월의 글만 작성일 역순으로 돌려준다.")
+    void dateRangeReturnsOverlappingMonthsInOrder() throws Exception {
+        mockMvc.perform(get("/api/posts")
+                        .param("createdFrom", "2024-01-11T00:00:00")
+                        .param("createdTo", "2024-02-28T23:59:59")
+                        .param("sort", "createdAt,desc")
+                        .with(recordSql()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(3))
+                .andExpect(jsonPath("$.content[*].title",
+                        contains("partition-2-1", "partition-2-0", "partition-1-1")))
+                // 2월, 1월을 차례로 읽고, 첫 페이지가 덜 찼으니 count는 없다.
+                .andExpect(sqlBudget().select(2));
+    }
+
+    @Test
+    @DisplayName("앞쪽 월에서 페이지가 다 차면 남은 월은 읽지 않는다.")
+    void dateRangeStopsAtFirstFullMonth() throws Exception {
+        mockMvc.perform(get("/api/posts")
+                        .param("createdFrom", "2024-01-01T00:00:00")
+                        .param("createdTo", "2024-03-31T23:59:59")
+                        .param("sort", "createdAt,desc")
+                        .param("size", "2")
+                        .with(recordSql()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(6))
+                .andExpect(jsonPath("$.content[*].title", contains("partition-3-1", "partition-3-0")))
+                // 3월 하나 + count
+                .andExpect(sqlBudget().select(2));
+
+        mockMvc.perform(get("/api/posts")
+                        .param("createdFrom", "2024-01-01T00:00:00")
+                        .param("createdTo", "2024-03-31T23:59:59")
+                        .param("sort", "createdAt,asc")
+                        .param("size", "2")
+                        .param("page", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].title", contains("partition-2-0", "partition-2-1")));
+    }
+
+    @Test
+    @DisplayName("분리한 월의 글은 댓글과 함께 보관 테이블로 옮겨지고, 다시 연결하면 돌아온다.")
+    void detachMovesRowsAndAttachRestoresThem() throws Exception {
+        Long febPostId = jdbcTemplate.queryForObject(
+                "select id from posts where title = 'partition-2-0'", Long.class);
+        Timestamp at = Timestamp.valueOf(LocalDateTime.of(2024, 2, 10, 13, 0));
+        jdbcTemplate.update("insert into comments (post_id, content, created_at, updated_at, path) values (?, ?, ?, ?, ?)",
+                febPostId, "partition comment", at, at, "");
+
+        assertThat(partitionService.detach(202402).posts(), is(2L));
+
+        assertThat(count("select count(*) from posts where created_month = 202402"), is(0));
+        assertThat(count("select count(*) from posts_detached where created_month = 202402"), is(2));
+        assertThat(count("select count(*) from comments_detached where post_id = " + febPostId), is(1));
+        mockMvc.perform(get("/api/posts")
+                        .param("keyword", "partition-")
+                        .param("size", "50"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(4))
+                .andExpect(jsonPath("$.content[*].title", not(hasItem(startsWith("partition-2-")))));
+        mockMvc.perform(get("/api/posts/export").param("keyword", "partition-"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(4));
+        mockMvc.perform(get("/api/posts/{id}", febPostId))
+                .andExpect(status().isNotFound());
+
+        assertThat(partitionService.attach(202402).posts(), is(2L));
+
+        assertThat(count("select count(*) from posts_detached where created_month = 202402"), is(0));
+        assertThat(count("select count(*) from comments where post_id = " + febPostId), is(1));
+        mockMvc.perform(get("/api/posts").param("keyword", "partition-"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(6));
+    }
+
+    @Test
+    @DisplayName("글이 계속 쓰이는 이번 달 버킷은 분리할 수 없다.")
+    void cannotDetachCurrentMonth() {
+        LocalDateTime now = LocalDateTime.now();
+        assertThrows(ApiException.class, () -> partitionService.detach(now.getYear() * 100 + now.getMonthValue()));
+    }
+
+    private int count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Integer.class);
+    }
+}
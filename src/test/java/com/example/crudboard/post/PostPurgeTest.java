@@ -0,0 +1,84 @@
+package com.example.crudboard.post;
+
+import com.example.crudboard.post.purge.PostPurgeService;
+import com.example.crudboard.post.purge.PostPurgeStats;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static com.example.crudboard.util.TestAuthHelper.createPostId;
+import static com.example.crudboard.util.TestAuthHelper.signupAndLogin;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// chunk-size를 작게 잡아서 댓글을 여러 번 나눠 지우는 경로를 탄다.
+@ActiveProfiles("test")
+@SpringBootTest(properties = {"app.posts.purge.chunk-size=10", "app.posts.purge.pause-millis=0"})
+@AutoConfigureMockMvc
+@Transactional
+public class PostPurgeTest {
+
+    private static final int COMMENTS = 25;
+
+    @Autowired MockMvc mockMvc;
+    @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired PostPurgeService purgeService;
+
+    @Test
+    @DisplayName("삭제한 글은 바로 조회에서 빠지고, 댓글과 글 행은 정리 작업이 나눠서 지운다.")
+    void deleteIsSoftThenPurgedInChunks() throws Exception {
+        MockHttpSession session = signupAndLogin(mockMvc);
+        Long postId = createPostId(mockMvc, session, "purge-target", "content");
+        seedComments(postId);
+
+        mockMvc.perform(delete("/api/posts/{id}", postId).session(session))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/posts/{id}", postId))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/posts").param("keyword", "purge-target"))
+                .andExpect(jsonPath("$.totalElements").value(0));
+        mockMvc.perform(get("/api/posts/{postId}/comments", postId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(0)));
+        // 아직 행은 남아 있다.
+        assertThat(count("select count(*) from comments where post_id = ?", postId), is(COMMENTS));
+        assertThat(count("select count(*) from posts where id = ? and deleted_at is not null", postId), is(1));
+
+        long purgedCommentsBefore = purgeService.stats().purgedComments();
+        assertThat(purgeService.purgePending(), greaterThanOrEqualTo(1));
+
+        assertThat(count("select count(*) from comments where post_id = ?", postId), is(0));
+        assertThat(count("select count(*) from posts where id = ?", postId), is(0));
+        PostPurgeStats stats = purgeService.stats();
+        assertThat(stats.purgedComments() - purgedCommentsBefore, greaterThanOrEqualTo((long) COMMENTS));
+        assertThat(stats.last().deletedComments(), is((long) COMMENTS));
+        assertThat(stats.pendingPosts(), is(0L));
+    }
+
+    private void seedComments(Long postId) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> comments = new ArrayList<>();
+        for (int i = 0; i < COMMENTS; i++) {
+            comments.add(new Object[]{postId, "comment " + i, now, now});
+        }
+        jdbcTemplate.batchUpdate("insert into comments (post_id, content, created_at, updated_at) values (?, ?, ?, ?)", comments);
+    }
+
+    private int count(String sql, Long postId) {
+        return jdbcTemplate.queryForObject(sql, Integer.class, postId);
+    }
+}
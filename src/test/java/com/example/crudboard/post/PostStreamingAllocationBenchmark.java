@@ -0,0 +1,112 @@
+package com.example.crudboard.post;
+
+import com.example.crudboard.post.dto.PostResponse;
+import com.example.crudboard.post.repository.PostRepository;
+import com.example.crudboard.post.service.PostQueryService;
+import com.example.crudboard.post.service.PostStreamService;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import tools.jackson.databind.json.JsonMapper;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+
+/**
+ * 목록/내보내기 응답 1회당 힙 할당량 비교 (기존 PageResponse 직렬화 vs 스트리밍)
+ * ./gradlew benchmark 로만 실행된다. (test 태스크에서는 제외)
+ *
+ * 트랜잭션을 걸지 않아서 요청마다 새 영속성 컨텍스트로 조회한다. (실제 요청과 같은 조건)
+ */
+@Tag("benchmark")
+@ActiveProfiles("test")
+@SpringBootTest
+class PostStreamingAllocationBenchmark {
+
+    private static final int ROWS = 2_000;
+    private static final int WARMUP = 30;
+    private static final int RUNS = 100;
+
+    @Autowired PostRepository postRepository;
+    @Autowired PostQueryService postQueryService;
+    @Autowired PostStreamService postStreamService;
+    @Autowired JsonMapper jsonMapper;
+
+    private final List<Long> createdIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        List<Post> posts = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            posts.add(new Post("benchmark title " + i, "benchmark content ".repeat(20) + i));
+        }
+        postRepository.saveAll(posts).forEach(post -> createdIds.add(post.getId()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        postRepository.deleteAllByIdInBatch(createdIds);
+        createdIds.clear();
+    }
+
+    @Test
+    @DisplayName("목록 50건: PageResponse 직렬화 vs 스트리밍")
+    void listPage() {
+        Pageable pageable = PageRequest.of(0, 50, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+        long materialized = allocatedBytesPerRun(() ->
+                jsonMapper.writeValue(OutputStream.nullOutputStream(), postQueryService.list(null, pageable)));
+        long streamed = allocatedBytesPerRun(() ->
+                postStreamService.writePage(null, pageable, OutputStream.nullOutputStream()));
+
+        report("list(size=50)", materialized, streamed);
+    }
+
+    @Test
+    @DisplayName("내보내기 2000건: List 직렬화 vs 스트리밍")
+    void export() {
+        Sort sort = Sort.by("id");
+
+        long materialized = allocatedBytesPerRun(() -> {
+            List<PostResponse> all = postRepository.findAll(PostSpecifications.byCondition(null), sort).stream()
+                    .map(PostResponse::from)
+                    .toList();
+            jsonMapper.writeValue(OutputStream.nullOutputStream(), all);
+        });
+        long streamed = allocatedBytesPerRun(() ->
+                postStreamService.writeExport(null, sort, OutputStream.nullOutputStream()));
+
+        report("export(rows=" + ROWS + ")", materialized, streamed);
+        assertThat(streamed, lessThan(materialized));
+    }
+
+    private static long allocatedBytesPerRun(Runnable task) {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        for (int i = 0; i < WARMUP; i++) {
+            task.run();
+        }
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < RUNS; i++) {
+            task.run();
+        }
+        return (threads.getCurrentThreadAllocatedBytes() - before) / RUNS;
+    }
+
+    private static void report(String name, long materialized, long streamed) {
+        System.out.printf("[benchmark] %s materialized=%,d B/req streamed=%,d B/req (%.1f%%)%n",
+                name, materialized, streamed, streamed * 100.0 / materialized);
+    }
+}
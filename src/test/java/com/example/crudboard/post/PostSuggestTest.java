@@ -0,0 +1,70 @@
+package com.example.crudboard.post;
+
+import com.example.crudboard.post.event.PostChangedEvent;
+import com.example.crudboard.post.suggest.PostSuggestService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static com.example.crudboard.util.TestAuthHelper.createPostId;
+import static com.example.crudboard.util.TestAuthHelper.signupAndLogin;
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/*
+인덱스 재구성(rebuild)은 테스트 트랜잭션 안에서 직접 호출한다.
+@Transactional 테스트에서는 after-commit 리스너가 돌지 않아서 수정 이벤트도 직접 넘긴다.
+ */
+@ActiveProfiles("test")
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+public class PostSuggestTest {
+
+    @Autowired MockMvc mockMvc;
+    @Autowired PostSuggestService suggestService;
+
+    @Test
+    @DisplayName("제목 앞부분으로 대소문자 구분 없이 인기순 제안하고, 수정된 제목은 재구성 전에도 반영된다.")
+    void suggestsByPrefixAndReflectsUpdates() throws Exception {
+        MockHttpSession session = signupAndLogin(mockMvc);
+        Long apple = createPostId(mockMvc, session, "Suggest Apple pie", "content");
+        Long apricot = createPostId(mockMvc, session, "suggest apricot jam", "content");
+        Long banana = createPostId(mockMvc, session, "suggest banana", "content");
+        // 조회수로 인기 점수를 올린다.
+        mockMvc.perform(get("/api/posts/{id}", apple)).andExpect(status().isOk());
+        mockMvc.perform(get("/api/posts/{id}", apple)).andExpect(status().isOk());
+        suggestService.rebuild();
+
+        mockMvc.perform(get("/api/posts/suggest").param("q", "SUGGEST  ap"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].id").value(apple))
+                .andExpect(jsonPath("$[0].title").value("Suggest Apple pie"))
+                .andExpect(jsonPath("$[1].id").value(apricot));
+
+        mockMvc.perform(put("/api/posts/{id}", banana)
+                        .session(session)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"suggest apex\",\"content\":\"content\"}"))
+                .andExpect(status().isNoContent());
+        suggestService.onPostChanged(new PostChangedEvent(banana, PostChangedEvent.Type.UPDATED));
+
+        mockMvc.perform(get("/api/posts/suggest").param("q", "suggest b"))
+                .andExpect(jsonPath("$", hasSize(0)));
+        // 점수가 같으면 최신 글이 먼저
+        mockMvc.perform(get("/api/posts/suggest").param("q", "suggest ap").param("limit", "3"))
+                .andExpect(jsonPath("$[*].id", contains(apple.intValue(), banana.intValue(), apricot.intValue())));
+        mockMvc.perform(get("/api/posts/suggest").param("q", " "))
+                .andExpect(jsonPath("$", hasSize(0)));
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.crudboard.ratelimit;
+
+import com.example.crudboard.util.TestAuthHelper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/*
+IP 버킷을 작게(20토큰, 거의 안 참) 잡고, 테스트마다 다른 IP로 요청해서 서로 버킷을 나눠 쓰지 않게 한다.
+ */
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "app.rate-limit.ip.capacity=20",
+        "app.rate-limit.ip.refill-per-second=0.01"})
+@AutoConfigureMockMvc
+@Transactional
+public class RateLimitApiTest {
+
+    @Autowired MockMvc mockMvc;
+
+    @Test
+    @DisplayName("버킷이 비면 429와 Retry-After(초), 표준 에러 JSON을 반환한다.")
+    void rejectsWith429AndRetryAfter() throws Exception {
+        RequestPostProcessor ip = remoteAddr("10.27.0.1");
+        for (int i = 0; i < 20; i++) {
+            mockMvc.perform(get("/api/posts/99999999").with(ip))
+                    .andExpect(status().isNotFound());
+        }
+
+        mockMvc.perform(get("/api/posts/99999999").with(ip))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", matchesPattern("[1-9]\\d*")))
+                .andExpect(jsonPath("$.code").value("TOO_MANY_REQUESTS"))
+                .andExpect(jsonPath("$.path", endsWith("/api/posts/99999999")));
+    }
+
+    @Test
+    @DisplayName("구간마다 비용이 달라서 검색(10)은 단건 조회(1)보다 훨씬 빨리 막힌다.")
+    void chargesPerRouteCost() throws Exception {
+        RequestPostProcessor searcher = remoteAddr("10.27.0.2");
+        mockMvc.perform(get("/api/posts").param("keyword", "rate").with(searcher)).andExpect(status().isOk());
+        mockMvc.perform(get("/api/posts").param("keyword", "rate").with(searcher)).andExpect(status().isOk());
+        mockMvc.perform(get("/api/posts").param("keyword", "rate").with(searcher))
+                .andExpect(status().isTooManyRequests());
+        // 남은 토큰이 1개도 안 되므로 단건 조회도 막힌다.
+        mockMvc.perform(get("/api/posts/99999999").with(searcher)).andExpect(status().isTooManyRequests());
+
+        // 같은 20토큰으로 목록(3)은 6번까지 된다.
+        RequestPostProcessor lister = remoteAddr("10.27.0.3");
+        for (int i = 0; i < 6; i++) {
+            mockMvc.perform(get("/api/posts").with(lister)).andExpect(status().isOk());
+        }
+        mockMvc.perform(get("/api/posts").with(lister)).andExpect(status().isTooManyRequests());
+        // 남은 2토큰으로 단건 조회(1)는 된다.
+        mockMvc.perform(get("/api/posts/99999999").with(lister)).andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("로그인 사용자는 IP가 아닌 userId 버킷을 쓴다.")
+    void authenticatedUsersUseTheirOwnBucket() throws Exception {
+        // 가입/로그인(쓰기 5 x 2)은 기본 IP(127.0.0.1) 버킷에서 나간다.
+        MockHttpSession session = TestAuthHelper.signupAndLogin(mockMvc);
+
+        RequestPostProcessor ip = remoteAddr("10.27.0.4");
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(get("/api/posts").param("keyword", "rate").with(ip)).andExpect(status().isOk());
+        }
+        mockMvc.perform(get("/api/posts").param("keyword", "rate").with(ip)).andExpect(status().isTooManyRequests());
+
+        mockMvc.perform(get("/api/posts").param("keyword", "rate").with(ip).session(session))
+                .andExpect(status().isOk());
+    }
+
+    private static RequestPostProcessor remoteAddr(String address) {
+        return request -> {
+            request.setRemoteAddr(address);
+            return request;
+        };
+    }
+}
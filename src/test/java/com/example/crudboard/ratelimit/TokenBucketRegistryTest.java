@@ -0,0 +1,67 @@
+package com.example.crudboard.ratelimit;
+
+import com.example.crudboard.global.ratelimit.RateLimitPolicy;
+import com.example.crudboard.global.ratelimit.RateLimitRoute;
+import com.example.crudboard.global.ratelimit.TokenBucketRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class TokenBucketRegistryTest {
+
+    // 16개 stripe를 한 바퀴 도는 데 필요한 호출 수 (1024번마다 stripe 하나)
+    private static final int FULL_SWEEP = 1024 * 16;
+
+    @Test
+    @DisplayName("오래 안 쓰여서 다시 가득 찬 버킷은 stripe를 돌면서 지운다.")
+    void evictsIdleFullBuckets() throws Exception {
+        // 1ms 안에 다시 차고, 0초만 지나도 오래된 것으로 본다.
+        TokenBucketRegistry registry = new TokenBucketRegistry(policy(10, 1_000_000, 0));
+        for (int i = 0; i < 100; i++) {
+            registry.tryConsume("ip:10.0.0." + i, false, RateLimitRoute.POST_DETAIL);
+        }
+        assertThat(registry.trackedBuckets(), is(100));
+
+        Thread.sleep(5);
+        for (int i = 0; i < FULL_SWEEP; i++) {
+            registry.tryConsume("user:1", true, RateLimitRoute.POST_DETAIL);
+        }
+        assertThat(registry.trackedBuckets(), lessThanOrEqualTo(1));
+    }
+
+    @Test
+    @DisplayName("토큰이 덜 찬 버킷은 지우지 않는다. (지우면 한도가 풀려 버림)")
+    void keepsBucketsThatAreNotFull() throws Exception {
+        TokenBucketRegistry registry = new TokenBucketRegistry(policy(10, 0.001, 0));
+        for (int i = 0; i < 100; i++) {
+            registry.tryConsume("ip:10.0.0." + i, false, RateLimitRoute.POST_SEARCH);
+        }
+
+        Thread.sleep(5);
+        for (int i = 0; i < FULL_SWEEP; i++) {
+            registry.tryConsume("user:1", true, RateLimitRoute.OTHER);
+        }
+        assertThat(registry.trackedBuckets(), is(101));
+        assertThat(registry.tryConsume("ip:10.0.0.1", false, RateLimitRoute.POST_DETAIL), greaterThan(0L));
+    }
+
+    @Test
+    @DisplayName("구간별 통과/거절 수를 센다.")
+    void countsPerRoute() {
+        TokenBucketRegistry registry = new TokenBucketRegistry(policy(10, 0.001, 600));
+        registry.tryConsume("ip:10.0.0.1", false, RateLimitRoute.POST_SEARCH);
+        registry.tryConsume("ip:10.0.0.1", false, RateLimitRoute.POST_SEARCH);
+
+        TokenBucketRegistry.RouteStats search = registry.stats().get("POST_SEARCH");
+        assertThat(search.cost(), is(10));
+        assertThat(search.allowed(), is(1L));
+        assertThat(search.rejected(), is(1L));
+    }
+
+    private static RateLimitPolicy policy(int capacity, double refillPerSecond, long idleEvictSeconds) {
+        return new RateLimitPolicy(true, capacity, refillPerSecond, capacity, refillPerSecond, idleEvictSeconds,
+                10, 3, 1, 2, 5, 1);
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.crudboard.shard;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.env.Environment;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+/*
+open-in-view를 켜 둔 설정으로 ShardingTest를 그대로 다시 돌린다.
+샤딩을 켜면 open-in-view가 꺼져서, 게시판 확인(샤드 0) 뒤에 쓰는 글도 게시판의 샤드에 들어가야 한다.
+ */
+@SpringBootTest(properties = {
+        "app.shards.enabled=true",
+        "app.shards.urls=jdbc:h2:mem:crudboard-shard1;MODE=MySQL;DB_CLOSE_DELAY=-1,"
+                + "jdbc:h2:mem:crudboard-shard2;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "app.db.open-in-view=true",
+        "spring.jpa.open-in-view=true"
+})
+public class ShardingOpenInViewTest extends ShardingTest {
+
+    @Autowired Environment environment;
+
+    @Test
+    @DisplayName("샤딩을 켜면 open-in-view 설정과 상관없이 꺼진다.")
+    void openInViewIsTurnedOff() {
+        assertThat(environment.getProperty("spring.jpa.open-in-view", Boolean.class), is(false));
+    }
+}
@@ -0,0 +1,243 @@
+package com.example.crudboard.shard;
+
+import com.example.crudboard.board.BoardRepository;
+import com.example.crudboard.board.BoardService;
+import com.example.crudboard.board.dto.BoardCreateRequest;
+import com.example.crudboard.global.shard.ShardContext;
+import com.example.crudboard.global.shard.ShardRouter;
+import com.example.crudboard.post.Post;
+import com.example.crudboard.util.TestAuthHelper;
+import com.jayway.jsonpath.JsonPath;
+import jakarta.persistence.EntityManagerFactory;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static com.example.crudboard.util.SqlBudget.recordSql;
+import static com.example.crudboard.util.SqlBudget.sqlBudget;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/*
+샤드 0(crudboard-test) + H2 메모리 DB 2개 = 샤드 3개. 게시판 1/2/3이 샤드 0/1/2에 놓인다.
+샤드마다 트랜잭션을 따로 열기 때문에 테스트 트랜잭션을 걸지 않고, 만든 행은 샤드별로 직접 지운다.
+ */
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "app.shards.enabled=true",
+        "app.shards.urls=jdbc:h2:mem:crudboard-shard1;MODE=MySQL;DB_CLOSE_DELAY=-1,"
+                + "jdbc:h2:mem:crudboard-shard2;MODE=MySQL;DB_CLOSE_DELAY=-1"
+})
+@AutoConfigureMockMvc
+public class ShardingTest {
+
+    @Autowired MockMvc mockMvc;
+    @Autowired ShardRouter shardRouter;
+    @Autowired BoardService boardService;
+    @Autowired BoardRepository boardRepository;
+    @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired EntityManagerFactory entityManagerFactory;
+
+    private final List<long[]> created = new ArrayList<>(); // {shard, postId}
+    private MockHttpSession session;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        for (long boardId = 2; boardId <= 3; boardId++) {
+            if (!boardRepository.existsById(boardId)) {
+                boardService.create(new BoardCreateRequest(boardId, "board " + boardId));
+            }
+        }
+        session = TestAuthHelper.signupAndLogin(mockMvc);
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (long[] row : created) {
+            ShardContext.run((int) row[0], () -> {
+                jdbcTemplate.update("delete from comments where post_id = ?", row[1]);
+                jdbcTemplate.update("delete from posts where id = ?", row[1]);
+            });
+        }
+        boardRepository.deleteAllById(List.of(2L, 3L));
+    }
+
+    @Test
+    @DisplayName("게시판의 샤드에 글을 쓰고, id 구간으로 샤드를 찾아 조회한다.")
+    void postsAreStoredOnTheirBoardShard() throws Exception {
+        assertThat(shardRouter.shardCount(), is(3));
+        Long onShard0 = createPost("routing", 1L);
+        Long onShard1 = createPost("routing", 2L);
+        Long onShard2 = createPost("routing", 3L);
+
+        assertThat(onShard0, lessThan(ShardRouter.ID_RANGE));
+        assertThat(onShard1 / ShardRouter.ID_RANGE, is(1L));
+        assertThat(onShard2 / ShardRouter.ID_RANGE, is(2L));
+        assertThat(countOn(1, onShard1), is(1L));
+        assertThat(countOn(0, onShard1), is(0L));
+        assertThat(countOn(2, onShard2), is(1L));
+
+        mockMvc.perform(get("/api/posts/{id}", onShard2))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(onShard2));
+
+        // 댓글도 글과 같은 샤드에 쓴다.
+        mockMvc.perform(post("/api/posts/{postId}/comments", onShard2)
+                        .session(session)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                { "content": "shard comment" }
+                                """))
+                .andExpect(status().isCreated());
+        Long comments = ShardContext.call(2, () -> jdbcTemplate.queryForObject(
+                "select count(*) from comments where post_id = ?", Long.class, onShard2));
+        assertThat(comments, is(1L));
+    }
+
+    @Test
+    @DisplayName("샤드 1의 13자리 id로도 답글 path가 채워지고, 답글을 지우면 그 답글만 지워진다.")
+    void repliesOnShardOneKeepTheirOwnPath() throws Exception {
+        Long postId = createPost("replies", 2L);
+        Long root = createComment(postId, "{ \"content\": \"root\" }");
+        Long reply = createComment(postId, String.format("{ \"content\": \"reply\", \"parentId\": %d }", root));
+        Long sibling = createComment(postId, String.format("{ \"content\": \"sibling\", \"parentId\": %d }", root));
+
+        assertThat(root / ShardRouter.ID_RANGE, is(1L));
+        assertThat(pathOn(1, reply), is(pathOn(1, root) + String.format("%019d", reply)));
+        assertThat(pathOn(1, sibling), is(pathOn(1, root) + String.format("%019d", sibling)));
+
+        mockMvc.perform(delete("/api/posts/{postId}/comments/{commentId}", postId, reply)
+                        .session(session))
+                .andExpect(status().isNoContent());
+
+        Long remaining = ShardContext.call(1, () -> jdbcTemplate.queryForObject(
+                "select count(*) from comments where post_id = ?", Long.class, postId));
+        assertThat(remaining, is(2L));
+        mockMvc.perform(get("/api/posts/{postId}/comments/{commentId}/replies", postId, root))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].id", contains(sibling)));
+    }
+
+    @Test
+    @DisplayName("게시판을 지정하지 않은 목록은 모든 샤드를 읽어 작성일 순서로 합친다.")
+    void listFansOutAndMergesByCreatedAt() throws Exception {
+        String keyword = "fanout" + System.nanoTime();
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        Long newest = createPost(keyword, 2L);
+        Long second = createPost(keyword, 1L);
+        Long third = createPost(keyword, 2L);
+        Long oldest = createPost(keyword, 3L);
+        setCreatedAt(1, newest, now.minusMinutes(1));
+        setCreatedAt(0, second, now.minusMinutes(2));
+        setCreatedAt(1, third, now.minusMinutes(3));
+        setCreatedAt(2, oldest, now.minusMinutes(4));
+
+        // 샤드마다 fan-out 스레드에서 목록(3), count는 page-count 스레드에서 동시에 띄운다.
+        // 2건이 꽉 찬 샤드 1만 count를 기다리고 나머지는 취소하지만, 취소 전에 이미 실행됐을 수 있다.
+        mockMvc.perform(get("/api/posts").param("keyword", keyword).param("size", "2").param("page", "0")
+                        .with(recordSql()))
+                .andExpect(status().isOk())
+                .andExpect(sqlBudget().selectAtLeast(4).select(6))
+                .andExpect(jsonPath("$.content.length()").value(2))
+                .andExpect(jsonPath("$.content[0].id").value(newest))
+                .andExpect(jsonPath("$.content[1].id").value(second))
+                .andExpect(jsonPath("$.totalElements").value(4))
+                .andExpect(jsonPath("$.totalPages").value(2))
+                .andExpect(jsonPath("$.last").value(false));
+
+        mockMvc.perform(get("/api/posts").param("keyword", keyword).param("size", "2").param("page", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(third))
+                .andExpect(jsonPath("$.content[1].id").value(oldest))
+                .andExpect(jsonPath("$.last").value(true));
+
+        // 게시판을 지정하면 그 샤드만 읽는다.
+        mockMvc.perform(get("/api/posts").param("keyword", keyword).param("boardId", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(2))
+                .andExpect(jsonPath("$.content[0].id").value(newest))
+                .andExpect(jsonPath("$.content[1].id").value(third))
+                .andExpect(jsonPath("$.totalElements").value(2));
+    }
+
+    @Test
+    @DisplayName("없는 게시판에는 글을 쓸 수 없고, 여러 게시판 내보내기는 boardId가 필요하다.")
+    void rejectsUnknownBoardAndCrossShardExport() throws Exception {
+        mockMvc.perform(post("/api/posts")
+                        .session(session)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                { "title": "t", "content": "c", "boardId": 99 }
+                                """))
+                .andExpect(status().isNotFound());
+
+        mockMvc.perform(get("/api/posts/export"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/posts/export").param("boardId", "2"))
+                .andExpect(status().isOk());
+    }
+
+    private Long createPost(String title, long boardId) throws Exception {
+        String location = mockMvc.perform(post("/api/posts")
+                        .session(session)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(String.format("""
+                                { "title": "%s", "content": "content", "boardId": %d }
+                                """, title, boardId)))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getHeader("Location");
+        Long id = Long.parseLong(location.substring(location.lastIndexOf('/') + 1));
+        created.add(new long[]{shardRouter.shardOfBoard(boardId), id});
+        return id;
+    }
+
+    private Long createComment(Long postId, String body) throws Exception {
+        String json = mockMvc.perform(post("/api/posts/{postId}/comments", postId)
+                        .session(session)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        Number id = JsonPath.read(json, "$.id");
+        return id.longValue();
+    }
+
+    private String pathOn(int shard, Long commentId) {
+        return ShardContext.call(shard, () ->
+                jdbcTemplate.queryForObject("select path from comments where id = ?", String.class, commentId));
+    }
+
+    // JdbcTemplate으로 바꾼 행은 2차 캐시에 반영되지 않으므로 지운다.
+    private void setCreatedAt(int shard, Long postId, LocalDateTime at) {
+        ShardContext.run(shard, () ->
+                jdbcTemplate.update("update posts set created_at = ? where id = ?", Timestamp.valueOf(at), postId));
+        entityManagerFactory.getCache().evict(Post.class, postId);
+    }
+
+    private Long countOn(int shard, Long postId) {
+        return ShardContext.call(shard, () ->
+                jdbcTemplate.queryForObject("select count(*) from posts where id = ?", Long.class, postId));
+    }
+}
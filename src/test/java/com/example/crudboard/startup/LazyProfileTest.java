@@ -0,0 +1,61 @@
+package com.example.crudboard.startup;
+
+import com.example.crudboard.global.startup.LazyBeansConfig.DeferNonCriticalBeans;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static com.example.crudboard.util.TestAuthHelper.signupAndLogin;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ActiveProfiles({"test", "lazy"})
+@SpringBootTest
+@AutoConfigureMockMvc
+public class LazyProfileTest {
+
+    // 기동 시 반드시 만들어져 있어야 하는 빈 (마이그레이션, JPA, 보안 필터, 스케줄러)
+    private static final List<String> CRITICAL_BEANS = List.of(
+            "dataSource", "flywayInitializer", "entityManagerFactory", "springSecurityFilterChain",
+            "hotPostTracker", "postPurgeService", "connectionPoolSizer");
+
+    @Autowired MockMvc mockMvc;
+    @Autowired ConfigurableListableBeanFactory beanFactory;
+    @Autowired DeferNonCriticalBeans deferNonCriticalBeans;
+
+    @Test
+    @DisplayName("lazy 프로필에서도 핵심 빈은 기동 시 만들어지고, 지연 대상은 OpenAPI/H2 콘솔 빈뿐이다.")
+    void criticalBeansStayEager() {
+        for (String name : CRITICAL_BEANS) {
+            assertThat(name, beanFactory.getBeanDefinition(name).isLazyInit(), is(false));
+            assertThat(name, beanFactory.containsSingleton(name), is(true));
+        }
+
+        List<String> deferred = deferNonCriticalBeans.deferred();
+        assertThat(deferred, not(empty()));
+        for (String name : deferred) {
+            Class<?> type = beanFactory.getType(name, false);
+            assertThat(name, type == null ? "" : type.getName(), not(startsWith("com.example.crudboard")));
+        }
+    }
+
+    @Test
+    @DisplayName("지연된 OpenAPI 문서도 처음 요청할 때 만들어져서 정상 응답한다.")
+    void deferredOpenApiWorksOnFirstUse() throws Exception {
+        MockHttpSession session = signupAndLogin(mockMvc);
+
+        mockMvc.perform(get("/v3/api-docs").session(session))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.paths['/api/posts']").exists());
+    }
+}
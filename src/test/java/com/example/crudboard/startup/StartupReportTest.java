@@ -0,0 +1,51 @@
+package com.example.crudboard.startup;
+
+import com.example.crudboard.global.startup.StartupReport;
+import com.example.crudboard.global.startup.StartupReport.BeanTiming;
+import java.time.Instant;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class StartupReportTest {
+
+    @Test
+    @DisplayName("중첩된 빈 생성은 바깥 빈의 구간에 한 번만 들어가고, self 시간에서는 빠진다.")
+    void summarizesNestedBeanSteps() throws Exception {
+        BufferingApplicationStartup startup = new BufferingApplicationStartup(100);
+        StartupStep emf = bean(startup, "entityManagerFactory");
+        StartupStep flyway = bean(startup, "flywayInitializer");
+        Thread.sleep(60);
+        flyway.end();
+        Thread.sleep(10);
+        emf.end();
+        StartupStep controller = bean(startup, "postController");
+        controller.end();
+
+        Map<String, String> types = Map.of(
+                "entityManagerFactory", "jakarta.persistence.EntityManagerFactory",
+                "flywayInitializer", "org.springframework.boot.flyway.autoconfigure.FlywayMigrationInitializer",
+                "postController", "com.example.crudboard.post.PostController");
+        StartupReport report = StartupReport.from(startup.getBufferedTimeline(), Instant.now(), 2, types::get);
+
+        assertThat(report.recordedSteps(), is(3));
+        assertThat(report.phases().get("flyway"), greaterThanOrEqualTo(60L));
+        assertThat(report.phases().get("hibernate"), greaterThanOrEqualTo(70L));
+        assertThat(report.phases().get("springdoc"), is(0L));
+        assertThat(report.slowestBeans(), hasSize(2));
+        BeanTiming slowest = report.slowestBeans().get(0);
+        assertThat(slowest.beanName(), is("flywayInitializer"));
+        BeanTiming hibernate = report.slowestBeans().get(1);
+        assertThat(hibernate.beanName(), is("entityManagerFactory"));
+        assertThat(hibernate.selfMillis(), lessThan(hibernate.totalMillis()));
+    }
+
+    private static StartupStep bean(BufferingApplicationStartup startup, String name) {
+        return startup.start("spring.beans.instantiate").tag("beanName", name);
+    }
+}
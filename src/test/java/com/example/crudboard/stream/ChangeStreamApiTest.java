@@ -0,0 +1,133 @@
+package com.example.crudboard.stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+/*
+@Transactional 테스트에서는 커밋이 없어서 after-commit 리스너가 돌지 않는다.
+그래서 링 버퍼에 직접 발행하고, SSE로 이어받는지만 확인한다.
+ */
+@ActiveProfiles("test")
+@SpringBootTest
+@AutoConfigureMockMvc
+public class ChangeStreamApiTest {
+
+    @Autowired MockMvc mockMvc;
+    @Autowired ChangeEventRing ring;
+
+    @Test
+    @DisplayName("Last-Event-ID 이후에 발행된 해당 글의 댓글 이벤트만 이어서 받는다.")
+    void resumesCommentEventsAfterLastEventId() throws Exception {
+        long postId = 900_001L;
+        long otherPostId = 900_002L;
+        long lastSeen = ring.lastSequence();
+
+        ring.publish(ChangeEvent.commentsTopic(postId), "CREATED", postId, 11L);
+        ring.publish(ChangeEvent.commentsTopic(otherPostId), "CREATED", otherPostId, 22L);
+        ChangeEvent last = ring.publish(ChangeEvent.commentsTopic(postId), "DELETED", postId, 11L);
+
+        MvcResult result = mockMvc.perform(get("/api/stream/posts/{postId}/comments", postId)
+                        .header("Last-Event-ID", lastSeen))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = awaitContent(result.getResponse(), "id:" + last.sequence());
+        assertThat(body, containsString("event:CREATED"));
+        assertThat(body, containsString("event:DELETED"));
+        assertThat(body, containsString("\"commentId\":11"));
+        assertThat(body, not(containsString("\"commentId\":22")));
+    }
+
+    @Test
+    @DisplayName("버퍼 용량보다 뒤처진 커서는 missed로 표시되고 가장 오래된 이벤트부터 다시 읽는다.")
+    void slowCursorSkipsOverwrittenEvents() {
+        ChangeEventRing small = new ChangeEventRing(4);
+        for (long i = 1; i <= 10; i++) {
+            small.publish(ChangeEvent.POSTS_TOPIC, "CREATED", i, null);
+        }
+
+        ChangeEventRing.Batch batch = small.readAfter(0, 100);
+
+        assertThat(batch.missed(), is(true));
+        assertThat(batch.events(), hasSize(4));
+        assertThat(batch.events().get(0).sequence(), is(7L));
+        assertThat(batch.cursor(), is(10L));
+        assertThat(small.readAfter(batch.cursor(), 100).events(), empty());
+    }
+
+    @Test
+    @DisplayName("다른 토픽 이벤트만 덮어써졌으면 뒤처진 토픽 커서도 missed가 아니다.")
+    void topicCursorIgnoresOverwrittenOtherTopics() {
+        ChangeEventRing small = new ChangeEventRing(4);
+        String quiet = ChangeEvent.commentsTopic(1L);
+        small.register(quiet);
+        small.publish(quiet, "CREATED", 1L, 10L);
+        for (long i = 1; i <= 10; i++) {
+            small.publish(ChangeEvent.POSTS_TOPIC, "CREATED", i, null);
+        }
+        ChangeEvent mine = small.publish(quiet, "DELETED", 1L, 10L);
+
+        ChangeEventRing.Batch batch = small.readAfter(quiet, 1, 100);
+
+        assertThat(batch.missed(), is(false));
+        assertThat(batch.events(), contains(mine));
+        assertThat(batch.cursor(), is(mine.sequence()));
+    }
+
+    @Test
+    @DisplayName("덮어써진 구간에 자기 토픽 이벤트가 있었으면 missed다.")
+    void topicCursorMissesOverwrittenOwnEvent() {
+        ChangeEventRing small = new ChangeEventRing(4);
+        String quiet = ChangeEvent.commentsTopic(1L);
+        small.register(quiet);
+        small.publish(quiet, "CREATED", 1L, 10L);
+        small.publish(quiet, "CREATED", 1L, 11L);
+        for (long i = 1; i <= 10; i++) {
+            small.publish(ChangeEvent.POSTS_TOPIC, "CREATED", i, null);
+        }
+
+        ChangeEventRing.Batch batch = small.readAfter(quiet, 1, 100);
+
+        assertThat(batch.missed(), is(true));
+        assertThat(batch.events(), empty());
+        assertThat(batch.cursor(), is(small.lastSequence()));
+    }
+
+    @Test
+    @DisplayName("다른 토픽 발행으로는 기다리던 구독자가 깨어나지 않는다.")
+    void awaitWakesOnlyForOwnTopic() throws Exception {
+        ChangeEventRing small = new ChangeEventRing(16);
+        String mine = ChangeEvent.commentsTopic(1L);
+        small.register(mine);
+        long cursor = small.lastSequence();
+        small.publish(ChangeEvent.POSTS_TOPIC, "CREATED", 1L, null);
+
+        assertThat(small.awaitAfter(mine, cursor, 50), is(false));
+
+        small.publish(mine, "CREATED", 1L, 10L);
+        assertThat(small.awaitAfter(mine, cursor, 50), is(true));
+    }
+
+    private static String awaitContent(MockHttpServletResponse response, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 3000;
+        String body = response.getContentAsString();
+        while (!body.contains(expected) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            body = response.getContentAsString();
+        }
+        assertThat(body, containsString(expected));
+        return body;
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.crudboard.timing;
+
+import com.example.crudboard.util.TestAuthHelper;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/*
+트랜잭션 시작(tx)을 재려면 서비스가 트랜잭션을 직접 열어야 하므로 테스트 트랜잭션을 걸지 않고, 만든 글은 직접 지운다.
+테스트 프로필은 sample-rate가 0이라서 X-Server-Timing 헤더를 준 요청에만 붙는다.
+ */
+@ActiveProfiles("test")
+@SpringBootTest
+@AutoConfigureMockMvc
+public class ServerTimingTest {
+
+    @Autowired MockMvc mockMvc;
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    private final List<Long> created = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        for (Long postId : created) {
+            jdbcTemplate.update("delete from comments where post_id = ?", postId);
+            jdbcTemplate.update("delete from posts where id = ?", postId);
+        }
+    }
+
+    @Test
+    @DisplayName("X-Server-Timing 헤더를 준 요청에는 단계별 시간이 Server-Timing 헤더로 붙는다.")
+    void addsPhaseBreakdown() throws Exception {
+        MockHttpSession session = TestAuthHelper.signupAndLogin(mockMvc);
+        Long postId = TestAuthHelper.createPostId(mockMvc, session, "timing", "content");
+        created.add(postId);
+
+        mockMvc.perform(get("/api/posts/{id}", postId).header("X-Server-Timing", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(postId))
+                .andExpect(header().string("Server-Timing", allOf(
+                        containsString("sec;dur="),
+                        containsString("tx;dur="),
+                        containsString("db;dur="),
+                        containsString("json;dur="),
+                        matchesPattern(".*total;dur=\\d+(\\.\\d+)?$"))));
+
+        // 메시지 컨버터로 쓰는 응답(CommentResponse)
+        mockMvc.perform(post("/api/posts/{postId}/comments", postId)
+                        .session(session)
+                        .header("X-Server-Timing", "1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                { "content": "timing comment" }
+                                """))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.content").value("timing comment"))
+                .andExpect(header().string("Server-Timing", allOf(
+                        containsString("map;dur="),
+                        containsString("json;dur="))));
+    }
+
+    @Test
+    @DisplayName("샘플링되지 않은 요청에는 붙이지 않는다.")
+    void skipsUnsampledRequests() throws Exception {
+        mockMvc.perform(get("/api/boards"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Server-Timing"));
+
+        mockMvc.perform(get("/api/posts/99999999").header("X-Server-Timing", "1"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.code").value("POST_NOT_FOUND"))
+                .andExpect(header().string("Server-Timing", containsString("total;dur=")));
+    }
+}
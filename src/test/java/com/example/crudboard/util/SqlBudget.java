@@ -0,0 +1,119 @@
+package com.example.crudboard.util;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultMatcher;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+/**
+ * MockMvc 요청 한 번에 Hibernate가 실행한 SQL 수를 종류별 상한으로 검사한다. (N+1 같은 쿼리 수 회귀 방지)
+ *
+ * <pre>
+ * mockMvc.perform(get("/api/posts/{id}", id).with(recordSql()))
+ *         .andExpect(sqlBudget().select(2).insert(0));
+ * </pre>
+ *
+ * - 지정한 종류만 검사한다. 값은 상한이라 캐시 적중이나 테스트 트랜잭션의 1차 캐시 때문에 더 적게 나와도 통과한다.
+ * - @Transactional 테스트는 커밋하지 않아서 변경 감지 UPDATE가 요청 끝이 아니라 다음 쿼리 직전(auto flush)에 나간다.
+ *   그래서 update 상한은 벌크 쿼리처럼 요청 안에서 바로 실행되는 문장이 있을 때만 쓴다.
+ * - SqlStatementRecorder로 세므로 JdbcTemplate 등 Hibernate를 거치지 않는 SQL은 세지 않는다.
+ * - 요청이 다른 스레드(샤드 fan-out)로 넘긴 SQL도 센다. 그런 경로는 selectAtLeast로 실제로 세어졌는지도 확인한다.
+ */
+public final class SqlBudget implements ResultMatcher {
+
+    enum Kind {
+        SELECT, INSERT, UPDATE, DELETE, OTHER;
+
+        static Kind of(String sql) {
+            String head = sql.stripLeading().toLowerCase(Locale.ROOT);
+            if (head.startsWith("select") || head.startsWith("with")) {
+                return SELECT;
+            }
+            if (head.startsWith("insert")) {
+                return INSERT;
+            }
+            if (head.startsWith("update")) {
+                return UPDATE;
+            }
+            if (head.startsWith("delete")) {
+                return DELETE;
+            }
+            return OTHER;
+        }
+    }
+
+    private final Map<Kind, Integer> limits = new EnumMap<>(Kind.class);
+    private final Map<Kind, Integer> minimums = new EnumMap<>(Kind.class);
+
+    private SqlBudget() {
+    }
+
+    /**
+     * 이 요청에서 실행되는 SQL 기록을 시작한다. (검사하는 sqlBudget()이 기록을 멈춘다)
+     */
+    public static RequestPostProcessor recordSql() {
+        return request -> {
+            SqlStatementRecorder.start();
+            return request;
+        };
+    }
+
+    public static SqlBudget sqlBudget() {
+        return new SqlBudget();
+    }
+
+    public SqlBudget select(int max) {
+        return limit(Kind.SELECT, max);
+    }
+
+    public SqlBudget insert(int max) {
+        return limit(Kind.INSERT, max);
+    }
+
+    public SqlBudget update(int max) {
+        return limit(Kind.UPDATE, max);
+    }
+
+    public SqlBudget delete(int max) {
+        return limit(Kind.DELETE, max);
+    }
+
+    public SqlBudget selectAtLeast(int min) {
+        minimums.put(Kind.SELECT, min);
+        return this;
+    }
+
+    private SqlBudget limit(Kind kind, int max) {
+        limits.put(kind, max);
+        return this;
+    }
+
+    @Override
+    public void match(MvcResult result) {
+        if (!SqlStatementRecorder.isRecording()) {
+            throw new AssertionError("SQL 기록이 시작되지 않았습니다. 요청에 .with(recordSql())를 붙여 주세요.");
+        }
+        List<String> statements = SqlStatementRecorder.stop();
+        for (Map.Entry<Kind, Integer> limit : limits.entrySet()) {
+            List<String> matched = statements.stream()
+                    .filter(sql -> Kind.of(sql) == limit.getKey())
+                    .toList();
+            if (matched.size() > limit.getValue()) {
+                throw new AssertionError(String.format("%s %s: %s는 %d개 이하여야 하는데 %d개 실행됨%n%s",
+                        result.getRequest().getMethod(), result.getRequest().getRequestURI(),
+                        limit.getKey(), limit.getValue(), matched.size(), String.join("\n", matched)));
+            }
+        }
+        for (Map.Entry<Kind, Integer> minimum : minimums.entrySet()) {
+            long matched = statements.stream().filter(sql -> Kind.of(sql) == minimum.getKey()).count();
+            if (matched < minimum.getValue()) {
+                throw new AssertionError(String.format("%s %s: %s는 %d개 이상 기록되어야 하는데 %d개 기록됨%n%s",
+                        result.getRequest().getMethod(), result.getRequest().getRequestURI(),
+                        minimum.getKey(), minimum.getValue(), matched, String.join("\n", statements)));
+            }
+        }
+    }
+}
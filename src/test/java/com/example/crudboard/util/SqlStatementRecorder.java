@@ -0,0 +1,52 @@
+package com.example.crudboard.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * 테스트 중 Hibernate가 실행하는 SQL을 모아두는 StatementInspector.
+ * application-test.yml의 hibernate.session_factory.statement_inspector로 등록되어 있다.
+ *
+ * - start()~stop() 사이에는 스레드와 상관없이 기록한다. (요청이 넘긴 샤드 fan-out 스레드의 SQL도 들어감)
+ * - 스케줄러 스레드(scheduling-*)의 SQL은 요청과 상관없이 끼어들 수 있으므로 빼고 센다.
+ * - 테스트는 한 번에 하나씩 돌므로 기록도 하나만 둔다. (기록하지 않을 때는 volatile 읽기 한 번)
+ */
+public class SqlStatementRecorder implements StatementInspector {
+
+    private static final String SCHEDULER_THREAD_PREFIX = "scheduling-";
+
+    private static volatile List<String> statements;
+
+    public static void start() {
+        statements = Collections.synchronizedList(new ArrayList<>());
+    }
+
+    public static boolean isRecording() {
+        return statements != null;
+    }
+
+    /**
+     * 기록을 멈추고 지금까지 모은 SQL을 돌려준다.
+     */
+    public static List<String> stop() {
+        List<String> recorded = statements;
+        statements = null;
+        if (recorded == null) {
+            return List.of();
+        }
+        synchronized (recorded) {
+            return List.copyOf(recorded);
+        }
+    }
+
+    @Override
+    public String inspect(String sql) {
+        List<String> recording = statements;
+        if (recording != null && !Thread.currentThread().getName().startsWith(SCHEDULER_THREAD_PREFIX)) {
+            recording.add(sql);
+        }
+        return sql;
+    }
+}
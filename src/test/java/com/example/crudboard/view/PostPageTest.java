@@ -0,0 +1,81 @@
+package com.example.crudboard.view;
+
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static com.example.crudboard.util.TestAuthHelper.createPostId;
+import static com.example.crudboard.util.TestAuthHelper.signupAndLogin;
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ActiveProfiles("test")
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+public class PostPageTest {
+
+    @Autowired MockMvc mockMvc;
+
+    @Test
+    @DisplayName("상세 화면은 글 제목/내용을 서버에서 렌더링해서 내려준다.")
+    void detailPageIsServerRendered() throws Exception {
+        MockHttpSession session = signupAndLogin(mockMvc);
+        Long postId = createPostId(mockMvc, session, "ssr-detail-title", "ssr <b>content</b>");
+
+        mockMvc.perform(get("/posts/{id}", postId))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("ssr-detail-title")))
+                // 내용은 이스케이프되어야 한다.
+                .andExpect(content().string(containsString("ssr &lt;b&gt;content&lt;/b&gt;")))
+                .andExpect(content().string(containsString("data-ssr=\"true\"")));
+    }
+
+    @Test
+    @DisplayName("상세 화면의 작성일은 화면 JS(fmtDate)가 API 응답으로 그리는 값과 같다.")
+    void detailPageDateMatchesClientFormat() throws Exception {
+        MockHttpSession session = signupAndLogin(mockMvc);
+        Long postId = createPostId(mockMvc, session, "ssr-date-title", "ssr-date-content");
+
+        String json = mockMvc.perform(get("/api/posts/{id}", postId))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        String createdAt = JsonPath.read(json, "$.createdAt");
+        // fmtDate: 'T'를 공백으로 바꾸고 19자까지
+        String clientFormat = createdAt.replace("T", " ").substring(0, Math.min(19, createdAt.length()));
+
+        mockMvc.perform(get("/posts/{id}", postId))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("created " + clientFormat + "<")));
+    }
+
+    @Test
+    @DisplayName("없는 글의 상세 화면은 기존처럼 빈 화면을 내려준다.")
+    void detailPageOfMissingPostFallsBackToShell() throws Exception {
+        mockMvc.perform(get("/posts/{id}", 999_999_999L))
+                .andExpect(status().isOk())
+                .andExpect(content().string(not(containsString("data-ssr"))));
+    }
+
+    @Test
+    @DisplayName("목록 화면은 검색 조건에 맞는 첫 페이지를 서버에서 렌더링한다.")
+    void listPageIsServerRendered() throws Exception {
+        MockHttpSession session = signupAndLogin(mockMvc);
+        createPostId(mockMvc, session, "ssr-list-keyword-1", "c1");
+        createPostId(mockMvc, session, "ssr-list-keyword-2", "c2");
+
+        mockMvc.perform(get("/posts").param("keyword", "ssr-list-keyword"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("ssr-list-keyword-1")))
+                .andExpect(content().string(containsString("ssr-list-keyword-2")))
+                .andExpect(content().string(containsString("data-total-elements=\"2\"")));
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.crudboard.view;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.util.StringUtils;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/*
+assets.properties와 .gz 파일은 gradle processResources가 만든다. (IDE에서 바로 돌려서 없으면 건너뜀)
+ */
+@ActiveProfiles("test")
+@SpringBootTest
+@AutoConfigureMockMvc
+public class StaticAssetTest {
+
+    @Autowired MockMvc mockMvc;
+    @Value("${app.assets.version:}") String version;
+
+    @BeforeEach
+    void requireBuiltAssets() {
+        assumeTrue(StringUtils.hasText(version), "assets.properties not generated");
+    }
+
+    @Test
+    @DisplayName("화면의 js/css 링크는 현재 버전 URL로 바뀐다.")
+    void pageLinksAreFingerprinted() throws Exception {
+        mockMvc.perform(get("/"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("/css/" + version + "/home.css")))
+                .andExpect(content().string(containsString("/js/" + version + "/pages/home.page.js")));
+    }
+
+    @Test
+    @DisplayName("현재 버전 URL만 immutable로 1년 캐싱한다.")
+    void onlyVersionedRequestsAreImmutable() throws Exception {
+        mockMvc.perform(get("/css/{version}/home.css", version))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", allOf(
+                        containsString("max-age=31536000"), containsString("immutable"))));
+
+        mockMvc.perform(get("/css/home.css"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", allOf(
+                        containsString("no-cache"), not(containsString("immutable")))));
+    }
+
+    @Test
+    @DisplayName("Accept-Encoding에 gzip이 있으면 미리 만든 .gz를 내려주고, 없으면 원본을 내려준다.")
+    void servesPrecompressedGzip() throws Exception {
+        mockMvc.perform(get("/js/{version}/core/http.js", version).header("Accept-Encoding", "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andExpect(header().string("Vary", containsString("Accept-Encoding")))
+                .andExpect(header().string("Cache-Control", containsString("immutable")));
+
+        mockMvc.perform(get("/js/{version}/core/http.js", version))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Content-Encoding"))
+                .andExpect(content().string(not(emptyString())));
+    }
+}